@@ -0,0 +1,89 @@
+package com.alamafa.benchmarks.config;
+
+import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationBinder;
+import com.alamafa.config.ConfigurationLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ConfigurationBinder} 把 8 个属性绑定到已有实例的开销，对应原型 Bean 创建与热更新时的重新绑定
+ * （配合 {@code -prof gc} 查看每次绑定的分配量）。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationBindingBenchmark {
+    private final PlayerSettings target = new PlayerSettings();
+    private Configuration configuration;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> values = new HashMap<>();
+        values.put("player.window-title", "Alamafa");
+        values.put("player.window.width", "1280");
+        values.put("player.window.height", "720");
+        values.put("player.volume", "80");
+        values.put("player.muted", "false");
+        values.put("player.heartbeat-interval-ms", "1000");
+        values.put("player.playback-rate", "1.25");
+        values.put("player.mode", "EXTERNAL");
+        for (int i = 0; i < 200; i++) {
+            values.put("unrelated.key" + i, "value" + i);
+        }
+        configuration = ConfigurationLoader.create().addProperties(values).load();
+    }
+
+    @Benchmark
+    public PlayerSettings bindExisting() {
+        ConfigurationBinder.bind(configuration, "player", target);
+        return target;
+    }
+
+    public enum Mode {
+        EMBEDDED,
+        EXTERNAL
+    }
+
+    public static class PlayerSettings {
+        private String windowTitle;
+        private int windowWidth;
+        private int windowHeight;
+        private int volume;
+        private boolean muted;
+        private long heartbeatIntervalMs;
+        private double playbackRate;
+        private Mode mode;
+
+        public void setWindowTitle(String windowTitle) {
+            this.windowTitle = windowTitle;
+        }
+
+        public void setWindowWidth(int windowWidth) {
+            this.windowWidth = windowWidth;
+        }
+
+        public void setWindowHeight(int windowHeight) {
+            this.windowHeight = windowHeight;
+        }
+
+        public void setVolume(int volume) {
+            this.volume = volume;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.alamafa.benchmarks.config;
+
+import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在 1 万个键中取出 {@code jfx.window.} 下 4 个键：遍历 {@link Configuration#snapshot()} 与有序索引上的
+ * {@link Configuration#subtree(String)} 对比。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationSubtreeBenchmark {
+    private static final String PREFIX = "jfx.window.";
+
+    private Configuration configuration;
+
+    @Setup
+    public void setUp() {
+        Map<String, String> values = new HashMap<>();
+        values.put("jfx.window.width", "1280");
+        values.put("jfx.window.height", "720");
+        values.put("jfx.window.title", "Alamafa");
+        values.put("jfx.window.resizable", "true");
+        for (int i = 0; i < 10_000; i++) {
+            values.put("module" + (i % 50) + ".key" + i, "value" + i);
+        }
+        configuration = ConfigurationLoader.create().addProperties(values).load();
+    }
+
+    @Benchmark
+    public Map<String, String> scanSnapshot() {
+        Map<String, String> children = new HashMap<>();
+        for (Map.Entry<String, String> entry : configuration.snapshot().entrySet()) {
+            if (entry.getKey().startsWith(PREFIX)) {
+                children.put(entry.getKey().substring(PREFIX.length()), entry.getValue());
+            }
+        }
+        return children;
+    }
+
+    @Benchmark
+    public Configuration subtree() {
+        return configuration.subtree("jfx.window");
+    }
+
+    @Benchmark
+    public boolean hasSubtree() {
+        return configuration.hasSubtree("jfx.window");
+    }
+}
@@ -0,0 +1,101 @@
+package com.alamafa.benchmarks.di;
+
+import com.alamafa.benchmarks.di.fixture.PrototypeReport;
+import com.alamafa.benchmarks.di.fixture.PrototypeViewModel;
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.BeanRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比原型 Bean 通过反射与通过 alamafa-di-processor 生成工厂创建的开销。
+ * <p>
+ * 反射组通过隐藏 {@code META-INF/alamafa/} 资源的类加载器扫描同一批组件，
+ * 使容器找不到生成代码而回退到 {@code Constructor.newInstance}/{@code Method.invoke}。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCreationBenchmark {
+    private static final String FIXTURE_PACKAGE = "com.alamafa.benchmarks.di.fixture";
+
+    private BeanRegistry reflective;
+    private BeanRegistry generated;
+
+    @Setup
+    public void setUp() {
+        ClassLoader loader = BeanCreationBenchmark.class.getClassLoader();
+        generated = createRegistry(loader);
+        reflective = createRegistry(new IndexHidingClassLoader(loader));
+    }
+
+    @Benchmark
+    public PrototypeViewModel reflectiveComponent() {
+        return reflective.get(PrototypeViewModel.class);
+    }
+
+    @Benchmark
+    public PrototypeViewModel generatedComponent() {
+        return generated.get(PrototypeViewModel.class);
+    }
+
+    @Benchmark
+    public PrototypeReport reflectiveBeanMethod() {
+        return reflective.get(PrototypeReport.class);
+    }
+
+    @Benchmark
+    public PrototypeReport generatedBeanMethod() {
+        return generated.get(PrototypeReport.class);
+    }
+
+    private static BeanRegistry createRegistry(ClassLoader loader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+            registry.scanPackages(FIXTURE_PACKAGE);
+            registry.registerConfigurations();
+            return registry;
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /** 隐藏组件索引与生成工厂映射，委派其余加载请求。 */
+    private static final class IndexHidingClassLoader extends ClassLoader {
+        private static final String HIDDEN_PREFIX = "META-INF/alamafa/";
+
+        IndexHidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return name.startsWith(HIDDEN_PREFIX) ? null : super.getResource(name);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return name.startsWith(HIDDEN_PREFIX) ? Collections.emptyEnumeration() : super.getResources(name);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.alamafa.benchmarks.di;
+
+import com.alamafa.benchmarks.di.fixture.PrototypeDashboard;
+import com.alamafa.benchmarks.di.fixture.PrototypeReport;
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.BeanRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 原型 @Bean 方法每次 {@code get()} 时解析方法参数的开销：单参数与包含集合、Optional、primary 选择的五参数方法。
+ * <p>
+ * 配合 {@code -prof gc} 可观察每次创建的分配量。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanMethodArgumentsBenchmark {
+    private static final String FIXTURE_PACKAGE = "com.alamafa.benchmarks.di.fixture";
+
+    private BeanRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new BeanRegistry(new ApplicationContext());
+        registry.scanPackages(FIXTURE_PACKAGE);
+        registry.registerConfigurations();
+    }
+
+    @Benchmark
+    public PrototypeReport singleArgument() {
+        return registry.get(PrototypeReport.class);
+    }
+
+    @Benchmark
+    public PrototypeDashboard fiveArguments() {
+        return registry.get(PrototypeDashboard.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.alamafa.benchmarks.di;
+
+import com.alamafa.core.reflect.FieldWriter;
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.core.reflect.MethodInvoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 生命周期回调与字段注入：{@code Method.invoke} / {@code Field.set} 与 {@link Invokers} 预链接调用器的对比。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectiveInvocationBenchmark {
+    private final Callbacks target = new Callbacks();
+    private final Object dependency = new Object();
+
+    private Method method;
+    private Field field;
+    private MethodInvoker invoker;
+    private FieldWriter writer;
+
+    @Setup
+    public void setUp() throws Exception {
+        method = Callbacks.class.getDeclaredMethod("init");
+        method.setAccessible(true);
+        field = Callbacks.class.getDeclaredField("dependency");
+        field.setAccessible(true);
+        invoker = Invokers.method(method);
+        writer = Invokers.fieldWriter(field);
+    }
+
+    @Benchmark
+    public int reflectiveCallback() throws Exception {
+        method.invoke(target);
+        return target.initialized;
+    }
+
+    @Benchmark
+    public int linkedCallback() throws Exception {
+        invoker.invoke(target);
+        return target.initialized;
+    }
+
+    @Benchmark
+    public Object reflectiveFieldSet() throws Exception {
+        field.set(target, dependency);
+        return target.dependency;
+    }
+
+    @Benchmark
+    public Object linkedFieldSet() {
+        writer.set(target, dependency);
+        return target.dependency;
+    }
+
+    static final class Callbacks {
+        private Object dependency;
+        private int initialized;
+
+        private void init() {
+            initialized++;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.alamafa.benchmarks.di;
+
+import com.alamafa.benchmarks.di.fixture.Clock;
+import com.alamafa.benchmarks.di.fixture.Repository;
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.BeanRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 多线程并发调用 {@link BeanRegistry#get(Class)} 解析单例的吞吐量，对比冻结后的快照路径与常规路径。
+ * <p>
+ * {@code Clock} 有两个实现，常规路径每次都需按 primary 选择候选。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class SingletonLookupBenchmark {
+    private static final String FIXTURE_PACKAGE = "com.alamafa.benchmarks.di.fixture";
+
+    private BeanRegistry mutable;
+    private BeanRegistry frozen;
+
+    @Setup
+    public void setUp() {
+        mutable = createRegistry();
+        frozen = createRegistry();
+        frozen.freeze();
+    }
+
+    @Benchmark
+    public Repository mutableSingleton() {
+        return mutable.get(Repository.class);
+    }
+
+    @Benchmark
+    public Repository frozenSingleton() {
+        return frozen.get(Repository.class);
+    }
+
+    @Benchmark
+    public Clock mutablePrimary() {
+        return mutable.get(Clock.class);
+    }
+
+    @Benchmark
+    public Clock frozenPrimary() {
+        return frozen.get(Clock.class);
+    }
+
+    private static BeanRegistry createRegistry() {
+        BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+        registry.scanPackages(FIXTURE_PACKAGE);
+        registry.registerConfigurations();
+        return registry;
+    }
+}
@@ -0,0 +1,26 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import com.alamafa.di.BeanDefinition;
+import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.annotation.Configuration;
+
+import java.util.List;
+import java.util.Optional;
+
+@Configuration
+public class BenchmarkConfiguration {
+
+    @Bean(scope = BeanDefinition.Scope.PROTOTYPE)
+    PrototypeReport report(Repository repository) {
+        return new PrototypeReport(repository);
+    }
+
+    @Bean(scope = BeanDefinition.Scope.PROTOTYPE)
+    PrototypeDashboard dashboard(Repository repository,
+                                 AuditLog auditLog,
+                                 Clock clock,
+                                 List<Clock> clocks,
+                                 Optional<PrototypeReport> report) {
+        return new PrototypeDashboard(repository, auditLog, clock, clocks, report);
+    }
+}
@@ -0,0 +1,5 @@
+package com.alamafa.benchmarks.di.fixture;
+
+public interface Clock {
+    long now();
+}
@@ -0,0 +1,11 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import com.alamafa.di.annotation.Component;
+
+@Component
+public class FixedClock implements Clock {
+    @Override
+    public long now() {
+        return 0L;
+    }
+}
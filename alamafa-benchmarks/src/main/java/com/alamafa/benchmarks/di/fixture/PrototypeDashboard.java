@@ -0,0 +1,11 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import java.util.List;
+import java.util.Optional;
+
+public record PrototypeDashboard(Repository repository,
+                                 AuditLog auditLog,
+                                 Clock clock,
+                                 List<Clock> clocks,
+                                 Optional<PrototypeReport> report) {
+}
@@ -0,0 +1,4 @@
+package com.alamafa.benchmarks.di.fixture;
+
+public record PrototypeReport(Repository repository) {
+}
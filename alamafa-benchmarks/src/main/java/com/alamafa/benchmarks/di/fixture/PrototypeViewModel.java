@@ -0,0 +1,23 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import com.alamafa.di.BeanDefinition;
+import com.alamafa.di.annotation.Component;
+import com.alamafa.di.annotation.Inject;
+
+/**
+ * 模拟 FxViewModel：原型作用域，构造器与字段注入各一个依赖。
+ */
+@Component(scope = BeanDefinition.Scope.PROTOTYPE)
+public class PrototypeViewModel {
+    private final Repository repository;
+    @Inject
+    AuditLog auditLog;
+
+    public PrototypeViewModel(Repository repository) {
+        this.repository = repository;
+    }
+
+    public Repository repository() {
+        return repository;
+    }
+}
@@ -0,0 +1,7 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import com.alamafa.di.annotation.Component;
+
+@Component
+public class Repository {
+}
@@ -0,0 +1,11 @@
+package com.alamafa.benchmarks.di.fixture;
+
+import com.alamafa.di.annotation.Component;
+
+@Component(primary = true)
+public class SystemClock implements Clock {
+    @Override
+    public long now() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,137 @@
+package com.alamafa.benchmarks.events;
+
+import com.alamafa.core.events.ApplicationEvent;
+import com.alamafa.core.events.ApplicationEventListener;
+import com.alamafa.core.events.DefaultApplicationEventPublisher;
+import com.alamafa.core.events.OverflowPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 事件派发：逐个监听器 {@code isAssignableFrom} 的线性扫描与按事件类缓存索引的对比，
+ * 以及慢监听器同步派发与异步队列派发时发布方的耗时。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+    private static final int LISTENER_TYPES = 16;
+
+    private final List<ApplicationEventListener<?>> scanned = new CopyOnWriteArrayList<>();
+    private final DefaultApplicationEventPublisher indexed = new DefaultApplicationEventPublisher();
+    private final DefaultApplicationEventPublisher slowSync = new DefaultApplicationEventPublisher();
+    private final DefaultApplicationEventPublisher slowAsync = new DefaultApplicationEventPublisher();
+    private final Heartbeat heartbeat = new Heartbeat();
+    private final Sink sink = new Sink();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < LISTENER_TYPES; i++) {
+            ApplicationEventListener<?> listener = i == 0 ? new HeartbeatListener(sink) : new StatusListener(sink);
+            scanned.add(listener);
+            indexed.addListener(listener);
+        }
+        slowSync.addListener(new SlowListener());
+        slowAsync.addAsyncListener(new SlowListener(), null, 1024, OverflowPolicy.COALESCE);
+    }
+
+    @Benchmark
+    public long linearScan() {
+        for (ApplicationEventListener<?> listener : scanned) {
+            Class<?> type = listener.getEventType();
+            if (type.isAssignableFrom(heartbeat.getClass())) {
+                dispatch(listener, heartbeat);
+            }
+        }
+        return sink.count;
+    }
+
+    @Benchmark
+    public long indexedPublish() {
+        indexed.publishEvent(heartbeat);
+        return sink.count;
+    }
+
+    @Benchmark
+    public void slowListenerSync(Blackhole blackhole) {
+        slowSync.publishEvent(heartbeat);
+        blackhole.consume(heartbeat);
+    }
+
+    @Benchmark
+    public void slowListenerAsync(Blackhole blackhole) {
+        slowAsync.publishEvent(heartbeat);
+        blackhole.consume(heartbeat);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void dispatch(ApplicationEventListener<?> listener, ApplicationEvent event) {
+        try {
+            ((ApplicationEventListener<ApplicationEvent>) listener).onEvent(event);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static final class Sink {
+        long count;
+    }
+
+    static final class Heartbeat extends ApplicationEvent {
+    }
+
+    static final class Status extends ApplicationEvent {
+    }
+
+    record HeartbeatListener(Sink sink) implements ApplicationEventListener<Heartbeat> {
+        @Override
+        public void onEvent(Heartbeat event) {
+            sink.count++;
+        }
+
+        @Override
+        public Class<Heartbeat> getEventType() {
+            return Heartbeat.class;
+        }
+    }
+
+    record StatusListener(Sink sink) implements ApplicationEventListener<Status> {
+        @Override
+        public void onEvent(Status event) {
+            sink.count++;
+        }
+
+        @Override
+        public Class<Status> getEventType() {
+            return Status.class;
+        }
+    }
+
+    static final class SlowListener implements ApplicationEventListener<Heartbeat> {
+        @Override
+        public void onEvent(Heartbeat event) {
+            Blackhole.consumeCPU(2_000);
+        }
+
+        @Override
+        public Class<Heartbeat> getEventType() {
+            return Heartbeat.class;
+        }
+    }
+}
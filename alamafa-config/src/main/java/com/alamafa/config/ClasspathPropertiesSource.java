@@ -5,6 +5,11 @@ import com.alamafa.core.logging.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -12,6 +17,7 @@ import java.util.Properties;
 
 /**
  * 从 classpath 中读取 .properties 文件的配置源，可配置资源路径及是否强制存在。
+ * 以资源的修改时间与大小作为指纹，内容未变化时直接返回上次解析的结果。
  */
 public class ClasspathPropertiesSource implements ConfigurationSource {
 
@@ -20,6 +26,7 @@ public class ClasspathPropertiesSource implements ConfigurationSource {
     private final String resource;
     private final boolean required;
     private final ClassLoader classLoader;
+    private volatile Loaded cache;
 
     /**
      * 使用当前线程类加载器读取指定资源。
@@ -41,25 +48,60 @@ public class ClasspathPropertiesSource implements ConfigurationSource {
      * 从 classpath 读取 properties，必要时抛出异常或返回空 Map。
      */
     @Override
-    public java.util.Map<String, String> load() {
-        InputStream stream = classLoader.getResourceAsStream(resource);
-        if (stream == null) {
+    public Map<String, String> load() {
+        URL url = classLoader.getResource(resource);
+        String fingerprint = fingerprint(url);
+        Loaded cached = cache;
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            return cached.values();
+        }
+        if (url == null) {
             if (required) {
                 throw new IllegalStateException("Required configuration resource not found: " + resource);
             }
             LOGGER.debug("Configuration resource {} not found, skipping", resource);
+            cache = new Loaded(fingerprint, Map.of());
             return Map.of();
         }
-        try (InputStream input = stream) {
+        try (InputStream input = url.openStream()) {
             Properties properties = new Properties();
             properties.load(input);
             Map<String, String> values = new HashMap<>();
             for (String name : properties.stringPropertyNames()) {
                 values.put(name, properties.getProperty(name));
             }
-            return values;
+            Map<String, String> loaded = Map.copyOf(values);
+            cache = new Loaded(fingerprint, loaded);
+            return loaded;
         } catch (IOException e) {
             throw new IllegalStateException("Failed to load configuration resource: " + resource, e);
         }
     }
+
+    @Override
+    public String fingerprint() {
+        return fingerprint(classLoader.getResource(resource));
+    }
+
+    /**
+     * 文件资源读取修改时间与大小，其他资源（如 jar 内条目）使用连接报告的元数据。
+     */
+    private static String fingerprint(URL url) {
+        if (url == null) {
+            return "absent";
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                Path path = Path.of(url.toURI());
+                return url + "@" + Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path);
+            }
+            URLConnection connection = url.openConnection();
+            return url + "@" + connection.getLastModified() + ":" + connection.getContentLengthLong();
+        } catch (IOException | URISyntaxException | RuntimeException ex) {
+            LOGGER.debug("Unable to fingerprint configuration resource {}", url, ex);
+            return url + "@unknown:" + System.nanoTime();
+        }
+    }
+
+    private record Loaded(String fingerprint, Map<String, String> values) { }
 }
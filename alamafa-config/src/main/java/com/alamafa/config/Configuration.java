@@ -4,15 +4,25 @@ import java.util.*;
 
 /**
  * 不可变的配置视图，提供常用类型的读取方法。
+ * <p>
+ * 除按键读取的哈希表外还保存一份有序副本，{@link #subtree(String)} 与 {@link #hasSubtree(String)}
+ * 只需 O(log n) 定位前缀区间；宽松键名索引（点分、kebab-case、驼峰、环境变量写法归一）在首次使用时构建一次。
  */
 public final class Configuration {
     private final Map<String, String> values;
+    private final NavigableMap<String, String> sorted;
+    private volatile Map<String, String> relaxed;
 
     /**
      * 通过 Map 构造配置副本，外部修改不会影响内部状态。
      */
     Configuration(Map<String, String> values) {
-        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        this(new TreeMap<>(values));
+    }
+
+    private Configuration(TreeMap<String, String> sorted) {
+        this.sorted = Collections.unmodifiableNavigableMap(sorted);
+        this.values = Collections.unmodifiableMap(new HashMap<>(sorted));
     }
 
     /**
@@ -59,6 +69,108 @@ public final class Configuration {
         return values;
     }
 
+    /**
+     * 返回 {@code prefix.} 下的配置，键去掉该前缀；例如 {@code subtree("jfx.window")} 中的 {@code width}
+     * 对应原配置的 {@code jfx.window.width}。
+     */
+    public Configuration subtree(String prefix) {
+        String normalized = normalizePrefix(prefix);
+        if (normalized.isEmpty()) {
+            return this;
+        }
+        TreeMap<String, String> children = new TreeMap<>();
+        for (Map.Entry<String, String> entry : startingWith(normalized).entrySet()) {
+            children.put(entry.getKey().substring(normalized.length()), entry.getValue());
+        }
+        return new Configuration(children);
+    }
+
+    /**
+     * 判断 {@code prefix.} 下是否存在任何键。
+     */
+    public boolean hasSubtree(String prefix) {
+        String normalized = normalizePrefix(prefix);
+        return normalized.isEmpty() ? !sorted.isEmpty() : !startingWith(normalized).isEmpty();
+    }
+
+    /**
+     * 返回以 {@code prefix} 开头（按字符串比较，不补 {@code .}）的键值有序视图。
+     */
+    NavigableMap<String, String> startingWith(String prefix) {
+        return sorted.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * 按宽松键名读取，{@code relaxedKey} 需为 {@link #relaxedName(String)} 的结果；
+     * 多个写法归一到同一名称时，本身就是规范写法的键优先，其次按键的字典序。
+     */
+    String getRelaxed(String relaxedKey) {
+        Map<String, String> index = relaxed;
+        if (index == null) {
+            index = buildRelaxedIndex();
+            relaxed = index;
+        }
+        return index.get(relaxedKey);
+    }
+
+    private Map<String, String> buildRelaxedIndex() {
+        Map<String, String> index = new HashMap<>(Math.max(16, sorted.size() * 2));
+        for (Map.Entry<String, String> entry : sorted.entrySet()) {
+            String name = relaxedName(entry.getKey());
+            if (name.equals(entry.getKey())) {
+                index.put(name, entry.getValue());
+            } else {
+                index.putIfAbsent(name, entry.getValue());
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 把键名归一为小写点分形式：{@code -}、{@code _} 视为分隔符，驼峰边界拆分，
+     * 因此 {@code player.windowWidth}、{@code player.window-width}、{@code PLAYER_WINDOW_WIDTH}
+     * 都归一为 {@code player.window.width}。
+     */
+    static String relaxedName(String key) {
+        StringBuilder builder = new StringBuilder(key.length() + 4);
+        int length = key.length();
+        for (int i = 0; i < length; i++) {
+            char current = key.charAt(i);
+            if (current == '.' || current == '-' || current == '_') {
+                if (builder.length() > 0 && builder.charAt(builder.length() - 1) != '.') {
+                    builder.append('.');
+                }
+                continue;
+            }
+            if (Character.isUpperCase(current)) {
+                char previous = i > 0 ? key.charAt(i - 1) : 0;
+                boolean nextIsLower = i + 1 < length && Character.isLowerCase(key.charAt(i + 1));
+                boolean split = Character.isLowerCase(previous) || Character.isDigit(previous)
+                        || (Character.isUpperCase(previous) && nextIsLower);
+                if (split && builder.length() > 0 && builder.charAt(builder.length() - 1) != '.') {
+                    builder.append('.');
+                }
+                builder.append(Character.toLowerCase(current));
+            } else {
+                builder.append(current);
+            }
+        }
+        int end = builder.length();
+        while (end > 0 && builder.charAt(end - 1) == '.') {
+            end--;
+        }
+        builder.setLength(end);
+        return builder.toString();
+    }
+
+    private static String normalizePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "";
+        }
+        String trimmed = prefix.trim();
+        return trimmed.endsWith(".") ? trimmed : trimmed + ".";
+    }
+
     /**
      * 生成一个新的配置实例，优先采用另一个配置中的值。
      */
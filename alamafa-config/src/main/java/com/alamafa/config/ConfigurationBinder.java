@@ -1,18 +1,49 @@
 package com.alamafa.config;
 
+import com.alamafa.core.reflect.FieldWriter;
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.core.reflect.MethodInvoker;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 /**
  * 简单的属性绑定器，将 {@link Configuration} 数据映射到 POJO。
+ * <p>
+ * 每个类的绑定计划（字段、类型转换器、预链接的 setter 或字段写入器，以及每个前缀下的宽松键名与候选键）
+ * 只计算一次并缓存在 {@link ClassValue} 上，重复绑定原型 Bean 或热更新时不再重新推导；
+ * 单值字段通过 {@link Configuration} 的宽松键名索引一次查找，不再逐个探测点分与 kebab-case 写法。
+ * <p>
+ * 类型转换由 {@link ConversionService#getDefault()} 完成；此外 {@code Map} 字段绑定 {@code prefix.field.*} 子树，
+ * 集合与数组字段既接受逗号分隔的单值，也接受 {@code prefix.field[0]}、{@code prefix.field[0].name} 形式的下标键，
+ * 其他带无参构造器的非 JDK 类型按 {@code prefix.field} 递归绑定。
  */
 public final class ConfigurationBinder {
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return new BindingPlan(type);
+        }
+    };
 
     private ConfigurationBinder() {
     }
@@ -49,27 +80,40 @@ public final class ConfigurationBinder {
     public static void bind(Configuration source, String prefix, Object target) {
         Objects.requireNonNull(source, "source");
         Objects.requireNonNull(target, "target");
-        String normalizedPrefix = normalizePrefix(prefix);
-        Class<?> type = target.getClass();
-        for (Field field : type.getDeclaredFields()) {
-            if (Modifier.isStatic(field.getModifiers())) {
-                continue;
-            }
-            findPropertyValue(source, normalizedPrefix, field)
-                    .ifPresent(value -> applyValue(target, field, value));
+        BindingPlan plan = plan(target.getClass());
+        PropertyBinding[] properties = plan.properties;
+        PrefixKeys keys = plan.keys(prefix == null ? "" : prefix);
+        for (int i = 0; i < properties.length; i++) {
+            properties[i].bind(source, keys.relaxed()[i], keys.candidates()[i], target);
+        }
+    }
+
+    /** 转换器注册变化后丢弃旧计划，使新转换器对已绑定过的类型生效。 */
+    private static BindingPlan plan(Class<?> type) {
+        BindingPlan plan = PLANS.get(type);
+        if (plan.conversionsVersion != ConversionService.getDefault().version()) {
+            PLANS.remove(type);
+            plan = PLANS.get(type);
         }
+        return plan;
     }
 
-    private static Optional<String> findPropertyValue(Configuration source,
-                                                      String normalizedPrefix,
-                                                      Field field) {
-        for (String candidate : propertyNameCandidates(normalizedPrefix, field.getName())) {
-            Optional<String> value = source.get(candidate);
-            if (value.isPresent()) {
-                return value;
+    /**
+     * 判断变化的键是否可能影响以 {@code prefix} 绑定的对象，同时识别点分与 kebab-case 写法；空前缀总是返回 true。
+     */
+    public static boolean affectedBy(String prefix, Collection<String> changedKeys) {
+        Objects.requireNonNull(changedKeys, "changedKeys");
+        String normalized = normalizePrefix(prefix);
+        if (normalized.isEmpty()) {
+            return !changedKeys.isEmpty();
+        }
+        String relaxed = Configuration.relaxedName(normalized) + '.';
+        for (String key : changedKeys) {
+            if (Configuration.relaxedName(key).startsWith(relaxed)) {
+                return true;
             }
         }
-        return Optional.empty();
+        return false;
     }
 
     private static List<String> propertyNameCandidates(String normalizedPrefix, String fieldName) {
@@ -113,30 +157,14 @@ public final class ConfigurationBinder {
         }
     }
 
-    private static void applyValue(Object target, Field field, String value) {
-        Class<?> fieldType = field.getType();
-        Object converted = convert(value, fieldType, field);
-        Method setter = findSetter(target.getClass(), field);
-        try {
-            if (setter != null) {
-                if (!setter.canAccess(target)) {
-                    setter.setAccessible(true);
-                }
-                setter.invoke(target, converted);
-            } else {
-                boolean accessible = field.canAccess(target);
-                if (!accessible) {
-                    field.setAccessible(true);
-                }
-                field.set(target, converted);
-                if (!accessible) {
-                    field.setAccessible(false);
-                }
-            }
-        } catch (ReflectiveOperationException ex) {
-            throw new IllegalStateException("Failed to bind property " + field.getName() + " on "
-                    + target.getClass().getName(), ex);
+    private static PropertyWriter writer(Class<?> type, Field field) {
+        Method setter = findSetter(type, field);
+        if (setter != null) {
+            MethodInvoker invoker = Invokers.method(setter);
+            return (target, value) -> invoker.invoke(target, new Object[]{value});
         }
+        FieldWriter writer = Invokers.fieldWriter(field);
+        return writer::set;
     }
 
     private static Method findSetter(Class<?> type, Field field) {
@@ -148,32 +176,82 @@ public final class ConfigurationBinder {
         }
     }
 
-    private static Object convert(String value, Class<?> targetType, Field field) {
-        if (targetType.equals(String.class)) {
-            return value;
-        }
-        if (targetType.equals(int.class) || targetType.equals(Integer.class)) {
-            return Integer.parseInt(value);
+    private static Function<String, Object> unsupported(Field field) {
+        return value -> {
+            throw new IllegalStateException("Unsupported configuration property type "
+                    + field.getGenericType().getTypeName() + " for field " + field.getName());
+        };
+    }
+
+    /** 可作为嵌套对象递归绑定的类型：非 JDK 类型、可实例化且有无参构造器。 */
+    private static boolean isBindable(Class<?> type) {
+        if (type == null || type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum()
+                || Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.")) {
+            return false;
         }
-        if (targetType.equals(long.class) || targetType.equals(Long.class)) {
-            return Long.parseLong(value);
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
         }
-        if (targetType.equals(boolean.class) || targetType.equals(Boolean.class)) {
-            return Boolean.parseBoolean(value);
+    }
+
+    private static Object instantiate(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.trySetAccessible();
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Failed to instantiate configuration properties for " + type.getName(), ex);
         }
-        if (targetType.equals(double.class) || targetType.equals(Double.class)) {
-            return Double.parseDouble(value);
+    }
+
+    /**
+     * 返回 {@code base.} 下的全部键值，键去掉 {@code base.} 前缀；候选键靠前者优先。
+     */
+    private static Map<String, String> children(Configuration source, String[] bases) {
+        Map<String, String> children = new LinkedHashMap<>();
+        for (String base : bases) {
+            for (Map.Entry<String, String> entry : source.subtree(base).snapshot().entrySet()) {
+                children.putIfAbsent(entry.getKey(), entry.getValue());
+            }
         }
-        if (targetType.equals(float.class) || targetType.equals(Float.class)) {
-            return Float.parseFloat(value);
+        return children;
+    }
+
+    /** 返回第一个在其下存在键的候选键，均不存在时返回 null。 */
+    private static String firstParent(Configuration source, String[] bases) {
+        for (String base : bases) {
+            if (source.hasSubtree(base)) {
+                return base;
+            }
         }
-        if (targetType.isEnum()) {
-            @SuppressWarnings("unchecked")
-            Class<? extends Enum> enumType = (Class<? extends Enum>) targetType;
-            return Enum.valueOf(enumType, value.trim());
+        return null;
+    }
+
+    /**
+     * 查找第一个存在 {@code base[n]} 形式键的候选键，返回其出现过的下标（升序）。
+     */
+    private static IndexedKeys indexedKeys(Configuration source, String[] bases) {
+        for (String base : bases) {
+            String prefix = base + '[';
+            TreeSet<Integer> indexes = new TreeSet<>();
+            for (String key : source.startingWith(prefix).keySet()) {
+                int close = key.indexOf(']', prefix.length());
+                if (close < 0) {
+                    continue;
+                }
+                try {
+                    indexes.add(Integer.parseInt(key.substring(prefix.length(), close)));
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            if (!indexes.isEmpty()) {
+                return new IndexedKeys(base, indexes);
+            }
         }
-        throw new IllegalStateException("Unsupported configuration property type "
-                + targetType.getName() + " for field " + field.getName());
+        return null;
     }
 
     private static String normalizePrefix(String prefix) {
@@ -274,4 +352,216 @@ public final class ConfigurationBinder {
     private static boolean endsWith(StringBuilder builder, char character) {
         return builder.length() > 0 && builder.charAt(builder.length() - 1) == character;
     }
+
+    /**
+     * 某个类的绑定计划，各字段的宽松键名与候选键按前缀缓存（同一类通常只以一个前缀绑定）。
+     */
+    private static final class BindingPlan {
+        private final int conversionsVersion;
+        private final PropertyBinding[] properties;
+        private final ConcurrentMap<String, PrefixKeys> keysByPrefix = new ConcurrentHashMap<>();
+
+        private BindingPlan(Class<?> type) {
+            ConversionService conversions = ConversionService.getDefault();
+            this.conversionsVersion = conversions.version();
+            List<PropertyBinding> bindings = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                bindings.add(new PropertyBinding(type, field, conversions));
+            }
+            this.properties = bindings.toArray(PropertyBinding[]::new);
+        }
+
+        private PrefixKeys keys(String prefix) {
+            PrefixKeys cached = keysByPrefix.get(prefix);
+            if (cached != null) {
+                return cached;
+            }
+            return keysByPrefix.computeIfAbsent(prefix, key -> {
+                String normalizedPrefix = normalizePrefix(key);
+                String[] relaxed = new String[properties.length];
+                String[][] candidates = new String[properties.length][];
+                for (int i = 0; i < properties.length; i++) {
+                    String fieldName = properties[i].field.getName();
+                    relaxed[i] = Configuration.relaxedName(normalizedPrefix + fieldName);
+                    candidates[i] = propertyNameCandidates(normalizedPrefix, fieldName).toArray(String[]::new);
+                }
+                return new PrefixKeys(relaxed, candidates);
+            });
+        }
+    }
+
+    /**
+     * 字段的绑定方式：单值（含逗号分隔的集合与数组）、{@code Map} 子树、带下标的列表或嵌套对象。
+     */
+    private enum Kind {
+        SCALAR,
+        MAP,
+        LIST,
+        NESTED
+    }
+
+    /**
+     * 单个字段的转换器与写入方式；setter 与字段写入器在首次写入时才链接，避免为从未配置的字段生成调用器。
+     */
+    private static final class PropertyBinding {
+        private final Class<?> type;
+        private final Field field;
+        private final Kind kind;
+        private final Function<String, Object> converter;
+        private final Class<?> elementType;
+        private final Function<String, Object> elementConverter;
+        private volatile PropertyWriter writer;
+
+        private PropertyBinding(Class<?> type, Field field, ConversionService conversions) {
+            this.type = type;
+            this.field = field;
+            Class<?> raw = field.getType();
+            Type generic = field.getGenericType();
+            Function<String, Object> scalar = conversions.converter(generic);
+            if (Map.class.isAssignableFrom(raw)) {
+                this.kind = Kind.MAP;
+                this.converter = unsupported(field);
+                this.elementType = ConversionService.rawType(ConversionService.mapValueType(generic));
+                this.elementConverter = conversions.converter(ConversionService.mapValueType(generic));
+            } else if (raw.isArray() || raw == List.class || raw == Collection.class || raw == Iterable.class
+                    || raw == Set.class) {
+                Type element = ConversionService.elementType(generic);
+                this.kind = Kind.LIST;
+                this.converter = scalar != null ? scalar : unsupported(field);
+                this.elementType = ConversionService.rawType(element);
+                this.elementConverter = conversions.converter(element);
+            } else if (scalar == null && isBindable(raw)) {
+                this.kind = Kind.NESTED;
+                this.converter = unsupported(field);
+                this.elementType = raw;
+                this.elementConverter = null;
+            } else {
+                this.kind = Kind.SCALAR;
+                this.converter = scalar != null ? scalar : unsupported(field);
+                this.elementType = null;
+                this.elementConverter = null;
+            }
+        }
+
+        private void bind(Configuration source, String relaxedKey, String[] candidates, Object target) {
+            String value = source.getRelaxed(relaxedKey);
+            if (value != null) {
+                write(target, converter.apply(value));
+                return;
+            }
+            switch (kind) {
+                case SCALAR -> {
+                }
+                case MAP -> bindMap(source, candidates, target);
+                case LIST -> bindList(source, candidates, target);
+                case NESTED -> bindNested(source, candidates, target);
+            }
+        }
+
+        private void bindMap(Configuration source, String[] candidates, Object target) {
+            Map<String, String> children = children(source, candidates);
+            if (children.isEmpty()) {
+                return;
+            }
+            if (elementConverter == null) {
+                unsupported(field).apply(null);
+            }
+            Map<String, Object> map = field.getType().isAssignableFrom(LinkedHashMap.class)
+                    ? new LinkedHashMap<>()
+                    : new TreeMap<>();
+            for (Map.Entry<String, String> entry : children.entrySet()) {
+                map.put(entry.getKey(), elementConverter.apply(entry.getValue()));
+            }
+            write(target, map);
+        }
+
+        private void bindList(Configuration source, String[] candidates, Object target) {
+            IndexedKeys indexed = indexedKeys(source, candidates);
+            if (indexed == null) {
+                return;
+            }
+            if (elementConverter == null && !isBindable(elementType)) {
+                unsupported(field).apply(null);
+            }
+            List<Object> elements = new ArrayList<>(indexed.indexes().size());
+            for (int index : indexed.indexes()) {
+                String key = indexed.base() + '[' + index + ']';
+                String value = source.get(key, null);
+                if (value != null && elementConverter != null) {
+                    elements.add(elementConverter.apply(value));
+                } else if (elementConverter == null) {
+                    elements.add(ConfigurationBinder.bind(source, key, elementType));
+                }
+            }
+            Class<?> raw = field.getType();
+            if (raw.isArray()) {
+                Object array = Array.newInstance(raw.getComponentType(), elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, elements.get(i));
+                }
+                write(target, array);
+            } else if (raw == Set.class) {
+                write(target, new LinkedHashSet<>(elements));
+            } else {
+                write(target, elements);
+            }
+        }
+
+        /** 已有实例时在其上绑定以保留默认值，否则在存在子键时创建新实例。 */
+        private void bindNested(Configuration source, String[] candidates, Object target) {
+            String base = firstParent(source, candidates);
+            if (base == null) {
+                return;
+            }
+            Object nested = read(target);
+            if (nested != null) {
+                ConfigurationBinder.bind(source, base, nested);
+                return;
+            }
+            nested = instantiate(elementType);
+            ConfigurationBinder.bind(source, base, nested);
+            write(target, nested);
+        }
+
+        private Object read(Object target) {
+            try {
+                field.trySetAccessible();
+                return field.get(target);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("Failed to read property " + field.getName() + " on "
+                        + target.getClass().getName(), ex);
+            }
+        }
+
+        private void write(Object target, Object converted) {
+            PropertyWriter linked = writer;
+            if (linked == null) {
+                linked = writer(type, field);
+                writer = linked;
+            }
+            try {
+                linked.write(target, converted);
+            } catch (InvocationTargetException ex) {
+                throw new IllegalStateException("Failed to bind property " + field.getName() + " on "
+                        + target.getClass().getName(), ex);
+            }
+        }
+    }
+
+    /**
+     * 某个前缀下各字段的宽松键名（查单值）与原样候选键（查 Map、下标列表与嵌套对象的子树）。
+     */
+    private record PrefixKeys(String[] relaxed, String[][] candidates) {
+    }
+
+    private record IndexedKeys(String base, SortedSet<Integer> indexes) {
+    }
+
+    @FunctionalInterface
+    private interface PropertyWriter {
+        void write(Object target, Object value) throws InvocationTargetException;
+    }
 }
@@ -0,0 +1,40 @@
+package com.alamafa.config;
+
+import com.alamafa.core.events.ApplicationEvent;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 配置重新加载且内容发生变化后发布的事件，此时上下文中的 {@link Configuration} 已替换为新配置。
+ */
+public final class ConfigurationChangedEvent extends ApplicationEvent {
+    private final ConfigurationDiff diff;
+    private final Set<String> changedKeys;
+
+    public ConfigurationChangedEvent(ConfigurationDiff diff) {
+        this.diff = Objects.requireNonNull(diff, "diff");
+        this.changedKeys = diff.changedKeys();
+    }
+
+    /**
+     * 返回完整差异。
+     */
+    public ConfigurationDiff diff() {
+        return diff;
+    }
+
+    /**
+     * 返回新增、修改或删除的键。
+     */
+    public Set<String> changedKeys() {
+        return changedKeys;
+    }
+
+    /**
+     * 返回新配置。
+     */
+    public Configuration configuration() {
+        return diff.current();
+    }
+}
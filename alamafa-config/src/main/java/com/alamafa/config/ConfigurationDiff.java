@@ -0,0 +1,73 @@
+package com.alamafa.config;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 两次加载之间的配置差异，仅包含新增、修改和删除的键。
+ *
+ * @param previous 重新加载前的配置
+ * @param current  重新加载后的配置
+ * @param added    新增的键及其值
+ * @param modified 值发生变化的键及其新值
+ * @param removed  被删除的键
+ */
+public record ConfigurationDiff(Configuration previous,
+                                Configuration current,
+                                Map<String, String> added,
+                                Map<String, String> modified,
+                                Set<String> removed) {
+
+    public ConfigurationDiff {
+        Objects.requireNonNull(previous, "previous");
+        Objects.requireNonNull(current, "current");
+        added = Map.copyOf(added);
+        modified = Map.copyOf(modified);
+        removed = Set.copyOf(removed);
+    }
+
+    /**
+     * 比较两份配置。
+     */
+    public static ConfigurationDiff between(Configuration previous, Configuration current) {
+        Map<String, String> before = previous.snapshot();
+        Map<String, String> after = current.snapshot();
+        Map<String, String> added = new HashMap<>();
+        Map<String, String> modified = new HashMap<>();
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String old = before.get(entry.getKey());
+            if (old == null) {
+                added.put(entry.getKey(), entry.getValue());
+            } else if (!old.equals(entry.getValue())) {
+                modified.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Set<String> removed = new HashSet<>();
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                removed.add(key);
+            }
+        }
+        return new ConfigurationDiff(previous, current, added, modified, removed);
+    }
+
+    /**
+     * 是否没有任何变化。
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && modified.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * 返回所有发生变化的键。
+     */
+    public Set<String> changedKeys() {
+        Set<String> keys = new HashSet<>(added.keySet());
+        keys.addAll(modified.keySet());
+        keys.addAll(removed);
+        return Set.copyOf(keys);
+    }
+}
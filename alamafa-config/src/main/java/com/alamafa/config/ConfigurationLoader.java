@@ -4,16 +4,26 @@ package com.alamafa.config;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * 聚合多个配置源并按优先级合并，最终生成不可变的 {@link Configuration}。
+ * <p>
+ * 各配置源在虚拟线程上并行加载，合并仍按优先级顺序进行；{@link #reload()} 跳过指纹未变化的配置源，只返回变化的键。
  */
 public final class ConfigurationLoader {
+    /** 外部配置文件路径的系统属性。 */
+    public static final String CONFIG_FILE_PROPERTY = "alamafa.config.file";
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ConfigurationLoader.class);
 
     private final List<Entry> sources = new ArrayList<>();
     private final List<String> requiredKeys = new ArrayList<>();
+    private Configuration current;
 
     /**
      * 创建空的配置加载器，需手动添加数据源。
@@ -23,7 +33,8 @@ public final class ConfigurationLoader {
     }
 
     /**
-     * 提供默认策略：application.properties → profile 文件 → 环境变量 → 系统属性。
+     * 提供默认策略：application.properties → profile 文件 → 外部配置文件 → 环境变量 → 系统属性。
+     * 外部配置文件由 {@value #CONFIG_FILE_PROPERTY} 系统属性或 {@code ALAMAFA_CONFIG_FILE} 环境变量指定。
      */
     public static ConfigurationLoader withDefaults() {
         ConfigurationLoader loader = new ConfigurationLoader();
@@ -32,6 +43,10 @@ public final class ConfigurationLoader {
         if (profile != null) {
             loader.addClasspathResource("application-" + profile + ".properties", Priority.NORMAL, false);
         }
+        String file = resolveConfigFile();
+        if (file != null) {
+            loader.addFile(Path.of(file), Priority.NORMAL, false);
+        }
         loader.includeEnvironmentVariables("ALAMAFA_", Priority.HIGH);
         loader.includeSystemProperties(Priority.HIGHEST);
         return loader;
@@ -45,6 +60,14 @@ public final class ConfigurationLoader {
         return (profile == null || profile.isBlank()) ? null : profile;
     }
 
+    private static String resolveConfigFile() {
+        String file = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            file = System.getenv("ALAMAFA_CONFIG_FILE");
+        }
+        return (file == null || file.isBlank()) ? null : file.trim();
+    }
+
     /**
      * 添加一个默认优先级的配置源。
      */
@@ -79,6 +102,29 @@ public final class ConfigurationLoader {
         return this;
     }
 
+    /**
+     * 指定优先级加载文件系统上的 properties 文件，可由 {@link ConfigurationReloader} 监听变化。
+     */
+    public ConfigurationLoader addFile(Path file, Priority priority, boolean required) {
+        sources.add(new Entry(new FileConfigurationSource(file, required),
+                Objects.requireNonNull(priority, "priority"),
+                required));
+        return this;
+    }
+
+    /**
+     * 返回所有文件配置源的路径。
+     */
+    public synchronized List<Path> files() {
+        List<Path> files = new ArrayList<>();
+        for (Entry entry : sources) {
+            if (entry.source() instanceof FileConfigurationSource file) {
+                files.add(file.path());
+            }
+        }
+        return List.copyOf(files);
+    }
+
     /**
      * 直接合并 Map 中的键值，默认使用较高优先级覆盖。
      */
@@ -125,19 +171,105 @@ public final class ConfigurationLoader {
     /**
      * 按优先级排序并依次加载所有配置，返回聚合后的结果。
      */
-    public Configuration load() {
-        Map<String, String> merged = new LinkedHashMap<>();
+    public synchronized Configuration load() {
         sources.sort(Comparator.comparingInt(entry -> entry.priority().order));
-        for (Entry sourceEntry : sources) {
-            Map<String, String> contribution = sourceEntry.source().load();
-            if (!contribution.isEmpty()) {
-                LOGGER.debug("Loaded {} configuration entries from {} [{}]",
-                        contribution.size(),
-                        sourceEntry.source().getClass().getSimpleName(),
-                        sourceEntry.priority());
-                merged.putAll(contribution);
+        Map<Entry, Loaded> staged = loadAll(sources);
+        current = merge(staged);
+        commit(staged);
+        return current;
+    }
+
+    /**
+     * 重新加载指纹发生变化（或无法提供指纹）的配置源，返回与上次结果的差异；尚未加载过时等同于首次加载。
+     * 加载或校验失败时保留上次的配置与指纹，下次重新加载时会再次尝试这些配置源。
+     */
+    public synchronized ConfigurationDiff reload() {
+        if (current == null) {
+            return ConfigurationDiff.between(new Configuration(Map.of()), load());
+        }
+        List<Entry> stale = new ArrayList<>();
+        for (Entry entry : sources) {
+            String fingerprint = entry.source().fingerprint();
+            if (fingerprint == null || !fingerprint.equals(entry.fingerprint)) {
+                stale.add(entry);
             }
         }
+        if (stale.isEmpty()) {
+            return ConfigurationDiff.between(current, current);
+        }
+        Map<Entry, Loaded> staged = loadAll(stale);
+        Configuration previous = current;
+        current = merge(staged);
+        commit(staged);
+        ConfigurationDiff diff = ConfigurationDiff.between(previous, current);
+        LOGGER.debug("Reloaded {} of {} configuration sources, {} keys changed",
+                stale.size(), sources.size(), diff.changedKeys().size());
+        return diff;
+    }
+
+    /**
+     * 返回最近一次加载的配置，尚未加载时返回 null。
+     */
+    public synchronized Configuration current() {
+        return current;
+    }
+
+    /**
+     * 加载指定配置源，返回暂存的内容与指纹；多个配置源时并行加载。合并成功前不写回配置源记录。
+     */
+    private Map<Entry, Loaded> loadAll(List<Entry> targets) {
+        Map<Entry, Loaded> staged = new IdentityHashMap<>(targets.size() * 2);
+        if (targets.size() == 1) {
+            staged.put(targets.get(0), targets.get(0).load());
+            return staged;
+        }
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("alamafa-config-", 0).factory())) {
+            List<Future<Loaded>> futures = new ArrayList<>(targets.size());
+            for (Entry entry : targets) {
+                futures.add(executor.submit(entry::load));
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                staged.put(targets.get(i), await(futures.get(i)));
+            }
+        }
+        return staged;
+    }
+
+    private static void commit(Map<Entry, Loaded> staged) {
+        staged.forEach((entry, loaded) -> {
+            entry.contribution = loaded.contribution();
+            entry.fingerprint = loaded.fingerprint();
+        });
+    }
+
+    private static Loaded await(Future<Loaded> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to load configuration source", cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading configuration", ex);
+        }
+    }
+
+    /**
+     * 按优先级合并各配置源的内容并校验，{@code staged} 中的配置源使用新加载的内容。
+     */
+    private Configuration merge(Map<Entry, Loaded> staged) {
+        Map<String, String> merged = new LinkedHashMap<>();
+        for (Entry entry : sources) {
+            Loaded loaded = staged.get(entry);
+            merged.putAll(loaded != null ? loaded.contribution() : entry.contribution);
+        }
         Configuration configuration = new Configuration(merged);
         validate(configuration);
         return configuration;
@@ -175,7 +307,45 @@ public final class ConfigurationLoader {
     }
 
     /**
-     * 记录配置源及其元数据，方便排序与调试。
+     * 记录配置源及其元数据，以及最近一次加载的内容与指纹。
+     */
+    private static final class Entry {
+        private final ConfigurationSource source;
+        private final Priority priority;
+        private final boolean required;
+        private volatile String fingerprint;
+        private volatile Map<String, String> contribution = Map.of();
+
+        private Entry(ConfigurationSource source, Priority priority, boolean required) {
+            this.source = source;
+            this.priority = priority;
+            this.required = required;
+        }
+
+        private ConfigurationSource source() {
+            return source;
+        }
+
+        private Priority priority() {
+            return priority;
+        }
+
+        /** 先取指纹再加载，加载期间发生的修改会在下次重新加载时被发现。 */
+        private Loaded load() {
+            String next = source.fingerprint();
+            Map<String, String> loaded = source.load();
+            Map<String, String> values = loaded == null ? Map.of() : loaded;
+            if (!values.isEmpty()) {
+                LOGGER.debug("Loaded {} configuration entries from {} [{}]",
+                        values.size(), source.getClass().getSimpleName(), priority);
+            }
+            return new Loaded(next, values);
+        }
+    }
+
+    /**
+     * 一次加载得到的指纹与内容，合并校验通过后才写回 {@link Entry}。
      */
-    private record Entry(ConfigurationSource source, Priority priority, boolean required) { }
+    private record Loaded(String fingerprint, Map<String, String> contribution) {
+    }
 }
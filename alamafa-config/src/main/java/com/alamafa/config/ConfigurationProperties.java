@@ -8,6 +8,8 @@ import java.lang.annotation.Target;
 
 /**
  * 声明配置绑定前缀，将 {@link Configuration} 中的键值映射到对象属性。
+ * <p>
+ * 配置热更新时属性在原实例上于监视线程中逐个重写，持有该实例的锁；需要多个属性彼此一致时在同一锁内读取。
  */
 @Documented
 @Retention(RetentionPolicy.RUNTIME)
@@ -0,0 +1,80 @@
+package com.alamafa.config;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.events.ApplicationEventPublisher;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 重新加载配置并原子替换上下文中的 {@link Configuration}，内容变化时发布 {@link ConfigurationChangedEvent}。
+ * 可选地监听 {@link ConfigurationLoader#files()} 中的文件，在文件变化后自动重新加载。
+ */
+public final class ConfigurationReloader implements AutoCloseable {
+    /** 是否监听配置文件变化的配置项，默认开启（仅当存在文件配置源时生效）。 */
+    public static final String WATCH_PROPERTY = "alamafa.config.watch.enabled";
+    /** 文件变化后的静默期（毫秒）的配置项。 */
+    public static final String DEBOUNCE_PROPERTY = "alamafa.config.watch.debounce-ms";
+
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ConfigurationReloader.class);
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(200);
+
+    private final ConfigurationLoader loader;
+    private final ApplicationContext context;
+    private ConfigurationWatcher watcher;
+
+    /**
+     * 绑定配置加载器与应用上下文。
+     */
+    public ConfigurationReloader(ConfigurationLoader loader, ApplicationContext context) {
+        this.loader = Objects.requireNonNull(loader, "loader");
+        this.context = Objects.requireNonNull(context, "context");
+    }
+
+    /**
+     * 重新加载配置；内容变化时替换上下文中的配置并发布事件，返回差异。
+     */
+    public synchronized ConfigurationDiff reload() {
+        ConfigurationDiff diff = loader.reload();
+        if (diff.isEmpty()) {
+            return diff;
+        }
+        context.put(Configuration.class, diff.current());
+        LOGGER.info("Configuration reloaded, changed keys: {}", diff.changedKeys());
+        ApplicationEventPublisher publisher = context.get(ApplicationEventPublisher.class);
+        if (publisher != null) {
+            publisher.publishEvent(new ConfigurationChangedEvent(diff));
+        }
+        return diff;
+    }
+
+    /**
+     * 监听文件配置源，变化后经过静默期自动重新加载；{@code debounce} 为 null 时使用默认 200 毫秒。
+     * 没有文件配置源时返回 false。
+     */
+    public synchronized boolean startWatching(Duration debounce) throws IOException {
+        List<Path> files = loader.files();
+        if (files.isEmpty() || watcher != null) {
+            return watcher != null;
+        }
+        watcher = ConfigurationWatcher.start(files, debounce != null ? debounce : DEFAULT_DEBOUNCE, this::reload);
+        LOGGER.debug("Watching configuration files {}", files);
+        return true;
+    }
+
+    /**
+     * 停止监听文件。
+     */
+    @Override
+    public synchronized void close() {
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+}
@@ -10,4 +10,12 @@ public interface ConfigurationSource {
      * 加载配置并返回键值 Map。
      */
     Map<String, String> load();
+
+    /**
+     * 返回代表当前内容版本的指纹，指纹与上次加载时相同则重新加载时跳过该源；
+     * 返回 null 表示无法判断，每次都重新加载。实现应比 {@link #load()} 廉价得多。
+     */
+    default String fingerprint() {
+        return null;
+    }
 }
@@ -0,0 +1,121 @@
+package com.alamafa.config;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 NIO {@link WatchService} 监听配置文件所在目录，文件变化后在静默期结束时回调一次。
+ * <p>
+ * 编辑器保存文件通常产生多次事件（截断、写入、重命名），静默期内的事件合并为一次回调。
+ */
+public final class ConfigurationWatcher implements AutoCloseable {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ConfigurationWatcher.class);
+
+    private final WatchService service;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Map<Path, Set<Path>> watchedNames = new HashMap<>();
+    private final Duration debounce;
+    private final Runnable onChange;
+    private final Thread thread;
+
+    private ConfigurationWatcher(Collection<Path> files, Duration debounce, Runnable onChange) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.debounce = debounce;
+        this.onChange = onChange;
+        for (Path file : files) {
+            Path absolute = file.toAbsolutePath().normalize();
+            Path directory = absolute.getParent();
+            if (directory == null || !Files.isDirectory(directory)) {
+                LOGGER.warn("Cannot watch configuration file {}: directory does not exist", absolute);
+                continue;
+            }
+            if (!watchedNames.containsKey(directory)) {
+                WatchKey key = directory.register(service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, directory);
+            }
+            watchedNames.computeIfAbsent(directory, ignored -> new HashSet<>()).add(absolute.getFileName());
+        }
+        this.thread = new Thread(this::run, "alamafa-config-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * 开始监听指定文件，变化后经过 {@code debounce} 静默期调用 {@code onChange}。
+     */
+    public static ConfigurationWatcher start(Collection<Path> files, Duration debounce, Runnable onChange)
+            throws IOException {
+        Objects.requireNonNull(files, "files");
+        Objects.requireNonNull(debounce, "debounce");
+        Objects.requireNonNull(onChange, "onChange");
+        ConfigurationWatcher watcher = new ConfigurationWatcher(files, debounce, onChange);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        try {
+            service.close();
+        } catch (IOException ex) {
+            LOGGER.debug("Failed to close configuration watch service", ex);
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!relevant(service.take())) {
+                    continue;
+                }
+                WatchKey next;
+                while ((next = service.poll(debounce.toNanos(), TimeUnit.NANOSECONDS)) != null) {
+                    relevant(next);
+                }
+                try {
+                    onChange.run();
+                } catch (RuntimeException ex) {
+                    LOGGER.warn("Configuration reload after file change failed", ex);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ex) {
+            LOGGER.debug("Configuration watcher stopped");
+        }
+    }
+
+    /** 消费事件并判断是否涉及被监听的文件。 */
+    private boolean relevant(WatchKey key) {
+        Path directory = directories.get(key);
+        Set<Path> names = directory != null ? watchedNames.get(directory) : Set.of();
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (event.context() instanceof Path name && names.contains(name))) {
+                relevant = true;
+            }
+        }
+        key.reset();
+        return relevant;
+    }
+}
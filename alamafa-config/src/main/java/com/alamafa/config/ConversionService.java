@@ -0,0 +1,342 @@
+package com.alamafa.config;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.net.MalformedURLException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 字符串到目标类型的转换服务，转换器按目标类型解析一次后缓存。
+ * <p>
+ * 内置支持字符串、基本类型及其包装类、枚举（忽略大小写，{@code -} 视为 {@code _}）、{@link Duration}
+ * （ISO-8601 或 {@code 500ms}、{@code 30s}、{@code 5m}、{@code 2h}、{@code 1d}，纯数字为毫秒）、{@link DataSize}、
+ * {@link Path}、{@link File}、{@link URI}、{@link URL}、{@link Charset}、{@link Locale}、大数，
+ * 以及声明了静态 {@code valueOf(String)} 或 {@code parse(CharSequence)} 的类型；
+ * 元素可转换的 {@link List}、{@link Set}、{@link Collection} 与数组按逗号分隔解析。
+ */
+public final class ConversionService {
+    private static final ConversionService DEFAULT = new ConversionService();
+
+    private final Map<Class<?>, Function<String, ?>> converters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, Function<String, Object>> resolved = new ConcurrentHashMap<>();
+    private volatile int version;
+
+    /**
+     * 创建包含内置转换器的转换服务。
+     */
+    public ConversionService() {
+        converters.put(String.class, value -> value);
+        converters.put(Duration.class, ConversionService::parseDuration);
+        converters.put(DataSize.class, DataSize::parse);
+        converters.put(Path.class, value -> Path.of(value.trim()));
+        converters.put(File.class, value -> new File(value.trim()));
+        converters.put(URI.class, value -> URI.create(value.trim()));
+        converters.put(URL.class, ConversionService::parseUrl);
+        converters.put(Charset.class, value -> Charset.forName(value.trim()));
+        converters.put(Locale.class, value -> Locale.forLanguageTag(value.trim().replace('_', '-')));
+        converters.put(BigDecimal.class, value -> new BigDecimal(value.trim()));
+        converters.put(BigInteger.class, value -> new BigInteger(value.trim()));
+    }
+
+    /**
+     * 返回 {@link ConfigurationBinder} 使用的共享实例。
+     */
+    public static ConversionService getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 注册或替换某个类型的转换器。
+     */
+    public <T> ConversionService addConverter(Class<T> type, Function<String, ? extends T> converter) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(converter, "converter");
+        converters.put(type, converter);
+        resolved.clear();
+        version++;
+        return this;
+    }
+
+    /**
+     * 判断是否能把单个字符串转换为目标类型。
+     */
+    public boolean canConvert(Type type) {
+        return converter(type) != null;
+    }
+
+    /**
+     * 把字符串转换为目标类型。
+     */
+    public Object convert(String value, Type type) {
+        Function<String, Object> converter = converter(type);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter for " + type.getTypeName());
+        }
+        return converter.apply(value);
+    }
+
+    /**
+     * 返回目标类型的转换器，无法转换时返回 null。
+     */
+    public Function<String, Object> converter(Type type) {
+        Objects.requireNonNull(type, "type");
+        Function<String, Object> converter = resolved.get(type);
+        if (converter == null) {
+            converter = resolve(type);
+            if (converter == null) {
+                return null;
+            }
+            resolved.putIfAbsent(type, converter);
+        }
+        return converter;
+    }
+
+    /** 转换器注册变化时递增，供调用方判断缓存的转换器是否过期。 */
+    int version() {
+        return version;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<String, Object> resolve(Type type) {
+        Class<?> raw = rawType(type);
+        if (raw == null) {
+            return null;
+        }
+        Function<String, ?> registered = converters.get(raw);
+        if (registered != null) {
+            return (Function<String, Object>) registered;
+        }
+        if (raw.isPrimitive() || isBoxed(raw)) {
+            return primitive(raw);
+        }
+        if (raw.isEnum()) {
+            return value -> enumValue(raw, value);
+        }
+        if (raw.isArray()) {
+            Type component = type instanceof GenericArrayType array ? array.getGenericComponentType() : raw.getComponentType();
+            Function<String, Object> element = converter(component);
+            if (element == null) {
+                return null;
+            }
+            Class<?> componentType = rawType(component);
+            return value -> {
+                List<String> parts = split(value);
+                Object array = Array.newInstance(componentType, parts.size());
+                for (int i = 0; i < parts.size(); i++) {
+                    Array.set(array, i, element.apply(parts.get(i)));
+                }
+                return array;
+            };
+        }
+        if (raw == List.class || raw == Collection.class || raw == Iterable.class || raw == Set.class) {
+            Function<String, Object> element = converter(elementType(type));
+            if (element == null) {
+                return null;
+            }
+            boolean set = raw == Set.class;
+            return value -> {
+                Collection<Object> result = set ? new LinkedHashSet<>() : new ArrayList<>();
+                for (String part : split(value)) {
+                    result.add(element.apply(part));
+                }
+                return result;
+            };
+        }
+        return factoryMethod(raw);
+    }
+
+    /**
+     * 返回集合或数组的元素类型，未声明泛型时视为 {@link String}。
+     */
+    static Type elementType(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            return bound(parameterized.getActualTypeArguments()[0]);
+        }
+        if (type instanceof Class<?> raw && raw.isArray()) {
+            return raw.getComponentType();
+        }
+        if (type instanceof GenericArrayType array) {
+            return array.getGenericComponentType();
+        }
+        return String.class;
+    }
+
+    /**
+     * 返回 Map 的值类型，未声明泛型时视为 {@link String}。
+     */
+    static Type mapValueType(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            return bound(parameterized.getActualTypeArguments()[1]);
+        }
+        return String.class;
+    }
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class<?> raw) {
+            return raw;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        if (type instanceof GenericArrayType array) {
+            Class<?> component = rawType(array.getGenericComponentType());
+            return component == null ? null : component.arrayType();
+        }
+        if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        }
+        return null;
+    }
+
+    private static Type bound(Type type) {
+        return type instanceof WildcardType wildcard ? wildcard.getUpperBounds()[0] : type;
+    }
+
+    private static List<String> split(String value) {
+        List<String> parts = new ArrayList<>();
+        for (String part : value.split(",")) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                parts.add(trimmed);
+            }
+        }
+        return parts;
+    }
+
+    private static boolean isBoxed(Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Boolean.class || type == Double.class
+                || type == Float.class || type == Short.class || type == Byte.class || type == Character.class;
+    }
+
+    private static Function<String, Object> primitive(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return value -> Integer.parseInt(value.trim());
+        }
+        if (type == long.class || type == Long.class) {
+            return value -> Long.parseLong(value.trim());
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return value -> Boolean.parseBoolean(value.trim());
+        }
+        if (type == double.class || type == Double.class) {
+            return value -> Double.parseDouble(value.trim());
+        }
+        if (type == float.class || type == Float.class) {
+            return value -> Float.parseFloat(value.trim());
+        }
+        if (type == short.class || type == Short.class) {
+            return value -> Short.parseShort(value.trim());
+        }
+        if (type == byte.class || type == Byte.class) {
+            return value -> Byte.parseByte(value.trim());
+        }
+        if (type == char.class || type == Character.class) {
+            return value -> {
+                if (value.length() != 1) {
+                    throw new IllegalArgumentException("Expected a single character: " + value);
+                }
+                return value.charAt(0);
+            };
+        }
+        return null;
+    }
+
+    private static Object enumValue(Class<?> type, String value) {
+        Object[] constants = type.getEnumConstants();
+        String trimmed = value.trim();
+        for (Object constant : constants) {
+            if (((Enum<?>) constant).name().equals(trimmed)) {
+                return constant;
+            }
+        }
+        String relaxed = trimmed.replace('-', '_');
+        for (Object constant : constants) {
+            if (((Enum<?>) constant).name().equalsIgnoreCase(relaxed)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + type.getName() + "." + trimmed);
+    }
+
+    /** 使用目标类型的静态 {@code valueOf(String)} 或 {@code parse(CharSequence)}。 */
+    private static Function<String, Object> factoryMethod(Class<?> type) {
+        for (String name : new String[]{"valueOf", "parse"}) {
+            for (Class<?> parameter : new Class<?>[]{String.class, CharSequence.class}) {
+                try {
+                    Method method = type.getMethod(name, parameter);
+                    if (Modifier.isStatic(method.getModifiers()) && type.isAssignableFrom(method.getReturnType())) {
+                        return value -> {
+                            try {
+                                return method.invoke(null, value.trim());
+                            } catch (ReflectiveOperationException ex) {
+                                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                                throw new IllegalArgumentException("Cannot convert '" + value + "' to "
+                                        + type.getName(), cause);
+                            }
+                        };
+                    }
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+        }
+        return null;
+    }
+
+    static Duration parseDuration(String text) {
+        String value = text.trim();
+        if (value.startsWith("P") || value.startsWith("-P") || value.startsWith("p") || value.startsWith("-p")) {
+            return Duration.parse(value);
+        }
+        int unitStart = value.length();
+        while (unitStart > 0 && !Character.isDigit(value.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        if (unitStart == 0) {
+            throw new IllegalArgumentException("Invalid duration: " + text);
+        }
+        long amount = Long.parseLong(value.substring(0, unitStart).trim());
+        ChronoUnit unit = switch (value.substring(unitStart).trim().toLowerCase(Locale.ROOT)) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "", "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            case "h" -> ChronoUnit.HOURS;
+            case "d" -> ChronoUnit.DAYS;
+            default -> throw new IllegalArgumentException("Invalid duration unit: " + text);
+        };
+        return Duration.of(amount, unit);
+    }
+
+    private static URL parseUrl(String value) {
+        try {
+            return URI.create(value.trim()).toURL();
+        } catch (MalformedURLException ex) {
+            throw new IllegalArgumentException("Invalid URL: " + value, ex);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.alamafa.config;
+
+import java.util.Locale;
+
+/**
+ * 数据大小，按 1024 进制解析 {@code 512B}、{@code 64KB}、{@code 64MB}、{@code 2GB}、{@code 1TB} 等写法，纯数字视为字节。
+ *
+ * @param bytes 字节数
+ */
+public record DataSize(long bytes) implements Comparable<DataSize> {
+    private static final long KB = 1024L;
+    private static final long MB = KB * 1024L;
+    private static final long GB = MB * 1024L;
+    private static final long TB = GB * 1024L;
+
+    public DataSize {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Data size must not be negative: " + bytes);
+        }
+    }
+
+    public static DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, KB));
+    }
+
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, MB));
+    }
+
+    public static DataSize ofGigabytes(long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, GB));
+    }
+
+    /**
+     * 解析数据大小，单位不区分大小写，可省略末尾的 {@code B}（如 {@code 64M}）。
+     */
+    public static DataSize parse(String text) {
+        String value = text.trim().toUpperCase(Locale.ROOT);
+        int unitStart = value.length();
+        while (unitStart > 0 && !Character.isDigit(value.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        if (unitStart == 0) {
+            throw new IllegalArgumentException("Invalid data size: " + text);
+        }
+        long amount = Long.parseLong(value.substring(0, unitStart).trim());
+        long multiplier = switch (value.substring(unitStart).trim()) {
+            case "", "B" -> 1L;
+            case "K", "KB" -> KB;
+            case "M", "MB" -> MB;
+            case "G", "GB" -> GB;
+            case "T", "TB" -> TB;
+            default -> throw new IllegalArgumentException("Invalid data size unit: " + text);
+        };
+        return new DataSize(Math.multiplyExact(amount, multiplier));
+    }
+
+    public long toKilobytes() {
+        return bytes / KB;
+    }
+
+    public long toMegabytes() {
+        return bytes / MB;
+    }
+
+    public long toGigabytes() {
+        return bytes / GB;
+    }
+
+    @Override
+    public int compareTo(DataSize other) {
+        return Long.compare(bytes, other.bytes);
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
@@ -43,6 +43,14 @@ public class EnvironmentVariablesSource implements ConfigurationSource{
         return resolved;
     }
 
+    /**
+     * 进程运行期间环境变量不会改变，指纹恒定。
+     */
+    @Override
+    public String fingerprint() {
+        return "env:" + prefix;
+    }
+
     /**
      * 将环境变量名称统一转换为小写并使用点号作为分隔。
      */
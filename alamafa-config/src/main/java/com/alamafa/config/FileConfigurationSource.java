@@ -0,0 +1,77 @@
+package com.alamafa.config;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 从文件系统读取 .properties 文件的配置源，以修改时间与大小作为指纹，可由 {@link ConfigurationWatcher} 监听变化。
+ */
+public final class FileConfigurationSource implements ConfigurationSource {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(FileConfigurationSource.class);
+
+    private final Path path;
+    private final boolean required;
+
+    /**
+     * 指定文件路径及是否必须存在。
+     */
+    public FileConfigurationSource(Path path, boolean required) {
+        this.path = Objects.requireNonNull(path, "path").toAbsolutePath().normalize();
+        this.required = required;
+    }
+
+    /**
+     * 返回规范化后的绝对路径。
+     */
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public Map<String, String> load() {
+        try (InputStream input = Files.newInputStream(path)) {
+            Properties properties = new Properties();
+            properties.load(input);
+            Map<String, String> values = new HashMap<>();
+            for (String name : properties.stringPropertyNames()) {
+                values.put(name, properties.getProperty(name));
+            }
+            return values;
+        } catch (NoSuchFileException ex) {
+            if (required) {
+                throw new IllegalStateException("Required configuration file not found: " + path, ex);
+            }
+            LOGGER.debug("Configuration file {} not found, skipping", path);
+            return Map.of();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to load configuration file: " + path, ex);
+        }
+    }
+
+    @Override
+    public String fingerprint() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS) + ":" + attributes.size();
+        } catch (IOException ex) {
+            return "absent";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileConfigurationSource[" + path + "]";
+    }
+}
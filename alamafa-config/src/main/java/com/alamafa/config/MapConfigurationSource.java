@@ -25,4 +25,12 @@ final class MapConfigurationSource implements ConfigurationSource {
     public Map<String, String> load() {
         return values;
     }
+
+    /**
+     * 内容不可变，指纹恒定。
+     */
+    @Override
+    public String fingerprint() {
+        return "map";
+    }
 }
@@ -20,4 +20,13 @@ final class SystemPropertiesSource implements ConfigurationSource {
         }
         return values;
     }
+
+    /**
+     * 以当前系统属性的哈希值作为指纹。
+     */
+    @Override
+    public String fingerprint() {
+        Properties properties = System.getProperties();
+        return properties.size() + ":" + properties.hashCode();
+    }
 }
@@ -0,0 +1,134 @@
+package com.alamafa;
+
+import com.alamafa.config.ConfigurationDiff;
+import com.alamafa.config.ConfigurationLoader;
+import com.alamafa.config.ConfigurationSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigurationReloadTest {
+
+    @Test
+    void loadsSourcesConcurrentlyButMergesByPriority() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ConfigurationSource slowLow = () -> awaitBoth(bothStarted, Map.of("value", "low", "low.only", "1"));
+        ConfigurationSource slowHigh = () -> awaitBoth(bothStarted, Map.of("value", "high"));
+
+        var configuration = ConfigurationLoader.create()
+                .addSource(slowHigh, ConfigurationLoader.Priority.HIGH)
+                .addSource(slowLow, ConfigurationLoader.Priority.LOW)
+                .load();
+
+        assertEquals("high", configuration.get("value").orElseThrow());
+        assertEquals("1", configuration.get("low.only").orElseThrow());
+    }
+
+    @Test
+    void reloadSkipsUnchangedSourcesAndReportsDiff() {
+        MutableSource mutable = new MutableSource(Map.of("a", "1", "b", "2", "c", "3"));
+        AtomicInteger staticLoads = new AtomicInteger();
+        ConfigurationSource stable = new ConfigurationSource() {
+            @Override
+            public Map<String, String> load() {
+                staticLoads.incrementAndGet();
+                return Map.of("base", "x");
+            }
+
+            @Override
+            public String fingerprint() {
+                return "stable";
+            }
+        };
+        ConfigurationLoader loader = ConfigurationLoader.create()
+                .addSource(stable, ConfigurationLoader.Priority.LOW)
+                .addSource(mutable);
+        loader.load();
+
+        assertTrue(loader.reload().isEmpty());
+        mutable.replace(Map.of("a", "1", "b", "20", "d", "4"));
+        ConfigurationDiff diff = loader.reload();
+
+        assertEquals(1, staticLoads.get());
+        assertEquals(Map.of("d", "4"), diff.added());
+        assertEquals(Map.of("b", "20"), diff.modified());
+        assertEquals(Set.of("c"), diff.removed());
+        assertEquals(Set.of("b", "c", "d"), diff.changedKeys());
+        assertEquals("x", diff.current().get("base").orElseThrow());
+        assertEquals("3", diff.previous().get("c").orElseThrow());
+        assertSame(diff.current(), loader.current());
+    }
+
+    @Test
+    void failedReloadKeepsPreviousStateAndRetriesSource() {
+        MutableSource mutable = new MutableSource(Map.of("a", "1"));
+        ConfigurationLoader loader = ConfigurationLoader.create()
+                .addSource(mutable)
+                .requireKeys("a");
+        var loaded = loader.load();
+
+        mutable.replace(Map.of("b", "2"));
+        assertThrows(IllegalStateException.class, loader::reload);
+        assertSame(loaded, loader.current());
+        assertThrows(IllegalStateException.class, loader::reload);
+
+        mutable.replace(Map.of("a", "3"));
+        ConfigurationDiff diff = loader.reload();
+        assertEquals(Map.of("a", "3"), diff.modified());
+        assertSame(loaded, diff.previous());
+    }
+
+    @Test
+    void firstReloadReportsEverythingAsAdded() {
+        ConfigurationDiff diff = ConfigurationLoader.create()
+                .addProperties(Map.of("k", "v"))
+                .reload();
+
+        assertEquals(Map.of("k", "v"), diff.added());
+    }
+
+    private static Map<String, String> awaitBoth(CountDownLatch latch, Map<String, String> values) {
+        latch.countDown();
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "sources were not loaded concurrently");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return values;
+    }
+
+    private static final class MutableSource implements ConfigurationSource {
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private int version;
+
+        private MutableSource(Map<String, String> initial) {
+            values.putAll(initial);
+        }
+
+        private synchronized void replace(Map<String, String> next) {
+            values.clear();
+            values.putAll(next);
+            version++;
+        }
+
+        @Override
+        public synchronized Map<String, String> load() {
+            return Map.copyOf(values);
+        }
+
+        @Override
+        public synchronized String fingerprint() {
+            return Integer.toString(version);
+        }
+    }
+}
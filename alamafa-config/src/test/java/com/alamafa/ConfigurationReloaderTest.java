@@ -0,0 +1,92 @@
+package com.alamafa;
+
+import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationBinder;
+import com.alamafa.config.ConfigurationChangedEvent;
+import com.alamafa.config.ConfigurationDiff;
+import com.alamafa.config.ConfigurationLoader;
+import com.alamafa.config.ConfigurationReloader;
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.events.ApplicationEventPublisher;
+import com.alamafa.core.events.DefaultApplicationEventPublisher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigurationReloaderTest {
+
+    @Test
+    void swapsContextConfigurationAndPublishesChangedKeys(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("app.properties");
+        Files.writeString(file, "player.volume=50\n");
+        ConfigurationLoader loader = ConfigurationLoader.create().addFile(file, ConfigurationLoader.Priority.NORMAL, true);
+        ApplicationContext context = new ApplicationContext();
+        context.put(Configuration.class, loader.load());
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        context.put(ApplicationEventPublisher.class, publisher);
+        List<ConfigurationChangedEvent> events = new CopyOnWriteArrayList<>();
+        publisher.addListener(event -> {
+            if (event instanceof ConfigurationChangedEvent changed) {
+                events.add(changed);
+            }
+        });
+        ConfigurationReloader reloader = new ConfigurationReloader(loader, context);
+
+        assertTrue(reloader.reload().isEmpty());
+        assertTrue(events.isEmpty());
+
+        Files.writeString(file, "player.volume=75\n");
+        ConfigurationDiff diff = reloader.reload();
+
+        assertEquals(Map.of("player.volume", "75"), diff.modified());
+        assertSame(diff.current(), context.get(Configuration.class));
+        assertEquals(1, events.size());
+        assertEquals(Set.of("player.volume"), events.get(0).changedKeys());
+    }
+
+    @Test
+    void watcherReloadsAfterFileChange(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("app.properties");
+        Files.writeString(file, "jfx.window.width=800\n");
+        ConfigurationLoader loader = ConfigurationLoader.create().addFile(file, ConfigurationLoader.Priority.NORMAL, false);
+        ApplicationContext context = new ApplicationContext();
+        context.put(Configuration.class, loader.load());
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        context.put(ApplicationEventPublisher.class, publisher);
+        CountDownLatch changed = new CountDownLatch(1);
+        publisher.addListener(event -> {
+            if (event instanceof ConfigurationChangedEvent) {
+                changed.countDown();
+            }
+        });
+
+        try (ConfigurationReloader reloader = new ConfigurationReloader(loader, context)) {
+            assertTrue(reloader.startWatching(Duration.ofMillis(20)));
+            Files.writeString(file, "jfx.window.width=1024\n");
+            assertTrue(changed.await(10, TimeUnit.SECONDS), "watcher did not reload");
+        }
+        assertEquals(1024, context.get(Configuration.class).getInt("jfx.window.width", 0));
+    }
+
+    @Test
+    void matchesChangedKeysAgainstDottedAndKebabPrefixes() {
+        assertTrue(ConfigurationBinder.affectedBy("jfx.window", Set.of("jfx.window.width")));
+        assertTrue(ConfigurationBinder.affectedBy("jfx.window", Set.of("jfx-window-width")));
+        assertTrue(ConfigurationBinder.affectedBy("", Set.of("anything")));
+        assertFalse(ConfigurationBinder.affectedBy("player", Set.of("players.count", "jfx.window.width")));
+    }
+}
@@ -6,6 +6,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ConfigurationBinderTest {
 
@@ -39,6 +41,27 @@ class ConfigurationBinderTest {
         assertEquals(60, properties.getRequestTimeoutSeconds());
     }
 
+    @Test
+    void reusesCachedPlanAcrossPrefixesAndSurfacesSetterFailures() {
+        Configuration configuration = new Configuration(new HashMap<>(Map.of(
+                "primary.base-url", "https://primary",
+                "backup.baseUrl", "https://backup",
+                "broken.connect-timeout-seconds", "-1"
+        )));
+
+        ApiSampleProperties primary = ConfigurationBinder.bind(configuration, "primary", ApiSampleProperties.class);
+        ApiSampleProperties backup = ConfigurationBinder.bind(configuration, "backup", ApiSampleProperties.class);
+        ApiSampleProperties again = new ApiSampleProperties();
+        ConfigurationBinder.bind(configuration, "primary", again);
+
+        assertEquals("https://primary", primary.getBaseUrl());
+        assertEquals("https://backup", backup.getBaseUrl());
+        assertEquals("https://primary", again.getBaseUrl());
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> ConfigurationBinder.bind(configuration, "broken", ApiSampleProperties.class));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause().getCause());
+    }
+
     @ConfigurationProperties(prefix = "api")
     static class ApiSampleProperties {
         private String baseUrl = "http://localhost";
@@ -58,6 +81,9 @@ class ConfigurationBinderTest {
         }
 
         public void setConnectTimeoutSeconds(int connectTimeoutSeconds) {
+            if (connectTimeoutSeconds < 0) {
+                throw new IllegalArgumentException("connectTimeoutSeconds must not be negative");
+            }
             this.connectTimeoutSeconds = connectTimeoutSeconds;
         }
 
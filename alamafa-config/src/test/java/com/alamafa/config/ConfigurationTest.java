@@ -0,0 +1,58 @@
+package com.alamafa.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigurationTest {
+
+    @Test
+    void returnsSubtreeWithPrefixStripped() {
+        Configuration configuration = new Configuration(Map.of(
+                "jfx.window.width", "1280",
+                "jfx.window.title", "Player",
+                "jfx.windowed", "true",
+                "jfx.window", "main",
+                "other.key", "x"
+        ));
+
+        Configuration window = configuration.subtree("jfx.window");
+
+        assertEquals(Map.of("width", "1280", "title", "Player"), window.snapshot());
+        assertEquals(1280, window.getInt("width", 0));
+        assertEquals(window.snapshot(), configuration.subtree("jfx.window.").snapshot());
+        assertEquals("Player", configuration.subtree("jfx").subtree("window").get("title", null));
+        assertSame(configuration, configuration.subtree(""));
+        assertTrue(configuration.hasSubtree("jfx.window"));
+        assertFalse(configuration.hasSubtree("jfx.window.width"));
+        assertFalse(configuration.hasSubtree("missing"));
+        assertEquals(List.of("jfx.window.title", "jfx.window.width"),
+                List.copyOf(configuration.startingWith("jfx.window.").keySet()));
+    }
+
+    @Test
+    void resolvesRelaxedNamesPreferringCanonicalKeys() {
+        Configuration configuration = new Configuration(Map.of(
+                "player.windowWidth", "800",
+                "PLAYER_AUTO_START", "false",
+                "player.base-url", "http://kebab",
+                "player.base.url", "http://canonical"
+        ));
+
+        assertEquals("player.window.width", Configuration.relaxedName("player.windowWidth"));
+        assertEquals("player.window.width", Configuration.relaxedName("PLAYER_WINDOW_WIDTH"));
+        assertEquals("api.base.url", Configuration.relaxedName("api.baseURL"));
+        assertEquals("media.servers[0].host", Configuration.relaxedName("media.servers[0].host"));
+        assertEquals("800", configuration.getRelaxed("player.window.width"));
+        assertEquals("false", configuration.getRelaxed("player.auto.start"));
+        assertEquals("http://canonical", configuration.getRelaxed("player.base.url"));
+        assertNull(configuration.getRelaxed("player.missing"));
+    }
+}
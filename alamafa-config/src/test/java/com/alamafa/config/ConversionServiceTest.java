@@ -0,0 +1,133 @@
+package com.alamafa.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConversionServiceTest {
+
+    @Test
+    void convertsDurationsSizesAndLists() {
+        ConversionService conversions = new ConversionService();
+
+        assertEquals(Duration.ofMillis(500), conversions.convert("500ms", Duration.class));
+        assertEquals(Duration.ofSeconds(30), conversions.convert(" 30s ", Duration.class));
+        assertEquals(Duration.ofMinutes(2), conversions.convert("PT2M", Duration.class));
+        assertEquals(Duration.ofMillis(250), conversions.convert("250", Duration.class));
+        assertEquals(DataSize.ofMegabytes(64), conversions.convert("64MB", DataSize.class));
+        assertEquals(1024L, ((DataSize) conversions.convert("1k", DataSize.class)).bytes());
+        assertEquals(Mode.EXTERNAL_PROCESS, conversions.convert("external-process", Mode.class));
+        assertArrayEquals(new int[]{1, 2, 3}, (int[]) conversions.convert("1, 2,3", int[].class));
+        assertThrows(IllegalArgumentException.class, () -> conversions.convert("10 parsecs", Duration.class));
+    }
+
+    @Test
+    void cachesConvertersAndAcceptsCustomOnes() {
+        ConversionService conversions = new ConversionService();
+        assertSame(conversions.converter(Duration.class), conversions.converter(Duration.class));
+        assertNull(conversions.converter(Endpoint.class));
+
+        conversions.addConverter(Endpoint.class, value -> new Endpoint(URI.create(value)));
+
+        assertEquals("example.com", ((Endpoint) conversions.convert("https://example.com", Endpoint.class)).host());
+    }
+
+    @Test
+    void bindsRichPropertyTypes() {
+        Map<String, String> values = new HashMap<>();
+        values.put("media.timeout", "15s");
+        values.put("media.cache-size", "64MB");
+        values.put("media.library", "/var/media");
+        values.put("media.home", "https://example.com/app");
+        values.put("media.codecs", "h264, hevc ,av1");
+        values.put("media.tags", "a,b,a");
+        values.put("media.headers.User-Agent", "alamafa");
+        values.put("media.headers.X-Trace.id", "42");
+        values.put("media.window.width", "1280");
+        values.put("media.window.title", "Player");
+        values.put("media.servers[1].host", "backup");
+        values.put("media.servers[0].host", "primary");
+        values.put("media.servers[0].port", "8443");
+        values.put("media.ports[0]", "80");
+        values.put("media.ports[1]", "443");
+        Configuration configuration = new Configuration(values);
+
+        MediaProperties properties = ConfigurationBinder.bind(configuration, "media", MediaProperties.class);
+
+        assertEquals(Duration.ofSeconds(15), properties.timeout);
+        assertEquals(DataSize.ofMegabytes(64), properties.cacheSize);
+        assertEquals(Path.of("/var/media"), properties.library);
+        assertEquals(URI.create("https://example.com/app"), properties.home);
+        assertEquals(List.of("h264", "hevc", "av1"), properties.codecs);
+        assertEquals(Set.of("a", "b"), properties.tags);
+        assertEquals(Map.of("User-Agent", "alamafa", "X-Trace.id", "42"), properties.headers);
+        assertEquals(1280, properties.window.width);
+        assertEquals(720, properties.window.height);
+        assertEquals("Player", properties.window.title);
+        assertEquals(2, properties.servers.size());
+        assertEquals("primary", properties.servers.get(0).host);
+        assertEquals(8443, properties.servers.get(0).port);
+        assertEquals("backup", properties.servers.get(1).host);
+        assertEquals(80, properties.servers.get(1).port);
+        assertArrayEquals(new int[]{80, 443}, properties.ports);
+        assertNull(properties.proxy);
+    }
+
+    @Test
+    void createsNestedObjectsOnlyWhenConfigured() {
+        Configuration configuration = new Configuration(Map.of("media.proxy.host", "proxy.local"));
+
+        MediaProperties properties = ConfigurationBinder.bind(configuration, "media", MediaProperties.class);
+
+        assertEquals("proxy.local", properties.proxy.host);
+        assertEquals(80, properties.proxy.port);
+    }
+
+    enum Mode {
+        EMBEDDED,
+        EXTERNAL_PROCESS
+    }
+
+    record Endpoint(URI uri) {
+        String host() {
+            return uri.getHost();
+        }
+    }
+
+    static class MediaProperties {
+        private Duration timeout = Duration.ofSeconds(5);
+        private DataSize cacheSize;
+        private Path library;
+        private URI home;
+        private List<String> codecs;
+        private Set<String> tags;
+        private Map<String, String> headers;
+        private Window window = new Window();
+        private List<Server> servers;
+        private int[] ports;
+        private Server proxy;
+    }
+
+    static class Window {
+        private int width = 800;
+        private int height = 720;
+        private String title;
+    }
+
+    static class Server {
+        private String host;
+        private int port = 80;
+    }
+}
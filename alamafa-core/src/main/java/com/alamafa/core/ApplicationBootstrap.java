@@ -1,6 +1,8 @@
 package com.alamafa.core;
 
 
+import com.alamafa.core.diagnostics.StartupRecorder;
+import com.alamafa.core.events.ApplicationEventListener;
 import com.alamafa.core.events.ApplicationEventPublisher;
 import com.alamafa.core.events.ApplicationStartedEvent;
 import com.alamafa.core.events.ApplicationStartingEvent;
@@ -10,9 +12,11 @@ import com.alamafa.core.events.DefaultApplicationEventPublisher;
 import com.alamafa.core.health.HealthRegistry;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.metrics.MetricsRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -29,6 +33,7 @@ public final class ApplicationBootstrap {
     private final LifecycleErrorHandler dispatchingErrorHandler = this::dispatchError;
     private volatile LifecycleErrorHandler errorHandler = this::logFailure;
     private final ApplicationEventPublisher eventPublisher;
+    private final StartupRecorder startupRecorder;
 
     /**
      * 使用具备上下文能力的启动器构造引导器
@@ -42,12 +47,47 @@ public final class ApplicationBootstrap {
             context.put(HealthRegistry.class, registry);
             context.put(HealthRegistry.CONTEXT_KEY, registry);
         }
+        MetricsRegistry metrics = context.get(MetricsRegistry.class);
+        if (metrics == null) {
+            metrics = new MetricsRegistry();
+            context.put(MetricsRegistry.class, metrics);
+        }
         ApplicationEventPublisher publisher = context.get(ApplicationEventPublisher.class);
         if (publisher == null) {
-            publisher = new DefaultApplicationEventPublisher();
+            DefaultApplicationEventPublisher created = new DefaultApplicationEventPublisher();
+            created.bindMetrics(metrics);
+            publisher = created;
             context.put(ApplicationEventPublisher.class, publisher);
         }
         this.eventPublisher = publisher;
+        this.startupRecorder = ensureStartupRecorder(context, publisher);
+    }
+
+    /**
+     * 准备启动记录器：系统属性开启时立即开始记录，并在 {@link ApplicationStartedEvent} 时导出 trace。
+     */
+    private static StartupRecorder ensureStartupRecorder(ApplicationContext context, ApplicationEventPublisher publisher) {
+        StartupRecorder recorder = context.get(StartupRecorder.class);
+        if (recorder == null) {
+            recorder = new StartupRecorder();
+            context.put(StartupRecorder.class, recorder);
+        }
+        if (Boolean.getBoolean(StartupRecorder.ENABLED_PROPERTY)) {
+            recorder.start();
+        }
+        StartupRecorder target = recorder;
+        publisher.addListener(new ApplicationEventListener<ApplicationStartedEvent>() {
+            @Override
+            public void onEvent(ApplicationStartedEvent event) {
+                target.complete();
+            }
+
+            @Override
+            public Class<ApplicationStartedEvent> getEventType() {
+                return ApplicationStartedEvent.class;
+            }
+        });
+        return recorder;
     }
 
     /**
@@ -87,8 +127,10 @@ public final class ApplicationBootstrap {
     public void launch(Lifecycle lifecycle) {
         ApplicationContext ctx = launcher.getContext();
         eventPublisher.publishEvent(new ApplicationStartingEvent(ctx));
-        for (Consumer<ApplicationContext> initializer : contextInitializers) {
-            initializer.accept(ctx);
+        try (StartupRecorder.Span ignored = startupRecorder.span("bootstrap", "context initializers")) {
+            for (Consumer<ApplicationContext> initializer : contextInitializers) {
+                initializer.accept(ctx);
+            }
         }
         launcher.launch(composeLifecycle(lifecycle));
     }
@@ -150,14 +192,26 @@ public final class ApplicationBootstrap {
      * 按指定阶段调用生命周期对象，并在出现异常时包装统一异常类型。
      */
     private void invokePhase(LifecyclePhase phase, Lifecycle lifecycle, ApplicationContext ctx) throws Exception {
-        try {
+        LifecyclePhaseEvent event = new LifecyclePhaseEvent();
+        event.begin();
+        boolean success = false;
+        try (StartupRecorder.Span ignored = startupRecorder.span("lifecycle",
+                phase.name().toLowerCase(Locale.ROOT) + " " + describeTarget(lifecycle))) {
             switch (phase) {
                 case INIT -> lifecycle.init(ctx);
                 case START -> lifecycle.start(ctx);
                 case STOP -> lifecycle.stop(ctx);
             }
+            success = true;
         } catch (Exception ex) {
             throw wrapAndReport(phase, lifecycle, ex);
+        } finally {
+            if (event.shouldCommit()) {
+                event.phase = phase.name();
+                event.target = lifecycle.getClass();
+                event.success = success;
+                event.commit();
+            }
         }
     }
 
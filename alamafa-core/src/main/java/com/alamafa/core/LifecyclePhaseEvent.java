@@ -0,0 +1,24 @@
+package com.alamafa.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：一次生命周期阶段调用，持续时间覆盖参与者的 init/start/stop。
+ */
+@Name("com.alamafa.LifecyclePhase")
+@Label("Lifecycle Phase")
+@Category({"Alamafa", "Core"})
+@Description("Invocation of a lifecycle participant's init/start/stop phase")
+final class LifecyclePhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+
+    @Label("Target")
+    Class<?> target;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,304 @@
+package com.alamafa.core.diagnostics;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.json.JsonStrings;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 启动过程记录器：以嵌套 span 的形式记录生命周期阶段、自动配置加载、包扫描、Bean 创建、
+ * {@code @PostConstruct} 回调与 FXML 加载的线程、耗时与分配字节数，并导出为 Chrome trace JSON
+ * （可在 {@code chrome://tracing} 或 Perfetto 中打开）。
+ * <p>
+ * 记录器由 {@link com.alamafa.core.ApplicationBootstrap} 放入上下文；设置系统属性
+ * {@value #ENABLED_PROPERTY}{@code =true} 时从引导开始记录，仅在配置文件中开启时从配置加载完成后开始记录。
+ * 未开启时 {@link #span(String, String)} 返回共享的空 span，不产生额外分配。
+ */
+public final class StartupRecorder {
+    /** 开启启动记录的配置项。 */
+    public static final String ENABLED_PROPERTY = "alamafa.startup.profiling.enabled";
+    /** trace 文件输出路径的配置项，默认为工作目录下的 {@code startup-trace.json}。 */
+    public static final String OUTPUT_PROPERTY = "alamafa.startup.profiling.output";
+
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(StartupRecorder.class);
+    private static final Path DEFAULT_OUTPUT = Path.of("startup-trace.json");
+    private static final int SLOWEST_REPORTED = 10;
+    private static final StartupRecorder DISABLED = new StartupRecorder(false);
+
+    private final boolean configurable;
+    private final long origin = System.nanoTime();
+    private final AtomicLong ids = new AtomicLong();
+    private final ConcurrentLinkedQueue<Record> records = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private volatile AllocationCounter allocations = AllocationCounter.NONE;
+    private volatile boolean recording;
+    private volatile Path output = DEFAULT_OUTPUT;
+
+    /**
+     * 创建尚未开始记录的记录器。
+     */
+    public StartupRecorder() {
+        this(true);
+    }
+
+    private StartupRecorder(boolean configurable) {
+        this.configurable = configurable;
+    }
+
+    /**
+     * 返回上下文中的记录器；不存在时返回永不记录的共享实例。
+     */
+    public static StartupRecorder of(ApplicationContext context) {
+        StartupRecorder recorder = context != null ? context.get(StartupRecorder.class) : null;
+        return recorder != null ? recorder : DISABLED;
+    }
+
+    /**
+     * 开始记录，已在记录时忽略。
+     */
+    public void start() {
+        if (!configurable || recording) {
+            return;
+        }
+        if (allocations == AllocationCounter.NONE) {
+            allocations = AllocationCounter.create();
+        }
+        recording = true;
+    }
+
+    /** 是否正在记录。 */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * 指定 trace 文件输出路径。
+     */
+    public void setOutput(Path output) {
+        this.output = Objects.requireNonNull(output, "output");
+    }
+
+    /** 返回 trace 文件输出路径。 */
+    public Path output() {
+        return output;
+    }
+
+    /**
+     * 开启一个 span，需在同一线程以 try-with-resources 关闭；同线程内未关闭的 span 为其父节点。
+     */
+    public Span span(String category, String name) {
+        if (!recording) {
+            return Span.NOOP;
+        }
+        Span parent = current.get();
+        Span span = new Span(this, ids.incrementAndGet(), parent, category, name,
+                System.nanoTime(), allocations.currentThread());
+        current.set(span);
+        return span;
+    }
+
+    /**
+     * 以 {@code 类名#成员} 命名的 span，名称只在记录时拼接。
+     */
+    public Span span(String category, Class<?> type, String member) {
+        if (!recording) {
+            return Span.NOOP;
+        }
+        return span(category, type.getName() + '#' + member);
+    }
+
+    /**
+     * 返回已结束 span 的快照，按开始时间排序。
+     */
+    public List<Record> records() {
+        List<Record> snapshot = new ArrayList<>(records);
+        snapshot.sort(Comparator.comparingLong(Record::startNanos));
+        return snapshot;
+    }
+
+    /**
+     * 停止记录并将结果写入 {@link #output()}，返回写入的文件；未在记录时返回 null。
+     */
+    public Path complete() {
+        if (!recording) {
+            return null;
+        }
+        recording = false;
+        List<Record> snapshot = records();
+        Path target = output;
+        try {
+            writeChromeTrace(snapshot, target);
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to write startup trace to {}", target, ex);
+            return null;
+        }
+        LOGGER.info("Startup trace with {} span(s) written to {}", snapshot.size(), target.toAbsolutePath());
+        snapshot.stream()
+                .filter(record -> "bean".equals(record.category()))
+                .sorted(Comparator.comparingLong(Record::durationNanos).reversed())
+                .limit(SLOWEST_REPORTED)
+                .forEach(record -> LOGGER.info("  {} ms  {} (self {} ms)",
+                        millis(record.durationNanos()), record.name(), millis(selfNanos(record, snapshot))));
+        records.clear();
+        return target;
+    }
+
+    /**
+     * 以 Chrome trace 事件格式写出 span 列表。
+     */
+    public void writeChromeTrace(List<Record> spans, Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        long pid = ProcessHandle.current().pid();
+        Map<Long, String> threads = new LinkedHashMap<>();
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+            boolean first = true;
+            for (Record record : spans) {
+                threads.putIfAbsent(record.threadId(), record.threadName());
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write("\n{\"ph\":\"X\",\"pid\":" + pid + ",\"tid\":" + record.threadId()
+                        + ",\"ts\":" + micros(record.startNanos() - origin)
+                        + ",\"dur\":" + micros(record.durationNanos())
+                        + ",\"cat\":" + JsonStrings.quote(record.category())
+                        + ",\"name\":" + JsonStrings.quote(record.name())
+                        + ",\"args\":{\"id\":" + record.id() + ",\"parent\":" + record.parentId()
+                        + ",\"allocatedBytes\":" + record.allocatedBytes() + "}}");
+            }
+            for (Map.Entry<Long, String> thread : threads.entrySet()) {
+                if (!first) {
+                    writer.write(',');
+                }
+                first = false;
+                writer.write("\n{\"ph\":\"M\",\"pid\":" + pid + ",\"tid\":" + thread.getKey()
+                        + ",\"name\":\"thread_name\",\"args\":{\"name\":" + JsonStrings.quote(thread.getValue()) + "}}");
+            }
+            writer.write("\n]}\n");
+        }
+    }
+
+    private void finish(Span span) {
+        long end = System.nanoTime();
+        long allocated = allocations.currentThread();
+        current.set(span.parent);
+        if (!recording) {
+            return;
+        }
+        Thread thread = Thread.currentThread();
+        records.add(new Record(span.id, span.parent != null ? span.parent.id : 0L, span.category, span.name,
+                thread.threadId(), thread.getName(), span.start, end - span.start,
+                allocated >= 0 && span.allocatedAtStart >= 0 ? allocated - span.allocatedAtStart : -1L));
+    }
+
+    private static long selfNanos(Record record, List<Record> spans) {
+        long children = 0;
+        for (Record candidate : spans) {
+            if (candidate.parentId() == record.id()) {
+                children += candidate.durationNanos();
+            }
+        }
+        return Math.max(0, record.durationNanos() - children);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000.0);
+    }
+
+    /**
+     * 正在进行的 span，关闭时记录结束时间与分配量。
+     */
+    public static final class Span implements AutoCloseable {
+        static final Span NOOP = new Span(null, 0L, null, "", "", 0L, 0L);
+
+        private final StartupRecorder recorder;
+        private final long id;
+        private final Span parent;
+        private final String category;
+        private final String name;
+        private final long start;
+        private final long allocatedAtStart;
+        private boolean closed;
+
+        private Span(StartupRecorder recorder, long id, Span parent, String category, String name,
+                     long start, long allocatedAtStart) {
+            this.recorder = recorder;
+            this.id = id;
+            this.parent = parent;
+            this.category = category;
+            this.name = name;
+            this.start = start;
+            this.allocatedAtStart = allocatedAtStart;
+        }
+
+        @Override
+        public void close() {
+            if (recorder == null || closed) {
+                return;
+            }
+            closed = true;
+            recorder.finish(this);
+        }
+    }
+
+    /**
+     * 已结束的 span；{@code parentId} 为 0 表示顶层，{@code allocatedBytes} 为 -1 表示 JVM 不支持线程分配统计。
+     */
+    public record Record(long id,
+                         long parentId,
+                         String category,
+                         String name,
+                         long threadId,
+                         String threadName,
+                         long startNanos,
+                         long durationNanos,
+                         long allocatedBytes) {
+    }
+
+    /** 基于 {@code com.sun.management.ThreadMXBean} 的线程分配计数，不可用时返回 -1。 */
+    private record AllocationCounter(com.sun.management.ThreadMXBean bean) {
+        static final AllocationCounter NONE = new AllocationCounter(null);
+
+        static AllocationCounter create() {
+            try {
+                if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                        && bean.isThreadAllocatedMemorySupported()) {
+                    if (!bean.isThreadAllocatedMemoryEnabled()) {
+                        bean.setThreadAllocatedMemoryEnabled(true);
+                    }
+                    return new AllocationCounter(bean);
+                }
+            } catch (RuntimeException | LinkageError ignored) {
+            }
+            return NONE;
+        }
+
+        long currentThread() {
+            return bean != null ? bean.getCurrentThreadAllocatedBytes() : -1L;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.alamafa.core.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：一次 {@link ApplicationEventPublisher#publishEvent} 的同步派发。
+ */
+@Name("com.alamafa.ApplicationEventDispatch")
+@Label("Application Event Dispatch")
+@Category({"Alamafa", "Core"})
+@Description("Synchronous dispatch of an application event to matching listeners")
+final class ApplicationEventDispatchEvent extends jdk.jfr.Event {
+    @Label("Event Type")
+    Class<?> eventType;
+
+    @Label("Listeners")
+    int listeners;
+
+    @Label("Failures")
+    int failures;
+}
@@ -0,0 +1,27 @@
+package com.alamafa.core.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link ApplicationEventListener} for asynchronous delivery. Events are queued per listener
+ * and delivered in publish order on a virtual thread, so a slow listener no longer stalls publishers.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AsyncListener {
+
+    /**
+     * Maximum number of pending events.
+     */
+    int capacity() default 1024;
+
+    /**
+     * What to do when {@link #capacity()} pending events are queued.
+     */
+    OverflowPolicy overflow() default OverflowPolicy.DROP_OLDEST;
+}
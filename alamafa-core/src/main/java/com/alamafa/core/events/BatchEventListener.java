@@ -0,0 +1,32 @@
+package com.alamafa.core.events;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Listener receiving events in batches, see {@link CoalescingEventListener}.
+ */
+@FunctionalInterface
+public interface BatchEventListener<E extends ApplicationEvent> {
+
+    /**
+     * Handles the events collected during one window, oldest key first.
+     */
+    void onEvents(List<E> events) throws Exception;
+
+    /**
+     * Returns the supported event type.
+     */
+    @SuppressWarnings("unchecked")
+    default Class<E> getEventType() {
+        return (Class<E>) ApplicationEvent.class;
+    }
+
+    /**
+     * Returns the executor batches are delivered on, e.g. {@code Platform::runLater} for UI updates.
+     * Returning null delivers on the shared coalescing timer thread.
+     */
+    default Executor deliveryExecutor() {
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.alamafa.core.events;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares an event type whose listeners only care about the latest value. {@link BatchEventListener}s of
+ * such a type receive at most {@link #maxRate()} batches per second, each holding the newest event per
+ * {@link KeyedEvent#coalescingKey() coalescing key} (or the newest event overall for unkeyed types).
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Coalesced {
+
+    /**
+     * Maximum number of batches delivered per second; the default matches a 60 Hz frame rate.
+     */
+    int maxRate() default 60;
+}
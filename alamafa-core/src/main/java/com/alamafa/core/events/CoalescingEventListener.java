@@ -0,0 +1,225 @@
+package com.alamafa.core.events;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adapts a {@link BatchEventListener} to a regular listener: events are collected for one window after the
+ * first event arrives and then delivered as a single batch.
+ * <p>
+ * For event classes annotated with {@link Coalesced} only the newest event per {@link KeyedEvent#coalescingKey()}
+ * (or per event class when the event is not keyed) is kept and the window is {@code 1s / maxRate}. Other event
+ * classes are delivered unmerged in windows of 1/60 s. The annotation is read from the runtime class of each
+ * published event, so a listener declared for a supertype still honours every subtype's rate; when events with
+ * different windows are pending the batch is delivered at the earliest deadline. Collecting happens on the
+ * publishing thread and only holds a short lock.
+ */
+public final class CoalescingEventListener<E extends ApplicationEvent> implements ApplicationEventListener<E>, AutoCloseable {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(CoalescingEventListener.class);
+    private static final int DEFAULT_RATE = 60;
+    private static final ClassValue<Boolean> COALESCED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(Coalesced.class);
+        }
+    };
+    private static final ClassValue<Long> WINDOW = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            Coalesced coalescedType = type.getAnnotation(Coalesced.class);
+            int rate = coalescedType != null ? coalescedType.maxRate() : DEFAULT_RATE;
+            if (rate <= 0) {
+                throw new IllegalArgumentException("@Coalesced maxRate must be positive on " + type.getName());
+            }
+            return TimeUnit.SECONDS.toNanos(1) / rate;
+        }
+    };
+
+    private final BatchEventListener<E> delegate;
+    private final Class<E> eventType;
+    private final Executor deliveryExecutor;
+    private final Object lock = new Object();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private LinkedHashMap<Object, E> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> flushTask;
+    private long flushAt;
+    private boolean closed;
+
+    /**
+     * Wraps the listener, delivering on {@link BatchEventListener#deliveryExecutor()}.
+     */
+    public CoalescingEventListener(BatchEventListener<E> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        Class<E> type = delegate.getEventType();
+        this.eventType = type;
+        this.deliveryExecutor = delegate.deliveryExecutor();
+        if (type != null) {
+            // fail fast on an invalid rate declared on the listener's own event type
+            WINDOW.get(type);
+        }
+    }
+
+    @Override
+    public void onEvent(E event) {
+        received.increment();
+        Object key = keyOf(event);
+        long window = WINDOW.get(event.getClass());
+        boolean flushNow = false;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            if (pending.put(key, event) != null) {
+                coalesced.increment();
+            }
+            long deadline = System.nanoTime() + window;
+            if (flushTask == null || deadline - flushAt < 0) {
+                if (flushTask != null) {
+                    flushTask.cancel(false);
+                }
+                flushAt = deadline;
+                try {
+                    flushTask = Timer.SCHEDULER.schedule(this::flush, window, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException ex) {
+                    flushTask = null;
+                    flushNow = true;
+                }
+            }
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    @Override
+    public Class<E> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the wrapped listener.
+     */
+    public BatchEventListener<E> delegate() {
+        return delegate;
+    }
+
+    /** Events received from the publisher. */
+    public long received() {
+        return received.sum();
+    }
+
+    /** Events replaced by a newer event with the same key before delivery. */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    /** Batches delivered. */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Drops pending events and stops delivering.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+            pending = new LinkedHashMap<>();
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+    }
+
+    private void flush() {
+        List<E> batch;
+        synchronized (lock) {
+            flushTask = null;
+            if (closed || pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.values());
+            pending = new LinkedHashMap<>(Math.max(16, batch.size() * 2));
+        }
+        batches.increment();
+        if (deliveryExecutor == null) {
+            deliver(batch);
+            return;
+        }
+        try {
+            deliveryExecutor.execute(() -> deliver(batch));
+        } catch (RejectedExecutionException ex) {
+            LOGGER.warn("Executor rejected batch of {} event(s) for listener {}", batch.size(), delegate, ex);
+        }
+    }
+
+    private void deliver(List<E> batch) {
+        try {
+            delegate.onEvents(List.copyOf(batch));
+        } catch (Exception ex) {
+            LOGGER.warn("Batch event listener {} failed while handling {} event(s)", delegate, batch.size(), ex);
+        }
+    }
+
+    /**
+     * Coalescing key of an event: its declared key, its class for unkeyed {@link Coalesced} types,
+     * or the event itself so that nothing is merged.
+     */
+    static Object keyOf(ApplicationEvent event) {
+        Class<?> type = event.getClass();
+        if (!COALESCED.get(type)) {
+            return new Identity(event);
+        }
+        if (event instanceof KeyedEvent keyed) {
+            return new Key(type, keyed.coalescingKey());
+        }
+        return type;
+    }
+
+    private record Key(Class<?> type, Object key) {
+    }
+
+    /** Identity wrapper so that events overriding {@code equals} are not merged. */
+    private record Identity(Object event) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Identity identity && identity.event == event;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(event);
+        }
+    }
+
+    private static final class Timer {
+        private static final ScheduledExecutorService SCHEDULER = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "alamafa-event-coalescer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+}
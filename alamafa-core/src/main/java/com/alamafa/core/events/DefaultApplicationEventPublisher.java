@@ -2,27 +2,104 @@ package com.alamafa.core.events;
 
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
 
 /**
- * Default in-memory event publisher using synchronous dispatch.
+ * Default in-memory event publisher.
+ * <p>
+ * Listeners are dispatched synchronously on the publishing thread unless they are annotated with
+ * {@link AsyncListener} or registered through {@link #addAsyncListener}; those get a bounded queue drained
+ * in publish order on their executor (virtual threads by default). The listeners matching an event class are
+ * computed once per class and cached until the listener set changes.
  */
 public final class DefaultApplicationEventPublisher implements ApplicationEventPublisher {
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(DefaultApplicationEventPublisher.class);
+    private static final Registration[] NO_REGISTRATIONS = new Registration[0];
 
-    private final List<ApplicationEventListener<? extends ApplicationEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final Executor asyncExecutor;
+    private volatile ListenerIndex index = new ListenerIndex(NO_REGISTRATIONS);
+    private final Registration retired = new Registration(this, event -> { }, null, 0, null);
+    private volatile Counter publishedCounter;
+    private volatile Timer latencyTimer;
+
+    /**
+     * Creates a publisher whose asynchronous listeners run on virtual threads.
+     */
+    public DefaultApplicationEventPublisher() {
+        this(null);
+    }
+
+    /**
+     * Creates a publisher whose asynchronous listeners run on the given executor, or on virtual threads when
+     * {@code asyncExecutor} is null.
+     */
+    public DefaultApplicationEventPublisher(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Exposes aggregate dispatch statistics through {@code registry}: published events, per-outcome deliveries,
+     * the total async queue depth and the publish-to-delivery latency of async listeners.
+     */
+    public void bindMetrics(MetricsRegistry registry) {
+        Objects.requireNonNull(registry, "registry");
+        registry.counter("alamafa.events.dispatched", () -> retired.dispatched.sum() + sum(registration -> registration.dispatched.sum()));
+        registry.counter("alamafa.events.failed", () -> retired.failed.sum() + sum(registration -> registration.failed.sum()));
+        registry.counter("alamafa.events.dropped", () -> retired.dropped.sum() + sum(registration -> registration.dropped.sum()));
+        registry.counter("alamafa.events.coalesced", () -> retired.coalesced.sum() + sum(registration -> registration.coalesced.sum()));
+        registry.gauge("alamafa.events.queue.depth",
+                () -> sum(registration -> registration.mailbox != null ? registration.mailbox.depth() : 0));
+        latencyTimer = registry.timer("alamafa.events.async.latency");
+        publishedCounter = registry.counter("alamafa.events.published");
+    }
 
     @Override
     public void publishEvent(ApplicationEvent event) {
         Objects.requireNonNull(event, "event");
-        for (ApplicationEventListener<? extends ApplicationEvent> listener : listeners) {
-            if (supports(listener, event)) {
-                dispatch(listener, event);
+        Counter published = publishedCounter;
+        if (published != null) {
+            published.increment();
+        }
+        ApplicationEventDispatchEvent dispatchEvent = new ApplicationEventDispatchEvent();
+        dispatchEvent.begin();
+        Registration[] matching = index.get(event.getClass());
+        long publishedAt = 0L;
+        int failures = 0;
+        for (Registration registration : matching) {
+            if (registration.mailbox != null) {
+                if (publishedAt == 0L) {
+                    publishedAt = System.nanoTime();
+                }
+                registration.mailbox.offer(event, publishedAt);
+            } else if (!registration.deliver(event)) {
+                failures++;
             }
         }
+        if (dispatchEvent.shouldCommit()) {
+            dispatchEvent.eventType = event.getClass();
+            dispatchEvent.listeners = matching.length;
+            dispatchEvent.failures = failures;
+            dispatchEvent.commit();
+        }
     }
 
     @Override
@@ -30,7 +107,39 @@ public final class DefaultApplicationEventPublisher implements ApplicationEventP
         if (listener == null) {
             return;
         }
-        listeners.add(listener);
+        AsyncListener async = listener.getClass().getAnnotation(AsyncListener.class);
+        if (async != null) {
+            addAsyncListener(listener, null, async.capacity(), async.overflow());
+            return;
+        }
+        register(new Registration(this, listener, null, 0, null));
+    }
+
+    /**
+     * Registers a listener whose events are queued and delivered on {@code executor} (the publisher's
+     * asynchronous executor when null), holding at most {@code capacity} pending events.
+     */
+    public void addAsyncListener(ApplicationEventListener<? extends ApplicationEvent> listener,
+                                 Executor executor,
+                                 int capacity,
+                                 OverflowPolicy overflow) {
+        Objects.requireNonNull(listener, "listener");
+        Objects.requireNonNull(overflow, "overflow");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        Executor target = executor != null ? executor : asyncExecutor != null ? asyncExecutor : VirtualThreads.EXECUTOR;
+        register(new Registration(this, listener, target, capacity, overflow));
+    }
+
+    /**
+     * Registers a listener receiving coalesced batches, see {@link CoalescingEventListener}. Returns the adapter
+     * actually registered, which is also what {@link #removeListener} expects.
+     */
+    public <E extends ApplicationEvent> CoalescingEventListener<E> addBatchListener(BatchEventListener<E> listener) {
+        CoalescingEventListener<E> adapter = new CoalescingEventListener<>(listener);
+        addListener(adapter);
+        return adapter;
     }
 
     @Override
@@ -38,25 +147,305 @@ public final class DefaultApplicationEventPublisher implements ApplicationEventP
         if (listener == null) {
             return;
         }
-        listeners.remove(listener);
+        synchronized (this) {
+            Registration[] current = index.all;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].listener.equals(listener)) {
+                    Registration[] next = new Registration[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    index = new ListenerIndex(next);
+                    retire(current[i]);
+                    if (current[i].mailbox != null) {
+                        current[i].mailbox.close();
+                    }
+                    if (current[i].listener instanceof CoalescingEventListener<?> coalescing) {
+                        coalescing.close();
+                    }
+                    return;
+                }
+            }
+        }
     }
 
-    private static boolean supports(ApplicationEventListener<?> listener, ApplicationEvent event) {
+    /**
+     * Returns dispatch statistics for every registered listener in registration order.
+     */
+    public List<EventListenerMetrics> metrics() {
+        Registration[] current = index.all;
+        List<EventListenerMetrics> snapshot = new ArrayList<>(current.length);
+        for (Registration registration : current) {
+            snapshot.add(registration.metrics());
+        }
+        return List.copyOf(snapshot);
+    }
+
+    private synchronized void register(Registration registration) {
+        Registration[] current = index.all;
+        Registration[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = registration;
+        index = new ListenerIndex(next);
+    }
+
+    /** Keeps the bound counters monotonic after a listener is removed. */
+    private void retire(Registration registration) {
+        retired.dispatched.add(registration.dispatched.sum());
+        retired.failed.add(registration.failed.sum());
+        retired.dropped.add(registration.dropped.sum());
+        retired.coalesced.add(registration.coalesced.sum());
+    }
+
+    private long sum(ToLongFunction<Registration> value) {
+        long total = 0;
+        for (Registration registration : index.all) {
+            total += value.applyAsLong(registration);
+        }
+        return total;
+    }
+
+    private static Class<?> indexedType(ApplicationEventListener<?> listener) {
         Class<?> eventType = listener.getEventType();
-        if (eventType == null || eventType.equals(ApplicationEvent.class)) {
-            return true;
+        return eventType == null ? ApplicationEvent.class : eventType;
+    }
+
+    /**
+     * Listeners matching each event class; replaced as a whole whenever the listener set changes.
+     */
+    private static final class ListenerIndex extends ClassValue<Registration[]> {
+        private final Registration[] all;
+
+        private ListenerIndex(Registration[] all) {
+            this.all = all;
+        }
+
+        @Override
+        protected Registration[] computeValue(Class<?> type) {
+            List<Registration> matching = new ArrayList<>();
+            for (Registration registration : all) {
+                if (registration.eventType.isAssignableFrom(type)) {
+                    matching.add(registration);
+                }
+            }
+            return matching.isEmpty() ? NO_REGISTRATIONS : matching.toArray(NO_REGISTRATIONS);
+        }
+    }
+
+    private static final class Registration {
+        private final DefaultApplicationEventPublisher owner;
+        private final ApplicationEventListener<ApplicationEvent> listener;
+        private final Class<?> eventType;
+        private final Mailbox mailbox;
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder totalLatency = new LongAdder();
+        private final AtomicLong maxLatency = new AtomicLong();
+        private final AtomicInteger peakDepth = new AtomicInteger();
+
+        @SuppressWarnings("unchecked")
+        private Registration(DefaultApplicationEventPublisher owner,
+                             ApplicationEventListener<? extends ApplicationEvent> listener,
+                             Executor executor,
+                             int capacity,
+                             OverflowPolicy overflow) {
+            this.owner = owner;
+            this.listener = (ApplicationEventListener<ApplicationEvent>) listener;
+            this.eventType = indexedType(listener);
+            this.mailbox = executor != null ? new Mailbox(this, executor, capacity, overflow) : null;
+        }
+
+        private boolean deliver(ApplicationEvent event) {
+            dispatched.increment();
+            try {
+                listener.onEvent(event);
+                return true;
+            } catch (Exception ex) {
+                LOGGER.warn("Application event listener {} failed while handling {}", listener, event.getClass().getName(), ex);
+                failed.increment();
+                return false;
+            }
+        }
+
+        private void deliverQueued(Pending pending) {
+            deliver(pending.event);
+            long latency = System.nanoTime() - pending.publishedAt;
+            totalLatency.add(latency);
+            if (latency > maxLatency.get()) {
+                maxLatency.accumulateAndGet(latency, Math::max);
+            }
+            Timer timer = owner.latencyTimer;
+            if (timer != null) {
+                timer.record(latency);
+            }
+        }
+
+        private EventListenerMetrics metrics() {
+            long count = dispatched.sum();
+            return new EventListenerMetrics(listener.toString(), eventType, mailbox != null,
+                    mailbox != null ? mailbox.depth() : 0, peakDepth.get(), count, failed.sum(),
+                    dropped.sum(), coalesced.sum(), count == 0 ? 0L : totalLatency.sum() / count, maxLatency.get());
         }
-        return eventType.isAssignableFrom(event.getClass());
     }
 
-    @SuppressWarnings("unchecked")
-    private void dispatch(ApplicationEventListener<? extends ApplicationEvent> rawListener, ApplicationEvent event) {
-        ApplicationEventListener<ApplicationEvent> listener = (ApplicationEventListener<ApplicationEvent>) rawListener;
-        try {
-            listener.onEvent(event);
-        } catch (Exception ex) {
-            LOGGER.warn("Application event listener {} failed while handling {}", listener, event.getClass().getName(), ex);
+    /**
+     * Bounded per-listener queue. At most one drain task is scheduled at a time, so events reach the listener
+     * in publish order without a dedicated thread.
+     */
+    private static final class Mailbox implements Runnable {
+        private final Registration registration;
+        private final Executor executor;
+        private final int capacity;
+        private final OverflowPolicy overflow;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean closed;
+        private Thread drainer;
+
+        private Mailbox(Registration registration, Executor executor, int capacity, OverflowPolicy overflow) {
+            this.registration = registration;
+            this.executor = executor;
+            this.capacity = capacity;
+            this.overflow = overflow;
+        }
+
+        private void offer(ApplicationEvent event, long publishedAt) {
+            boolean schedule;
+            lock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                if (overflow == OverflowPolicy.COALESCE && removePendingOfSameClass(event)) {
+                    registration.coalesced.increment();
+                }
+                while (queue.size() >= capacity) {
+                    if (overflow != OverflowPolicy.BLOCK) {
+                        queue.pollFirst();
+                        registration.dropped.increment();
+                    } else if (Thread.currentThread() == drainer) {
+                        // a listener publishing from its own drain thread cannot wait for itself
+                        break;
+                    } else {
+                        try {
+                            notFull.await();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            registration.dropped.increment();
+                            return;
+                        }
+                        if (closed) {
+                            return;
+                        }
+                    }
+                }
+                queue.addLast(new Pending(event, publishedAt));
+                if (queue.size() > registration.peakDepth.get()) {
+                    registration.peakDepth.accumulateAndGet(queue.size(), Math::max);
+                }
+                schedule = !scheduled;
+                scheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (schedule) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException ex) {
+                    LOGGER.warn("Executor rejected event delivery for listener {}", registration.listener, ex);
+                    lock.lock();
+                    try {
+                        registration.dropped.add(queue.size());
+                        queue.clear();
+                        scheduled = false;
+                        notFull.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        private boolean removePendingOfSameClass(ApplicationEvent event) {
+            for (Iterator<Pending> iterator = queue.iterator(); iterator.hasNext(); ) {
+                ApplicationEvent pending = iterator.next().event;
+                if (pending.getClass() == event.getClass() && sameKey(pending, event)) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean sameKey(ApplicationEvent pending, ApplicationEvent event) {
+            return !(event instanceof KeyedEvent keyed)
+                    || Objects.equals(((KeyedEvent) pending).coalescingKey(), keyed.coalescingKey());
+        }
+
+        @Override
+        public void run() {
+            boolean drained = false;
+            try {
+                while (true) {
+                    Pending next;
+                    lock.lock();
+                    try {
+                        next = queue.pollFirst();
+                        if (next == null) {
+                            scheduled = false;
+                            drainer = null;
+                            drained = true;
+                            return;
+                        }
+                        drainer = Thread.currentThread();
+                        notFull.signal();
+                    } finally {
+                        lock.unlock();
+                    }
+                    registration.deliverQueued(next);
+                }
+            } finally {
+                if (!drained) {
+                    lock.lock();
+                    try {
+                        scheduled = false;
+                        drainer = null;
+                        notFull.signalAll();
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        }
+
+        private int depth() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            lock.lock();
+            try {
+                closed = true;
+                queue.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
         }
     }
-}
 
+    private record Pending(ApplicationEvent event, long publishedAt) {
+    }
+
+    private static final class VirtualThreads {
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("alamafa-event-", 0).factory());
+    }
+}
@@ -0,0 +1,29 @@
+package com.alamafa.core.events;
+
+/**
+ * Snapshot of dispatch statistics for one registered listener.
+ *
+ * @param listener          listener description
+ * @param eventType         event type the listener is indexed under
+ * @param async             whether events are queued and delivered asynchronously
+ * @param queueDepth        events currently pending (always 0 for synchronous listeners)
+ * @param peakQueueDepth    highest observed number of pending events
+ * @param dispatched        events delivered to the listener
+ * @param failed            deliveries that threw
+ * @param dropped           events discarded by the overflow policy
+ * @param coalesced         pending events replaced by a newer event of the same class
+ * @param averageLatencyNanos mean time from publish to listener completion (asynchronous listeners only)
+ * @param maxLatencyNanos   longest time from publish to listener completion (asynchronous listeners only)
+ */
+public record EventListenerMetrics(String listener,
+                                   Class<?> eventType,
+                                   boolean async,
+                                   int queueDepth,
+                                   int peakQueueDepth,
+                                   long dispatched,
+                                   long failed,
+                                   long dropped,
+                                   long coalesced,
+                                   long averageLatencyNanos,
+                                   long maxLatencyNanos) {
+}
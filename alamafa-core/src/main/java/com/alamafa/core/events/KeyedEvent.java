@@ -0,0 +1,12 @@
+package com.alamafa.core.events;
+
+/**
+ * Event carrying a coalescing key: when events are coalesced only the newest event per key is kept.
+ */
+public interface KeyedEvent {
+
+    /**
+     * Returns the key identifying the entity this event describes, e.g. a player or task id.
+     */
+    Object coalescingKey();
+}
@@ -0,0 +1,20 @@
+package com.alamafa.core.events;
+
+/**
+ * Behaviour of an asynchronous listener queue when it is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Discards the oldest pending event to make room for the new one.
+     */
+    DROP_OLDEST,
+    /**
+     * Replaces a pending event of the same class (and the same {@link KeyedEvent#coalescingKey() key} for keyed
+     * events) with the new one; falls back to {@link #DROP_OLDEST} when the queue is still full.
+     */
+    COALESCE,
+    /**
+     * Blocks the publishing thread until the listener has drained an event.
+     */
+    BLOCK
+}
@@ -0,0 +1,84 @@
+package com.alamafa.core.health;
+
+import com.alamafa.core.http.LoopbackHttpEndpoint;
+import com.alamafa.core.json.JsonStrings;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 仅监听回环地址的健康检查 HTTP 端点，{@code GET /health} 以 JSON 返回 {@link HealthRegistry#snapshot()}，
+ * 整体状态为 UP 时响应 200，否则响应 503，供本机看门狗进程轮询。
+ */
+public final class HealthEndpoint implements AutoCloseable {
+    /** 开启 HTTP 端点的配置项。 */
+    public static final String ENABLED_PROPERTY = "alamafa.health.http.enabled";
+    /** HTTP 端点端口的配置项，0 表示由系统分配。 */
+    public static final String PORT_PROPERTY = "alamafa.health.http.port";
+    /** 端点路径。 */
+    public static final String PATH = "/health";
+
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(HealthEndpoint.class);
+
+    private final LoopbackHttpEndpoint endpoint;
+
+    private HealthEndpoint(LoopbackHttpEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * 在回环地址的指定端口上启动端点。
+     */
+    public static HealthEndpoint start(HealthRegistry registry, int port) throws IOException {
+        Objects.requireNonNull(registry, "registry");
+        LoopbackHttpEndpoint endpoint = LoopbackHttpEndpoint.start(PATH, port, "alamafa-health-http-",
+                () -> respond(registry));
+        LOGGER.info("Health endpoint listening on http://{}:{}{}", endpoint.host(), endpoint.port(), PATH);
+        return new HealthEndpoint(endpoint);
+    }
+
+    /**
+     * 返回实际监听的端口。
+     */
+    public int port() {
+        return endpoint.port();
+    }
+
+    @Override
+    public void close() {
+        endpoint.close();
+    }
+
+    private static LoopbackHttpEndpoint.Response respond(HealthRegistry registry) {
+        Map<String, HealthIndicator> snapshot = registry.snapshot();
+        HealthStatus overall = HealthRegistry.aggregate(snapshot);
+        return new LoopbackHttpEndpoint.Response(overall == HealthStatus.UP ? 200 : 503,
+                Map.of("Content-Type", "application/json; charset=utf-8", "Cache-Control", "no-store"),
+                toJson(overall, snapshot));
+    }
+
+    static String toJson(HealthStatus overall, Map<String, HealthIndicator> snapshot) {
+        StringBuilder json = new StringBuilder(64 + snapshot.size() * 96);
+        json.append("{\"status\":\"").append(overall).append("\",\"checks\":{");
+        boolean first = true;
+        for (Map.Entry<String, HealthIndicator> entry : snapshot.entrySet()) {
+            HealthIndicator indicator = entry.getValue();
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            JsonStrings.quote(json, entry.getKey());
+            json.append(":{\"status\":\"").append(indicator.status())
+                    .append("\",\"timestamp\":\"").append(indicator.timestamp()).append('"');
+            if (indicator.details() != null) {
+                json.append(",\"details\":");
+                JsonStrings.quote(json, indicator.details());
+            }
+            json.append('}');
+        }
+        return json.append("}}").toString();
+    }
+}
@@ -4,24 +4,48 @@ import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 中央健康检查注册表，统一管理健康检查并生成聚合快照。
+ * <p>
+ * 各检查在虚拟线程上并行执行，超过超时时间的检查记为 {@link HealthStatus#DOWN} 并被中断；
+ * 同一检查的并发请求共享一次执行，结果在缓存有效期内直接复用。
  */
 public final class HealthRegistry {
     public static final String CONTEXT_KEY = "alamafa.health.registry";
+    /** 单个检查默认超时（毫秒）的配置项。 */
+    public static final String TIMEOUT_PROPERTY = "alamafa.health.timeout-ms";
+    /** 检查结果缓存有效期（毫秒）的配置项，0 表示不缓存。 */
+    public static final String CACHE_TTL_PROPERTY = "alamafa.health.cache-ttl-ms";
+    /** 后台定期刷新间隔（毫秒）的配置项，0 表示不刷新。 */
+    public static final String REFRESH_INTERVAL_PROPERTY = "alamafa.health.refresh-interval-ms";
 
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(HealthRegistry.class);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
 
     private final ApplicationContext context;
-    private final ConcurrentMap<String, HealthCheck> checks = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, HealthIndicator> lastIndicators = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Registration> checks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Result> results = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Evaluation> inFlight = new ConcurrentHashMap<>();
+    private volatile Duration defaultTimeout = DEFAULT_TIMEOUT;
+    private volatile long cacheTtlNanos;
+    private ScheduledExecutorService refresher;
 
     /**
      * 绑定指定应用上下文，健康检查执行时可以读取上下文数据。
@@ -31,12 +55,20 @@ public final class HealthRegistry {
     }
 
     /**
-     * 注册新的健康检查条目。
+     * 注册新的健康检查条目，使用默认超时。
      */
     public void register(String name, HealthCheck check) {
+        register(name, check, null);
+    }
+
+    /**
+     * 注册新的健康检查条目并指定超时，{@code timeout} 为 null 时使用默认超时。
+     */
+    public void register(String name, HealthCheck check, Duration timeout) {
         Objects.requireNonNull(name, "name");
         Objects.requireNonNull(check, "check");
-        checks.put(name, check);
+        checks.put(name, new Registration(check, timeout));
+        results.remove(name);
         LOGGER.debug("Registered health check {}", name);
     }
 
@@ -45,28 +77,155 @@ public final class HealthRegistry {
      */
     public void unregister(String name) {
         checks.remove(name);
-        lastIndicators.remove(name);
+        results.remove(name);
         LOGGER.debug("Unregistered health check {}", name);
     }
 
     /**
-     * 执行所有健康检查并返回不可变快照。
+     * 设置未单独指定超时的检查所用的超时时间。
      */
-    public Map<String, HealthIndicator> snapshot() {
-        Map<String, HealthIndicator> snapshot = new LinkedHashMap<>();
-        for (Map.Entry<String, HealthCheck> entry : checks.entrySet()) {
-            String name = entry.getKey();
-            HealthCheck check = entry.getValue();
-            snapshot.put(name, evaluate(name, check));
+    public void setDefaultTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive: " + timeout);
         }
-        return Collections.unmodifiableMap(snapshot);
+        this.defaultTimeout = timeout;
+    }
+
+    /**
+     * 设置结果缓存有效期，有效期内的 {@link #snapshot()} 不会重新执行检查；{@link Duration#ZERO} 关闭缓存。
+     */
+    public void setCacheTtl(Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl");
+        this.cacheTtlNanos = Math.max(0L, ttl.toNanos());
+    }
+
+    /**
+     * 返回所有检查的不可变快照，缓存过期的检查并行重新执行。
+     */
+    public Map<String, HealthIndicator> snapshot() {
+        return evaluateAll(false);
+    }
+
+    /**
+     * 忽略缓存重新执行所有检查并返回快照。
+     */
+    public Map<String, HealthIndicator> refresh() {
+        return evaluateAll(true);
     }
 
     /**
      * 返回最近一次执行的健康指示器，用于缓存命中。
      */
     public HealthIndicator lastIndicator(String name) {
-        return lastIndicators.get(name);
+        Result result = results.get(name);
+        return result != null ? result.indicator() : null;
+    }
+
+    /**
+     * 按固定间隔在后台刷新所有检查；重复调用时替换原有间隔。
+     */
+    public synchronized void startPeriodicRefresh(Duration interval) {
+        Objects.requireNonNull(interval, "interval");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+        stopPeriodicRefresh();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "alamafa-health-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Periodic health refresh failed", ex);
+            }
+        }, 0L, interval.toNanos(), TimeUnit.NANOSECONDS);
+        refresher = executor;
+    }
+
+    /**
+     * 停止后台刷新。
+     */
+    public synchronized void stopPeriodicRefresh() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * 根据各检查状态计算整体状态：存在 DOWN 即为 DOWN，存在 UNKNOWN 为 UNKNOWN，否则为 UP。
+     */
+    public static HealthStatus aggregate(Map<String, HealthIndicator> indicators) {
+        HealthStatus overall = HealthStatus.UP;
+        for (HealthIndicator indicator : indicators.values()) {
+            if (indicator.status() == HealthStatus.DOWN) {
+                return HealthStatus.DOWN;
+            }
+            if (indicator.status() == HealthStatus.UNKNOWN) {
+                overall = HealthStatus.UNKNOWN;
+            }
+        }
+        return overall;
+    }
+
+    private Map<String, HealthIndicator> evaluateAll(boolean force) {
+        long now = System.nanoTime();
+        long ttl = cacheTtlNanos;
+        Map<String, Object> pending = new LinkedHashMap<>();
+        for (Map.Entry<String, Registration> entry : checks.entrySet()) {
+            String name = entry.getKey();
+            Result cached = results.get(name);
+            if (!force && ttl > 0 && cached != null && now - cached.evaluatedAt() < ttl) {
+                pending.put(name, cached.indicator());
+            } else {
+                pending.put(name, submit(name, entry.getValue()));
+            }
+        }
+        Map<String, HealthIndicator> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : pending.entrySet()) {
+            String name = entry.getKey();
+            if (entry.getValue() instanceof Evaluation evaluation) {
+                snapshot.put(name, await(name, evaluation, now));
+            } else {
+                snapshot.put(name, (HealthIndicator) entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /** 同一检查已在执行时复用该次执行；已完成但尚未移出执行中表的执行不复用。 */
+    private Evaluation submit(String name, Registration registration) {
+        Evaluation created = new Evaluation(name, registration);
+        Evaluation current = inFlight.compute(name,
+                (key, existing) -> existing != null && !existing.isDone() ? existing : created);
+        if (current != created) {
+            return current;
+        }
+        Workers.EXECUTOR.execute(created);
+        return created;
+    }
+
+    private HealthIndicator await(String name, Evaluation evaluation, long startedAt) {
+        Duration timeout = evaluation.registration.timeout() != null
+                ? evaluation.registration.timeout()
+                : defaultTimeout;
+        long remaining = timeout.toNanos() - (System.nanoTime() - startedAt);
+        try {
+            return evaluation.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException ex) {
+            evaluation.cancel(true);
+            return record(name, new HealthIndicator(name, HealthStatus.DOWN,
+                    "Timed out after " + timeout.toMillis() + " ms"), true);
+        } catch (ExecutionException ex) {
+            return record(name, new HealthIndicator(name, HealthStatus.DOWN, String.valueOf(ex.getCause())), true);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return new HealthIndicator(name, HealthStatus.UNKNOWN, "Interrupted");
+        }
     }
 
     /**
@@ -78,14 +237,48 @@ public final class HealthRegistry {
             if (status == null) {
                 status = HealthStatus.UNKNOWN;
             }
-            HealthIndicator indicator = new HealthIndicator(name, status, null);
-            lastIndicators.put(name, indicator);
-            return indicator;
+            return record(name, new HealthIndicator(name, status, null), false);
         } catch (Exception ex) {
-            HealthIndicator indicator = new HealthIndicator(name, HealthStatus.DOWN, ex.getMessage());
-            lastIndicators.put(name, indicator);
             LOGGER.warn("Health check {} reported DOWN: {}", name, ex.getMessage());
-            return indicator;
+            return record(name, new HealthIndicator(name, HealthStatus.DOWN, ex.getMessage()), false);
+        }
+    }
+
+    private HealthIndicator record(String name, HealthIndicator indicator, boolean timedOut) {
+        if (checks.containsKey(name)) {
+            results.put(name, new Result(indicator, System.nanoTime()));
+        }
+        if (timedOut) {
+            LOGGER.warn("Health check {} reported DOWN: {}", name, indicator.details());
+        }
+        return indicator;
+    }
+
+    private record Registration(HealthCheck check, Duration timeout) {
+    }
+
+    private record Result(HealthIndicator indicator, long evaluatedAt) {
+    }
+
+    /** 一次检查执行，结束时从执行中表移除。 */
+    private final class Evaluation extends FutureTask<HealthIndicator> {
+        private final String name;
+        private final Registration registration;
+
+        private Evaluation(String name, Registration registration) {
+            super(() -> evaluate(name, registration.check()));
+            this.name = name;
+            this.registration = registration;
         }
+
+        @Override
+        protected void done() {
+            inFlight.remove(name, this);
+        }
+    }
+
+    private static final class Workers {
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("alamafa-health-", 0).factory());
     }
 }
@@ -0,0 +1,101 @@
+package com.alamafa.core.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 仅监听回环地址、只响应 {@code GET} 的单路径 HTTP 端点，供健康检查与指标导出等本机诊断接口共用。
+ * <p>
+ * 每个请求在虚拟线程上处理，其他方法响应 405 并附带 {@code Allow: GET}。
+ */
+public final class LoopbackHttpEndpoint implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private LoopbackHttpEndpoint(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 在回环地址的指定端口（0 表示由系统分配）上启动端点，请求线程以 {@code threadPrefix} 加序号命名。
+     */
+    public static LoopbackHttpEndpoint start(String path, int port, String threadPrefix, Responder responder)
+            throws IOException {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(threadPrefix, "threadPrefix");
+        Objects.requireNonNull(responder, "responder");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadPrefix, 0).factory());
+        server.createContext(path, exchange -> handle(exchange, responder));
+        server.setExecutor(executor);
+        server.start();
+        return new LoopbackHttpEndpoint(server, executor);
+    }
+
+    /**
+     * 返回实际监听的主机地址。
+     */
+    public String host() {
+        return server.getAddress().getHostString();
+    }
+
+    /**
+     * 返回实际监听的端口。
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void handle(HttpExchange exchange, Responder responder) throws IOException {
+        try (exchange) {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            Response response = responder.respond();
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * 为每个 {@code GET} 请求生成响应。
+     */
+    @FunctionalInterface
+    public interface Responder {
+        Response respond() throws IOException;
+    }
+
+    /**
+     * 响应状态码、响应头与以 UTF-8 编码写出的响应体。
+     */
+    public record Response(int status, Map<String, String> headers, String body) {
+        public Response {
+            headers = Map.copyOf(headers);
+            Objects.requireNonNull(body, "body");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.alamafa.core.json;
+
+/**
+ * JSON 字符串字面量的转义，供诊断与健康检查等不依赖 JSON 库的输出共用。
+ */
+public final class JsonStrings {
+
+    private JsonStrings() {
+    }
+
+    /**
+     * 把 {@code value} 作为带引号的 JSON 字符串追加到 {@code json}。
+     */
+    public static StringBuilder quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * 返回 {@code value} 对应的带引号 JSON 字符串。
+     */
+    public static String quote(String value) {
+        return quote(new StringBuilder(value.length() + 2), value).toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.alamafa.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单调递增计数器，基于分段的 {@link LongAdder}，高并发递增时不争用同一缓存行。
+ */
+public final class Counter implements Meter {
+    private final MeterId id;
+    private final LongAdder count = new LongAdder();
+
+    Counter(MeterId id) {
+        this.id = id;
+    }
+
+    @Override
+    public MeterId id() {
+        return id;
+    }
+
+    /** 加一。 */
+    public void increment() {
+        count.increment();
+    }
+
+    /** 增加指定数量，负数被忽略。 */
+    public void add(long amount) {
+        if (amount > 0) {
+            count.add(amount);
+        }
+    }
+
+    /** 返回当前计数。 */
+    public long count() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,26 @@
+package com.alamafa.core.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 由外部累计值提供读数的计数器，例如组件自身维护的统计。
+ */
+public final class FunctionCounter implements Meter {
+    private final MeterId id;
+    private final LongSupplier supplier;
+
+    FunctionCounter(MeterId id, LongSupplier supplier) {
+        this.id = id;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public MeterId id() {
+        return id;
+    }
+
+    /** 返回当前计数。 */
+    public long count() {
+        return supplier.getAsLong();
+    }
+}
@@ -0,0 +1,30 @@
+package com.alamafa.core.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * 瞬时值指标，读数在导出时计算。
+ */
+public final class Gauge implements Meter {
+    private final MeterId id;
+    private final DoubleSupplier supplier;
+
+    Gauge(MeterId id, DoubleSupplier supplier) {
+        this.id = id;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public MeterId id() {
+        return id;
+    }
+
+    /** 返回当前值，读取失败时返回 NaN。 */
+    public double value() {
+        try {
+            return supplier.getAsDouble();
+        } catch (RuntimeException ex) {
+            return Double.NaN;
+        }
+    }
+}
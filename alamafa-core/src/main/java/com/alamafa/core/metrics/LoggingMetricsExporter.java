@@ -0,0 +1,79 @@
+package com.alamafa.core.metrics;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按固定间隔把全部指标写入日志，每个指标一行。
+ */
+public final class LoggingMetricsExporter implements MetricsExporter {
+    /** 日志导出间隔（毫秒）的配置项，0 表示不导出。 */
+    public static final String INTERVAL_PROPERTY = "alamafa.metrics.log.interval-ms";
+
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(LoggingMetricsExporter.class);
+
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 创建按指定间隔输出的导出器。
+     */
+    public LoggingMetricsExporter(Duration interval) {
+        this.interval = Objects.requireNonNull(interval, "interval");
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+    }
+
+    @Override
+    public synchronized void start(MetricsRegistry registry) {
+        if (scheduler != null) {
+            return;
+        }
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "alamafa-metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> report(registry), interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 立即输出一次全部指标。
+     */
+    public static void report(MetricsRegistry registry) {
+        for (Meter meter : registry.meters()) {
+            LOGGER.info("metric {} {}", meter.id(), describe(meter));
+        }
+    }
+
+    static String describe(Meter meter) {
+        return switch (meter) {
+            case Counter counter -> "count=" + counter.count();
+            case FunctionCounter counter -> "count=" + counter.count();
+            case Gauge gauge -> "value=" + gauge.value();
+            case Timer timer -> {
+                Timer.Snapshot snapshot = timer.snapshot();
+                yield String.format(Locale.ROOT, "count=%d mean=%.3fms p50=%.3fms p99=%.3fms max=%.3fms",
+                        snapshot.count(), snapshot.meanNanos() / 1e6, snapshot.percentile(0.5) / 1e6,
+                        snapshot.percentile(0.99) / 1e6, snapshot.maxNanos() / 1e6);
+            }
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.alamafa.core.metrics;
+
+/**
+ * 注册表中的指标。
+ */
+public sealed interface Meter permits Counter, FunctionCounter, Gauge, Timer {
+
+    /** 返回指标标识。 */
+    MeterId id();
+}
@@ -0,0 +1,50 @@
+package com.alamafa.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 指标标识：名称加按键排序的标签。
+ */
+public record MeterId(String name, Map<String, String> tags) implements Comparable<MeterId> {
+
+    public MeterId {
+        Objects.requireNonNull(name, "name");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("Meter name must not be blank");
+        }
+        tags = tags == null || tags.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new TreeMap<>(tags));
+    }
+
+    /**
+     * 以交替出现的键值对创建标识，例如 {@code of("alamafa.beans.created", "scope", "SINGLETON")}。
+     */
+    public static MeterId of(String name, String... keyValues) {
+        if (keyValues == null || keyValues.length == 0) {
+            return new MeterId(name, Map.of());
+        }
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("Tags must be key/value pairs: " + keyValues.length + " values given");
+        }
+        Map<String, String> tags = new TreeMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            tags.put(Objects.requireNonNull(keyValues[i], "tag key"), String.valueOf(keyValues[i + 1]));
+        }
+        return new MeterId(name, tags);
+    }
+
+    @Override
+    public int compareTo(MeterId other) {
+        int byName = name.compareTo(other.name);
+        return byName != 0 ? byName : tags.toString().compareTo(other.tags.toString());
+    }
+
+    @Override
+    public String toString() {
+        return tags.isEmpty() ? name : name + tags;
+    }
+}
@@ -0,0 +1,21 @@
+package com.alamafa.core.metrics;
+
+import java.io.IOException;
+
+/**
+ * 指标导出器扩展点。除内置的 {@link PrometheusExporter} 与 {@link LoggingMetricsExporter} 外，
+ * 通过 {@code META-INF/services/com.alamafa.core.metrics.MetricsExporter} 声明的实现会在 DI 启动时自动加载。
+ */
+public interface MetricsExporter extends AutoCloseable {
+
+    /**
+     * 开始导出指定注册表中的指标。
+     */
+    void start(MetricsRegistry registry) throws IOException;
+
+    /**
+     * 停止导出并释放资源。
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,131 @@
+package com.alamafa.core.metrics;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 指标注册表：按名称与标签维护计数器、耗时与瞬时值指标，并管理导出器。
+ * <p>
+ * 由 {@link com.alamafa.core.ApplicationBootstrap} 放入上下文。同一标识重复获取返回同一实例，
+ * 热路径上应缓存返回的指标而不是每次按名称查找。
+ */
+public final class MetricsRegistry implements AutoCloseable {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry DETACHED = new MetricsRegistry();
+
+    private final ConcurrentMap<MeterId, Meter> meters = new ConcurrentHashMap<>();
+    private final List<MetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+    /**
+     * 返回上下文中的注册表；不存在时返回一个不会被导出的共享注册表，调用方无需判空。
+     */
+    public static MetricsRegistry of(ApplicationContext context) {
+        MetricsRegistry registry = context != null ? context.get(MetricsRegistry.class) : null;
+        return registry != null ? registry : DETACHED;
+    }
+
+    /**
+     * 获取或创建计数器，{@code tags} 为交替出现的键值对。
+     */
+    public Counter counter(String name, String... tags) {
+        return register(MeterId.of(name, tags), Counter.class, Counter::new);
+    }
+
+    /**
+     * 获取或创建读取外部累计值的计数器；标识已存在时保留原有读数来源。
+     */
+    public FunctionCounter counter(String name, LongSupplier supplier, String... tags) {
+        Objects.requireNonNull(supplier, "supplier");
+        return register(MeterId.of(name, tags), FunctionCounter.class, id -> new FunctionCounter(id, supplier));
+    }
+
+    /**
+     * 获取或创建瞬时值指标；标识已存在时保留原有读数来源。
+     */
+    public Gauge gauge(String name, DoubleSupplier supplier, String... tags) {
+        Objects.requireNonNull(supplier, "supplier");
+        return register(MeterId.of(name, tags), Gauge.class, id -> new Gauge(id, supplier));
+    }
+
+    /**
+     * 获取或创建耗时指标。
+     */
+    public Timer timer(String name, String... tags) {
+        return register(MeterId.of(name, tags), Timer.class, Timer::new);
+    }
+
+    /**
+     * 移除指标。
+     */
+    public void remove(MeterId id) {
+        meters.remove(id);
+    }
+
+    /**
+     * 返回按标识排序的全部指标。
+     */
+    public List<Meter> meters() {
+        List<Meter> snapshot = new ArrayList<>(meters.values());
+        snapshot.sort((left, right) -> left.id().compareTo(right.id()));
+        return snapshot;
+    }
+
+    /**
+     * 启动导出器并在 {@link #close()} 时关闭；启动失败时记录警告并忽略该导出器。
+     */
+    public void addExporter(MetricsExporter exporter) {
+        Objects.requireNonNull(exporter, "exporter");
+        try {
+            exporter.start(this);
+            exporters.add(exporter);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Failed to start metrics exporter {}", exporter.getClass().getName(), ex);
+        }
+    }
+
+    /**
+     * 返回已启动的导出器。
+     */
+    public List<MetricsExporter> exporters() {
+        return List.copyOf(exporters);
+    }
+
+    /**
+     * 关闭所有导出器，指标保留。
+     */
+    @Override
+    public void close() {
+        for (MetricsExporter exporter : exporters) {
+            try {
+                exporter.close();
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Failed to close metrics exporter {}", exporter.getClass().getName(), ex);
+            }
+        }
+        exporters.clear();
+    }
+
+    private <M extends Meter> M register(MeterId id, Class<M> type, Function<MeterId, M> factory) {
+        Meter meter = meters.get(id);
+        if (meter == null) {
+            meter = meters.computeIfAbsent(id, factory);
+        }
+        if (!type.isInstance(meter)) {
+            throw new IllegalArgumentException("Meter " + id + " is already registered as "
+                    + meter.getClass().getSimpleName());
+        }
+        return type.cast(meter);
+    }
+}
@@ -0,0 +1,166 @@
+package com.alamafa.core.metrics;
+
+import com.alamafa.core.http.LoopbackHttpEndpoint;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 以 Prometheus 文本格式（0.0.4）在回环地址的 {@code GET /metrics} 上导出指标。
+ * 名称中的 {@code .} 等字符替换为 {@code _}，计数器追加 {@code _total}，耗时以秒为单位导出为 summary。
+ */
+public final class PrometheusExporter implements MetricsExporter {
+    /** 开启 Prometheus 端点的配置项。 */
+    public static final String ENABLED_PROPERTY = "alamafa.metrics.prometheus.enabled";
+    /** Prometheus 端点端口的配置项，0 表示由系统分配。 */
+    public static final String PORT_PROPERTY = "alamafa.metrics.prometheus.port";
+    /** 端点路径。 */
+    public static final String PATH = "/metrics";
+
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(PrometheusExporter.class);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int requestedPort;
+    private LoopbackHttpEndpoint endpoint;
+
+    /**
+     * 创建监听指定端口的导出器。
+     */
+    public PrometheusExporter(int port) {
+        this.requestedPort = port;
+    }
+
+    @Override
+    public synchronized void start(MetricsRegistry registry) throws IOException {
+        if (endpoint != null) {
+            return;
+        }
+        endpoint = LoopbackHttpEndpoint.start(PATH, requestedPort, "alamafa-metrics-http-",
+                () -> new LoopbackHttpEndpoint.Response(200,
+                        Map.of("Content-Type", "text/plain; version=0.0.4; charset=utf-8"),
+                        format(registry.meters())));
+        LOGGER.info("Prometheus metrics available at http://{}:{}{}", endpoint.host(), endpoint.port(), PATH);
+    }
+
+    /**
+     * 返回实际监听的端口，未启动时返回 -1。
+     */
+    public synchronized int port() {
+        return endpoint != null ? endpoint.port() : -1;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (endpoint != null) {
+            endpoint.close();
+            endpoint = null;
+        }
+    }
+
+    /**
+     * 以 Prometheus 文本格式输出指标，{@code meters} 需按标识排序以便同名指标相邻。
+     */
+    public static String format(List<Meter> meters) {
+        StringBuilder text = new StringBuilder(meters.size() * 64);
+        String family = null;
+        for (Meter meter : meters) {
+            String name = sanitize(meter.id().name());
+            Map<String, String> tags = meter.id().tags();
+            switch (meter) {
+                case Counter counter -> {
+                    family = type(text, family, counterName(name), "counter");
+                    sample(text, counterName(name), tags, null, counter.count());
+                }
+                case FunctionCounter counter -> {
+                    family = type(text, family, counterName(name), "counter");
+                    sample(text, counterName(name), tags, null, counter.count());
+                }
+                case Gauge gauge -> {
+                    family = type(text, family, name, "gauge");
+                    sample(text, name, tags, null, gauge.value());
+                }
+                case Timer timer -> {
+                    String base = name.endsWith("_seconds") ? name : name + "_seconds";
+                    family = type(text, family, base, "summary");
+                    Timer.Snapshot snapshot = timer.snapshot();
+                    for (double quantile : QUANTILES) {
+                        sample(text, base, tags, Double.toString(quantile), snapshot.percentile(quantile) / NANOS_PER_SECOND);
+                    }
+                    sample(text, base + "_sum", tags, null, snapshot.totalNanos() / NANOS_PER_SECOND);
+                    sample(text, base + "_count", tags, null, snapshot.count());
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    private static String type(StringBuilder text, String previous, String family, String type) {
+        if (!family.equals(previous)) {
+            text.append("# TYPE ").append(family).append(' ').append(type).append('\n');
+        }
+        return family;
+    }
+
+    private static void sample(StringBuilder text, String name, Map<String, String> tags, String quantile, double value) {
+        text.append(name);
+        if (!tags.isEmpty() || quantile != null) {
+            text.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                if (!first) {
+                    text.append(',');
+                }
+                first = false;
+                text.append(sanitize(tag.getKey())).append("=\"");
+                escape(text, tag.getValue());
+                text.append('"');
+            }
+            if (quantile != null) {
+                text.append(first ? "" : ",").append("quantile=\"").append(quantile).append('"');
+            }
+            text.append('}');
+        }
+        text.append(' ');
+        if (Double.isNaN(value)) {
+            text.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            text.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            text.append((long) value);
+        } else {
+            text.append(value);
+        }
+        text.append('\n');
+    }
+
+    private static String counterName(String name) {
+        return name.endsWith("_total") ? name : name + "_total";
+    }
+
+    static String sanitize(String name) {
+        StringBuilder sanitized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                    || (i > 0 && c >= '0' && c <= '9');
+            sanitized.append(valid ? c : '_');
+        }
+        return sanitized.toString();
+    }
+
+    private static void escape(StringBuilder text, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> text.append("\\\\");
+                case '"' -> text.append("\\\"");
+                case '\n' -> text.append("\\n");
+                default -> text.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.alamafa.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 耗时指标：以纳秒记录到无锁的对数线性直方图（与 HdrHistogram 相同的分桶方式），
+ * 每个 2 的幂区间再分 16 个子桶，分位数相对误差不超过 1/16；记录只做一次数组原子自增与两次 {@link LongAdder} 累加。
+ */
+public final class Timer implements Meter {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final MeterId id;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    Timer(MeterId id) {
+        this.id = id;
+    }
+
+    @Override
+    public MeterId id() {
+        return id;
+    }
+
+    /**
+     * 记录一次耗时（纳秒），负数按 0 记录。
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /** 记录一次耗时。 */
+    public void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /** 记录以指定单位表示的耗时。 */
+    public void record(long amount, TimeUnit unit) {
+        record(unit.toNanos(amount));
+    }
+
+    /** 返回记录次数。 */
+    public long count() {
+        return count.sum();
+    }
+
+    /** 返回累计耗时（纳秒）。 */
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    /** 返回最大耗时（纳秒）。 */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * 返回分位数（纳秒），{@code quantile} 取值 0 到 1；结果为所在桶的上界，尚无记录时返回 0。
+     */
+    public long percentile(double quantile) {
+        return snapshot().percentile(quantile);
+    }
+
+    /**
+     * 返回各桶计数的一致性快照，可在其上计算多个分位数。
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        return new Snapshot(counts, recorded, total.sum(), max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    /**
+     * 直方图快照。
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        private Snapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /** 返回记录次数。 */
+        public long count() {
+            return count;
+        }
+
+        /** 返回累计耗时（纳秒）。 */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /** 返回最大耗时（纳秒）。 */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /** 返回平均耗时（纳秒）。 */
+        public double meanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * 返回分位数（纳秒），不超过已记录的最大值。
+         */
+        public long percentile(double quantile) {
+            if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+                throw new IllegalArgumentException("quantile must be within [0, 1]: " + quantile);
+            }
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.alamafa.core.reflect;
+
+/**
+ * 预先链接的字段写入器。
+ */
+@FunctionalInterface
+public interface FieldWriter {
+    /**
+     * 写入字段值，类型不匹配时抛出 {@link IllegalArgumentException}。
+     */
+    void set(Object target, Object value);
+}
@@ -0,0 +1,277 @@
+package com.alamafa.core.reflect;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 共享的调用器缓存：把 {@link Method} 与 {@link Field} 链接为 LambdaMetafactory 生成的函数接口或
+ * {@link MethodHandle}，热路径上不再经过 {@code Method.invoke} / {@code Field.set}。
+ * <p>
+ * 无参实例方法优先生成 {@link Consumer} 实现，其余方法使用展开参数的 MethodHandle；
+ * 目标类不可访问时回退为反射。缓存挂在声明类的 {@link ClassValue} 上，不会阻止类卸载。
+ */
+public final class Invokers {
+    static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final MethodType WRITER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSUMER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<ConcurrentMap<Member, Object>> CACHE = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Member, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private Invokers() {
+    }
+
+    /**
+     * 返回方法对应的调用器，同一方法多次调用得到同一实例。
+     */
+    public static MethodInvoker method(Method method) {
+        Objects.requireNonNull(method, "method");
+        return (MethodInvoker) CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, key -> createInvoker(method));
+    }
+
+    /**
+     * 返回字段对应的写入器，同一字段多次调用得到同一实例。
+     */
+    public static FieldWriter fieldWriter(Field field) {
+        Objects.requireNonNull(field, "field");
+        return (FieldWriter) CACHE.get(field.getDeclaringClass())
+                .computeIfAbsent(field, key -> createWriter(field));
+    }
+
+    private static MethodInvoker createInvoker(Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+        if (lookup != null && !isStatic && method.getParameterCount() == 0) {
+            Consumer<Object> consumer = metafactory(lookup, method);
+            if (consumer != null) {
+                return new ConsumerInvoker(method, consumer);
+            }
+        }
+        MethodHandle handle = unreflect(lookup, method);
+        if (handle == null) {
+            return new ReflectiveInvoker(method);
+        }
+        if (isStatic) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(CALLBACK_TYPE);
+        return new HandleInvoker(method, method.getParameterTypes(), handle);
+    }
+
+    private static FieldWriter createWriter(Field field) {
+        MethodHandle handle = unreflectSetter(privateLookup(field.getDeclaringClass()), field);
+        if (handle == null) {
+            return (target, value) -> {
+                try {
+                    field.set(target, value);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Cannot write field " + field, ex);
+                }
+            };
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        MethodHandle setter = handle.asType(WRITER_TYPE);
+        Class<?> type = field.getType();
+        return (target, value) -> {
+            if (!isAssignable(type, value)) {
+                throw new IllegalArgumentException("Cannot set field " + field + " to "
+                        + (value == null ? "null" : value.getClass().getName()));
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (RuntimeException | Error ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new IllegalStateException("Cannot write field " + field, ex);
+            }
+        };
+    }
+
+    /** 在声明类中取得私有访问权限，目标模块未开放时返回 null。 */
+    private static MethodHandles.Lookup privateLookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, LOOKUP);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /** 通过 LambdaMetafactory 生成直接调用方法的 Consumer，不满足条件时返回 null。 */
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> metafactory(MethodHandles.Lookup lookup, Method method) {
+        try {
+            MethodHandle target = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(Consumer.class), CONSUMER_TYPE, target,
+                    MethodType.methodType(void.class, method.getDeclaringClass()));
+            return (Consumer<Object>) site.getTarget().invoke();
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) {
+        if (lookup != null) {
+            try {
+                return lookup.unreflect(method);
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        try {
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /** final 字段只能通过已设置 accessible 的 Field 取得 setter。 */
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field) {
+        if (lookup != null && !Modifier.isFinal(field.getModifiers())) {
+            try {
+                return lookup.unreflectSetter(field);
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        try {
+            field.setAccessible(true);
+            return LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    private static void checkTarget(Method method, Object target) {
+        if (!method.getDeclaringClass().isInstance(target)) {
+            throw new IllegalArgumentException("object is not an instance of " + method.getDeclaringClass().getName());
+        }
+    }
+
+    private static void checkArguments(Method method, Object[] args) {
+        int length = args == null ? 0 : args.length;
+        if (length != method.getParameterCount()) {
+            throw new IllegalArgumentException("wrong number of arguments: " + length
+                    + " expected: " + method.getParameterCount());
+        }
+    }
+
+    /**
+     * 与 {@code Method.invoke} 一样在调用前校验参数类型，使 MethodHandle 的转换异常不会被当作目标方法抛出的异常。
+     */
+    private static void checkArgumentTypes(Class<?>[] parameterTypes, Object[] args) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!isAssignable(parameterTypes[i], args[i])) {
+                throw new IllegalArgumentException("argument type mismatch at index " + i + ": expected "
+                        + parameterTypes[i].getName() + " but was "
+                        + (args[i] == null ? "null" : args[i].getClass().getName()));
+            }
+        }
+    }
+
+    /** 引用类型接受 null 与实例；基本类型接受可拆箱并拓宽到该类型的包装值。 */
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (!type.isPrimitive()) {
+            return value == null || type.isInstance(value);
+        }
+        if (value == null) {
+            return false;
+        }
+        Class<?> source = MethodType.methodType(value.getClass()).unwrap().returnType();
+        if (source == type) {
+            return true;
+        }
+        if (!source.isPrimitive() || source == boolean.class || type == boolean.class || type == char.class) {
+            return false;
+        }
+        if (source == char.class) {
+            return type == int.class || type == long.class || type == float.class || type == double.class;
+        }
+        return rank(source) < rank(type);
+    }
+
+    /** 基本数值类型的拓宽顺序。 */
+    private static int rank(Class<?> type) {
+        if (type == byte.class) {
+            return 0;
+        }
+        if (type == short.class) {
+            return 1;
+        }
+        if (type == int.class) {
+            return 2;
+        }
+        if (type == long.class) {
+            return 3;
+        }
+        return type == float.class ? 4 : 5;
+    }
+
+    private record ConsumerInvoker(Method method, Consumer<Object> consumer) implements MethodInvoker {
+        @Override
+        public void invoke(Object target, Object[] args) throws InvocationTargetException {
+            checkArguments(method, args);
+            invoke(target);
+        }
+
+        @Override
+        public void invoke(Object target) throws InvocationTargetException {
+            checkTarget(method, target);
+            try {
+                consumer.accept(target);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private record HandleInvoker(Method method, Class<?>[] parameterTypes, MethodHandle handle)
+            implements MethodInvoker {
+        @Override
+        public void invoke(Object target, Object[] args) throws InvocationTargetException {
+            if (!Modifier.isStatic(method.getModifiers())) {
+                checkTarget(method, target);
+            }
+            checkArguments(method, args);
+            Object[] arguments = args == null ? NO_ARGUMENTS : args;
+            checkArgumentTypes(parameterTypes, arguments);
+            try {
+                handle.invokeExact(target, arguments);
+            } catch (Throwable ex) {
+                throw new InvocationTargetException(ex);
+            }
+        }
+    }
+
+    private record ReflectiveInvoker(Method method) implements MethodInvoker {
+        @Override
+        public void invoke(Object target, Object[] args) throws InvocationTargetException {
+            try {
+                method.invoke(target, args);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException("Cannot invoke " + method, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.alamafa.core.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * 预先链接的方法调用器，用于生命周期回调等只关心副作用的场景，返回值会被丢弃。
+ */
+public interface MethodInvoker {
+    /**
+     * 以给定参数调用目标方法，方法自身抛出的异常包装为 {@link InvocationTargetException}。
+     */
+    void invoke(Object target, Object[] args) throws InvocationTargetException;
+
+    /**
+     * 调用无参方法。
+     */
+    default void invoke(Object target) throws InvocationTargetException {
+        invoke(target, Invokers.NO_ARGUMENTS);
+    }
+}
@@ -0,0 +1,83 @@
+package com.alamafa.core.diagnostics;
+
+import com.alamafa.core.ApplicationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupRecorderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsNestedSpansWithParents() {
+        StartupRecorder recorder = new StartupRecorder();
+        recorder.start();
+
+        try (StartupRecorder.Span outer = recorder.span("lifecycle", "init")) {
+            try (StartupRecorder.Span inner = recorder.span("bean", "demo.Service")) {
+                byte[] buffer = new byte[4096];
+                assertEquals(4096, buffer.length);
+            }
+            try (StartupRecorder.Span sibling = recorder.span("postConstruct", String.class, "init")) {
+                assertTrue(recorder.isRecording());
+            }
+        }
+
+        List<StartupRecorder.Record> records = recorder.records();
+        assertEquals(3, records.size());
+        StartupRecorder.Record outer = records.get(0);
+        assertEquals("init", outer.name());
+        assertEquals(0L, outer.parentId());
+        assertEquals(outer.id(), records.get(1).parentId());
+        assertEquals(outer.id(), records.get(2).parentId());
+        assertEquals("java.lang.String#init", records.get(2).name());
+        assertEquals(Thread.currentThread().getName(), outer.threadName());
+        assertTrue(outer.durationNanos() >= records.get(1).durationNanos());
+    }
+
+    @Test
+    void ignoresSpansUntilStarted() {
+        StartupRecorder recorder = new StartupRecorder();
+        try (StartupRecorder.Span span = recorder.span("bean", "ignored")) {
+            assertFalse(recorder.isRecording());
+        }
+        assertTrue(recorder.records().isEmpty());
+        assertNull(recorder.complete());
+
+        StartupRecorder absent = StartupRecorder.of(new ApplicationContext());
+        absent.start();
+        assertFalse(absent.isRecording());
+    }
+
+    @Test
+    void writesChromeTraceOnComplete() throws Exception {
+        StartupRecorder recorder = new StartupRecorder();
+        Path output = directory.resolve("trace/startup.json");
+        recorder.setOutput(output);
+        recorder.start();
+        try (StartupRecorder.Span span = recorder.span("bean", "demo.\"Quoted\"")) {
+            assertTrue(recorder.isRecording());
+        }
+
+        assertEquals(output, recorder.complete());
+
+        String json = Files.readString(output);
+        assertTrue(json.startsWith("{\"displayTimeUnit\":\"ms\",\"traceEvents\":["), json);
+        assertTrue(json.contains("\"ph\":\"X\""), json);
+        assertTrue(json.contains("\"name\":\"demo.\\\"Quoted\\\"\""), json);
+        assertTrue(json.contains("\"name\":\"thread_name\""), json);
+        assertTrue(json.contains("\"allocatedBytes\":"), json);
+        assertFalse(recorder.isRecording());
+        assertTrue(recorder.records().isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package com.alamafa.core.events;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingEventListenerTest {
+
+    @Test
+    void keepsNewestEventPerKeyWithinWindow() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        BlockingQueue<List<Progress>> batches = new LinkedBlockingQueue<>();
+        CoalescingEventListener<Progress> adapter = publisher.addBatchListener(new BatchEventListener<Progress>() {
+            @Override
+            public void onEvents(List<Progress> events) {
+                batches.add(events);
+            }
+
+            @Override
+            public Class<Progress> getEventType() {
+                return Progress.class;
+            }
+        });
+
+        publisher.publishEvent(new Progress("a", 1));
+        publisher.publishEvent(new Progress("b", 1));
+        publisher.publishEvent(new Progress("a", 2));
+        publisher.publishEvent(new Progress("a", 3));
+
+        List<Progress> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(List.of("a=3", "b=1"), batch.stream().map(Progress::toString).toList());
+        assertEquals(4, adapter.received());
+        assertEquals(2, adapter.coalesced());
+        assertNull(batches.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void batchesUnannotatedEventsWithoutMerging() throws Exception {
+        BlockingQueue<List<Message>> batches = new LinkedBlockingQueue<>();
+        CoalescingEventListener<Message> adapter = new CoalescingEventListener<>(new BatchEventListener<Message>() {
+            @Override
+            public void onEvents(List<Message> events) {
+                batches.add(events);
+            }
+
+            @Override
+            public Class<Message> getEventType() {
+                return Message.class;
+            }
+        });
+        Message first = new Message();
+        Message second = new Message();
+
+        adapter.onEvent(first);
+        adapter.onEvent(second);
+
+        assertEquals(List.of(first, second), batches.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, adapter.coalesced());
+    }
+
+    @Test
+    void deliversOnListenerExecutorAndStopsAfterClose() throws Exception {
+        AtomicInteger executed = new AtomicInteger();
+        BlockingQueue<List<Progress>> batches = new LinkedBlockingQueue<>();
+        CoalescingEventListener<Progress> adapter = new CoalescingEventListener<>(new BatchEventListener<Progress>() {
+            @Override
+            public void onEvents(List<Progress> events) {
+                batches.add(events);
+            }
+
+            @Override
+            public Class<Progress> getEventType() {
+                return Progress.class;
+            }
+
+            @Override
+            public Executor deliveryExecutor() {
+                return command -> {
+                    executed.incrementAndGet();
+                    command.run();
+                };
+            }
+        });
+
+        adapter.onEvent(new Progress("a", 1));
+        assertNotNull(batches.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, executed.get());
+
+        adapter.close();
+        adapter.onEvent(new Progress("a", 2));
+        assertNull(batches.poll(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, adapter.batches());
+    }
+
+    @Test
+    void usesRateOfPublishedEventClassForSupertypeListeners() throws Exception {
+        BlockingQueue<List<ApplicationEvent>> batches = new LinkedBlockingQueue<>();
+        CoalescingEventListener<ApplicationEvent> adapter = new CoalescingEventListener<>(batches::add);
+        long started = System.nanoTime();
+
+        adapter.onEvent(new Slow());
+        adapter.onEvent(new Slow());
+
+        List<ApplicationEvent> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertEquals(1, batch.size());
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(150));
+        assertEquals(1, adapter.coalesced());
+    }
+
+    @Coalesced(maxRate = 5)
+    static final class Slow extends ApplicationEvent {
+    }
+
+    @Coalesced(maxRate = 20)
+    static final class Progress extends ApplicationEvent implements KeyedEvent {
+        private final String task;
+        private final int value;
+
+        Progress(String task, int value) {
+            this.task = task;
+            this.value = value;
+        }
+
+        @Override
+        public Object coalescingKey() {
+            return task;
+        }
+
+        @Override
+        public String toString() {
+            return task + "=" + value;
+        }
+    }
+
+    static final class Message extends ApplicationEvent {
+    }
+}
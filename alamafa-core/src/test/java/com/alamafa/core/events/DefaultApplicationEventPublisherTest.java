@@ -1,14 +1,28 @@
 package com.alamafa.core.events;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultApplicationEventPublisherTest {
 
+    @TempDir
+    Path directory;
+
     @Test
     void dispatchesEventsToMatchingListeners() {
         DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
@@ -54,6 +68,193 @@ class DefaultApplicationEventPublisherTest {
         assertEquals(List.of(), received);
     }
 
+    @Test
+    void emitsFlightRecorderEventPerDispatch() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        publisher.addListener(new ApplicationEventListener<TestEvent>() {
+            @Override
+            public void onEvent(TestEvent event) {
+                throw new IllegalStateException("listener failure");
+            }
+
+            @Override
+            public Class<TestEvent> getEventType() {
+                return TestEvent.class;
+            }
+        });
+        Path file = directory.resolve("dispatch.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.alamafa.ApplicationEventDispatch").withoutThreshold();
+            recording.start();
+            publisher.publishEvent(new TestEvent("traced"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(TestEvent.class.getName(), event.getClass("eventType").getName());
+        assertEquals(1, event.getInt("listeners"));
+        assertEquals(1, event.getInt("failures"));
+    }
+
+    @Test
+    void deliversAnnotatedListenersInOrderOnVirtualThreads() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        CollectingListener listener = new CollectingListener(3);
+        publisher.addListener(listener);
+
+        publisher.publishEvent(new TestEvent("a"));
+        publisher.publishEvent(new TestEvent("b"));
+        publisher.publishEvent(new TestEvent("c"));
+
+        assertTrue(listener.done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "c"), listener.received);
+        assertTrue(listener.threads.stream().allMatch(Thread::isVirtual));
+        assertNotSame(Thread.currentThread(), listener.threads.get(0));
+        EventListenerMetrics metrics = publisher.metrics().get(0);
+        assertTrue(metrics.async());
+        assertEquals(3, metrics.dispatched());
+    }
+
+    @Test
+    void dropsOldestPendingEventsWhenQueueIsFull() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        GatedListener listener = new GatedListener();
+        publisher.addAsyncListener(listener, null, 2, OverflowPolicy.DROP_OLDEST);
+
+        publisher.publishEvent(new TestEvent("busy"));
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        publisher.publishEvent(new TestEvent("1"));
+        publisher.publishEvent(new TestEvent("2"));
+        publisher.publishEvent(new TestEvent("3"));
+        assertEquals(2, publisher.metrics().get(0).queueDepth());
+        listener.gate.countDown();
+
+        awaitDispatched(publisher, 3);
+        assertEquals(List.of("busy", "2", "3"), listener.received);
+        assertEquals(1, publisher.metrics().get(0).dropped());
+    }
+
+    @Test
+    void coalescesPendingEventsOfTheSameClass() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        GatedListener listener = new GatedListener();
+        publisher.addAsyncListener(listener, null, 16, OverflowPolicy.COALESCE);
+
+        publisher.publishEvent(new TestEvent("busy"));
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        publisher.publishEvent(new TestEvent("stale"));
+        publisher.publishEvent(new TestEvent("latest"));
+        listener.gate.countDown();
+
+        awaitDispatched(publisher, 2);
+        assertEquals(List.of("busy", "latest"), listener.received);
+        assertEquals(1, publisher.metrics().get(0).coalesced());
+    }
+
+    @Test
+    void blocksPublisherUntilListenerCatchesUp() throws Exception {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        GatedListener listener = new GatedListener();
+        publisher.addAsyncListener(listener, null, 1, OverflowPolicy.BLOCK);
+        publisher.publishEvent(new TestEvent("busy"));
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        publisher.publishEvent(new TestEvent("queued"));
+
+        Thread blocked = Thread.ofPlatform().start(() -> publisher.publishEvent(new TestEvent("waiting")));
+        blocked.join(200);
+        assertTrue(blocked.isAlive());
+        listener.gate.countDown();
+        blocked.join(5_000);
+
+        assertFalse(blocked.isAlive());
+        awaitDispatched(publisher, 3);
+        assertEquals(List.of("busy", "queued", "waiting"), listener.received);
+        assertEquals(0, publisher.metrics().get(0).dropped());
+    }
+
+    @Test
+    void indexesListenersBySupportedEventType() {
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        List<String> received = new ArrayList<>();
+        publisher.addListener(event -> received.add("any:" + event.getClass().getSimpleName()));
+        publisher.addListener(new ApplicationEventListener<TestEvent>() {
+            @Override
+            public void onEvent(TestEvent event) {
+                received.add("test:" + event.message());
+            }
+
+            @Override
+            public Class<TestEvent> getEventType() {
+                return TestEvent.class;
+            }
+        });
+
+        publisher.publishEvent(new OtherEvent());
+        publisher.publishEvent(new TestEvent("x"));
+
+        assertEquals(List.of("any:OtherEvent", "any:TestEvent", "test:x"), received);
+        assertEquals(2, publisher.metrics().get(0).dispatched());
+        assertEquals(1, publisher.metrics().get(1).dispatched());
+    }
+
+    private static void awaitDispatched(DefaultApplicationEventPublisher publisher, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (publisher.metrics().get(0).dispatched() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("timed out, metrics=" + publisher.metrics());
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    @AsyncListener
+    private static final class CollectingListener implements ApplicationEventListener<TestEvent> {
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done;
+
+        private CollectingListener(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onEvent(TestEvent event) {
+            received.add(event.message());
+            threads.add(Thread.currentThread());
+            done.countDown();
+        }
+
+        @Override
+        public Class<TestEvent> getEventType() {
+            return TestEvent.class;
+        }
+    }
+
+    private static final class GatedListener implements ApplicationEventListener<TestEvent> {
+        private final List<String> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        @Override
+        public void onEvent(TestEvent event) throws InterruptedException {
+            received.add(event.message());
+            entered.countDown();
+            gate.await();
+        }
+
+        @Override
+        public Class<TestEvent> getEventType() {
+            return TestEvent.class;
+        }
+    }
+
+    private static final class OtherEvent extends ApplicationEvent {
+    }
+
     private static final class TestEvent extends ApplicationEvent {
         private final String message;
 
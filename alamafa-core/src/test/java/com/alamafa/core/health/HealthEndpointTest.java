@@ -0,0 +1,37 @@
+package com.alamafa.core.health;
+
+import com.alamafa.core.ApplicationContext;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthEndpointTest {
+
+    @Test
+    void servesSnapshotAsJsonOnLoopback() throws Exception {
+        HealthRegistry registry = new HealthRegistry(new ApplicationContext());
+        registry.register("database", context -> HealthStatus.UP);
+        HttpClient client = HttpClient.newHttpClient();
+
+        try (HealthEndpoint endpoint = HealthEndpoint.start(registry, 0)) {
+            URI uri = URI.create("http://127.0.0.1:" + endpoint.port() + HealthEndpoint.PATH);
+            HttpResponse<String> up = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, up.statusCode());
+            assertTrue(up.body().startsWith("{\"status\":\"UP\",\"checks\":{\"database\":{\"status\":\"UP\""), up.body());
+
+            registry.register("player \"1\"", context -> {
+                throw new IllegalStateException("no heartbeat");
+            });
+            HttpResponse<String> down = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, down.statusCode());
+            assertTrue(down.body().contains("\"player \\\"1\\\"\":{\"status\":\"DOWN\""), down.body());
+            assertTrue(down.body().contains("\"details\":\"no heartbeat\""), down.body());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.alamafa.core.health;
+
+import com.alamafa.core.ApplicationContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthRegistryTest {
+
+    @Test
+    void evaluatesChecksInParallel() {
+        HealthRegistry registry = new HealthRegistry(new ApplicationContext());
+        for (int i = 0; i < 4; i++) {
+            registry.register("slow-" + i, context -> {
+                Thread.sleep(300);
+                return HealthStatus.UP;
+            });
+        }
+
+        long start = System.nanoTime();
+        Map<String, HealthIndicator> snapshot = registry.snapshot();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(4, snapshot.size());
+        assertEquals(HealthStatus.UP, HealthRegistry.aggregate(snapshot));
+        assertTrue(elapsed < 1_000, "elapsed=" + elapsed);
+    }
+
+    @Test
+    void reportsHungChecksAsDownAfterTimeout() {
+        HealthRegistry registry = new HealthRegistry(new ApplicationContext());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        registry.register("hung", context -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            return HealthStatus.UP;
+        }, Duration.ofMillis(100));
+        registry.register("ok", context -> HealthStatus.UP);
+
+        Map<String, HealthIndicator> snapshot = registry.snapshot();
+
+        assertEquals(HealthStatus.DOWN, snapshot.get("hung").status());
+        assertTrue(snapshot.get("hung").details().startsWith("Timed out"));
+        assertEquals(HealthStatus.UP, snapshot.get("ok").status());
+        assertEquals(HealthStatus.DOWN, HealthRegistry.aggregate(snapshot));
+        assertEquals(HealthStatus.DOWN, registry.lastIndicator("hung").status());
+    }
+
+    @Test
+    void reusesCachedResultsWithinTtl() {
+        HealthRegistry registry = new HealthRegistry(new ApplicationContext());
+        AtomicInteger runs = new AtomicInteger();
+        registry.register("counted", context -> {
+            runs.incrementAndGet();
+            return HealthStatus.UP;
+        });
+        registry.setCacheTtl(Duration.ofMinutes(1));
+
+        registry.snapshot();
+        registry.snapshot();
+        assertEquals(1, runs.get());
+
+        registry.refresh();
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void refreshesPeriodicallyInBackground() throws Exception {
+        HealthRegistry registry = new HealthRegistry(new ApplicationContext());
+        CountDownLatch runs = new CountDownLatch(3);
+        registry.register("ticker", context -> {
+            runs.countDown();
+            return HealthStatus.UP;
+        });
+
+        registry.startPeriodicRefresh(Duration.ofMillis(20));
+        try {
+            assertTrue(runs.await(5, TimeUnit.SECONDS));
+            assertEquals(HealthStatus.UP, registry.lastIndicator("ticker").status());
+        } finally {
+            registry.stopPeriodicRefresh();
+        }
+    }
+}
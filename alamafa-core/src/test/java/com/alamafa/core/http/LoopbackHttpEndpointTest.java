@@ -0,0 +1,36 @@
+package com.alamafa.core.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoopbackHttpEndpointTest {
+
+    @Test
+    void servesGetOnLoopbackAndRejectsOtherMethods() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        try (LoopbackHttpEndpoint endpoint = LoopbackHttpEndpoint.start("/probe", 0, "test-http-",
+                () -> new LoopbackHttpEndpoint.Response(503, Map.of("Content-Type", "text/plain; charset=utf-8"),
+                        "状态"))) {
+            assertTrue(endpoint.host().equals("127.0.0.1") || endpoint.host().equals("localhost"), endpoint.host());
+            URI uri = URI.create("http://127.0.0.1:" + endpoint.port() + "/probe");
+
+            HttpResponse<String> get = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(503, get.statusCode());
+            assertEquals("状态", get.body());
+            assertEquals("text/plain; charset=utf-8", get.headers().firstValue("Content-Type").orElseThrow());
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.ofString("x")).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+            assertEquals("GET", post.headers().firstValue("Allow").orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.alamafa.core.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonStringsTest {
+
+    @Test
+    void escapesQuotesBackslashesAndControlCharacters() {
+        assertEquals("\"a\\\"b\\\\c\\n\\r\\t\\u0001é\"", JsonStrings.quote("a\"b\\c\n\r\t\u0001é"));
+        assertEquals("{\"\"", JsonStrings.quote(new StringBuilder("{"), "").toString());
+    }
+}
@@ -0,0 +1,110 @@
+package com.alamafa.core.metrics;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.events.ApplicationEvent;
+import com.alamafa.core.events.DefaultApplicationEventPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsRegistryTest {
+
+    @Test
+    void returnsSameMeterForSameIdRegardlessOfTagOrder() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter first = registry.counter("requests", "method", "GET", "status", "200");
+        Counter second = registry.counter("requests", "status", "200", "method", "GET");
+        first.increment();
+        second.add(2);
+
+        assertSame(first, second);
+        assertEquals(3, first.count());
+        assertThrows(IllegalArgumentException.class, () -> registry.timer("requests", "method", "GET", "status", "200"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("requests", "method"));
+    }
+
+    @Test
+    void timerPercentilesStayWithinBucketResolution() {
+        Timer timer = new MetricsRegistry().timer("latency");
+        for (long value = 1; value <= 10_000; value++) {
+            timer.record(value * 1_000L);
+        }
+
+        Timer.Snapshot snapshot = timer.snapshot();
+        assertEquals(10_000, snapshot.count());
+        assertEquals(10_000_000L, snapshot.maxNanos());
+        assertEquals(5_000_500.0, snapshot.meanNanos(), 0.001);
+        assertWithin(5_000_000L, snapshot.percentile(0.5));
+        assertWithin(9_900_000L, snapshot.percentile(0.99));
+        assertEquals(10_000_000L, snapshot.percentile(1.0));
+        assertEquals(0L, new MetricsRegistry().timer("empty").percentile(0.5));
+    }
+
+    @Test
+    void bucketBoundsCoverEveryValue() {
+        long[] samples = {0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789L, Long.MAX_VALUE};
+        for (long sample : samples) {
+            int index = Timer.bucketIndex(sample);
+            assertTrue(Timer.bucketUpperBound(index) >= sample, "upper bound of " + sample);
+            assertTrue(index == 0 || Timer.bucketUpperBound(index - 1) < sample, "previous bound of " + sample);
+        }
+    }
+
+    @Test
+    void formatsPrometheusTextExposition() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("alamafa.di.beans.created", "scope", "singleton").add(3);
+        AtomicLong external = new AtomicLong(7);
+        registry.counter("alamafa.events.dropped", external::get);
+        registry.gauge("queue.depth", () -> 2.5, "name", "a\"b");
+        registry.timer("alamafa.fxml.load").record(2_000_000L);
+
+        String text = PrometheusExporter.format(registry.meters());
+
+        assertTrue(text.contains("# TYPE alamafa_di_beans_created_total counter\n"
+                + "alamafa_di_beans_created_total{scope=\"singleton\"} 3\n"), text);
+        assertTrue(text.contains("alamafa_events_dropped_total 7\n"), text);
+        assertTrue(text.contains("# TYPE queue_depth gauge\nqueue_depth{name=\"a\\\"b\"} 2.5\n"), text);
+        assertTrue(text.contains("# TYPE alamafa_fxml_load_seconds summary\n"), text);
+        assertTrue(text.contains("alamafa_fxml_load_seconds{quantile=\"0.5\"} 0.002\n"), text);
+        assertTrue(text.contains("alamafa_fxml_load_seconds_count 1\n"), text);
+    }
+
+    @Test
+    void bindsEventPublisherStatistics() {
+        MetricsRegistry registry = new MetricsRegistry();
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        publisher.bindMetrics(registry);
+        publisher.addListener(event -> {
+            throw new IllegalStateException("boom");
+        });
+        publisher.publishEvent(new ApplicationEvent() {
+        });
+
+        assertEquals(1, registry.counter("alamafa.events.published").count());
+        assertEquals(1, registry.counter("alamafa.events.failed", () -> 0L).count());
+        assertEquals(1, registry.counter("alamafa.events.dispatched", () -> 0L).count());
+    }
+
+    @Test
+    void fallsBackToDetachedRegistryOutsideContext() {
+        ApplicationContext context = new ApplicationContext();
+        MetricsRegistry detached = MetricsRegistry.of(context);
+        assertSame(detached, MetricsRegistry.of(null));
+
+        MetricsRegistry attached = new MetricsRegistry();
+        context.put(MetricsRegistry.class, attached);
+        assertSame(attached, MetricsRegistry.of(context));
+        assertEquals(List.of(), attached.meters());
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, "expected ~" + expected + " but was " + actual);
+    }
+}
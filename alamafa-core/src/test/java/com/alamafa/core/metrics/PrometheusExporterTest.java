@@ -0,0 +1,37 @@
+package com.alamafa.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrometheusExporterTest {
+
+    @Test
+    void servesMetricsOnLoopback() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("alamafa.events.published").add(5);
+        PrometheusExporter exporter = new PrometheusExporter(0);
+        registry.addExporter(exporter);
+        HttpClient client = HttpClient.newHttpClient();
+
+        try (registry) {
+            URI uri = URI.create("http://127.0.0.1:" + exporter.port() + PrometheusExporter.PATH);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain; version=0.0.4"));
+            assertTrue(response.body().contains("alamafa_events_published_total 5\n"), response.body());
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri)
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+        }
+        assertEquals(-1, exporter.port());
+    }
+}
@@ -0,0 +1,145 @@
+package com.alamafa.core.reflect;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InvokersTest {
+
+    @Test
+    void invokesPrivateNoArgMethod() throws Exception {
+        Method method = Target.class.getDeclaredMethod("start");
+        Target target = new Target();
+
+        Invokers.method(method).invoke(target);
+        Invokers.method(method).invoke(target, new Object[0]);
+
+        assertEquals(List.of("start", "start"), target.calls);
+        assertSame(Invokers.method(method), Invokers.method(method));
+    }
+
+    @Test
+    void invokesInheritedMethodOnSubclass() throws Exception {
+        Method method = Target.class.getDeclaredMethod("start");
+        SubTarget target = new SubTarget();
+
+        Invokers.method(method).invoke(target);
+
+        assertEquals(List.of("start"), target.calls);
+    }
+
+    @Test
+    void spreadsArgumentsIncludingPrimitives() throws Exception {
+        Method method = Target.class.getDeclaredMethod("record", String.class, int.class);
+        Target target = new Target();
+
+        Invokers.method(method).invoke(target, new Object[]{"size", 3});
+
+        assertEquals(List.of("size=3"), target.calls);
+    }
+
+    @Test
+    void invokesStaticMethodIgnoringTarget() throws Exception {
+        Method method = Target.class.getDeclaredMethod("touch", List.class);
+        List<String> sink = new ArrayList<>();
+
+        Invokers.method(method).invoke(null, new Object[]{sink});
+
+        assertEquals(List.of("static"), sink);
+    }
+
+    @Test
+    void wrapsExceptionsThrownByTarget() throws Exception {
+        Method method = Target.class.getDeclaredMethod("fail");
+
+        InvocationTargetException ex = assertThrows(InvocationTargetException.class,
+                () -> Invokers.method(method).invoke(new Target()));
+
+        assertEquals("boom", ex.getCause().getMessage());
+    }
+
+    @Test
+    void rejectsForeignTargetsAndWrongArity() throws Exception {
+        Method start = Target.class.getDeclaredMethod("start");
+        Method record = Target.class.getDeclaredMethod("record", String.class, int.class);
+
+        assertThrows(IllegalArgumentException.class, () -> Invokers.method(start).invoke("not a target"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Invokers.method(record).invoke(new Target(), new Object[]{"only one"}));
+    }
+
+    @Test
+    void rejectsMismatchedArgumentTypesWithoutInvokingTarget() throws Exception {
+        Method record = Target.class.getDeclaredMethod("record", String.class, int.class);
+        Method widen = Target.class.getDeclaredMethod("widen", long.class);
+        Target target = new Target();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Invokers.method(record).invoke(target, new Object[]{42, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Invokers.method(record).invoke(target, new Object[]{"size", null}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Invokers.method(widen).invoke(target, new Object[]{1.5d}));
+        Invokers.method(widen).invoke(target, new Object[]{7});
+
+        assertEquals(List.of("widen=7"), target.calls);
+    }
+
+    @Test
+    void writesPrivateAndFinalFields() throws Exception {
+        Field name = Target.class.getDeclaredField("name");
+        Field id = Target.class.getDeclaredField("id");
+        Target target = new Target();
+
+        Invokers.fieldWriter(name).set(target, "alpha");
+        Invokers.fieldWriter(id).set(target, 7L);
+
+        assertEquals("alpha", target.name);
+        assertEquals(7L, target.id);
+        assertSame(Invokers.fieldWriter(name), Invokers.fieldWriter(name));
+        assertThrows(IllegalArgumentException.class, () -> Invokers.fieldWriter(name).set(target, 42));
+        assertThrows(IllegalArgumentException.class, () -> Invokers.fieldWriter(id).set(target, null));
+    }
+
+    static class Target {
+        final List<String> calls = new ArrayList<>();
+        private final long id;
+        private String name;
+
+        Target() {
+            this.id = 0L;
+        }
+
+        private void start() {
+            calls.add("start");
+        }
+
+        private String record(String key, int value) {
+            calls.add(key + "=" + value);
+            return key;
+        }
+
+        private void widen(long value) {
+            calls.add("widen=" + value);
+        }
+
+        private void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        private static void touch(List<String> sink) {
+            sink.add("static");
+        }
+    }
+
+    static class SubTarget extends Target {
+    }
+}
@@ -0,0 +1,366 @@
+package com.alamafa.di.processor;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 生成组件工厂（{@code ComponentFactory}）与 @Bean 方法调用器（{@code BeanMethodInvoker}）源码。
+ * <p>
+ * 只为同包可访问的构造器、字段与方法生成代码；无法访问的成员在运行时继续走反射。
+ * 参数签名与运行时 {@code Class#getName} 的格式保持一致，便于容器校验生成代码与所选构造器是否匹配。
+ */
+final class BeanFactoryGenerator {
+    static final String FACTORY_SUFFIX = "$$AlamafaFactory";
+    static final String INVOKER_SUFFIX = "$$AlamafaBeanMethods";
+
+    private static final String INJECT = "com.alamafa.di.annotation.Inject";
+    private static final String BEAN = "com.alamafa.di.annotation.Bean";
+    private static final String COMPONENT_FACTORY = "com.alamafa.di.aot.ComponentFactory";
+    private static final String BEAN_METHOD_INVOKER = "com.alamafa.di.aot.BeanMethodInvoker";
+
+    private final Elements elements;
+    private final Types types;
+    private final Filer filer;
+
+    BeanFactoryGenerator(Elements elements, Types types, Filer filer) {
+        this.elements = elements;
+        this.types = types;
+        this.filer = filer;
+    }
+
+    /**
+     * 为组件生成工厂，返回生成类的二进制名称；构造器不可访问时返回空。
+     */
+    Optional<String> generateComponentFactory(TypeElement type) throws IOException {
+        if (!isAccessible(type)) {
+            return Optional.empty();
+        }
+        ExecutableElement constructor = selectConstructor(type);
+        if (constructor == null || constructor.getModifiers().contains(Modifier.PRIVATE)) {
+            return Optional.empty();
+        }
+        String packageName = packageOf(type);
+        String typeName = sourceName(type.asType());
+        String simpleName = generatedSimpleName(type, FACTORY_SUFFIX);
+        List<FieldTarget> fields = injectableFields(type, packageName);
+
+        StringBuilder source = header(packageName);
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(COMPONENT_FACTORY).append('<').append(typeName).append("> {\n\n");
+        source.append("    @Override\n")
+                .append("    public String constructor() {\n")
+                .append("        return \"").append(signature(constructor)).append("\";\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public ").append(typeName).append(" newInstance(Object[] args) throws Exception {\n")
+                .append("        return new ").append(typeName).append('(').append(arguments(constructor)).append(");\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public boolean injects(String field) {\n")
+                .append("        return switch (field) {\n");
+        if (!fields.isEmpty()) {
+            StringJoiner keys = new StringJoiner(", ");
+            fields.forEach(field -> keys.add('"' + field.key + '"'));
+            source.append("            case ").append(keys).append(" -> true;\n");
+        }
+        source.append("            default -> false;\n")
+                .append("        };\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public void inject(").append(typeName).append(" instance, String field, Object value) {\n")
+                .append("        switch (field) {\n");
+        for (FieldTarget field : fields) {
+            source.append("            case \"").append(field.key).append("\" -> ").append(field.target)
+                    .append('.').append(field.name).append(" = (").append(field.typeName).append(") value;\n");
+        }
+        source.append("            default -> throw new IllegalArgumentException(\"Unknown injection field \" + field);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return Optional.of(write(type, packageName, simpleName, source));
+    }
+
+    /**
+     * 为声明 @Bean 方法的类型生成调用器，返回生成类的二进制名称；无可访问方法时返回空。
+     */
+    Optional<String> generateBeanMethodInvoker(TypeElement type) throws IOException {
+        if (!isAccessible(type)) {
+            return Optional.empty();
+        }
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (hasAnnotation(method, BEAN)
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && method.getReturnType().getKind() != TypeKind.VOID) {
+                methods.add(method);
+            }
+        }
+        if (methods.isEmpty()) {
+            return Optional.empty();
+        }
+        String packageName = packageOf(type);
+        String typeName = sourceName(type.asType());
+        String simpleName = generatedSimpleName(type, INVOKER_SUFFIX);
+
+        StringBuilder source = header(packageName);
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(BEAN_METHOD_INVOKER).append(" {\n\n");
+        StringJoiner keys = new StringJoiner(", ");
+        methods.forEach(method -> keys.add('"' + methodKey(method) + '"'));
+        source.append("    @Override\n")
+                .append("    public boolean supports(String method) {\n")
+                .append("        return switch (method) {\n")
+                .append("            case ").append(keys).append(" -> true;\n")
+                .append("            default -> false;\n")
+                .append("        };\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public Object invoke(Object configuration, String method, Object[] args) throws Exception {\n")
+                .append("        return switch (method) {\n");
+        for (ExecutableElement method : methods) {
+            String target = method.getModifiers().contains(Modifier.STATIC)
+                    ? typeName
+                    : "((" + typeName + ") configuration)";
+            source.append("            case \"").append(methodKey(method)).append("\" -> ")
+                    .append(target).append('.').append(method.getSimpleName())
+                    .append('(').append(arguments(method)).append(");\n");
+        }
+        source.append("            default -> throw new IllegalArgumentException(\"Unknown @Bean method \" + method);\n")
+                .append("        };\n")
+                .append("    }\n")
+                .append("}\n");
+        return Optional.of(write(type, packageName, simpleName, source));
+    }
+
+    /** 与运行时一致：@Inject 构造器 > 唯一构造器 > 无参构造器。 */
+    private ExecutableElement selectConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        List<ExecutableElement> injectConstructors = constructors.stream()
+                .filter(constructor -> hasAnnotation(constructor, INJECT))
+                .toList();
+        if (injectConstructors.size() > 1) {
+            return null;
+        }
+        if (injectConstructors.size() == 1) {
+            return injectConstructors.get(0);
+        }
+        if (constructors.size() == 1) {
+            return constructors.get(0);
+        }
+        return constructors.stream()
+                .filter(constructor -> constructor.getParameters().isEmpty())
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 收集生成代码可直接赋值的 @Inject 字段（包含父类）；其余字段不在 {@code injects} 中声明，由运行时反射注入。
+     */
+    private List<FieldTarget> injectableFields(TypeElement type, String packageName) {
+        List<FieldTarget> fields = new ArrayList<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!hasAnnotation(field, INJECT) || !isDirectlyAssignable(field, current, packageName)) {
+                    continue;
+                }
+                String target = current == type
+                        ? "instance"
+                        : "((" + sourceName(types.erasure(current.asType())) + ") instance)";
+                fields.add(new FieldTarget(elements.getBinaryName(current) + "#" + field.getSimpleName(),
+                        target, field.getSimpleName().toString(), sourceName(field.asType())));
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return fields;
+    }
+
+    /**
+     * 生成类位于 {@code packageName}：字段为 public，或为包私有/protected 且声明类在同一包中；
+     * 用于强制转换的声明类与字段类型（擦除后）也必须能从该包访问。
+     */
+    private boolean isDirectlyAssignable(VariableElement field, TypeElement declaring, String packageName) {
+        var modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)
+                || modifiers.contains(Modifier.FINAL)) {
+            return false;
+        }
+        if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(declaring).equals(packageName)) {
+            return false;
+        }
+        return isAccessibleFrom(declaring, packageName) && isAccessibleFrom(types.erasure(field.asType()), packageName);
+    }
+
+    private boolean isAccessibleFrom(TypeMirror type, String packageName) {
+        return switch (type.getKind()) {
+            case ARRAY -> isAccessibleFrom(((ArrayType) type).getComponentType(), packageName);
+            case DECLARED -> isAccessibleFrom((TypeElement) ((DeclaredType) type).asElement(), packageName);
+            default -> type.getKind().isPrimitive();
+        };
+    }
+
+    /** 在 {@link #isAccessible} 的基础上，其他包中的类型及其外层类型都必须为 public。 */
+    private boolean isAccessibleFrom(TypeElement type, String packageName) {
+        if (!isAccessible(type)) {
+            return false;
+        }
+        if (packageOf(type).equals(packageName)) {
+            return true;
+        }
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (!typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /** 顶层或静态嵌套且非 private 的类型才能被同包生成类访问。 */
+    private static boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.MEMBER
+                    && !typeElement.getModifiers().contains(Modifier.STATIC)
+                    && typeElement.getKind() == ElementKind.CLASS) {
+                return false;
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 运行时 {@code name(参数类型,...)} 形式的方法 key。 */
+    String methodKey(ExecutableElement method) {
+        return method.getSimpleName() + "(" + signature(method) + ")";
+    }
+
+    /** 参数类型按 {@code Class#getName} 格式以逗号拼接。 */
+    private String signature(ExecutableElement executable) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (VariableElement parameter : executable.getParameters()) {
+            joiner.add(runtimeName(parameter.asType()));
+        }
+        return joiner.toString();
+    }
+
+    private String arguments(ExecutableElement executable) {
+        StringJoiner joiner = new StringJoiner(", ");
+        List<? extends VariableElement> parameters = executable.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            joiner.add("(" + sourceName(parameters.get(i).asType()) + ") args[" + i + "]");
+        }
+        return joiner.toString();
+    }
+
+    private String runtimeName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase();
+        }
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return descriptor(erased);
+        }
+        return elements.getBinaryName((TypeElement) types.asElement(erased)).toString();
+    }
+
+    private String descriptor(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "Z";
+            case BYTE -> "B";
+            case CHAR -> "C";
+            case SHORT -> "S";
+            case INT -> "I";
+            case LONG -> "J";
+            case FLOAT -> "F";
+            case DOUBLE -> "D";
+            case ARRAY -> "[" + descriptor(types.erasure(((ArrayType) type).getComponentType()));
+            default -> "L" + runtimeName(type) + ";";
+        };
+    }
+
+    /** 源码中使用的擦除后类型名。 */
+    private String sourceName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement pkg = elements.getPackageOf(type);
+        return pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    }
+
+    private String generatedSimpleName(TypeElement type, String suffix) {
+        String binaryName = elements.getBinaryName(type).toString();
+        String packageName = packageOf(type);
+        String simple = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simple + suffix;
+    }
+
+    private static StringBuilder header(String packageName) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"")
+                .append(ComponentIndexProcessor.class.getName()).append("\")\n");
+        return source;
+    }
+
+    private String write(TypeElement origin, String packageName, String simpleName, CharSequence source)
+            throws IOException {
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        JavaFileObject file = filer.createSourceFile(qualifiedName, origin);
+        try (Writer writer = file.openWriter()) {
+            writer.append(source);
+        }
+        return qualifiedName;
+    }
+
+    private record FieldTarget(String key, String target, String name, String typeName) {
+    }
+}
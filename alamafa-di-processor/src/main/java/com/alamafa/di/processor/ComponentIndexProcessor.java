@@ -0,0 +1,345 @@
+package com.alamafa.di.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 编译期生成组件索引 {@value #INDEX_RESOURCE}，运行时据此跳过 classpath 扫描。
+ * <p>
+ * 每行描述一个候选：{@code 类名|kind|stereotype|scope|primary|lazy|shared|name}，
+ * kind 为 {@code component} 或 {@code configuration}。属性解析规则与运行时
+ * {@code ComponentScanner} 保持一致（直接注解优先，其次元注解，最后 @Component 默认值）。
+ * <p>
+ * 同时为组件与 @Bean 方法生成免反射的工厂（见 {@link BeanFactoryGenerator}），
+ * 映射记录在 {@value #FACTORIES_RESOURCE}：{@code 类名|kind|生成类}。
+ */
+@SupportedAnnotationTypes("*")
+public final class ComponentIndexProcessor extends AbstractProcessor {
+    static final String INDEX_RESOURCE = "META-INF/alamafa/components.idx";
+    static final String FACTORIES_RESOURCE = "META-INF/alamafa/bean-factories.idx";
+
+    private static final String COMPONENT = "com.alamafa.di.annotation.Component";
+    private static final String CONFIGURATION = "com.alamafa.di.annotation.Configuration";
+    private static final String SCOPE_TYPE = "com.alamafa.di.BeanDefinition.Scope";
+    private static final String KIND_COMPONENT = "component";
+    private static final String KIND_CONFIGURATION = "configuration";
+    private static final String KIND_BEAN_METHODS = "bean-methods";
+
+    private final Map<String, String> entries = new LinkedHashMap<>();
+    private final Map<String, String> factories = new LinkedHashMap<>();
+    private final Set<String> generated = new HashSet<>();
+    private Elements elements;
+    private BeanFactoryGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.generator = new BeanFactoryGenerator(elements, processingEnv.getTypeUtils(), processingEnv.getFiler());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        if (roundEnv.processingOver()) {
+            if (!entries.isEmpty()) {
+                writeIndex(INDEX_RESOURCE, "className|kind|stereotype|scope|primary|lazy|shared|name", entries);
+            }
+            if (!factories.isEmpty()) {
+                writeIndex(FACTORIES_RESOURCE, "className|kind|generatedClass", factories);
+            }
+        }
+        return false;
+    }
+
+    /** 递归收集顶层及嵌套类型。 */
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        String className = elements.getBinaryName(type).toString();
+        if (hasDirectAnnotation(type, CONFIGURATION)) {
+            entries.put(key(className, KIND_CONFIGURATION), className + '|' + KIND_CONFIGURATION + "||||||");
+        }
+        if (isConcreteClass(type)) {
+            Optional<Metadata> component = resolveComponent(type);
+            component.ifPresent(metadata -> entries.put(key(className, KIND_COMPONENT),
+                    line(className, KIND_COMPONENT, metadata.stereotype, metadata.scope,
+                            metadata.primary, metadata.lazy, metadata.shared, metadata.name)));
+            if (generated.add(className)) {
+                generateFactories(type, className, component.isPresent());
+            }
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private static boolean isConcreteClass(TypeElement type) {
+        return (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD)
+                && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    /** 生成组件工厂与 @Bean 调用器，失败时仅告警，运行时回退到反射。 */
+    private void generateFactories(TypeElement type, String className, boolean component) {
+        try {
+            if (component) {
+                generator.generateComponentFactory(type).ifPresent(factory ->
+                        factories.put(key(className, KIND_COMPONENT), className + '|' + KIND_COMPONENT + '|' + factory));
+            }
+            generator.generateBeanMethodInvoker(type).ifPresent(invoker ->
+                    factories.put(key(className, KIND_BEAN_METHODS), className + '|' + KIND_BEAN_METHODS + '|' + invoker));
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to generate bean factory for " + className + ": " + ex.getMessage(), type);
+        }
+    }
+
+    private static boolean hasDirectAnnotation(TypeElement type, String annotationName) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (annotationName.equals(annotationName(mirror))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析 @Component 或其派生注解，返回统一的 Metadata。
+     */
+    private Optional<Metadata> resolveComponent(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (COMPONENT.equals(annotationName(mirror))) {
+                Map<String, AnnotationValue> values = attributes(mirror);
+                return Optional.of(new Metadata(COMPONENT,
+                        enumAttribute(values, "scope").orElse("SINGLETON"),
+                        stringAttribute(mirror, "value").orElse(""),
+                        booleanAttribute(mirror, "primary").orElse(false),
+                        booleanAttribute(mirror, "lazy").orElse(false),
+                        false));
+            }
+        }
+        Set<String> visited = new HashSet<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            Optional<Metadata> metadata = resolveFromAnnotation(mirror, mirror, visited);
+            if (metadata.isPresent()) {
+                return metadata;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Metadata> resolveFromAnnotation(AnnotationMirror annotation,
+                                                     AnnotationMirror source,
+                                                     Set<String> visited) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        String annotationName = annotationType.getQualifiedName().toString();
+        if (!visited.add(annotationName)) {
+            return Optional.empty();
+        }
+        AnnotationMirror meta = findAnnotation(annotationType, COMPONENT);
+        if (meta != null) {
+            String scope = scopeAttribute(source)
+                    .or(() -> scopeAttribute(annotation))
+                    .or(() -> enumAttribute(attributes(meta), "scope"))
+                    .orElse("SINGLETON");
+            boolean primary = booleanAttribute(source, "primary")
+                    .or(() -> booleanAttribute(annotation, "primary"))
+                    .or(() -> booleanAttribute(meta, "primary"))
+                    .orElse(false);
+            boolean lazy = booleanAttribute(source, "lazy")
+                    .or(() -> booleanAttribute(annotation, "lazy"))
+                    .or(() -> booleanAttribute(meta, "lazy"))
+                    .orElse(false);
+            String name = stringAttribute(source, "value").orElse("");
+            if (name.isBlank()) {
+                name = stringAttribute(annotation, "value").orElse("");
+            }
+            boolean shared = booleanAttribute(source, "shared")
+                    .or(() -> booleanAttribute(annotation, "shared"))
+                    .orElse(false);
+            return Optional.of(new Metadata(elements.getBinaryName(annotationType).toString(),
+                    scope, name, primary, lazy, shared));
+        }
+        for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+            Optional<Metadata> metadata = resolveFromAnnotation(metaAnnotation, source, visited);
+            if (metadata.isPresent()) {
+                return metadata;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static AnnotationMirror findAnnotation(TypeElement type, String annotationName) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (annotationName.equals(annotationName(mirror))) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /** 返回包含默认值在内的全部属性，key 为属性名。 */
+    private Map<String, AnnotationValue> attributes(AnnotationMirror mirror) {
+        Map<String, AnnotationValue> values = new LinkedHashMap<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+        }
+        return values;
+    }
+
+    /** 仅当属性类型为 BeanDefinition.Scope 时读取 scope 覆盖。 */
+    private Optional<String> scopeAttribute(AnnotationMirror mirror) {
+        ExecutableElement method = attributeMethod(mirror, "scope");
+        if (method == null || !SCOPE_TYPE.equals(method.getReturnType().toString())) {
+            return Optional.empty();
+        }
+        return enumAttribute(attributes(mirror), "scope");
+    }
+
+    private Optional<Boolean> booleanAttribute(AnnotationMirror mirror, String attribute) {
+        ExecutableElement method = attributeMethod(mirror, attribute);
+        if (method == null || method.getReturnType().getKind() != TypeKind.BOOLEAN) {
+            return Optional.empty();
+        }
+        Object value = attributes(mirror).get(attribute).getValue();
+        return value instanceof Boolean bool ? Optional.of(bool) : Optional.empty();
+    }
+
+    private Optional<String> stringAttribute(AnnotationMirror mirror, String attribute) {
+        ExecutableElement method = attributeMethod(mirror, attribute);
+        if (method == null || !String.class.getName().equals(method.getReturnType().toString())) {
+            return Optional.empty();
+        }
+        Object value = attributes(mirror).get(attribute).getValue();
+        return value instanceof String text ? Optional.of(text) : Optional.empty();
+    }
+
+    private static Optional<String> enumAttribute(Map<String, AnnotationValue> values, String attribute) {
+        AnnotationValue value = values.get(attribute);
+        if (value != null && value.getValue() instanceof VariableElement constant) {
+            return Optional.of(constant.getSimpleName().toString());
+        }
+        return Optional.empty();
+    }
+
+    private static ExecutableElement attributeMethod(AnnotationMirror mirror, String attribute) {
+        for (Element element : mirror.getAnnotationType().asElement().getEnclosedElements()) {
+            if (element instanceof ExecutableElement method && method.getSimpleName().contentEquals(attribute)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 合并已有索引（增量编译时保留未重新编译的类型）后写出。
+     */
+    private void writeIndex(String resourceName, String columns, Map<String, String> lines) {
+        Map<String, String> merged = new LinkedHashMap<>(readExistingIndex(resourceName));
+        merged.putAll(lines);
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (Writer writer = resource.openWriter()) {
+                writer.write("# Generated by " + ComponentIndexProcessor.class.getName() + "\n");
+                writer.write("# " + columns + "\n");
+                for (String line : merged.values()) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + resourceName + ": " + ex.getMessage());
+        }
+    }
+
+    private Map<String, String> readExistingIndex(String resourceName) {
+        Map<String, String> existing = new LinkedHashMap<>();
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (Reader raw = new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8);
+                 BufferedReader reader = new BufferedReader(raw)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] columns = line.split("\\|", 3);
+                    if (columns.length >= 2 && elements.getTypeElement(columns[0].replace('$', '.')) != null) {
+                        existing.put(key(columns[0], columns[1]), line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 首次编译不存在索引
+        }
+        return existing;
+    }
+
+    private static String key(String className, String kind) {
+        return className + '|' + kind;
+    }
+
+    private static String line(String className,
+                               String kind,
+                               String stereotype,
+                               String scope,
+                               boolean primary,
+                               boolean lazy,
+                               boolean shared,
+                               String name) {
+        return String.join("|", className, kind, stereotype, scope,
+                Boolean.toString(primary), Boolean.toString(lazy), Boolean.toString(shared),
+                name.replace('\n', ' ').trim());
+    }
+
+    private record Metadata(String stereotype,
+                            String scope,
+                            String name,
+                            boolean primary,
+                            boolean lazy,
+                            boolean shared) {
+    }
+}
@@ -0,0 +1,214 @@
+package com.alamafa.di.processor;
+
+import com.alamafa.di.annotation.Component;
+import com.alamafa.di.aot.BeanMethodInvoker;
+import com.alamafa.di.aot.ComponentFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentIndexProcessorTest {
+
+    @TempDir
+    Path output;
+
+    @Test
+    void writesIndexForComponentsAndConfigurations() throws Exception {
+        List<JavaFileObject> sources = List.of(
+                source("demo.Plain", """
+                        package demo;
+                        @com.alamafa.di.annotation.Component(value = "plainBean", lazy = true)
+                        public class Plain {}
+                        """),
+                source("demo.Worker", """
+                        package demo;
+                        @com.alamafa.di.annotation.Service(scope = com.alamafa.di.BeanDefinition.Scope.PROTOTYPE, primary = true)
+                        public class Worker {
+                            @com.alamafa.di.annotation.Component
+                            public static class Nested {}
+                        }
+                        """),
+                source("demo.AppConfig", """
+                        package demo;
+                        @com.alamafa.di.annotation.Configuration
+                        public class AppConfig {}
+                        """),
+                source("demo.Skipped", """
+                        package demo;
+                        @com.alamafa.di.annotation.Component
+                        public abstract class Skipped {}
+                        """));
+
+        compile(sources);
+
+        List<String> lines = Files.readAllLines(output.resolve(ComponentIndexProcessor.INDEX_RESOURCE)).stream()
+                .filter(line -> !line.startsWith("#"))
+                .toList();
+        assertTrue(lines.contains("demo.Plain|component|com.alamafa.di.annotation.Component|SINGLETON|false|true|false|plainBean"));
+        assertTrue(lines.contains("demo.Worker|component|com.alamafa.di.annotation.Service|PROTOTYPE|true|false|false|"));
+        assertTrue(lines.contains("demo.Worker$Nested|component|com.alamafa.di.annotation.Component|SINGLETON|false|false|false|"));
+        assertTrue(lines.contains("demo.AppConfig|configuration||||||"));
+        assertFalse(lines.stream().anyMatch(line -> line.startsWith("demo.Skipped|")));
+        assertEquals(4, lines.size());
+    }
+
+    @Test
+    void generatesReflectionFreeFactories() throws Exception {
+        List<JavaFileObject> sources = List.of(
+                source("demo.Repo", """
+                        package demo;
+                        public class Repo {}
+                        """),
+                source("demo.Service", """
+                        package demo;
+                        @com.alamafa.di.annotation.Component
+                        public class Service {
+                            final Repo repo;
+                            final int size;
+                            @com.alamafa.di.annotation.Inject
+                            java.util.List<Repo> repos;
+                            @com.alamafa.di.annotation.Inject
+                            private Repo hidden;
+                            public Service() { this(null, 0); }
+                            @com.alamafa.di.annotation.Inject
+                            Service(Repo repo, int size) { this.repo = repo; this.size = size; }
+                        }
+                        """),
+                source("demo.Config", """
+                        package demo;
+                        @com.alamafa.di.annotation.Configuration
+                        public class Config {
+                            @com.alamafa.di.annotation.Bean
+                            Repo repo(String[] names) { return new Repo(); }
+                            @com.alamafa.di.annotation.Bean
+                            private Repo hidden() { return new Repo(); }
+                        }
+                        """));
+        compile(sources);
+
+        List<String> factories = Files.readAllLines(output.resolve(ComponentIndexProcessor.FACTORIES_RESOURCE));
+        assertTrue(factories.contains("demo.Service|component|demo.Service$$AlamafaFactory"));
+        assertTrue(factories.contains("demo.Config|bean-methods|demo.Config$$AlamafaBeanMethods"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            @SuppressWarnings("unchecked")
+            ComponentFactory<Object> factory = (ComponentFactory<Object>) loader
+                    .loadClass("demo.Service$$AlamafaFactory").getDeclaredConstructor().newInstance();
+            Class<?> repoType = loader.loadClass("demo.Repo");
+            Object repo = repoType.getDeclaredConstructor().newInstance();
+            assertEquals("demo.Repo,int", factory.constructor());
+            Object service = factory.newInstance(new Object[]{repo, 3});
+            assertSame(repo, field(service, "repo"));
+            assertEquals(3, field(service, "size"));
+            assertTrue(factory.injects("demo.Service#repos"));
+            assertFalse(factory.injects("demo.Service#hidden"));
+            factory.inject(service, "demo.Service#repos", List.of(repo));
+            assertEquals(List.of(repo), field(service, "repos"));
+
+            BeanMethodInvoker invoker = (BeanMethodInvoker) loader
+                    .loadClass("demo.Config$$AlamafaBeanMethods").getDeclaredConstructor().newInstance();
+            Object config = loader.loadClass("demo.Config").getDeclaredConstructor().newInstance();
+            assertTrue(invoker.supports("repo([Ljava.lang.String;)"));
+            assertFalse(invoker.supports("hidden()"));
+            assertTrue(repoType.isInstance(invoker.invoke(config, "repo([Ljava.lang.String;)", new Object[]{new String[0]})));
+        }
+    }
+
+    @Test
+    void leavesSuperclassFieldsFromOtherPackagesToReflection() throws Exception {
+        List<JavaFileObject> sources = List.of(
+                source("base.Repo", """
+                        package base;
+                        public class Repo {}
+                        """),
+                source("base.Secret", """
+                        package base;
+                        class Secret {}
+                        """),
+                source("base.Internal", """
+                        package base;
+                        class Internal {
+                            @com.alamafa.di.annotation.Inject
+                            public Repo viaInternal;
+                        }
+                        """),
+                source("base.Base", """
+                        package base;
+                        public class Base extends Internal {
+                            @com.alamafa.di.annotation.Inject
+                            Repo packaged;
+                            @com.alamafa.di.annotation.Inject
+                            protected Repo inherited;
+                            @com.alamafa.di.annotation.Inject
+                            public Repo exposed;
+                            @com.alamafa.di.annotation.Inject
+                            public Secret secret;
+                        }
+                        """),
+                source("app.Leaf", """
+                        package app;
+                        @com.alamafa.di.annotation.Component
+                        public class Leaf extends base.Base {
+                            @com.alamafa.di.annotation.Inject
+                            protected base.Repo own;
+                        }
+                        """));
+        compile(sources);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            ComponentFactory<?> factory = (ComponentFactory<?>) loader
+                    .loadClass("app.Leaf$$AlamafaFactory").getDeclaredConstructor().newInstance();
+            assertTrue(factory.injects("app.Leaf#own"));
+            assertTrue(factory.injects("base.Base#exposed"));
+            assertFalse(factory.injects("base.Base#packaged"));
+            assertFalse(factory.injects("base.Base#inherited"));
+            assertFalse(factory.injects("base.Base#secret"));
+            assertFalse(factory.injects("base.Internal#viaInternal"));
+        }
+    }
+
+    private void compile(List<JavaFileObject> sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                List.of("-classpath", diClasspath(), "-d", output.toString(), "-s", output.toString()),
+                null, sources);
+        task.setProcessors(List.of(new ComponentIndexProcessor()));
+        assertTrue(task.call(), "compilation should succeed");
+    }
+
+    private static Object field(Object target, String name) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static String diClasspath() throws Exception {
+        return Path.of(Component.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.alamafa.di;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：一次 Bean 实例化，持续时间包含依赖解析与后处理链。
+ */
+@Name("com.alamafa.BeanCreation")
+@Label("Bean Creation")
+@Category({"Alamafa", "DI"})
+@Description("Instantiation of a bean including dependency resolution and post-processing")
+final class BeanCreationEvent extends jdk.jfr.Event {
+    @Label("Bean Type")
+    Class<?> beanType;
+
+    @Label("Scope")
+    String scope;
+
+    @Label("Depth")
+    @Description("Number of enclosing bean creations on the same thread")
+    int depth;
+
+    @Label("Success")
+    boolean success;
+}
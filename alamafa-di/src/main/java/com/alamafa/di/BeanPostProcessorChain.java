@@ -3,24 +3,24 @@ package com.alamafa.di;
 
 import com.alamafa.core.ApplicationContext;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * 将多个 {@link BeanPostProcessor} 串联执行的帮助类。
+ * 将多个 {@link BeanPostProcessor} 串联执行的帮助类，允许在并发创建 Bean 时追加后处理器。
  */
 final class BeanPostProcessorChain {
-    private final List<BeanPostProcessor> processors = new ArrayList<>();
+    private final List<BeanPostProcessor> processors = new CopyOnWriteArrayList<>();
 
     /** 追加一个后处理器。 */
-    void add(BeanPostProcessor processor) {
+    synchronized void add(BeanPostProcessor processor) {
         if (!processors.contains(processor)) {
             processors.add(processor);
         }
     }
 
     /** 在链首插入一个后处理器。 */
-    void addFirst(BeanPostProcessor processor) {
+    synchronized void addFirst(BeanPostProcessor processor) {
         if (!processors.contains(processor)) {
             processors.add(0, processor);
         }
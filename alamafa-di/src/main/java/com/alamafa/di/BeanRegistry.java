@@ -1,31 +1,46 @@
 package com.alamafa.di;
 
+import com.alamafa.config.Configuration;
 import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.diagnostics.StartupRecorder;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.di.internal.BeanDependency;
 import com.alamafa.di.internal.ConfigurationProcessor;
 import com.alamafa.di.internal.ConfigurationPropertiesBinderPostProcessor;
+import com.alamafa.di.internal.StartupCache;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 极简 DI 注册表，负责管理 Bean 定义、创建逻辑以及单例缓存。
  */
 public final class BeanRegistry {
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(BeanRegistry.class);
+    private static final long WAIT_CHECK_INTERVAL_MILLIS = 20;
 
     private final Map<Class<?>, CopyOnWriteArrayList<BeanDefinition<?>>> definitions = new ConcurrentHashMap<>();
     private final Map<String, BeanDefinition<?>> namedDefinitions = new ConcurrentHashMap<>();
@@ -33,8 +48,17 @@ public final class BeanRegistry {
     private final Map<Object, List<Method>> preDestroyCallbacks = new ConcurrentHashMap<>();
     private final ApplicationContext context;
     private final BeanPostProcessorChain postProcessors = new BeanPostProcessorChain();
+    private final ConfigurationPropertiesBinderPostProcessor propertiesBinder = new ConfigurationPropertiesBinderPostProcessor();
     private final ConfigurationProcessor configurationProcessor;
     private final ThreadLocal<Deque<Class<?>>> creationStack = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<BeanDefinition<?>, ReentrantLock> singletonLocks = new ConcurrentHashMap<>();
+    private final Map<BeanDefinition<?>, Thread> singletonCreators = new ConcurrentHashMap<>();
+    private final Map<Thread, BeanDefinition<?>> awaitedSingletons = new ConcurrentHashMap<>();
+    private final Object resolvedLock = new Object();
+    private volatile boolean frozen;
+    private volatile Map<Class<?>, Object> resolvedSingletons = Map.of();
+    private volatile long resolvedGeneration;
+    private volatile Counter[] creationCounters;
 
     /**
      * 绑定应用上下文并准备配置处理器与默认后处理器。
@@ -42,7 +66,7 @@ public final class BeanRegistry {
     public BeanRegistry(ApplicationContext context) {
         this.context = Objects.requireNonNull(context, "context");
         this.configurationProcessor = new ConfigurationProcessor(this);
-        postProcessors.add(new ConfigurationPropertiesBinderPostProcessor());
+        postProcessors.add(propertiesBinder);
     }
 
     /**
@@ -53,6 +77,7 @@ public final class BeanRegistry {
         Objects.requireNonNull(definition, "definition");
         definitions.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>())
                 .addIfAbsent(definition);
+        invalidateResolved();
         LOGGER.debug("Registered bean {} with scope {} primary={} lazy={}", type.getName(),
                 definition.scope(), definition.primary(), definition.lazy());
     }
@@ -70,17 +95,61 @@ public final class BeanRegistry {
         if (existing != null && existing != definition) {
             throw new BeanResolutionException("Bean name '" + key + "' already registered");
         }
+        invalidateResolved();
         LOGGER.debug("Registered bean {} with name {} scope {} primary={} lazy={}",
                 definition.type().getName(), key, definition.scope(), definition.primary(), definition.lazy());
     }
 
     /**
-     * 根据类型获取 Bean，单例会被缓存。
+     * 根据类型获取 Bean，单例会被缓存。冻结后已解析的单例通过一次快照查找直接返回。
      */
     public <T> T get(Class<T> type) {
         Objects.requireNonNull(type, "type");
+        Object resolved = resolvedSingletons.get(type);
+        if (resolved != null) {
+            return type.cast(resolved);
+        }
+        long generation = resolvedGeneration;
         BeanDefinition<T> definition = resolveDefinition(type);
-        return type.cast(getBeanInstance(definition));
+        Object instance = getBeanInstance(definition);
+        if (frozen && definition.scope() == BeanDefinition.Scope.SINGLETON) {
+            publishResolved(type, instance, generation);
+        }
+        return type.cast(instance);
+    }
+
+    /**
+     * 冻结注册表：此后按类型解析出的单例会进入无锁快照，{@link #get(Class)} 无需再选择候选。
+     * 冻结后仍可注册新定义，但会使快照失效并在后续访问时重新建立。
+     */
+    public void freeze() {
+        frozen = true;
+    }
+
+    /** 注册表是否已冻结。 */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /** 以写时复制方式发布解析结果；期间发生注册或销毁时放弃发布。 */
+    private void publishResolved(Class<?> type, Object instance, long generation) {
+        synchronized (resolvedLock) {
+            if (generation != resolvedGeneration || resolvedSingletons.containsKey(type)) {
+                return;
+            }
+            Map<Class<?>, Object> next = new HashMap<>(resolvedSingletons);
+            next.put(type, instance);
+            resolvedSingletons = Map.copyOf(next);
+        }
+    }
+
+    private void invalidateResolved() {
+        synchronized (resolvedLock) {
+            resolvedGeneration++;
+            if (!resolvedSingletons.isEmpty()) {
+                resolvedSingletons = Map.of();
+            }
+        }
     }
 
     /**
@@ -109,17 +178,69 @@ public final class BeanRegistry {
         if (existing != null) {
             return existing;
         }
-        synchronized (definition) {
+        ReentrantLock lock = singletonLocks.computeIfAbsent(definition, key -> new ReentrantLock());
+        acquire(definition, lock);
+        try {
             Object cached = singletonCache.get(definition);
             if (cached != null) {
                 return cached;
             }
-            Object created = create(cast(definition));
-            singletonCache.put(definition, created);
-            return created;
+            singletonCreators.put(definition, Thread.currentThread());
+            try {
+                Object created = create(cast(definition));
+                singletonCache.put(definition, created);
+                return created;
+            } finally {
+                singletonCreators.remove(definition);
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * 获取单例的创建锁。其他线程正在创建时等待，并周期性沿“等待的单例 → 创建它的线程”链检查；
+     * 链回到当前线程说明存在跨线程的循环依赖（例如在 supplier 或 @PostConstruct 中经 get 取得依赖），
+     * 此时与单线程创建一样报告循环依赖，而不是永久阻塞。
+     */
+    private void acquire(BeanDefinition<?> definition, ReentrantLock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        Thread current = Thread.currentThread();
+        awaitedSingletons.put(current, definition);
+        try {
+            while (!lock.tryLock(WAIT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (waitsOnItself(current, definition)) {
+                    throw new BeanResolutionException("Detected circular dependency across threads while creating "
+                            + definition.type().getName());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BeanResolutionException("Interrupted while waiting for singleton "
+                    + definition.type().getName(), ex);
+        } finally {
+            awaitedSingletons.remove(current);
+        }
+    }
+
+    private boolean waitsOnItself(Thread current, BeanDefinition<?> awaited) {
+        Set<Thread> visited = new HashSet<>();
+        BeanDefinition<?> next = awaited;
+        while (next != null) {
+            Thread creator = singletonCreators.get(next);
+            if (creator == null || !visited.add(creator)) {
+                return false;
+            }
+            if (creator == current) {
+                return true;
+            }
+            next = awaitedSingletons.get(creator);
+        }
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> BeanDefinition<T> cast(BeanDefinition<?> definition) {
         return (BeanDefinition<T>) definition;
@@ -160,14 +281,26 @@ public final class BeanRegistry {
                     + definition.type().getName());
         }
         stack.push(definition.type());
-        try {
+        BeanCreationEvent event = new BeanCreationEvent();
+        event.begin();
+        boolean success = false;
+        try (StartupRecorder.Span ignored = StartupRecorder.of(context).span("bean", definition.type().getName())) {
             T instance = definition.supplier().get();
             postProcessors.apply(instance, context);
             registerPostProcessorIfNecessary(definition, instance);
+            success = true;
             return instance;
         } catch (Exception ex) {
             throw new BeanResolutionException("Failed to create bean " + definition.type().getName(), ex);
         } finally {
+            if (event.shouldCommit()) {
+                event.beanType = definition.type();
+                event.scope = definition.scope().name();
+                event.depth = stack.size() - 1;
+                event.success = success;
+                event.commit();
+            }
+            creationCounter(definition.scope(), success).increment();
             stack.pop();
             if (stack.isEmpty()) {
                 creationStack.remove();
@@ -175,6 +308,27 @@ public final class BeanRegistry {
         }
     }
 
+    /**
+     * 按作用域与结果缓存 Bean 创建计数器，首次创建时才从上下文获取指标注册表。
+     */
+    private Counter creationCounter(BeanDefinition.Scope scope, boolean success) {
+        Counter[] counters = creationCounters;
+        if (counters == null) {
+            MetricsRegistry metrics = MetricsRegistry.of(context);
+            BeanDefinition.Scope[] scopes = BeanDefinition.Scope.values();
+            counters = new Counter[scopes.length * 2];
+            for (BeanDefinition.Scope candidate : scopes) {
+                String tag = candidate.name().toLowerCase(Locale.ROOT);
+                counters[candidate.ordinal() * 2] = metrics.counter("alamafa.di.beans.created",
+                        "scope", tag, "outcome", "success");
+                counters[candidate.ordinal() * 2 + 1] = metrics.counter("alamafa.di.beans.created",
+                        "scope", tag, "outcome", "failure");
+            }
+            creationCounters = counters;
+        }
+        return counters[scope.ordinal() * 2 + (success ? 0 : 1)];
+    }
+
     private void registerPostProcessorIfNecessary(BeanDefinition<?> definition, Object instance) {
         if (definition.scope() != BeanDefinition.Scope.SINGLETON) {
             return;
@@ -200,6 +354,13 @@ public final class BeanRegistry {
         }
     }
 
+    /**
+     * 把新配置重新绑定到前缀与变化键相交的 {@code @ConfigurationProperties} Bean，返回重新绑定的数量。
+     */
+    int rebindConfigurationProperties(Configuration configuration, Collection<String> changedKeys) {
+        return propertiesBinder.rebind(configuration, changedKeys);
+    }
+
     /**
      * 返回底层的应用上下文。
      */
@@ -237,6 +398,41 @@ public final class BeanRegistry {
         configurationProcessor.registerComponents();
     }
 
+    /**
+     * 启用或关闭并行组件扫描，需在扫描前设置。
+     */
+    public void setParallelScanning(boolean parallelScanning) {
+        configurationProcessor.setParallelScanning(parallelScanning);
+    }
+
+    /**
+     * 启用或关闭基于 class 字节的注解预过滤（默认关闭），需在扫描前设置。
+     */
+    public void setBytecodeFiltering(boolean bytecodeFiltering) {
+        configurationProcessor.setBytecodeFiltering(bytecodeFiltering);
+    }
+
+    /**
+     * 设置跨进程启动缓存，命中时扫描结果与构造器选择直接从缓存还原，需在扫描前设置。
+     */
+    public void setStartupCache(StartupCache startupCache) {
+        configurationProcessor.setStartupCache(startupCache);
+    }
+
+    /**
+     * 按依赖顺序预实例化全部非延迟单例，互不依赖的子图在最多 {@code parallelism} 个线程上并发创建。
+     */
+    public void preInstantiateSingletons(int parallelism) {
+        new SingletonPreInstantiator(this).run(parallelism);
+    }
+
+    /**
+     * 返回各包的扫描耗时。
+     */
+    public Map<String, Duration> scanTimings() {
+        return configurationProcessor.scanTimings();
+    }
+
     /**
      * 根据 class 推导包名进行扫描注册。
      */
@@ -260,7 +456,7 @@ public final class BeanRegistry {
             Object instance = entry.getKey();
             for (Method method : entry.getValue()) {
                 try {
-                    method.invoke(instance);
+                    Invokers.method(method).invoke(instance);
                 } catch (Exception ex) {
                     LOGGER.warn("Failed to invoke @PreDestroy method {} on {}", method.getName(),
                             instance.getClass().getName(), ex);
@@ -269,6 +465,7 @@ public final class BeanRegistry {
         }
         preDestroyCallbacks.clear();
         singletonCache.clear();
+        invalidateResolved();
     }
 
     /**
@@ -331,6 +528,26 @@ public final class BeanRegistry {
         return List.copyOf(all);
     }
 
+    /** 创建或取回定义对应的实例。 */
+    Object instantiate(BeanDefinition<?> definition) {
+        return getBeanInstance(definition);
+    }
+
+    /** 按名称查找定义，不存在时返回 null。 */
+    BeanDefinition<?> namedDefinition(String name) {
+        return namedDefinitions.get(name);
+    }
+
+    /** 已注册定义的全部类型键。 */
+    Set<Class<?>> registeredTypes() {
+        return Set.copyOf(definitions.keySet());
+    }
+
+    /** 定义声明的依赖，供预实例化构建依赖图。 */
+    List<BeanDependency> dependencies(BeanDefinition<?> definition) {
+        return configurationProcessor.dependencies(definition);
+    }
+
     private <T> BeanDefinition<T> resolveDefinition(Class<T> type) {
         List<BeanDefinition<?>> candidates = definitions.get(type);
         if (candidates == null || candidates.isEmpty()) {
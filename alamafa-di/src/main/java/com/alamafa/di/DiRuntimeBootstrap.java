@@ -1,7 +1,9 @@
 package com.alamafa.di;
 
 import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationChangedEvent;
 import com.alamafa.config.ConfigurationLoader;
+import com.alamafa.config.ConfigurationReloader;
 import com.alamafa.core.ApplicationArguments;
 import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.ApplicationLifecycle;
@@ -9,41 +11,92 @@ import com.alamafa.core.ApplicationShutdown;
 import com.alamafa.core.Lifecycle;
 import com.alamafa.core.LifecycleExecutionException;
 import com.alamafa.core.LifecyclePhase;
+import com.alamafa.core.diagnostics.StartupRecorder;
+import com.alamafa.core.events.ApplicationEvent;
 import com.alamafa.core.events.ApplicationEventListener;
 import com.alamafa.core.events.ApplicationEventPublisher;
+import com.alamafa.core.events.BatchEventListener;
+import com.alamafa.core.events.CoalescingEventListener;
+import com.alamafa.core.health.HealthEndpoint;
+import com.alamafa.core.health.HealthRegistry;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.metrics.LoggingMetricsExporter;
+import com.alamafa.core.metrics.MetricsExporter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.PrometheusExporter;
 import com.alamafa.core.runner.ApplicationRunner;
 import com.alamafa.core.runner.CommandLineRunner;
+import com.alamafa.di.internal.StartupCache;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 负责在 {@link com.alamafa.core.ApplicationBootstrap} 生命周期内构建 DI 环境，
  * 包括加载配置、初始化 {@link BeanRegistry} 以及管理 {@link ApplicationLifecycle} Bean。
  */
 public final class DiRuntimeBootstrap implements Lifecycle {
+    /** 开启并行组件扫描的配置项。 */
+    public static final String PARALLEL_SCANNING_PROPERTY = "alamafa.di.parallel-scanning";
+    /** 控制扫描时是否按 class 字节预过滤注解的配置项。 */
+    public static final String BYTECODE_FILTERING_PROPERTY = "alamafa.di.bytecode-filtering";
+    /** 开启跨进程启动缓存的配置项。 */
+    public static final String STARTUP_CACHE_PROPERTY = "alamafa.di.startup-cache.enabled";
+    /** 启动缓存文件路径的配置项，默认位于 {@code ~/.alamafa/cache}。 */
+    public static final String STARTUP_CACHE_PATH_PROPERTY = "alamafa.di.startup-cache.path";
+    /** 启动时预实例化非延迟单例的配置项。 */
+    public static final String PRE_INSTANTIATE_PROPERTY = "alamafa.di.pre-instantiate";
+    /** 预实例化线程数的配置项，默认等于可用处理器数。 */
+    public static final String PRE_INSTANTIATE_THREADS_PROPERTY = "alamafa.di.pre-instantiate.threads";
+    private static final String PROFILE_PROPERTY = "alamafa.profile";
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(DiRuntimeBootstrap.class);
 
     private final List<Class<?>> configurationClasses;
     private final List<String> scanPackages;
     private final ConfigurationLoader configurationLoader;
+    private final Boolean parallelScanning;
+    private final Boolean bytecodeFiltering;
+    private final Path startupCacheFile;
+    private final Boolean preInstantiate;
+    private final Integer preInstantiationThreads;
 
     private BeanRegistry registry;
     private List<ApplicationLifecycle> lifecycleBeans = List.of();
     private List<ApplicationRunner> applicationRunners = List.of();
     private List<CommandLineRunner> commandLineRunners = List.of();
     private List<ApplicationEventListener<?>> eventListeners = List.of();
+    private HealthEndpoint healthEndpoint;
+    private boolean metricsExportersStarted;
+    private ConfigurationReloader configurationReloader;
+    private ApplicationEventListener<ConfigurationChangedEvent> rebindListener;
 
     private DiRuntimeBootstrap(List<Class<?>> configurationClasses,
                                List<String> scanPackages,
-                               ConfigurationLoader configurationLoader) {
+                               ConfigurationLoader configurationLoader,
+                               Boolean parallelScanning,
+                               Boolean bytecodeFiltering,
+                               Path startupCacheFile,
+                               Boolean preInstantiate,
+                               Integer preInstantiationThreads) {
         this.configurationClasses = configurationClasses;
         this.scanPackages = scanPackages;
         this.configurationLoader = configurationLoader;
+        this.parallelScanning = parallelScanning;
+        this.bytecodeFiltering = bytecodeFiltering;
+        this.startupCacheFile = startupCacheFile;
+        this.preInstantiate = preInstantiate;
+        this.preInstantiationThreads = preInstantiationThreads;
     }
 
     /**
@@ -58,14 +111,30 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         Objects.requireNonNull(context, "context");
         registry = ensureRegistry(context);
         ensureConfiguration(context, registry);
+        configureStartupRecorder(context);
+        configureHealth(context);
+        configureMetrics(context);
         registerBootstrapBeans(context, registry);
+        configureReloading(context, registry);
+        boolean parallel = resolveParallelScanning(context);
+        registry.setParallelScanning(parallel);
+        registry.setBytecodeFiltering(resolveBytecodeFiltering(context));
+        long scanStart = System.nanoTime();
+        StartupCache startupCache = openStartupCache(context);
+        registry.setStartupCache(startupCache);
         if (!configurationClasses.isEmpty()) {
             registry.registerConfigurations(configurationClasses.toArray(Class<?>[]::new));
         }
         if (!scanPackages.isEmpty()) {
             registry.scanPackages(scanPackages.toArray(String[]::new));
         }
+        if (startupCache != null) {
+            registry.setStartupCache(null);
+            startupCache.save();
+        }
+        logScanTimings(parallel, System.nanoTime() - scanStart);
         registry.initializeSingletonPostProcessors();
+        preInstantiateSingletons(context);
         lifecycleBeans = registry.getBeansOfType(ApplicationLifecycle.class)
                 .stream()
                 .sorted(Comparator.comparingInt(ApplicationLifecycle::getOrder))
@@ -81,9 +150,12 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         ApplicationEventPublisher publisher = context.get(ApplicationEventPublisher.class);
         if (publisher != null) {
             List<ApplicationEventListener<?>> listeners = new ArrayList<>();
-            for (ApplicationEventListener listener : registry.getBeansOfType(ApplicationEventListener.class)) {
+            for (ApplicationEventListener<?> listener : registry.getBeansOfType(ApplicationEventListener.class)) {
                 listeners.add(listener);
             }
+            for (BatchEventListener<?> listener : registry.getBeansOfType(BatchEventListener.class)) {
+                listeners.add(coalescing(listener));
+            }
             eventListeners = List.copyOf(listeners);
             for (ApplicationEventListener<?> listener : eventListeners) {
                 publisher.addListener(listener);
@@ -99,6 +171,7 @@ public final class DiRuntimeBootstrap implements Lifecycle {
                 throw wrap(lifecycle, LifecyclePhase.INIT, ex);
             }
         }
+        registry.freeze();
     }
 
     @Override
@@ -145,9 +218,15 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         if (publisher != null && !eventListeners.isEmpty()) {
             for (ApplicationEventListener<?> listener : eventListeners) {
                 publisher.removeListener(listener);
+                if (listener instanceof CoalescingEventListener<?> coalescing) {
+                    coalescing.close();
+                }
             }
         }
         eventListeners = List.of();
+        stopReloading(context);
+        stopHealth(context);
+        stopMetrics(context);
         registry = null;
         if (firstError != null) {
             throw firstError;
@@ -169,6 +248,11 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         return new LifecycleExecutionException(LifecyclePhase.START, target, ex);
     }
 
+    /** 捕获批量监听器的事件类型参数，避免原始类型带来的 unchecked 警告。 */
+    private static <E extends ApplicationEvent> CoalescingEventListener<E> coalescing(BatchEventListener<E> listener) {
+        return new CoalescingEventListener<>(listener);
+    }
+
     private BeanRegistry ensureRegistry(ApplicationContext context) {
         BeanRegistry existing = context.get(BeanRegistry.class);
         if (existing != null) {
@@ -179,6 +263,142 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         return created;
     }
 
+    /**
+     * 配置中开启 {@value StartupRecorder#ENABLED_PROPERTY} 时从此处开始记录启动过程。
+     */
+    private void configureStartupRecorder(ApplicationContext context) {
+        Configuration configuration = context.get(Configuration.class);
+        if (configuration == null) {
+            return;
+        }
+        StartupRecorder recorder = StartupRecorder.of(context);
+        configuration.get(StartupRecorder.OUTPUT_PROPERTY)
+                .filter(value -> !value.isBlank())
+                .ifPresent(value -> recorder.setOutput(Path.of(value.trim())));
+        if (configuration.getBoolean(StartupRecorder.ENABLED_PROPERTY, false)) {
+            recorder.start();
+        }
+    }
+
+    /**
+     * 按配置设置健康检查超时、缓存与后台刷新，并在开启时启动回环 HTTP 端点。
+     */
+    private void configureHealth(ApplicationContext context) {
+        Configuration configuration = context.get(Configuration.class);
+        HealthRegistry health = context.get(HealthRegistry.class);
+        if (configuration == null || health == null) {
+            return;
+        }
+        int timeout = configuration.getInt(HealthRegistry.TIMEOUT_PROPERTY, 0);
+        if (timeout > 0) {
+            health.setDefaultTimeout(Duration.ofMillis(timeout));
+        }
+        int ttl = configuration.getInt(HealthRegistry.CACHE_TTL_PROPERTY, 0);
+        if (ttl > 0) {
+            health.setCacheTtl(Duration.ofMillis(ttl));
+        }
+        int interval = configuration.getInt(HealthRegistry.REFRESH_INTERVAL_PROPERTY, 0);
+        if (interval > 0) {
+            health.startPeriodicRefresh(Duration.ofMillis(interval));
+        }
+        if (configuration.getBoolean(HealthEndpoint.ENABLED_PROPERTY, false) && healthEndpoint == null) {
+            int port = configuration.getInt(HealthEndpoint.PORT_PROPERTY, 0);
+            try {
+                healthEndpoint = HealthEndpoint.start(health, port);
+                context.put(HealthEndpoint.class, healthEndpoint);
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to start health endpoint on port {}", port, ex);
+            }
+        }
+    }
+
+    private void stopHealth(ApplicationContext context) {
+        HealthRegistry health = context.get(HealthRegistry.class);
+        if (health != null) {
+            health.stopPeriodicRefresh();
+        }
+        if (healthEndpoint != null) {
+            healthEndpoint.close();
+            healthEndpoint = null;
+        }
+    }
+
+    /**
+     * 按配置启动 Prometheus 与日志导出器，并加载通过 {@link ServiceLoader} 声明的 {@link MetricsExporter}。
+     */
+    private void configureMetrics(ApplicationContext context) {
+        Configuration configuration = context.get(Configuration.class);
+        MetricsRegistry metrics = context.get(MetricsRegistry.class);
+        if (configuration == null || metrics == null || metricsExportersStarted) {
+            return;
+        }
+        metricsExportersStarted = true;
+        if (configuration.getBoolean(PrometheusExporter.ENABLED_PROPERTY, false)) {
+            metrics.addExporter(new PrometheusExporter(configuration.getInt(PrometheusExporter.PORT_PROPERTY, 0)));
+        }
+        int interval = configuration.getInt(LoggingMetricsExporter.INTERVAL_PROPERTY, 0);
+        if (interval > 0) {
+            metrics.addExporter(new LoggingMetricsExporter(Duration.ofMillis(interval)));
+        }
+        for (MetricsExporter exporter : ServiceLoader.load(MetricsExporter.class)) {
+            metrics.addExporter(exporter);
+        }
+    }
+
+    private void stopMetrics(ApplicationContext context) {
+        MetricsRegistry metrics = context.get(MetricsRegistry.class);
+        if (metrics != null && metricsExportersStarted) {
+            metrics.close();
+        }
+        metricsExportersStarted = false;
+    }
+
+    /**
+     * 配置变化时重新绑定受影响的 {@code @ConfigurationProperties} Bean，并按
+     * {@value ConfigurationReloader#WATCH_PROPERTY} 监听文件配置源。
+     */
+    private void configureReloading(ApplicationContext context, BeanRegistry registry) {
+        ApplicationEventPublisher publisher = context.get(ApplicationEventPublisher.class);
+        if (publisher != null && rebindListener == null) {
+            rebindListener = new ApplicationEventListener<>() {
+                @Override
+                public void onEvent(ConfigurationChangedEvent event) {
+                    int rebound = registry.rebindConfigurationProperties(event.configuration(), event.changedKeys());
+                    LOGGER.debug("Rebound {} configuration properties beans", rebound);
+                }
+
+                @Override
+                public Class<ConfigurationChangedEvent> getEventType() {
+                    return ConfigurationChangedEvent.class;
+                }
+            };
+            publisher.addListener(rebindListener);
+        }
+        Configuration configuration = context.get(Configuration.class);
+        if (configurationReloader == null || configuration == null
+                || !configuration.getBoolean(ConfigurationReloader.WATCH_PROPERTY, true)) {
+            return;
+        }
+        int debounce = configuration.getInt(ConfigurationReloader.DEBOUNCE_PROPERTY, 0);
+        try {
+            configurationReloader.startWatching(debounce > 0 ? Duration.ofMillis(debounce) : null);
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to watch configuration files", ex);
+        }
+    }
+
+    private void stopReloading(ApplicationContext context) {
+        ApplicationEventPublisher publisher = context.get(ApplicationEventPublisher.class);
+        if (publisher != null && rebindListener != null) {
+            publisher.removeListener(rebindListener);
+        }
+        rebindListener = null;
+        if (configurationReloader != null) {
+            configurationReloader.close();
+            configurationReloader = null;
+        }
+    }
+
     private void ensureConfiguration(ApplicationContext context, BeanRegistry registry) {
         Configuration configuration = context.get(Configuration.class);
         if (configuration == null) {
@@ -187,17 +407,108 @@ public final class DiRuntimeBootstrap implements Lifecycle {
                     : ConfigurationLoader.withDefaults();
             configuration = loader.load();
             context.put(Configuration.class, configuration);
+            configurationReloader = new ConfigurationReloader(loader, context);
+            context.put(ConfigurationReloader.class, configurationReloader);
         }
         if (!registry.hasBeanDefinition(Configuration.class)) {
+            // 配置可被热替换，每次注入都读取上下文中的当前快照
             registry.register(Configuration.class,
                     new BeanDefinition<>(Configuration.class,
                             () -> context.get(Configuration.class),
-                            BeanDefinition.Scope.SINGLETON,
+                            BeanDefinition.Scope.PROTOTYPE,
                             true,
                             false));
         }
     }
 
+    /**
+     * Builder 未显式指定时读取配置项 {@value #PARALLEL_SCANNING_PROPERTY}。
+     */
+    private boolean resolveParallelScanning(ApplicationContext context) {
+        if (parallelScanning != null) {
+            return parallelScanning;
+        }
+        Configuration configuration = context.get(Configuration.class);
+        return configuration != null && configuration.getBoolean(PARALLEL_SCANNING_PROPERTY, false);
+    }
+
+    /**
+     * Builder 未显式指定时读取配置项 {@value #BYTECODE_FILTERING_PROPERTY}，默认关闭。
+     */
+    private boolean resolveBytecodeFiltering(ApplicationContext context) {
+        if (bytecodeFiltering != null) {
+            return bytecodeFiltering;
+        }
+        Configuration configuration = context.get(Configuration.class);
+        return configuration != null && configuration.getBoolean(BYTECODE_FILTERING_PROPERTY, false);
+    }
+
+    /**
+     * 未启用时返回 null。缓存键包含 classpath 指纹、profile 以及配置类与扫描包。
+     */
+    private StartupCache openStartupCache(ApplicationContext context) {
+        Configuration configuration = context.get(Configuration.class);
+        boolean enabled = startupCacheFile != null
+                || (configuration != null && configuration.getBoolean(STARTUP_CACHE_PROPERTY, false));
+        if (!enabled) {
+            return null;
+        }
+        List<String> scope = new ArrayList<>();
+        configurationClasses.forEach(type -> scope.add("class:" + type.getName()));
+        scanPackages.forEach(pkg -> scope.add("package:" + pkg));
+        Path file = resolveStartupCacheFile(configuration, scope);
+        String profile = configuration != null ? configuration.get(PROFILE_PROPERTY).orElse(null) : null;
+        if (profile == null) {
+            profile = System.getenv("ALAMAFA_PROFILE");
+        }
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        StartupCache cache = StartupCache.open(file,
+                StartupCache.computeKey(loader != null ? loader : getClass().getClassLoader(), profile, scope));
+        LOGGER.info("Startup cache {} ({})", cache.isHit() ? "hit" : "miss", cache.file());
+        return cache;
+    }
+
+    private Path resolveStartupCacheFile(Configuration configuration, List<String> scope) {
+        if (startupCacheFile != null) {
+            return startupCacheFile;
+        }
+        String configured = configuration != null ? configuration.get(STARTUP_CACHE_PATH_PROPERTY).orElse(null) : null;
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured.trim());
+        }
+        String name = UUID.nameUUIDFromBytes(String.join("\n", scope).getBytes(StandardCharsets.UTF_8)).toString();
+        return Path.of(System.getProperty("user.home"), ".alamafa", "cache", "startup-" + name + ".cache");
+    }
+
+    /**
+     * Builder 未显式指定时读取 {@value #PRE_INSTANTIATE_PROPERTY}，默认关闭：
+     * 依赖 JavaFX 线程的单例不宜在后台线程提前创建。
+     */
+    private void preInstantiateSingletons(ApplicationContext context) {
+        Configuration configuration = context.get(Configuration.class);
+        boolean enabled = preInstantiate != null
+                ? preInstantiate
+                : configuration != null && configuration.getBoolean(PRE_INSTANTIATE_PROPERTY, false);
+        if (!enabled) {
+            return;
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (preInstantiationThreads != null) {
+            threads = preInstantiationThreads;
+        } else if (configuration != null) {
+            threads = configuration.getInt(PRE_INSTANTIATE_THREADS_PROPERTY, threads);
+        }
+        registry.preInstantiateSingletons(threads);
+    }
+
+    private void logScanTimings(boolean parallel, long elapsedNanos) {
+        Map<String, Duration> timings = registry.scanTimings();
+        LOGGER.info("Component scanning finished in {} ms across {} package(s) (parallel={})",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), timings.size(), parallel);
+        timings.forEach((pkg, duration) ->
+                LOGGER.debug("  {} -> {} ms", pkg, duration.toMillis()));
+    }
+
     private void registerBootstrapBeans(ApplicationContext context, BeanRegistry registry) {
         if (!registry.hasBeanDefinition(BeanRegistry.class)) {
             registry.register(BeanRegistry.class,
@@ -249,6 +560,11 @@ public final class DiRuntimeBootstrap implements Lifecycle {
         private final List<Class<?>> configurationClasses = new ArrayList<>();
         private final List<String> scanPackages = new ArrayList<>();
         private ConfigurationLoader configurationLoader;
+        private Boolean parallelScanning;
+        private Boolean bytecodeFiltering;
+        private Path startupCacheFile;
+        private Boolean preInstantiate;
+        private Integer preInstantiationThreads;
 
         private Builder() {
         }
@@ -291,10 +607,62 @@ public final class DiRuntimeBootstrap implements Lifecycle {
             return this;
         }
 
+        /**
+         * 并行扫描各包、classpath 根与 JAR 条目；未调用时由配置项
+         * {@value DiRuntimeBootstrap#PARALLEL_SCANNING_PROPERTY} 决定，默认关闭。
+         */
+        public Builder parallelScanning(boolean enabled) {
+            this.parallelScanning = enabled;
+            return this;
+        }
+
+        /**
+         * 扫描时先解析 class 文件中的注解，只加载可能为组件或配置类的类型；未调用时由配置项
+         * {@value DiRuntimeBootstrap#BYTECODE_FILTERING_PROPERTY} 决定，默认关闭。
+         */
+        public Builder bytecodeFiltering(boolean enabled) {
+            this.bytecodeFiltering = enabled;
+            return this;
+        }
+
+        /**
+         * 启用启动缓存并指定缓存文件；未调用时由配置项 {@value DiRuntimeBootstrap#STARTUP_CACHE_PROPERTY}
+         * 决定，默认关闭。
+         */
+        public Builder startupCache(Path file) {
+            this.startupCacheFile = file;
+            return this;
+        }
+
+        /**
+         * 启动时按依赖顺序并发创建全部非延迟单例；未调用时由配置项
+         * {@value DiRuntimeBootstrap#PRE_INSTANTIATE_PROPERTY} 决定，默认关闭。
+         */
+        public Builder preInstantiateSingletons(boolean enabled) {
+            this.preInstantiate = enabled;
+            return this;
+        }
+
+        /**
+         * 预实例化使用的最大线程数；为 1 时在引导线程串行创建。
+         */
+        public Builder preInstantiationThreads(int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            this.preInstantiationThreads = threads;
+            return this;
+        }
+
         public DiRuntimeBootstrap build() {
             return new DiRuntimeBootstrap(List.copyOf(configurationClasses),
                     List.copyOf(scanPackages),
-                    configurationLoader);
+                    configurationLoader,
+                    parallelScanning,
+                    bytecodeFiltering,
+                    startupCacheFile,
+                    preInstantiate,
+                    preInstantiationThreads);
         }
     }
 }
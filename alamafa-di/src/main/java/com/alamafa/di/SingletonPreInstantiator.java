@@ -0,0 +1,243 @@
+package com.alamafa.di;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.di.internal.BeanDependency;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 按依赖图并发预实例化非延迟单例：依赖先于使用者创建，互不依赖的子图在有界线程池中并行。
+ * <p>
+ * 依赖图来自组件构造器/字段注入点与 @Bean 方法参数；存在环的定义在所有并行任务完成后于调用线程串行创建，
+ * 由 {@link BeanRegistry} 的循环依赖检测给出错误。依赖图之外的依赖（在 supplier 或 @PostConstruct 中经 get 取得）
+ * 若在两个工作线程间成环，由 {@link BeanRegistry} 的跨线程等待检测同样报告为循环依赖。
+ */
+final class SingletonPreInstantiator {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(SingletonPreInstantiator.class);
+
+    private final BeanRegistry registry;
+
+    SingletonPreInstantiator(BeanRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 预实例化全部非延迟单例。
+     *
+     * @param parallelism 最大并发线程数，小于等于 1 时在调用线程按拓扑顺序创建
+     */
+    void run(int parallelism) {
+        long start = System.nanoTime();
+        List<BeanDefinition<?>> nodes = new ArrayList<>();
+        for (BeanDefinition<?> definition : registry.allDefinitions()) {
+            if (definition.scope() == BeanDefinition.Scope.SINGLETON && !definition.lazy()) {
+                nodes.add(definition);
+            }
+        }
+        if (nodes.isEmpty()) {
+            return;
+        }
+        Map<BeanDefinition<?>, Node> graph = buildGraph(nodes);
+        int threads = Math.max(1, Math.min(parallelism, nodes.size()));
+        if (threads == 1) {
+            runSequential(graph);
+        } else {
+            runParallel(graph, threads);
+        }
+        List<Node> cyclic = graph.values().stream().filter(node -> !node.done).toList();
+        for (Node node : cyclic) {
+            instantiate(node, 0L);
+        }
+        logCriticalPath(graph, threads, System.nanoTime() - start);
+    }
+
+    private Map<BeanDefinition<?>, Node> buildGraph(List<BeanDefinition<?>> definitions) {
+        Map<BeanDefinition<?>, Node> graph = new IdentityHashMap<>();
+        for (BeanDefinition<?> definition : definitions) {
+            graph.put(definition, new Node(definition));
+        }
+        for (Node node : graph.values()) {
+            for (BeanDependency dependency : registry.dependencies(node.definition)) {
+                for (BeanDefinition<?> target : candidates(dependency)) {
+                    Node upstream = graph.get(target);
+                    if (upstream != null && upstream != node && node.dependencies.add(upstream)) {
+                        upstream.dependents.add(node);
+                    }
+                }
+            }
+            node.pending = node.dependencies.size();
+        }
+        return graph;
+    }
+
+    /** 依赖可能指向的定义，宁多勿少：多出的边只影响调度顺序。 */
+    private List<BeanDefinition<?>> candidates(BeanDependency dependency) {
+        if (dependency.qualifier() != null) {
+            BeanDefinition<?> named = registry.namedDefinition(dependency.qualifier());
+            return named != null ? List.of(named) : List.of();
+        }
+        if (!dependency.collection()) {
+            return registry.definitionsFor(dependency.type());
+        }
+        List<BeanDefinition<?>> result = new ArrayList<>();
+        for (Class<?> registered : registry.registeredTypes()) {
+            if (dependency.type().isAssignableFrom(registered)) {
+                result.addAll(registry.definitionsFor(registered));
+            }
+        }
+        return result;
+    }
+
+    private void runSequential(Map<BeanDefinition<?>, Node> graph) {
+        Deque<Node> ready = new ArrayDeque<>();
+        graph.values().stream().filter(node -> node.pending == 0).forEach(ready::add);
+        while (!ready.isEmpty()) {
+            Node node = ready.poll();
+            instantiate(node, readyAt(node));
+            for (Node dependent : node.dependents) {
+                if (--dependent.pending == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+    }
+
+    private void runParallel(Map<BeanDefinition<?>, Node> graph, int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                new PreInstantiationThreadFactory(Thread.currentThread().getContextClassLoader()));
+        ExecutorCompletionService<Node> completion = new ExecutorCompletionService<>(executor);
+        int inFlight = 0;
+        try {
+            for (Node node : graph.values()) {
+                if (node.pending == 0) {
+                    submit(completion, node);
+                    inFlight++;
+                }
+            }
+            while (inFlight > 0) {
+                Node finished = completion.take().get();
+                inFlight--;
+                for (Node dependent : finished.dependents) {
+                    if (--dependent.pending == 0) {
+                        submit(completion, dependent);
+                        inFlight++;
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BeanResolutionException("Interrupted while pre-instantiating singletons", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new BeanResolutionException("Failed to pre-instantiate singletons", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void submit(ExecutorCompletionService<Node> completion, Node node) {
+        long readyAt = readyAt(node);
+        completion.submit(() -> {
+            instantiate(node, readyAt);
+            return node;
+        });
+    }
+
+    /** 依赖全部完成后的最早时间点，用于计算关键路径。 */
+    private static long readyAt(Node node) {
+        long readyAt = 0L;
+        for (Node dependency : node.dependencies) {
+            if (dependency.finishedAt > readyAt) {
+                readyAt = dependency.finishedAt;
+                node.criticalPredecessor = dependency;
+            }
+        }
+        return readyAt;
+    }
+
+    private void instantiate(Node node, long readyAt) {
+        long begin = System.nanoTime();
+        registry.instantiate(node.definition);
+        node.duration = System.nanoTime() - begin;
+        node.finishedAt = readyAt + node.duration;
+        node.done = true;
+    }
+
+    private void logCriticalPath(Map<BeanDefinition<?>, Node> graph, int threads, long elapsedNanos) {
+        Node tail = null;
+        for (Node node : graph.values()) {
+            if (tail == null || node.finishedAt > tail.finishedAt) {
+                tail = node;
+            }
+        }
+        List<Node> path = new ArrayList<>();
+        for (Node current = tail; current != null; current = current.criticalPredecessor) {
+            path.add(current);
+        }
+        Collections.reverse(path);
+        StringJoiner description = new StringJoiner(" -> ");
+        for (Node node : path) {
+            description.add(node.definition.type().getSimpleName()
+                    + " (" + TimeUnit.NANOSECONDS.toMillis(node.duration) + " ms)");
+        }
+        LOGGER.info("Pre-instantiated {} singleton(s) in {} ms on {} thread(s); critical path {} ms: {}",
+                graph.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                threads,
+                tail == null ? 0 : TimeUnit.NANOSECONDS.toMillis(tail.finishedAt),
+                description);
+    }
+
+    /** 依赖图节点；计数与时间字段仅由调度线程或在 happens-before 保证下访问。 */
+    private static final class Node {
+        private final BeanDefinition<?> definition;
+        private final Set<Node> dependencies = new LinkedHashSet<>();
+        private final List<Node> dependents = new ArrayList<>();
+        private int pending;
+        private volatile long duration;
+        private volatile long finishedAt;
+        private volatile boolean done;
+        private Node criticalPredecessor;
+
+        private Node(BeanDefinition<?> definition) {
+            this.definition = definition;
+        }
+    }
+
+    private static final class PreInstantiationThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final ClassLoader contextClassLoader;
+
+        private PreInstantiationThreadFactory(ClassLoader contextClassLoader) {
+            this.contextClassLoader = contextClassLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "alamafa-preinit-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }
+    }
+}
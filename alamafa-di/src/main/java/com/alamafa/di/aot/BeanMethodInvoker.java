@@ -0,0 +1,13 @@
+package com.alamafa.di.aot;
+
+/**
+ * 由 {@code alamafa-di-processor} 为配置类生成的 @Bean 方法调用器，替代 {@code Method.invoke}。
+ */
+public interface BeanMethodInvoker {
+
+    /** 是否支持指定方法，key 形如 {@code name(com.acme.Repo,int)}。 */
+    boolean supports(String method);
+
+    /** 使用已解析的参数调用 @Bean 方法。 */
+    Object invoke(Object configuration, String method, Object[] args) throws Exception;
+}
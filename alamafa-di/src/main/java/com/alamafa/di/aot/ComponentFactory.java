@@ -0,0 +1,21 @@
+package com.alamafa.di.aot;
+
+/**
+ * 由 {@code alamafa-di-processor} 为组件生成的工厂，直接调用构造器与字段赋值以替代反射。
+ * <p>
+ * 依赖解析仍由容器完成，工厂只负责按解析结果创建实例。
+ */
+public interface ComponentFactory<T> {
+
+    /** 生成代码所对应的构造器参数签名，如 {@code com.acme.Repo,int}。 */
+    String constructor();
+
+    /** 使用已解析的构造器参数创建实例。 */
+    T newInstance(Object[] args) throws Exception;
+
+    /** 是否支持注入指定字段，key 形如 {@code 声明类#字段名}。 */
+    boolean injects(String field);
+
+    /** 为实例注入字段。 */
+    void inject(T instance, String field, Object value);
+}
@@ -0,0 +1,93 @@
+package com.alamafa.di.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于 class 字节的注解预过滤器：只有直接或经元注解携带目标注解的类才会被加载。
+ * <p>
+ * 元注解通过读取注解自身的 class 资源递归判断，结果按注解名缓存；解析失败时保守地放行。
+ */
+final class AnnotationPreFilter {
+    private final ClassLoader classLoader;
+    private final String target;
+    private final boolean followMetaAnnotations;
+    private final boolean concreteOnly;
+    private final Map<String, Boolean> stereotypes = new ConcurrentHashMap<>();
+
+    /**
+     * @param target                目标注解
+     * @param followMetaAnnotations 是否识别带目标注解的派生注解
+     * @param concreteOnly          是否排除接口、抽象类与注解类型
+     */
+    AnnotationPreFilter(ClassLoader classLoader,
+                        Class<? extends Annotation> target,
+                        boolean followMetaAnnotations,
+                        boolean concreteOnly) {
+        this.classLoader = Objects.requireNonNull(classLoader, "classLoader");
+        this.target = target.getName();
+        this.followMetaAnnotations = followMetaAnnotations;
+        this.concreteOnly = concreteOnly;
+    }
+
+    /** 判断 class 字节是否可能满足扫描条件。 */
+    boolean matches(byte[] classBytes) {
+        ClassFileAnnotationReader.ClassFileInfo info;
+        try {
+            info = ClassFileAnnotationReader.read(classBytes);
+        } catch (IOException | RuntimeException ex) {
+            return true;
+        }
+        if (concreteOnly && !info.isConcrete()) {
+            return false;
+        }
+        for (String annotation : info.annotations()) {
+            if (target.equals(annotation)) {
+                return true;
+            }
+            if (followMetaAnnotations && isStereotype(annotation, new HashSet<>())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 判断注解是否（递归地）被目标注解标注。 */
+    private boolean isStereotype(String annotation, Set<String> visiting) {
+        Boolean cached = stereotypes.get(annotation);
+        if (cached != null) {
+            return cached;
+        }
+        if (annotation.startsWith("java.") || !visiting.add(annotation)) {
+            return false;
+        }
+        boolean result = false;
+        for (String meta : annotationsOf(annotation)) {
+            if (target.equals(meta) || isStereotype(meta, visiting)) {
+                result = true;
+                break;
+            }
+        }
+        stereotypes.put(annotation, result);
+        return result;
+    }
+
+    private List<String> annotationsOf(String annotation) {
+        String resource = annotation.replace('.', '/') + ".class";
+        try (InputStream input = classLoader.getResourceAsStream(resource)) {
+            if (input == null) {
+                return List.of();
+            }
+            return ClassFileAnnotationReader.read(input.readAllBytes()).annotations();
+        } catch (IOException | RuntimeException ex) {
+            return List.of();
+        }
+    }
+}
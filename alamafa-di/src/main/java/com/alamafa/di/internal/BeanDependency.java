@@ -0,0 +1,44 @@
+package com.alamafa.di.internal;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bean 定义声明的依赖，用于在预实例化时构建依赖图。
+ *
+ * @param type       依赖类型；集合注入时为元素类型
+ * @param collection 是否注入该类型的全部 Bean
+ * @param qualifier  按名称限定时的 Bean 名称，可为 null
+ */
+public record BeanDependency(Class<?> type, boolean collection, String qualifier) {
+
+    public BeanDependency {
+        Objects.requireNonNull(type, "type");
+    }
+
+    /** 将注入点转换为依赖描述，无法确定具体类型的注入点被忽略。 */
+    static List<BeanDependency> of(Collection<InjectionPoint> points) {
+        List<BeanDependency> dependencies = new ArrayList<>(points.size());
+        for (InjectionPoint point : points) {
+            Class<?> type = rawClass(point.elementType());
+            if (type != null) {
+                dependencies.add(new BeanDependency(type, point.collectionRawType() != null, point.qualifier()));
+            }
+        }
+        return List.copyOf(dependencies);
+    }
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() instanceof Class<?> raw) {
+            return raw;
+        }
+        return null;
+    }
+}
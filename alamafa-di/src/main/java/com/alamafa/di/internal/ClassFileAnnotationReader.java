@@ -0,0 +1,149 @@
+package com.alamafa.di.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 直接解析 class 文件常量池与类级 RuntimeVisibleAnnotations 属性，无需加载类。
+ */
+final class ClassFileAnnotationReader {
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+    static final int ACC_ANNOTATION = 0x2000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private ClassFileAnnotationReader() {
+    }
+
+    /**
+     * 读取类的访问标志与类级运行时注解类型（二进制名称）。
+     *
+     * @throws IOException class 文件格式不合法时抛出
+     */
+    static ClassFileInfo read(byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort();
+        input.readUnsignedShort();
+        String[] utf8 = readConstantPool(input);
+        int accessFlags = input.readUnsignedShort();
+        input.readUnsignedShort();
+        input.readUnsignedShort();
+        skipFully(input, 2L * input.readUnsignedShort());
+        skipMembers(input);
+        skipMembers(input);
+        List<String> annotations = new ArrayList<>();
+        int attributes = input.readUnsignedShort();
+        for (int i = 0; i < attributes; i++) {
+            String name = utf8[input.readUnsignedShort()];
+            int length = input.readInt();
+            if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                skipFully(input, length);
+                continue;
+            }
+            int count = input.readUnsignedShort();
+            for (int j = 0; j < count; j++) {
+                annotations.add(descriptorToName(utf8[input.readUnsignedShort()]));
+                skipAnnotationBody(input);
+            }
+        }
+        return new ClassFileInfo(accessFlags, List.copyOf(annotations));
+    }
+
+    /** 读取常量池，仅保留 Utf8 项。 */
+    private static String[] readConstantPool(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        String[] utf8 = new String[count];
+        for (int i = 1; i < count; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = input.readUTF();
+                case 7, 8, 16, 19, 20 -> skipFully(input, 2);
+                case 15 -> skipFully(input, 3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> skipFully(input, 4);
+                case 5, 6 -> {
+                    skipFully(input, 8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        return utf8;
+    }
+
+    private static void skipMembers(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            skipFully(input, 6);
+            int attributes = input.readUnsignedShort();
+            for (int j = 0; j < attributes; j++) {
+                skipFully(input, 2);
+                skipFully(input, input.readInt() & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    private static void skipAnnotationBody(DataInputStream input) throws IOException {
+        int pairs = input.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            skipFully(input, 2);
+            skipElementValue(input);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream input) throws IOException {
+        int tag = input.readUnsignedByte();
+        switch (tag) {
+            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> skipFully(input, 2);
+            case 'e' -> skipFully(input, 4);
+            case '@' -> {
+                skipFully(input, 2);
+                skipAnnotationBody(input);
+            }
+            case '[' -> {
+                int values = input.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(input);
+                }
+            }
+            default -> throw new IOException("Unknown element value tag " + (char) tag);
+        }
+    }
+
+    private static void skipFully(DataInputStream input, long bytes) throws IOException {
+        long remaining = bytes;
+        while (remaining > 0) {
+            long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of class file");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /** {@code Lcom/acme/Foo$Bar;} -> {@code com.acme.Foo$Bar}。 */
+    private static String descriptorToName(String descriptor) {
+        if (descriptor == null || descriptor.length() < 3 || descriptor.charAt(0) != 'L') {
+            return descriptor;
+        }
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    /**
+     * class 文件中解析出的元数据。
+     */
+    record ClassFileInfo(int accessFlags, List<String> annotations) {
+
+        /** 是否为可实例化的具体类。 */
+        boolean isConcrete() {
+            return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION)) == 0;
+        }
+    }
+}
@@ -4,16 +4,24 @@ import com.alamafa.di.annotation.Configuration;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * 基于 classpath 的通用扫描器，可遍历目录与 JAR，配合谓词过滤结果。
@@ -26,13 +34,78 @@ public final class ClassPathScanner {
      * 查找带有 {@link com.alamafa.di.annotation.Configuration} 的类。
      */
     public static Set<Class<?>> findConfigurationClasses(ClassLoader classLoader, String basePackage) {
-        return findClasses(classLoader, basePackage, clazz -> clazz.isAnnotationPresent(Configuration.class));
+        return findConfigurationClasses(classLoader, basePackage, Set.of());
+    }
+
+    /**
+     * 查找配置类，跳过 {@code excludedRoots} 中已由组件索引覆盖的 classpath 根。
+     */
+    public static Set<Class<?>> findConfigurationClasses(ClassLoader classLoader,
+                                                         String basePackage,
+                                                         Set<String> excludedRoots) {
+        return findConfigurationClasses(classLoader, basePackage, excludedRoots, false);
+    }
+
+    /**
+     * 查找配置类，可选择并行扫描。
+     */
+    public static Set<Class<?>> findConfigurationClasses(ClassLoader classLoader,
+                                                         String basePackage,
+                                                         Set<String> excludedRoots,
+                                                         boolean parallel) {
+        return findConfigurationClasses(classLoader, basePackage, excludedRoots, parallel, null);
+    }
+
+    /**
+     * 查找配置类，{@code preFilter} 非空时按 class 字节预过滤。
+     */
+    static Set<Class<?>> findConfigurationClasses(ClassLoader classLoader,
+                                                  String basePackage,
+                                                  Set<String> excludedRoots,
+                                                  boolean parallel,
+                                                  AnnotationPreFilter preFilter) {
+        return findClasses(classLoader, basePackage,
+                clazz -> clazz.isAnnotationPresent(Configuration.class), excludedRoots, parallel, preFilter);
     }
 
     /**
      * 按包名扫描所有类，并基于谓词过滤。
      */
     public static Set<Class<?>> findClasses(ClassLoader classLoader, String basePackage, Predicate<Class<?>> predicate) {
+        return findClasses(classLoader, basePackage, predicate, Set.of());
+    }
+
+    /**
+     * 按包名扫描所有类，跳过 {@code excludedRoots} 中的 classpath 根（见 {@link #rootOf(URL, String)}）。
+     */
+    public static Set<Class<?>> findClasses(ClassLoader classLoader,
+                                            String basePackage,
+                                            Predicate<Class<?>> predicate,
+                                            Set<String> excludedRoots) {
+        return findClasses(classLoader, basePackage, predicate, excludedRoots, false);
+    }
+
+    /**
+     * 按包名扫描所有类；{@code parallel} 为 true 时在 fork-join 池中并行遍历各 classpath 根并加载类条目，
+     * 结果顺序与串行模式一致。
+     */
+    public static Set<Class<?>> findClasses(ClassLoader classLoader,
+                                            String basePackage,
+                                            Predicate<Class<?>> predicate,
+                                            Set<String> excludedRoots,
+                                            boolean parallel) {
+        return findClasses(classLoader, basePackage, predicate, excludedRoots, parallel, null);
+    }
+
+    /**
+     * 按包名扫描类；{@code preFilter} 非空时先解析 class 字节中的注解，未命中的条目不会被加载。
+     */
+    static Set<Class<?>> findClasses(ClassLoader classLoader,
+                                     String basePackage,
+                                     Predicate<Class<?>> predicate,
+                                     Set<String> excludedRoots,
+                                     boolean parallel,
+                                     AnnotationPreFilter preFilter) {
         if (classLoader == null) {
             throw new IllegalArgumentException("classLoader must not be null");
         }
@@ -42,32 +115,68 @@ public final class ClassPathScanner {
         if (predicate == null) {
             throw new IllegalArgumentException("predicate must not be null");
         }
-        Set<Class<?>> classes = new LinkedHashSet<>();
+        if (excludedRoots == null) {
+            throw new IllegalArgumentException("excludedRoots must not be null");
+        }
         String path = basePackage.replace('.', '/');
+        List<URL> roots = new ArrayList<>();
         try {
             Enumeration<URL> resources = classLoader.getResources(path);
             while (resources.hasMoreElements()) {
                 URL url = resources.nextElement();
-                String protocol = url.getProtocol();
-                if ("file".equals(protocol)) {
-                    String filePath = URLDecoder.decode(url.getFile(), StandardCharsets.UTF_8);
-                    scanDirectory(new File(filePath), basePackage, classes, classLoader, predicate);
-                } else if ("jar".equals(protocol)) {
-                    scanJar(url, basePackage, classes, classLoader, predicate);
+                if (!excludedRoots.isEmpty() && excludedRoots.contains(rootOf(url, path))) {
+                    continue;
                 }
+                roots.add(url);
             }
         } catch (IOException e) {
             throw new IllegalStateException("Failed to scan classpath for package " + basePackage, e);
         }
-        return classes;
+        Stream<URL> rootStream = parallel ? roots.parallelStream() : roots.stream();
+        List<String> classNames = rootStream
+                .flatMap(url -> listClassNames(url, basePackage, preFilter).stream())
+                .toList();
+        Stream<String> nameStream = parallel ? classNames.parallelStream() : classNames.stream();
+        List<Class<?>> classes = nameStream
+                .<Class<?>>map(className -> handleClass(className, classLoader, predicate))
+                .filter(Objects::nonNull)
+                .toList();
+        return new LinkedHashSet<>(classes);
+    }
+
+    /** 列出 classpath 根下指定包内的类名。 */
+    private static List<String> listClassNames(URL url, String basePackage, AnnotationPreFilter preFilter) {
+        List<String> classNames = new ArrayList<>();
+        String protocol = url.getProtocol();
+        if ("file".equals(protocol)) {
+            String filePath = URLDecoder.decode(url.getFile(), StandardCharsets.UTF_8);
+            scanDirectory(new File(filePath), basePackage, classNames, preFilter);
+        } else if ("jar".equals(protocol)) {
+            scanJar(url, basePackage, classNames, preFilter);
+        }
+        return classNames;
+    }
+
+    /**
+     * 计算资源所在的 classpath 根，例如 {@code jar:file:/a.jar!/} 或 {@code file:/target/classes/}。
+     */
+    static String rootOf(URL url, String resourcePath) {
+        String external = url.toExternalForm();
+        if (external.endsWith("/")) {
+            external = external.substring(0, external.length() - 1);
+        }
+        String suffix = resourcePath.endsWith("/") ? resourcePath.substring(0, resourcePath.length() - 1) : resourcePath;
+        if (!suffix.isEmpty() && external.endsWith(suffix)) {
+            external = external.substring(0, external.length() - suffix.length());
+        }
+        return external.endsWith("/") ? external : external + '/';
     }
 
-    /** 遍历文件系统目录并加载 class。 */
+    /** 遍历文件系统目录收集类名，按文件名排序以保证结果稳定。 */
     private static void scanDirectory(File directory,
                                       String packageName,
-                                      Set<Class<?>> classes,
-                                      ClassLoader loader,
-                                      Predicate<Class<?>> predicate) {
+                                      List<String> classNames,
+                                      AnnotationPreFilter preFilter) {
         if (!directory.exists()) {
             return;
         }
@@ -75,22 +184,18 @@ public final class ClassPathScanner {
         if (files == null) {
             return;
         }
+        Arrays.sort(files, Comparator.comparing(File::getName));
         for (File file : files) {
             if (file.isDirectory()) {
-                scanDirectory(file, packageName + "." + file.getName(), classes, loader, predicate);
-            } else if (file.getName().endsWith(".class")) {
-                String className = packageName + '.' + file.getName().substring(0, file.getName().length() - 6);
-                handleClass(className, loader, predicate, classes);
+                scanDirectory(file, packageName + "." + file.getName(), classNames, preFilter);
+            } else if (file.getName().endsWith(".class") && accepts(file, preFilter)) {
+                classNames.add(packageName + '.' + file.getName().substring(0, file.getName().length() - 6));
             }
         }
     }
 
-    /** 扫描 JAR 包中的类条目。 */
-    private static void scanJar(URL url,
-                                String packageName,
-                                Set<Class<?>> classes,
-                                ClassLoader loader,
-                                Predicate<Class<?>> predicate) {
+    /** 收集 JAR 包中的类条目。 */
+    private static void scanJar(URL url, String packageName, List<String> classNames, AnnotationPreFilter preFilter) {
         try {
             JarURLConnection connection = (JarURLConnection) url.openConnection();
             try (JarFile jarFile = connection.getJarFile()) {
@@ -105,8 +210,10 @@ public final class ClassPathScanner {
                     if (!name.startsWith(packagePath) || !name.endsWith(".class")) {
                         continue;
                     }
-                    String className = name.substring(0, name.length() - 6).replace('/', '.');
-                    handleClass(className, loader, predicate, classes);
+                    if (preFilter != null && !accepts(jarFile, entry, preFilter)) {
+                        continue;
+                    }
+                    classNames.add(name.substring(0, name.length() - 6).replace('/', '.'));
                 }
             }
         } catch (IOException e) {
@@ -114,17 +221,34 @@ public final class ClassPathScanner {
         }
     }
 
-    /** 尝试加载类并根据谓词筛选。 */
-    private static void handleClass(String className,
-                                    ClassLoader loader,
-                                    Predicate<Class<?>> predicate,
-                                    Set<Class<?>> classes) {
+    /** 读取目录中的 class 文件交由预过滤器判断，读取失败时保守放行。 */
+    private static boolean accepts(File file, AnnotationPreFilter preFilter) {
+        if (preFilter == null) {
+            return true;
+        }
+        try {
+            return preFilter.matches(Files.readAllBytes(file.toPath()));
+        } catch (IOException ignored) {
+            return true;
+        }
+    }
+
+    /** 读取 JAR 条目的 class 字节交由预过滤器判断。 */
+    private static boolean accepts(JarFile jarFile, JarEntry entry, AnnotationPreFilter preFilter) {
+        try (InputStream input = jarFile.getInputStream(entry)) {
+            return preFilter.matches(input.readAllBytes());
+        } catch (IOException ignored) {
+            return true;
+        }
+    }
+
+    /** 尝试加载类并根据谓词筛选，未通过时返回 null。 */
+    private static Class<?> handleClass(String className, ClassLoader loader, Predicate<Class<?>> predicate) {
         try {
             Class<?> clazz = Class.forName(className, false, loader);
-            if (predicate.test(clazz)) {
-                classes.add(clazz);
-            }
+            return predicate.test(clazz) ? clazz : null;
         } catch (ClassNotFoundException ignored) {
+            return null;
         } catch (LinkageError linkageError) {
             throw new IllegalStateException("Failed to load class while scanning: " + className, linkageError);
         }
@@ -1,6 +1,9 @@
 package com.alamafa.di.internal;
 
 
+import com.alamafa.core.reflect.FieldWriter;
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.core.reflect.MethodInvoker;
 import com.alamafa.di.BeanDefinition;
 
 import java.lang.reflect.Constructor;
@@ -18,6 +21,7 @@ final class ComponentDefinition {
     private final List<InjectionPoint> constructorArguments;
     private final List<FieldInjection> fieldInjections;
     private final List<Method> postConstructMethods;
+    private final List<MethodInvoker> postConstructInvokers;
     private final List<Method> preDestroyMethods;
 
     ComponentDefinition(ComponentCandidate candidate,
@@ -31,6 +35,7 @@ final class ComponentDefinition {
         this.constructorArguments = List.copyOf(constructorArguments);
         this.fieldInjections = List.copyOf(fieldInjections);
         this.postConstructMethods = List.copyOf(postConstructMethods);
+        this.postConstructInvokers = this.postConstructMethods.stream().map(Invokers::method).toList();
         this.preDestroyMethods = List.copyOf(preDestroyMethods);
     }
 
@@ -59,6 +64,11 @@ final class ComponentDefinition {
         return postConstructMethods;
     }
 
+    /** 预先链接的 PostConstruct 调用器，与 {@link #postConstructMethods()} 顺序一致。 */
+    List<MethodInvoker> postConstructInvokers() {
+        return postConstructInvokers;
+    }
+
     /** PreDestroy 方法集合。 */
     List<Method> preDestroyMethods() {
         return preDestroyMethods;
@@ -72,10 +82,14 @@ final class ComponentDefinition {
     static final class FieldInjection {
         private final Field field;
         private final InjectionPoint dependency;
+        private final String key;
+        private final FieldWriter writer;
 
         FieldInjection(Field field, InjectionPoint dependency) {
             this.field = Objects.requireNonNull(field, "field");
             this.dependency = Objects.requireNonNull(dependency, "dependency");
+            this.key = GeneratedFactories.fieldKey(field);
+            this.writer = Invokers.fieldWriter(field);
         }
 
         /** 需要注入的字段。 */
@@ -87,5 +101,15 @@ final class ComponentDefinition {
         InjectionPoint dependency() {
             return dependency;
         }
+
+        /** 生成工厂中对应的字段 key。 */
+        String key() {
+            return key;
+        }
+
+        /** 预先链接的字段写入器。 */
+        FieldWriter writer() {
+            return writer;
+        }
     }
 }
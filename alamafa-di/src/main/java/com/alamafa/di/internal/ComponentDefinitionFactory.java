@@ -28,12 +28,31 @@ import java.util.Set;
  * 根据扫描到的 {@link ComponentCandidate} 生成可供实例化的详细定义。
  */
 final class ComponentDefinitionFactory {
+    private final StartupCache startupCache;
+
+    ComponentDefinitionFactory() {
+        this(null);
+    }
+
+    /**
+     * @param startupCache 非空时复用缓存的构造器选择与注入字段，并记录新解析的结果
+     */
+    ComponentDefinitionFactory(StartupCache startupCache) {
+        this.startupCache = startupCache;
+    }
+
     /**
      * 解析构造器、字段和生命周期方法，构造组件定义。
      */
     ComponentDefinition create(ComponentCandidate candidate) {
         Class<?> type = candidate.type();
-        Constructor<?> constructor = selectConstructor(type);
+        Constructor<?> constructor = startupCache != null ? startupCache.constructor(type) : null;
+        if (constructor == null) {
+            constructor = selectConstructor(type);
+            if (startupCache != null) {
+                startupCache.recordConstructor(type, constructor);
+            }
+        }
         constructor.setAccessible(true);
         List<InjectionPoint> constructorPoints = resolveParameters(constructor);
         List<ComponentDefinition.FieldInjection> fieldInjections = resolveFields(type);
@@ -91,13 +110,7 @@ final class ComponentDefinitionFactory {
      */
     private List<ComponentDefinition.FieldInjection> resolveFields(Class<?> type) {
         List<ComponentDefinition.FieldInjection> injections = new ArrayList<>();
-        for (Field field : collectFields(type)) {
-            if (!field.isAnnotationPresent(Inject.class)) {
-                continue;
-            }
-            if (Modifier.isStatic(field.getModifiers())) {
-                continue;
-            }
+        for (Field field : injectedFields(type)) {
             boolean optional = field.isAnnotationPresent(OptionalDependency.class);
             String qualifier = findQualifier(field);
             InjectionPoint point = buildInjectionPoint(field.getGenericType(), field.getType(), optional,
@@ -108,6 +121,26 @@ final class ComponentDefinitionFactory {
         return injections;
     }
 
+    /**
+     * 返回带 @Inject 的实例字段，优先取自启动缓存。
+     */
+    private List<Field> injectedFields(Class<?> type) {
+        List<Field> cached = startupCache != null ? startupCache.injectedFields(type) : null;
+        if (cached != null) {
+            return cached;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : collectFields(type)) {
+            if (field.isAnnotationPresent(Inject.class) && !Modifier.isStatic(field.getModifiers())) {
+                fields.add(field);
+            }
+        }
+        if (startupCache != null) {
+            startupCache.recordInjectedFields(type, fields);
+        }
+        return fields;
+    }
+
     /**
      * 根据声明类型创建 InjectionPoint，处理 Optional 情况。
      */
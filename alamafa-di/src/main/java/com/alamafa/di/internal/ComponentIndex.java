@@ -0,0 +1,172 @@
+package com.alamafa.di.internal;
+
+import com.alamafa.di.BeanDefinition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 读取编译期生成的 {@value #RESOURCE}，为已建立索引的 classpath 根提供组件与配置类候选。
+ * <p>
+ * 未包含索引文件的根仍由 {@link ClassPathScanner} 扫描。{@value #FACTORIES_RESOURCE}
+ * 记录处理器生成的组件工厂与 @Bean 方法调用器。
+ */
+final class ComponentIndex {
+    static final String RESOURCE = "META-INF/alamafa/components.idx";
+    static final String FACTORIES_RESOURCE = "META-INF/alamafa/bean-factories.idx";
+    private static final String KIND_COMPONENT = "component";
+    private static final String KIND_CONFIGURATION = "configuration";
+    private static final String KIND_BEAN_METHODS = "bean-methods";
+
+    private static final ComponentIndex EMPTY = new ComponentIndex(Set.of(), List.of(), Map.of());
+
+    private final Set<String> roots;
+    private final List<Entry> entries;
+    private final Map<String, String> generatedClasses;
+
+    private ComponentIndex(Set<String> roots, List<Entry> entries, Map<String, String> generatedClasses) {
+        this.roots = roots;
+        this.entries = entries;
+        this.generatedClasses = generatedClasses;
+    }
+
+    /**
+     * 从类加载器可见的所有索引文件构建索引；不存在时返回空索引。
+     */
+    static ComponentIndex load(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader, "classLoader");
+        Set<String> roots = new LinkedHashSet<>();
+        List<Entry> entries = new ArrayList<>();
+        Map<String, String> generatedClasses = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                roots.add(ClassPathScanner.rootOf(url, RESOURCE));
+                readEntries(url, entries);
+            }
+            Enumeration<URL> factories = classLoader.getResources(FACTORIES_RESOURCE);
+            while (factories.hasMoreElements()) {
+                readGeneratedClasses(factories.nextElement(), generatedClasses);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read component index " + RESOURCE, e);
+        }
+        if (roots.isEmpty() && generatedClasses.isEmpty()) {
+            return EMPTY;
+        }
+        return new ComponentIndex(Set.copyOf(roots), List.copyOf(entries), Map.copyOf(generatedClasses));
+    }
+
+    private static void readGeneratedClasses(URL url, Map<String, String> generatedClasses) throws IOException {
+        try (InputStream input = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = trimmed.split("\\|");
+                if (columns.length != 3) {
+                    throw new IllegalStateException("Malformed bean factory entry in " + url + ": " + line);
+                }
+                generatedClasses.putIfAbsent(columns[0] + '|' + columns[1], columns[2]);
+            }
+        }
+    }
+
+    private static void readEntries(URL url, List<Entry> entries) throws IOException {
+        try (InputStream input = url.openStream();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                entries.add(Entry.parse(trimmed, url));
+            }
+        }
+    }
+
+    /** 是否未发现任何索引。 */
+    boolean isEmpty() {
+        return roots.isEmpty();
+    }
+
+    /** 已建立索引的 classpath 根，扫描时应跳过。 */
+    Set<String> roots() {
+        return roots;
+    }
+
+    /** 返回指定包（含子包）下的组件条目。 */
+    List<Entry> components(String basePackage) {
+        return filter(KIND_COMPONENT, basePackage);
+    }
+
+    /** 返回指定包（含子包）下的配置类名称。 */
+    List<String> configurations(String basePackage) {
+        return filter(KIND_CONFIGURATION, basePackage).stream().map(Entry::className).toList();
+    }
+
+    /** 返回为组件生成的工厂类名。 */
+    Optional<String> componentFactory(String className) {
+        return Optional.ofNullable(generatedClasses.get(className + '|' + KIND_COMPONENT));
+    }
+
+    /** 返回为配置类生成的 @Bean 方法调用器类名。 */
+    Optional<String> beanMethodInvoker(String className) {
+        return Optional.ofNullable(generatedClasses.get(className + '|' + KIND_BEAN_METHODS));
+    }
+
+    private List<Entry> filter(String kind, String basePackage) {
+        String prefix = basePackage.isEmpty() ? "" : basePackage + '.';
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.kind().equals(kind) && entry.className().startsWith(prefix)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 索引中的单行记录。
+     */
+    record Entry(String className,
+                 String kind,
+                 String stereotype,
+                 BeanDefinition.Scope scope,
+                 boolean primary,
+                 boolean lazy,
+                 boolean shared,
+                 String name) {
+
+        static Entry parse(String line, URL source) {
+            String[] columns = line.split("\\|", 8);
+            if (columns.length != 8) {
+                throw new IllegalStateException("Malformed component index entry in " + source + ": " + line);
+            }
+            BeanDefinition.Scope scope = columns[3].isEmpty()
+                    ? BeanDefinition.Scope.SINGLETON
+                    : BeanDefinition.Scope.valueOf(columns[3]);
+            return new Entry(columns[0], columns[1], columns[2], scope,
+                    Boolean.parseBoolean(columns[4]), Boolean.parseBoolean(columns[5]),
+                    Boolean.parseBoolean(columns[6]), columns[7]);
+        }
+    }
+}
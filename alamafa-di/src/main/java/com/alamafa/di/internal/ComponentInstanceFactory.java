@@ -4,9 +4,9 @@ package com.alamafa.di.internal;
 import com.alamafa.core.ApplicationContext;
 import com.alamafa.di.BeanRegistry;
 import com.alamafa.di.BeanResolutionException;
+import com.alamafa.di.aot.ComponentFactory;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,10 +21,19 @@ import java.util.Set;
 final class ComponentInstanceFactory {
     private final BeanRegistry registry;
     private final ComponentDefinition definition;
+    private final ComponentFactory<Object> generated;
 
     ComponentInstanceFactory(BeanRegistry registry, ComponentDefinition definition) {
+        this(registry, definition, null);
+    }
+
+    /**
+     * @param generated 编译期生成的工厂，为 null 时使用反射
+     */
+    ComponentInstanceFactory(BeanRegistry registry, ComponentDefinition definition, ComponentFactory<Object> generated) {
         this.registry = registry;
         this.definition = definition;
+        this.generated = generated;
     }
 
     /**
@@ -40,6 +49,14 @@ final class ComponentInstanceFactory {
     private Object instantiateConstructor() throws Exception {
         Constructor<?> constructor = definition.constructor();
         Object[] args = resolveArguments(definition.constructorArguments());
+        if (generated != null) {
+            try {
+                return generated.newInstance(args);
+            } catch (Exception ex) {
+                throw new BeanResolutionException("Failed to instantiate component " +
+                        definition.candidate().type().getName(), ex);
+            }
+        }
         try {
             return constructor.newInstance(args);
         } catch (ReflectiveOperationException ex) {
@@ -61,11 +78,14 @@ final class ComponentInstanceFactory {
     private void injectFields(Object instance) {
         for (ComponentDefinition.FieldInjection injection : definition.fieldInjections()) {
             Object dependency = resolveDependency(injection.dependency());
-            Field field = injection.field();
+            if (generated != null && generated.injects(injection.key())) {
+                generated.inject(instance, injection.key(), dependency);
+                continue;
+            }
             try {
-                field.set(instance, dependency);
-            } catch (IllegalAccessException ex) {
-                throw new BeanResolutionException("Failed to inject field " + field + " on " +
+                injection.writer().set(instance, dependency);
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                throw new BeanResolutionException("Failed to inject field " + injection.field() + " on " +
                         definition.candidate().type().getName(), ex);
             }
         }
@@ -1,13 +1,18 @@
 package com.alamafa.di.internal;
 
 
+import com.alamafa.core.diagnostics.StartupRecorder;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.reflect.MethodInvoker;
 import com.alamafa.di.BeanDefinition;
 import com.alamafa.di.BeanRegistry;
+import com.alamafa.di.aot.ComponentFactory;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -17,10 +22,25 @@ final class ComponentRegistrar {
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ComponentRegistrar.class);
 
     private final BeanRegistry registry;
-    private final ComponentDefinitionFactory definitionFactory = new ComponentDefinitionFactory();
+    private final ComponentIndex index;
+    private final ComponentDefinitionFactory definitionFactory;
+    private final Map<BeanDefinition<?>, List<BeanDependency>> dependencies;
 
     ComponentRegistrar(BeanRegistry registry) {
+        this(registry, null, null, null);
+    }
+
+    /**
+     * @param dependencies 非空时记录每个组件定义的构造器与字段依赖
+     */
+    ComponentRegistrar(BeanRegistry registry,
+                       ComponentIndex index,
+                       StartupCache startupCache,
+                       Map<BeanDefinition<?>, List<BeanDependency>> dependencies) {
         this.registry = Objects.requireNonNull(registry, "registry");
+        this.index = index;
+        this.definitionFactory = new ComponentDefinitionFactory(startupCache);
+        this.dependencies = dependencies;
     }
 
     /**
@@ -45,12 +65,18 @@ final class ComponentRegistrar {
             LOGGER.warn("Shared view {} is registered with non-singleton scope {}", type.getName(), candidate.scope());
         }
         ComponentDefinition definition = definitionFactory.create(candidate);
+        ComponentFactory<Object> factory = GeneratedFactories.componentFactory(index, definition);
         BeanDefinition<Object> beanDefinition = new BeanDefinition<>(
                 cast(type),
-                () -> instantiate(definition),
+                () -> instantiate(definition, factory),
                 definition.scope(),
                 candidate.primary(),
                 candidate.lazy());
+        if (dependencies != null) {
+            List<InjectionPoint> points = new ArrayList<>(definition.constructorArguments());
+            definition.fieldInjections().forEach(injection -> points.add(injection.dependency()));
+            dependencies.put(beanDefinition, BeanDependency.of(points));
+        }
         registry.register(cast(type), beanDefinition);
         if (beanName != null && !beanName.isBlank()) {
             registry.register(beanName, beanDefinition);
@@ -59,20 +85,28 @@ final class ComponentRegistrar {
     }
 
     /**
-     * 通过 ComponentInstanceFactory 创建实例并触发生命周期回调。
+     * 通过 ComponentInstanceFactory 创建实例并触发生命周期回调；存在生成工厂时不走反射。
      */
-    private Object instantiate(ComponentDefinition definition) throws Exception {
-        ComponentInstanceFactory factory = new ComponentInstanceFactory(registry, definition);
+    private Object instantiate(ComponentDefinition definition, ComponentFactory<Object> generated) throws Exception {
+        ComponentInstanceFactory factory = new ComponentInstanceFactory(registry, definition, generated);
         Object instance = factory.createInstance();
-        invokePostConstruct(definition.postConstructMethods(), instance);
+        invokePostConstruct(definition, instance);
         registerPreDestroy(definition, instance);
         return instance;
     }
 
     /** 调用 @PostConstruct 方法。 */
-    private void invokePostConstruct(List<Method> methods, Object instance) throws Exception {
-        for (Method method : methods) {
-            method.invoke(instance);
+    private void invokePostConstruct(ComponentDefinition definition, Object instance) throws Exception {
+        List<MethodInvoker> invokers = definition.postConstructInvokers();
+        if (invokers.isEmpty()) {
+            return;
+        }
+        StartupRecorder recorder = StartupRecorder.of(registry.context());
+        for (int i = 0; i < invokers.size(); i++) {
+            Method method = definition.postConstructMethods().get(i);
+            try (StartupRecorder.Span ignored = recorder.span("postConstruct", method.getDeclaringClass(), method.getName())) {
+                invokers.get(i).invoke(instance);
+            }
         }
     }
 
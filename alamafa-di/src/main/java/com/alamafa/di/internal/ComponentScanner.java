@@ -18,17 +18,43 @@ import java.util.Set;
  */
 final class ComponentScanner {
     private final ClassLoader classLoader;
+    private final ComponentIndex index;
+    private final boolean parallel;
+    private final AnnotationPreFilter preFilter;
 
     ComponentScanner(ClassLoader classLoader) {
+        this(classLoader, null, false, null);
+    }
+
+    /**
+     * @param preFilter 非空时按 class 字节预过滤，只加载可能为组件的类
+     */
+    ComponentScanner(ClassLoader classLoader, ComponentIndex index, boolean parallel, AnnotationPreFilter preFilter) {
         this.classLoader = Objects.requireNonNull(classLoader, "classLoader");
+        this.index = index;
+        this.parallel = parallel;
+        this.preFilter = preFilter;
+    }
+
+    /** 创建识别 @Component 及其派生注解的字节级预过滤器。 */
+    static AnnotationPreFilter preFilter(ClassLoader classLoader) {
+        return new AnnotationPreFilter(classLoader, Component.class, true, true);
     }
 
     /**
-     * 扫描并返回所有组件候选。
+     * 扫描并返回所有组件候选；已建立索引的 classpath 根直接读取索引，其余根回退为扫描。
      */
     Set<ComponentCandidate> scan(String basePackage) {
         Set<ComponentCandidate> candidates = new LinkedHashSet<>();
-        Set<Class<?>> types = ClassPathScanner.findClasses(classLoader, basePackage, this::isPotentialComponent);
+        Set<String> indexedRoots = Set.of();
+        if (index != null && !index.isEmpty()) {
+            indexedRoots = index.roots();
+            for (ComponentIndex.Entry entry : index.components(basePackage)) {
+                loadIndexed(entry).ifPresent(candidates::add);
+            }
+        }
+        Set<Class<?>> types = ClassPathScanner.findClasses(classLoader, basePackage,
+                this::isPotentialComponent, indexedRoots, parallel, preFilter);
         for (Class<?> type : types) {
             resolveMetadata(type).ifPresent(metadata -> {
                 String beanName = metadata.name;
@@ -44,6 +70,34 @@ final class ComponentScanner {
         return candidates;
     }
 
+    /** 根据索引条目构建候选，类缺失时忽略。 */
+    private Optional<ComponentCandidate> loadIndexed(ComponentIndex.Entry entry) {
+        Class<?> type;
+        try {
+            type = Class.forName(entry.className(), false, classLoader);
+        } catch (ClassNotFoundException ignored) {
+            return Optional.empty();
+        } catch (LinkageError linkageError) {
+            throw new IllegalStateException("Failed to load indexed component: " + entry.className(), linkageError);
+        }
+        String beanName = entry.name().isBlank() ? defaultBeanName(type) : entry.name().trim();
+        return Optional.of(new ComponentCandidate(type, beanName, entry.scope(), entry.primary(),
+                entry.lazy(), loadStereotype(entry.stereotype()), entry.shared()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Annotation> loadStereotype(String name) {
+        if (name.isEmpty() || Component.class.getName().equals(name)) {
+            return Component.class;
+        }
+        try {
+            Class<?> type = Class.forName(name, false, classLoader);
+            return type.isAnnotation() ? (Class<? extends Annotation>) type : Component.class;
+        } catch (ClassNotFoundException ignored) {
+            return Component.class;
+        }
+    }
+
     /** 判断类型是否带有组件元数据。 */
     private boolean isPotentialComponent(Class<?> type) {
         return resolveMetadata(type).isPresent();
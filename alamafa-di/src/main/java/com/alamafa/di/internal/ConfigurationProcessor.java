@@ -1,55 +1,124 @@
 package com.alamafa.di.internal;
 
 import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.diagnostics.StartupRecorder;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.reflect.MethodInvoker;
 import com.alamafa.di.BeanDefinition;
 import com.alamafa.di.BeanRegistry;
 import com.alamafa.di.BeanSupplier;
 import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.aot.BeanMethodInvoker;
 import com.alamafa.di.annotation.Configuration;
 import com.alamafa.di.annotation.Import;
 import com.alamafa.di.internal.*;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 处理 @Configuration 类与组件扫描，将定义注册到 {@link BeanRegistry}。
  */
 public final class ConfigurationProcessor {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ConfigurationProcessor.class);
+
     private final BeanRegistry registry;
     private final ApplicationContext context;
     private final Set<Class<?>> processed = new HashSet<>();
     private final Set<String> scannedPackages = new HashSet<>();
     private final Set<ComponentCandidate> componentCandidates = new LinkedHashSet<>();
     private final Set<Class<?>> registeredComponentTypes = new HashSet<>();
+    private final Map<String, PackageScan> prefetchedScans = new HashMap<>();
+    private final Map<String, Duration> scanTimings = new LinkedHashMap<>();
+    private final Map<BeanDefinition<?>, List<BeanDependency>> dependencies = new ConcurrentHashMap<>();
+    private final ReflectionUtils.DependencyResolver dependencyResolver;
+    private ClassLoader indexLoader;
+    private ComponentIndex componentIndex;
+    private boolean parallelScanning;
+    private boolean bytecodeFiltering;
+    private StartupCache startupCache;
+    private ClassLoader filterLoader;
+    private AnnotationPreFilter componentPreFilter;
+    private AnnotationPreFilter configurationPreFilter;
 
     public ConfigurationProcessor(BeanRegistry registry) {
         this.registry = Objects.requireNonNull(registry, "registry");
         this.context = registry.context();
+        this.dependencyResolver = ReflectionUtils.resolver(context, registry);
     }
 
     /**
-     * 扫描多个基础包，发现配置类及组件。
+     * 扫描多个基础包，发现配置类及组件。并行模式下先并发扫描全部包，再按声明顺序处理结果。
      */
     public void scanPackages(String... basePackages) {
         if (basePackages == null) {
             return;
         }
+        List<String> packages = new ArrayList<>();
         for (String basePackage : basePackages) {
             if (basePackage == null) {
                 continue;
             }
             String trimmed = basePackage.trim();
             if (!trimmed.isEmpty()) {
-                scanAndProcess(trimmed);
+                packages.add(trimmed);
             }
         }
+        if (parallelScanning && packages.size() > 1) {
+            prefetch(packages);
+        }
+        for (String basePackage : packages) {
+            scanAndProcess(basePackage);
+        }
+    }
+
+    /** 启用或关闭并行扫描。 */
+    public void setParallelScanning(boolean parallelScanning) {
+        this.parallelScanning = parallelScanning;
+    }
+
+    /** 是否启用并行扫描。 */
+    public boolean isParallelScanning() {
+        return parallelScanning;
+    }
+
+    /** 启用或关闭基于 class 字节的注解预过滤；关闭时扫描会加载包内全部类。 */
+    public void setBytecodeFiltering(boolean bytecodeFiltering) {
+        this.bytecodeFiltering = bytecodeFiltering;
+    }
+
+    /** 是否启用字节级注解预过滤。 */
+    public boolean isBytecodeFiltering() {
+        return bytecodeFiltering;
+    }
+
+    /** 设置跨进程启动缓存，为 null 时每次均完整扫描。 */
+    public void setStartupCache(StartupCache startupCache) {
+        this.startupCache = startupCache;
+    }
+
+    /** 返回 Bean 定义声明的依赖；非本处理器注册的定义返回空列表。 */
+    public List<BeanDependency> dependencies(BeanDefinition<?> definition) {
+        return dependencies.getOrDefault(definition, List.of());
+    }
+
+    /** 返回各包的累计扫描耗时，按首次扫描顺序排列。 */
+    public Map<String, Duration> scanTimings() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(scanTimings));
     }
 
     /**
@@ -109,13 +178,124 @@ public final class ConfigurationProcessor {
         if (basePackage == null || basePackage.isBlank()) {
             return;
         }
-        scanComponents(basePackage);
-        Set<Class<?>> candidates = ClassPathScanner.findConfigurationClasses(getClassLoader(), basePackage);
-        for (Class<?> candidate : candidates) {
+        String trimmed = basePackage.trim();
+        PackageScan scan = prefetchedScans.remove(trimmed);
+        if (scan == null) {
+            ClassLoader loader = getClassLoader();
+            scan = scanPackage(trimmed, !scannedPackages.contains(trimmed), loader, componentIndex(loader));
+        }
+        recordTiming(trimmed, scan);
+        if (scan.components() != null && scannedPackages.add(trimmed)) {
+            componentCandidates.addAll(scan.components());
+        }
+        for (Class<?> candidate : scan.configurations()) {
             processConfiguration(candidate);
         }
     }
 
+    /**
+     * 并发扫描尚未处理的包，结果暂存，由 {@link #scanAndProcess(String)} 按顺序消费。
+     */
+    private void prefetch(List<String> packages) {
+        ClassLoader loader = getClassLoader();
+        ComponentIndex index = componentIndex(loader);
+        preparePreFilters(loader);
+        List<String> pending = packages.stream()
+                .distinct()
+                .filter(pkg -> !prefetchedScans.containsKey(pkg))
+                .toList();
+        List<PackageScan> scans = pending.parallelStream()
+                .map(pkg -> scanPackage(pkg, !scannedPackages.contains(pkg), loader, index))
+                .toList();
+        for (int i = 0; i < pending.size(); i++) {
+            prefetchedScans.put(pending.get(i), scans.get(i));
+        }
+    }
+
+    /**
+     * 扫描单个包的组件（可选）与配置类，并记录耗时。
+     */
+    private PackageScan scanPackage(String basePackage,
+                                    boolean includeComponents,
+                                    ClassLoader loader,
+                                    ComponentIndex index) {
+        long start = System.nanoTime();
+        Set<ComponentCandidate> components = includeComponents
+                ? findComponents(basePackage, loader, index)
+                : null;
+        Set<Class<?>> configurations = findConfigurations(basePackage, loader, index);
+        return new PackageScan(components, configurations, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * 查找包内组件候选，启动缓存命中时直接还原。
+     */
+    private Set<ComponentCandidate> findComponents(String basePackage, ClassLoader loader, ComponentIndex index) {
+        try (StartupRecorder.Span ignored = StartupRecorder.of(context).span("scan", "components " + basePackage)) {
+            return scanComponentCandidates(basePackage, loader, index);
+        }
+    }
+
+    private Set<ComponentCandidate> scanComponentCandidates(String basePackage, ClassLoader loader, ComponentIndex index) {
+        StartupCache cache = startupCache;
+        if (cache != null) {
+            Set<ComponentCandidate> cached = cache.components(basePackage, loader);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        preparePreFilters(loader);
+        Set<ComponentCandidate> components = new ComponentScanner(loader, index, parallelScanning, componentPreFilter)
+                .scan(basePackage);
+        if (cache != null) {
+            cache.recordComponents(basePackage, components);
+        }
+        return components;
+    }
+
+    /**
+     * 查找包内配置类，启动缓存命中时直接还原。
+     */
+    private Set<Class<?>> findConfigurations(String basePackage, ClassLoader loader, ComponentIndex index) {
+        try (StartupRecorder.Span ignored = StartupRecorder.of(context).span("scan", "configurations " + basePackage)) {
+            return scanConfigurationClasses(basePackage, loader, index);
+        }
+    }
+
+    private Set<Class<?>> scanConfigurationClasses(String basePackage, ClassLoader loader, ComponentIndex index) {
+        StartupCache cache = startupCache;
+        if (cache != null) {
+            Set<Class<?>> cached = cache.configurations(basePackage, loader);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        preparePreFilters(loader);
+        Set<Class<?>> configurations = new LinkedHashSet<>();
+        for (String className : index.configurations(basePackage)) {
+            try {
+                configurations.add(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException ignored) {
+            }
+        }
+        configurations.addAll(ClassPathScanner.findConfigurationClasses(loader, basePackage, index.roots(),
+                parallelScanning, configurationPreFilter));
+        if (cache != null) {
+            cache.recordConfigurations(basePackage, configurations);
+        }
+        return configurations;
+    }
+
+    private void recordTiming(String basePackage, PackageScan scan) {
+        scanTimings.merge(basePackage, scan.elapsed(), Duration::plus);
+        LOGGER.debug("Scanned package {} in {} ms: {} component(s), {} configuration(s){}",
+                basePackage,
+                scan.elapsed().toMillis(),
+                scan.components() != null ? scan.components().size() : 0,
+                scan.configurations().size(),
+                parallelScanning ? " [parallel]" : "");
+    }
+
     /**
      * 获取用于扫描的类加载器。
      */
@@ -124,10 +304,39 @@ public final class ConfigurationProcessor {
         return loader != null ? loader : getClass().getClassLoader();
     }
 
+    /**
+     * 获取类加载器对应的组件索引，加载器变化时重新读取。
+     */
+    private ComponentIndex componentIndex(ClassLoader loader) {
+        if (componentIndex == null || indexLoader != loader) {
+            componentIndex = ComponentIndex.load(loader);
+            indexLoader = loader;
+        }
+        return componentIndex;
+    }
+
+    /**
+     * 按类加载器准备字节级预过滤器，使元注解判定结果在多次扫描间复用；未启用时置空。
+     */
+    private synchronized void preparePreFilters(ClassLoader loader) {
+        if (!bytecodeFiltering) {
+            componentPreFilter = null;
+            configurationPreFilter = null;
+            filterLoader = null;
+            return;
+        }
+        if (componentPreFilter == null || filterLoader != loader) {
+            componentPreFilter = ComponentScanner.preFilter(loader);
+            configurationPreFilter = new AnnotationPreFilter(loader, Configuration.class, false, false);
+            filterLoader = loader;
+        }
+    }
+
     /**
      * 遍历配置类中的 @Bean 方法并注册为 BeanDefinition。
      */
     private void registerBeanMethods(Class<?> configClass, Object instance) {
+        BeanMethodInvoker invoker = GeneratedFactories.beanMethodInvoker(componentIndex(getClassLoader()), configClass);
         for (Method method : getUniqueDeclaredMethods(configClass)) {
             Bean bean = method.getAnnotation(Bean.class);
             if (bean == null) {
@@ -141,10 +350,17 @@ public final class ConfigurationProcessor {
                 throw new IllegalStateException("@Bean method must return a value: " + method);
             }
             method.setAccessible(true);
+            String methodKey = GeneratedFactories.methodKey(method);
+            BeanMethodInvoker generated = invoker != null
+                    && method.getDeclaringClass() == configClass
+                    && invoker.supports(methodKey) ? invoker : null;
+            ReflectionUtils.InjectionPlan plan = ReflectionUtils.plan(method);
             BeanSupplier<?> supplier = () -> {
-                Object[] args = ReflectionUtils.resolveMethodArguments(method, context, registry);
+                Object[] args = plan.resolve(dependencyResolver);
                 try {
-                    Object beanInstance = method.invoke(instance, args);
+                    Object beanInstance = generated != null
+                            ? generated.invoke(instance, methodKey, args)
+                            : method.invoke(instance, args);
                     if (beanInstance == null) {
                         throw new IllegalStateException("@Bean method returned null: " + method);
                     }
@@ -160,6 +376,7 @@ public final class ConfigurationProcessor {
             BeanSupplier<Object> typedSupplier = (BeanSupplier<Object>) supplier;
             BeanDefinition<Object> definition = new BeanDefinition<>(beanType, typedSupplier, bean.scope(),
                     bean.primary(), bean.lazy());
+            dependencies.put(definition, BeanDependency.of(plan.points()));
             boolean named = bean.name() != null && !bean.name().isBlank();
             if (!named || registry.definitionsFor(beanType).isEmpty()) {
                 registry.register(beanType, definition);
@@ -173,8 +390,16 @@ public final class ConfigurationProcessor {
     private void invokeLifecycleCallbacks(BeanDefinition.Scope scope, Object beanInstance) throws Exception {
         Class<?> type = beanInstance.getClass();
         LifecycleMethodCollector.ensureScopeSupportsLifecycle(scope, type);
-        for (Method postConstruct : LifecycleMethodCollector.postConstructMethods(type)) {
-            postConstruct.invoke(beanInstance);
+        List<MethodInvoker> invokers = LifecycleMethodCollector.postConstructInvokers(type);
+        if (!invokers.isEmpty()) {
+            StartupRecorder recorder = StartupRecorder.of(context);
+            List<Method> methods = LifecycleMethodCollector.postConstructMethods(type);
+            for (int i = 0; i < invokers.size(); i++) {
+                Method method = methods.get(i);
+                try (StartupRecorder.Span ignored = recorder.span("postConstruct", method.getDeclaringClass(), method.getName())) {
+                    invokers.get(i).invoke(beanInstance);
+                }
+            }
         }
         if (scope == BeanDefinition.Scope.SINGLETON) {
             List<Method> preDestroyMethods = LifecycleMethodCollector.preDestroyMethods(type);
@@ -209,7 +434,8 @@ public final class ConfigurationProcessor {
         if (componentCandidates.isEmpty()) {
             return;
         }
-        ComponentRegistrar registrar = new ComponentRegistrar(registry);
+        ComponentRegistrar registrar = new ComponentRegistrar(registry, componentIndex(getClassLoader()), startupCache,
+                dependencies);
         for (ComponentCandidate candidate : componentCandidates) {
             if (registeredComponentTypes.add(candidate.type())) {
                 registrar.register(candidate);
@@ -218,14 +444,32 @@ public final class ConfigurationProcessor {
     }
 
     /**
-     * 对指定包执行组件扫描，避免重复。
+     * 对指定包执行组件扫描，避免重复；优先使用并行预取的结果。
      */
     private void scanComponents(String basePackage) {
         String trimmed = basePackage.trim();
-        if (!scannedPackages.add(trimmed)) {
+        if (scannedPackages.contains(trimmed)) {
             return;
         }
-        ComponentScanner scanner = new ComponentScanner(getClassLoader());
-        componentCandidates.addAll(scanner.scan(trimmed));
+        PackageScan prefetched = prefetchedScans.get(trimmed);
+        Set<ComponentCandidate> components;
+        if (prefetched != null && prefetched.components() != null) {
+            components = prefetched.components();
+        } else {
+            long start = System.nanoTime();
+            ClassLoader loader = getClassLoader();
+            components = findComponents(trimmed, loader, componentIndex(loader));
+            scanTimings.merge(trimmed, Duration.ofNanos(System.nanoTime() - start), Duration::plus);
+        }
+        scannedPackages.add(trimmed);
+        componentCandidates.addAll(components);
+    }
+
+    /**
+     * 单个包的扫描结果；components 为 null 表示该包组件已扫描过。
+     */
+    private record PackageScan(Set<ComponentCandidate> components,
+                               Set<Class<?>> configurations,
+                               Duration elapsed) {
     }
 }
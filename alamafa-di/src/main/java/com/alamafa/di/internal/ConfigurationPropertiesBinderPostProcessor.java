@@ -4,12 +4,25 @@ import com.alamafa.config.Configuration;
 import com.alamafa.config.ConfigurationBinder;
 import com.alamafa.config.ConfigurationProperties;
 import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
 import com.alamafa.di.BeanPostProcessor;
 
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 /**
  * 在 Bean 创建后，根据 @ConfigurationProperties 将配置绑定到实例。
+ * <p>
+ * 已绑定的实例以弱引用记录，配置变化时由 {@link #rebind} 只重新绑定前缀与变化键相交的实例。
+ * 重新绑定直接写入正在使用的单例，不保证读取方看到的多个属性属于同一次配置，约定见 {@link #rebind}。
  */
 public final class ConfigurationPropertiesBinderPostProcessor implements BeanPostProcessor {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(ConfigurationPropertiesBinderPostProcessor.class);
+
+    private final Collection<Bound> bound = new ConcurrentLinkedQueue<>();
 
     @Override
     public void postProcess(Object bean, ApplicationContext context) {
@@ -25,5 +38,40 @@ public final class ConfigurationPropertiesBinderPostProcessor implements BeanPos
             return;
         }
         ConfigurationBinder.bind(configuration, properties.prefix(), bean);
+        bound.add(new Bound(new WeakReference<>(bean), properties.prefix()));
+    }
+
+    /**
+     * 将新配置重新绑定到受变化键影响的实例，返回重新绑定的数量。被删除的键不会重置对应属性。
+     * <p>
+     * 在发布 {@code ConfigurationChangedEvent} 的线程（文件监视时为 {@code alamafa-config-watcher}）上串行执行，
+     * 每个实例在持有该实例监视器锁期间写入。读取方不能假设重新加载期间字段之间一致（例如新宽度与旧高度），
+     * 需要一致地读取多个属性时应在 {@code synchronized (bean)} 中一并读取。
+     */
+    public synchronized int rebind(Configuration configuration, Collection<String> changedKeys) {
+        int rebound = 0;
+        for (Iterator<Bound> iterator = bound.iterator(); iterator.hasNext(); ) {
+            Bound entry = iterator.next();
+            Object bean = entry.bean().get();
+            if (bean == null) {
+                iterator.remove();
+                continue;
+            }
+            if (!ConfigurationBinder.affectedBy(entry.prefix(), changedKeys)) {
+                continue;
+            }
+            try {
+                synchronized (bean) {
+                    ConfigurationBinder.bind(configuration, entry.prefix(), bean);
+                }
+                rebound++;
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Failed to rebind configuration properties {} with prefix '{}'",
+                        bean.getClass().getName(), entry.prefix(), ex);
+            }
+        }
+        return rebound;
     }
+
+    private record Bound(WeakReference<Object> bean, String prefix) { }
 }
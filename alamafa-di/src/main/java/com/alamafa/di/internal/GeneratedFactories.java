@@ -0,0 +1,91 @@
+package com.alamafa.di.internal;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.di.aot.BeanMethodInvoker;
+import com.alamafa.di.aot.ComponentFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * 加载 {@code alamafa-di-processor} 生成的工厂，签名不匹配或加载失败时返回 null 以回退到反射。
+ */
+final class GeneratedFactories {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(GeneratedFactories.class);
+
+    private GeneratedFactories() {
+    }
+
+    /**
+     * 返回与组件定义所选构造器匹配的生成工厂。
+     */
+    @SuppressWarnings("unchecked")
+    static ComponentFactory<Object> componentFactory(ComponentIndex index, ComponentDefinition definition) {
+        if (index == null) {
+            return null;
+        }
+        Class<?> type = definition.candidate().type();
+        ComponentFactory<Object> factory = index.componentFactory(type.getName())
+                .flatMap(name -> instantiate(name, type, ComponentFactory.class))
+                .orElse(null);
+        if (factory == null) {
+            return null;
+        }
+        String expected = signature(definition.constructor().getParameterTypes());
+        if (!expected.equals(factory.constructor())) {
+            LOGGER.debug("Ignoring generated factory for {} because constructor ({}) does not match ({})",
+                    type.getName(), factory.constructor(), expected);
+            return null;
+        }
+        return factory;
+    }
+
+    /**
+     * 返回配置类的 @Bean 方法调用器。
+     */
+    static BeanMethodInvoker beanMethodInvoker(ComponentIndex index, Class<?> configClass) {
+        if (index == null) {
+            return null;
+        }
+        return index.beanMethodInvoker(configClass.getName())
+                .flatMap(name -> instantiate(name, configClass, BeanMethodInvoker.class))
+                .orElse(null);
+    }
+
+    /** 生成代码使用的方法 key：{@code name(参数类型,...)}。 */
+    static String methodKey(Method method) {
+        return method.getName() + "(" + signature(method.getParameterTypes()) + ")";
+    }
+
+    /** 生成代码使用的字段 key：{@code 声明类#字段名}。 */
+    static String fieldKey(Field field) {
+        return field.getDeclaringClass().getName() + "#" + field.getName();
+    }
+
+    /** 参数类型签名，如 {@code java.lang.String,int}。 */
+    static String signature(Class<?>[] parameterTypes) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Class<?> parameterType : parameterTypes) {
+            joiner.add(parameterType.getName());
+        }
+        return joiner.toString();
+    }
+
+    private static <T> Optional<T> instantiate(String className, Class<?> target, Class<T> expected) {
+        try {
+            ClassLoader loader = target.getClassLoader();
+            Class<?> generated = Class.forName(className, true, loader);
+            if (!expected.isAssignableFrom(generated)) {
+                LOGGER.warn("Generated class {} does not implement {}", className, expected.getName());
+                return Optional.empty();
+            }
+            return Optional.of(expected.cast(generated.getDeclaredConstructor().newInstance()));
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            LOGGER.debug("Falling back to reflection for {}: {}", target.getName(), ex.toString());
+            return Optional.empty();
+        }
+    }
+}
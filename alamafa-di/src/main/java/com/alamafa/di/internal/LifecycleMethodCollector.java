@@ -1,5 +1,7 @@
 package com.alamafa.di.internal;
 
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.core.reflect.MethodInvoker;
 import com.alamafa.di.BeanDefinition;
 import com.alamafa.di.BeanResolutionException;
 import com.alamafa.di.annotation.PostConstruct;
@@ -21,6 +23,7 @@ import java.util.concurrent.ConcurrentMap;
 final class LifecycleMethodCollector {
     private static final ConcurrentMap<Class<?>, List<Method>> POST_CONSTRUCT_CACHE = new ConcurrentHashMap<>();
     private static final ConcurrentMap<Class<?>, List<Method>> PRE_DESTROY_CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, List<MethodInvoker>> POST_CONSTRUCT_INVOKERS = new ConcurrentHashMap<>();
 
     private LifecycleMethodCollector() {
     }
@@ -33,6 +36,14 @@ final class LifecycleMethodCollector {
                 collectLifecycleMethods(clazz, PostConstruct.class));
     }
 
+    /**
+     * 返回 @PostConstruct 方法对应的预链接调用器，供 @Bean 实例的回调复用。
+     */
+    static List<MethodInvoker> postConstructInvokers(Class<?> type) {
+        return POST_CONSTRUCT_INVOKERS.computeIfAbsent(type, clazz ->
+                postConstructMethods(clazz).stream().map(Invokers::method).toList());
+    }
+
     /**
      * 返回类型上标记的 @PreDestroy 方法（包含父类），封装为不可变集合。
      */
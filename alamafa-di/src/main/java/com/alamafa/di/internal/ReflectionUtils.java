@@ -8,6 +8,7 @@ import com.alamafa.di.annotation.OptionalDependency;
 import com.alamafa.di.annotation.Qualifier;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -45,21 +46,35 @@ public final class ReflectionUtils {
     }
 
     /**
-     * 根据参数类型解析方法调用所需的参数数组。
+     * 根据参数类型解析方法调用所需的参数数组。需要反复调用时应改用 {@link #plan(Executable)} 预先构建的计划。
      */
     public static Object[] resolveMethodArguments(Method method, ApplicationContext context, BeanRegistry registry) {
-        Parameter[] parameters = method.getParameters();
+        return plan(method).resolve(new DependencyResolver(context, registry));
+    }
+
+    /**
+     * 为构造器或方法预先构建注入计划，参数元数据只解析一次。
+     */
+    static InjectionPlan plan(Executable executable) {
+        Parameter[] parameters = executable.getParameters();
         if (parameters.length == 0) {
-            return new Object[0];
+            return InjectionPlan.EMPTY;
         }
-        DependencyResolver resolver = new DependencyResolver(context, registry);
-        Object[] args = new Object[parameters.length];
+        String prefix = executable instanceof Constructor<?>
+                ? executable.getDeclaringClass().getName() + " constructor argument "
+                : executable.getDeclaringClass().getName() + " method " + executable.getName() + " argument ";
+        InjectionPoint[] points = new InjectionPoint[parameters.length];
         for (int i = 0; i < parameters.length; i++) {
-            InjectionPoint point = buildInjectionPoint(parameters[i],
-                    method.getDeclaringClass().getName() + " method " + method.getName() + " argument " + i);
-            args[i] = resolver.resolve(point);
+            points[i] = buildInjectionPoint(parameters[i], prefix + i);
         }
-        return args;
+        return new InjectionPlan(points);
+    }
+
+    /**
+     * 创建可复用的依赖解析器；解析器本身无状态，可跨线程共享。
+     */
+    static DependencyResolver resolver(ApplicationContext context, BeanRegistry registry) {
+        return new DependencyResolver(context, registry);
     }
 
     private static Constructor<?> selectConstructor(Class<?> configClass) {
@@ -89,18 +104,7 @@ public final class ReflectionUtils {
     private static Object[] resolveParameters(Constructor<?> constructor,
                                               ApplicationContext context,
                                               BeanRegistry registry) {
-        Parameter[] parameters = constructor.getParameters();
-        if (parameters.length == 0) {
-            return new Object[0];
-        }
-        DependencyResolver resolver = new DependencyResolver(context, registry);
-        Object[] args = new Object[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            InjectionPoint point = buildInjectionPoint(parameters[i],
-                    constructor.getDeclaringClass().getName() + " constructor argument " + i);
-            args[i] = resolver.resolve(point);
-        }
-        return args;
+        return plan(constructor).resolve(new DependencyResolver(context, registry));
     }
 
     private static InjectionPoint buildInjectionPoint(Parameter parameter, String description) {
@@ -175,7 +179,38 @@ public final class ReflectionUtils {
         throw new BeanResolutionException("Failed to resolve collection element type for " + description);
     }
 
-    private static final class DependencyResolver {
+    /**
+     * 构造器或方法参数的注入计划：注入点在构建时确定，每次调用只执行依赖查找。
+     */
+    static final class InjectionPlan {
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+        static final InjectionPlan EMPTY = new InjectionPlan(new InjectionPoint[0]);
+
+        private final InjectionPoint[] points;
+
+        private InjectionPlan(InjectionPoint[] points) {
+            this.points = points;
+        }
+
+        /** 参数注入点（只读）。 */
+        List<InjectionPoint> points() {
+            return List.of(points);
+        }
+
+        /** 解析全部参数。 */
+        Object[] resolve(DependencyResolver resolver) {
+            if (points.length == 0) {
+                return NO_ARGUMENTS;
+            }
+            Object[] args = new Object[points.length];
+            for (int i = 0; i < points.length; i++) {
+                args[i] = resolver.resolve(points[i]);
+            }
+            return args;
+        }
+    }
+
+    static final class DependencyResolver {
         private final ApplicationContext context;
         private final BeanRegistry registry;
 
@@ -0,0 +1,386 @@
+package com.alamafa.di.internal;
+
+import com.alamafa.core.logging.AlamafaLogger;
+import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.di.BeanDefinition;
+import com.alamafa.di.annotation.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 跨进程复用的启动缓存：持久化各包的扫描结果、组件构造器选择与字段注入点，
+ * classpath 未变化时可直接还原，跳过类路径扫描与构造器解析。
+ * <p>
+ * 缓存键由 classpath 各条目的大小/修改时间、激活的 profile 与扫描包计算得出；
+ * 键不一致时丢弃旧内容并在本次启动结束后重写。条件注解仍在每次启动时重新评估。
+ */
+public final class StartupCache {
+    private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(StartupCache.class);
+    private static final String FORMAT = "alamafa-startup-cache/1";
+    private static final String KEY_PREFIX = "key=";
+
+    private final Path file;
+    private final String key;
+    private final boolean hit;
+    private final Map<String, List<String[]>> components = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> configurations = new ConcurrentHashMap<>();
+    private final Map<String, String> constructors = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> fields = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    private StartupCache(Path file, String key, boolean hit) {
+        this.file = file;
+        this.key = key;
+        this.hit = hit;
+    }
+
+    /**
+     * 打开缓存文件；文件不存在、损坏或键不匹配时返回空缓存，后续由 {@link #save()} 重写。
+     */
+    public static StartupCache open(Path file, String key) {
+        Objects.requireNonNull(file, "file");
+        Objects.requireNonNull(key, "key");
+        if (!Files.isRegularFile(file)) {
+            return new StartupCache(file, key, false);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!FORMAT.equals(reader.readLine()) || !(KEY_PREFIX + key).equals(reader.readLine())) {
+                LOGGER.debug("Startup cache {} is stale, rebuilding", file);
+                return new StartupCache(file, key, false);
+            }
+            StartupCache cache = new StartupCache(file, key, true);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    cache.readLine(line);
+                }
+            }
+            return cache;
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Ignoring unreadable startup cache {}: {}", file, ex.toString());
+            return new StartupCache(file, key, false);
+        }
+    }
+
+    /**
+     * 计算缓存键：类加载器可见的 classpath 条目（路径、大小、修改时间）、profile 与扫描范围。
+     */
+    public static String computeKey(ClassLoader classLoader, String profile, Collection<String> scope) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+        StringBuilder material = new StringBuilder(FORMAT).append('\n')
+                .append(Runtime.version()).append('\n')
+                .append(profile == null ? "" : profile).append('\n');
+        for (String item : scope) {
+            material.append(item).append('\n');
+        }
+        for (Path entry : classpathEntries(classLoader)) {
+            material.append(entry).append('|').append(fingerprint(entry)).append('\n');
+        }
+        byte[] hash = digest.digest(material.toString().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+
+    /** 是否命中了与当前 classpath 一致的缓存。 */
+    public boolean isHit() {
+        return hit;
+    }
+
+    /** 缓存文件位置。 */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * 将本次启动新记录的内容写回磁盘，未发生变化时不写。
+     */
+    public void save() {
+        if (!dirty) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(FORMAT);
+        lines.add(KEY_PREFIX + key);
+        components.forEach((pkg, entries) -> {
+            lines.add("P|" + pkg);
+            entries.forEach(columns -> lines.add("C|" + pkg + '|' + String.join("|", columns)));
+        });
+        configurations.forEach((pkg, names) -> {
+            lines.add("Q|" + pkg);
+            names.forEach(name -> lines.add("F|" + pkg + '|' + name));
+        });
+        constructors.forEach((type, signature) -> lines.add("K|" + type + '|' + signature));
+        fields.forEach((type, keys) -> lines.add("I|" + type + '|' + String.join(",", keys)));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+            LOGGER.debug("Wrote startup cache {}", file);
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to write startup cache {}: {}", file, ex.toString());
+        }
+    }
+
+    /**
+     * 还原包的组件候选；未缓存或类已不存在时返回 null，由调用方重新扫描。
+     */
+    Set<ComponentCandidate> components(String basePackage, ClassLoader classLoader) {
+        List<String[]> entries = components.get(basePackage);
+        if (entries == null) {
+            return null;
+        }
+        Set<ComponentCandidate> candidates = new LinkedHashSet<>();
+        for (String[] columns : entries) {
+            Class<?> type = load(columns[0], classLoader);
+            if (type == null) {
+                invalidate(basePackage);
+                return null;
+            }
+            String beanName = columns[6].isEmpty() ? null : columns[6];
+            candidates.add(new ComponentCandidate(type, beanName, BeanDefinition.Scope.valueOf(columns[1]),
+                    Boolean.parseBoolean(columns[2]), Boolean.parseBoolean(columns[3]),
+                    stereotype(columns[4], classLoader), Boolean.parseBoolean(columns[5])));
+        }
+        return candidates;
+    }
+
+    /** 记录包的组件扫描结果。 */
+    void recordComponents(String basePackage, Set<ComponentCandidate> candidates) {
+        List<String[]> entries = new ArrayList<>(candidates.size());
+        for (ComponentCandidate candidate : candidates) {
+            entries.add(new String[]{
+                    candidate.type().getName(),
+                    candidate.scope().name(),
+                    Boolean.toString(candidate.primary()),
+                    Boolean.toString(candidate.lazy()),
+                    candidate.stereotype() == null ? "" : candidate.stereotype().getName(),
+                    Boolean.toString(candidate.sharedView()),
+                    candidate.beanName() == null ? "" : candidate.beanName()});
+        }
+        components.put(basePackage, List.copyOf(entries));
+        dirty = true;
+    }
+
+    /** 还原包内的配置类；未缓存或类已不存在时返回 null。 */
+    Set<Class<?>> configurations(String basePackage, ClassLoader classLoader) {
+        List<String> names = configurations.get(basePackage);
+        if (names == null) {
+            return null;
+        }
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (String name : names) {
+            Class<?> type = load(name, classLoader);
+            if (type == null) {
+                invalidate(basePackage);
+                return null;
+            }
+            result.add(type);
+        }
+        return result;
+    }
+
+    /** 记录包内的配置类。 */
+    void recordConfigurations(String basePackage, Set<Class<?>> types) {
+        configurations.put(basePackage, types.stream().map(Class::getName).toList());
+        dirty = true;
+    }
+
+    /** 按缓存的参数签名取回组件构造器；签名失效时返回 null。 */
+    Constructor<?> constructor(Class<?> type) {
+        String signature = constructors.get(type.getName());
+        if (signature == null) {
+            return null;
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (signature.equals(GeneratedFactories.signature(constructor.getParameterTypes()))) {
+                return constructor;
+            }
+        }
+        constructors.remove(type.getName());
+        dirty = true;
+        return null;
+    }
+
+    /** 记录组件选用的构造器。 */
+    void recordConstructor(Class<?> type, Constructor<?> constructor) {
+        String signature = GeneratedFactories.signature(constructor.getParameterTypes());
+        if (!signature.equals(constructors.put(type.getName(), signature))) {
+            dirty = true;
+        }
+    }
+
+    /** 取回组件需要注入的字段；任一字段缺失时返回 null。 */
+    List<Field> injectedFields(Class<?> type) {
+        List<String> keys = fields.get(type.getName());
+        if (keys == null) {
+            return null;
+        }
+        List<Field> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Field field = findField(type, key);
+            if (field == null) {
+                fields.remove(type.getName());
+                dirty = true;
+                return null;
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    /** 记录组件需要注入的字段。 */
+    void recordInjectedFields(Class<?> type, List<Field> injected) {
+        List<String> keys = injected.stream().map(GeneratedFactories::fieldKey).toList();
+        if (!keys.equals(fields.put(type.getName(), keys))) {
+            dirty = true;
+        }
+    }
+
+    private void readLine(String line) {
+        String[] columns = line.split("\\|", -1);
+        switch (columns[0]) {
+            case "P" -> components.putIfAbsent(columns[1], new ArrayList<>());
+            case "C" -> components.computeIfAbsent(columns[1], ignored -> new ArrayList<>())
+                    .add(line.substring(columns[1].length() + 3).split("\\|", 7));
+            case "Q" -> configurations.putIfAbsent(columns[1], new ArrayList<>());
+            case "F" -> configurations.computeIfAbsent(columns[1], ignored -> new ArrayList<>()).add(columns[2]);
+            case "K" -> constructors.put(columns[1], columns[2]);
+            case "I" -> fields.put(columns[1], columns[2].isEmpty() ? List.of() : List.of(columns[2].split(",")));
+            default -> throw new IllegalStateException("Malformed startup cache line: " + line);
+        }
+    }
+
+    private void invalidate(String basePackage) {
+        LOGGER.debug("Startup cache entry for package {} is stale", basePackage);
+        components.remove(basePackage);
+        configurations.remove(basePackage);
+        dirty = true;
+    }
+
+    private static Field findField(Class<?> type, String key) {
+        int separator = key.indexOf('#');
+        String owner = key.substring(0, separator);
+        String name = key.substring(separator + 1);
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (current.getName().equals(owner)) {
+                try {
+                    return current.getDeclaredField(name);
+                } catch (NoSuchFieldException ex) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> load(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> stereotype(String name, ClassLoader classLoader) {
+        if (name.isEmpty() || Component.class.getName().equals(name)) {
+            return Component.class;
+        }
+        Class<?> type = load(name, classLoader);
+        return type != null && type.isAnnotation() ? (Class<? extends Annotation>) type : Component.class;
+    }
+
+    /** 收集 java.class.path、模块路径与 URLClassLoader 链上的条目。 */
+    private static Set<Path> classpathEntries(ClassLoader classLoader) {
+        Set<Path> entries = new LinkedHashSet<>();
+        for (String property : List.of("java.class.path", "jdk.module.path")) {
+            String value = System.getProperty(property);
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            for (String item : value.split(File.pathSeparator)) {
+                if (!item.isBlank()) {
+                    entries.add(Path.of(item).toAbsolutePath().normalize());
+                }
+            }
+        }
+        for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+            if (current instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    if ("file".equals(url.getProtocol())) {
+                        try {
+                            entries.add(Path.of(url.toURI()).toAbsolutePath().normalize());
+                        } catch (URISyntaxException | IllegalArgumentException ignored) {
+                        }
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    /** 文件取大小与修改时间；目录取文件数、总大小与最新修改时间。 */
+    private static String fingerprint(Path entry) {
+        try {
+            if (Files.isDirectory(entry)) {
+                long[] summary = new long[3];
+                try (Stream<Path> walk = Files.walk(entry)) {
+                    walk.forEach(path -> {
+                        try {
+                            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            summary[0]++;
+                            summary[1] += attributes.size();
+                            summary[2] = Math.max(summary[2], attributes.lastModifiedTime().toMillis());
+                        } catch (IOException ignored) {
+                        }
+                    });
+                }
+                return "d" + summary[0] + ':' + summary[1] + ':' + summary[2];
+            }
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            return "f" + attributes.size() + ':' + attributes.lastModifiedTime().toMillis();
+        } catch (IOException ex) {
+            return "missing";
+        }
+    }
+}
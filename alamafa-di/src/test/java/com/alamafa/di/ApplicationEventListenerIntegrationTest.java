@@ -4,18 +4,24 @@ import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.events.ApplicationEventListener;
 import com.alamafa.core.events.ApplicationEventPublisher;
 import com.alamafa.core.events.ApplicationStartedEvent;
+import com.alamafa.core.events.BatchEventListener;
 import com.alamafa.core.events.DefaultApplicationEventPublisher;
 import com.alamafa.di.annotation.Bean;
 import com.alamafa.di.annotation.ConditionalOnMissingBean;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class ApplicationEventListenerIntegrationTest {
     private static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+    private static final BlockingQueue<Integer> BATCH_SIZES = new LinkedBlockingQueue<>();
 
     @Test
     void registersAndRemovesEventListeners() throws Exception {
@@ -38,6 +44,43 @@ class ApplicationEventListenerIntegrationTest {
         assertEquals(List.of(), EVENTS);
     }
 
+    @Test
+    void registersBatchListenersThroughCoalescingAdapter() throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        DefaultApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        context.put(ApplicationEventPublisher.class, publisher);
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .withConfigurations(BatchListenerConfig.class)
+                .build();
+
+        bootstrap.init(context);
+        publisher.publishEvent(new ApplicationStartedEvent(context));
+        publisher.publishEvent(new ApplicationStartedEvent(context));
+
+        assertEquals(2, BATCH_SIZES.poll(5, TimeUnit.SECONDS));
+        bootstrap.stop(context);
+        publisher.publishEvent(new ApplicationStartedEvent(context));
+        assertNull(BATCH_SIZES.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @com.alamafa.di.annotation.Configuration
+    static class BatchListenerConfig {
+        @Bean
+        BatchEventListener<ApplicationStartedEvent> batchListener() {
+            return new BatchEventListener<>() {
+                @Override
+                public void onEvents(List<ApplicationStartedEvent> events) {
+                    BATCH_SIZES.add(events.size());
+                }
+
+                @Override
+                public Class<ApplicationStartedEvent> getEventType() {
+                    return ApplicationStartedEvent.class;
+                }
+            };
+        }
+    }
+
     @com.alamafa.di.annotation.Configuration
     static class EventListenerConfig {
         @Bean
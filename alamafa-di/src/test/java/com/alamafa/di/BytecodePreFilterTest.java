@@ -0,0 +1,88 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.prefilter.AbstractWidget;
+import com.alamafa.di.prefilter.AnnotatedService;
+import com.alamafa.di.prefilter.ClockWidget;
+import com.alamafa.di.prefilter.PlainHelper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BytecodePreFilterTest {
+    private static final String PACKAGE = "com.alamafa.di.prefilter";
+
+    @Test
+    void bytecodeFilteringLoadsOnlyAnnotatedCandidates() {
+        RecordingClassLoader loader = new RecordingClassLoader(getClass().getClassLoader());
+        BeanRegistry registry = scan(loader, true);
+
+        assertTrue(registry.get(ClockWidget.class) != null);
+        assertTrue(registry.get("annotatedService") instanceof AnnotatedService);
+        assertEquals("prefilter", registry.get("prefilterLabel"));
+        assertFalse(loader.loaded.contains(PlainHelper.class.getName()));
+        assertFalse(loader.loaded.contains(AbstractWidget.class.getName()));
+    }
+
+    @Test
+    void disablingBytecodeFilteringFindsSameDefinitions() {
+        RecordingClassLoader filteredLoader = new RecordingClassLoader(getClass().getClassLoader());
+        RecordingClassLoader fullLoader = new RecordingClassLoader(getClass().getClassLoader());
+
+        List<String> filtered = definitionTypes(scan(filteredLoader, true));
+        List<String> full = definitionTypes(scan(fullLoader, false));
+
+        assertEquals(full, filtered);
+        assertTrue(fullLoader.loaded.contains(PlainHelper.class.getName()));
+    }
+
+    @Test
+    void preFilterIsOptIn() {
+        RecordingClassLoader loader = new RecordingClassLoader(getClass().getClassLoader());
+        scan(loader, null);
+
+        assertTrue(loader.loaded.contains(PlainHelper.class.getName()));
+    }
+
+    /** {@code bytecodeFiltering} 为 null 时保留注册表默认值。 */
+    private static BeanRegistry scan(ClassLoader loader, Boolean bytecodeFiltering) {
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(loader);
+            BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+            if (bytecodeFiltering != null) {
+                registry.setBytecodeFiltering(bytecodeFiltering);
+            }
+            registry.scanPackages(PACKAGE);
+            return registry;
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    private static List<String> definitionTypes(BeanRegistry registry) {
+        return registry.allDefinitions().stream()
+                .map(definition -> definition.type().getName())
+                .toList();
+    }
+
+    private static final class RecordingClassLoader extends ClassLoader {
+        private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+        private RecordingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            loaded.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+}
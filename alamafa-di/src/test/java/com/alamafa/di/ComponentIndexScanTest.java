@@ -0,0 +1,84 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.indexed.GeneratedTarget;
+import com.alamafa.di.indexed.GeneratedTargetFactory;
+import com.alamafa.di.indexed.IndexedConfiguration;
+import com.alamafa.di.indexed.IndexedOnlyService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComponentIndexScanTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void registersCandidatesListedInComponentIndex() throws Exception {
+        Path index = root.resolve("META-INF/alamafa/components.idx");
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, String.join("\n",
+                "# className|kind|stereotype|scope|primary|lazy|shared|name",
+                IndexedOnlyService.class.getName()
+                        + "|component|com.alamafa.di.annotation.Component|PROTOTYPE|true|false|false|indexedService",
+                IndexedConfiguration.class.getName() + "|configuration||||||"), StandardCharsets.UTF_8);
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{root.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+            registry.scanPackages(getClass().getPackageName() + ".indexed");
+            registry.registerConfigurations();
+
+            List<BeanDefinition<?>> definitions = registry.definitionsFor(IndexedOnlyService.class);
+            assertEquals(1, definitions.size());
+            assertEquals(BeanDefinition.Scope.PROTOTYPE, definitions.get(0).scope());
+            assertTrue(definitions.get(0).primary());
+            assertTrue(registry.get("indexedService") instanceof IndexedOnlyService);
+            assertSame(registry.get(IndexedConfiguration.Marker.class), registry.get(IndexedConfiguration.Marker.class));
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+
+    @Test
+    void createsComponentsThroughGeneratedFactory() throws Exception {
+        Path factories = root.resolve("META-INF/alamafa/bean-factories.idx");
+        Files.createDirectories(factories.getParent());
+        Files.writeString(factories, GeneratedTarget.class.getName() + "|component|"
+                + GeneratedTargetFactory.class.getName() + "\n", StandardCharsets.UTF_8);
+        Files.writeString(root.resolve("META-INF/alamafa/components.idx"),
+                IndexedOnlyService.class.getName() + "|component|com.alamafa.di.annotation.Component|SINGLETON|false|false|false|\n",
+                StandardCharsets.UTF_8);
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{root.toUri().toURL()}, getClass().getClassLoader())) {
+            Thread.currentThread().setContextClassLoader(loader);
+            BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+            registry.scanPackages(getClass().getPackageName() + ".indexed");
+            registry.registerConfigurations();
+            int created = GeneratedTargetFactory.CREATED.get();
+            int injected = GeneratedTargetFactory.INJECTED.get();
+
+            GeneratedTarget target = registry.get(GeneratedTarget.class);
+
+            assertSame(registry.get(IndexedOnlyService.class), target.service());
+            assertSame(registry.get(IndexedConfiguration.Marker.class), target.marker());
+            assertEquals(created + 1, GeneratedTargetFactory.CREATED.get());
+            assertEquals(injected + 1, GeneratedTargetFactory.INJECTED.get());
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+    }
+}
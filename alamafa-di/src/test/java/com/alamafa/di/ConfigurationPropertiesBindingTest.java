@@ -1,15 +1,35 @@
 package com.alamafa.di;
 
 import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationChangedEvent;
 import com.alamafa.config.ConfigurationLoader;
 import com.alamafa.config.ConfigurationProperties;
+import com.alamafa.config.ConfigurationReloader;
 import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.events.ApplicationEventListener;
+import com.alamafa.core.events.ApplicationEventPublisher;
+import com.alamafa.core.events.DefaultApplicationEventPublisher;
 import com.alamafa.di.annotation.Component;
+import com.alamafa.di.internal.ConfigurationPropertiesBinderPostProcessor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurationPropertiesBindingTest {
 
@@ -37,6 +57,99 @@ class ConfigurationPropertiesBindingTest {
         bootstrap.stop(context);
     }
 
+    @Test
+    void rebindsOnlyAffectedBeansWhenWatchedFileChanges(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("client.properties");
+        Files.writeString(file, "demo.title=Before\nother.name=unchanged\n");
+        ApplicationContext context = new ApplicationContext();
+        ApplicationEventPublisher publisher = new DefaultApplicationEventPublisher();
+        context.put(ApplicationEventPublisher.class, publisher);
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .scanPackages(getClass().getPackageName())
+                .withConfigurationLoader(ConfigurationLoader.create()
+                        .addFile(file, ConfigurationLoader.Priority.NORMAL, true)
+                        .addProperties(Map.of(ConfigurationReloader.DEBOUNCE_PROPERTY, "50")))
+                .build();
+        bootstrap.init(context);
+        // registered after the bootstrap's rebinding listener, so it observes the rebound beans
+        BlockingQueue<ConfigurationChangedEvent> changes = new LinkedBlockingQueue<>();
+        publisher.addListener(new ApplicationEventListener<ConfigurationChangedEvent>() {
+            @Override
+            public void onEvent(ConfigurationChangedEvent event) {
+                changes.add(event);
+            }
+
+            @Override
+            public Class<ConfigurationChangedEvent> getEventType() {
+                return ConfigurationChangedEvent.class;
+            }
+        });
+        BeanRegistry registry = context.get(BeanRegistry.class);
+        DemoProperties demo = registry.get(DemoProperties.class);
+        OtherProperties other = registry.get(OtherProperties.class);
+        int otherBinds = OtherProperties.BINDS.get();
+        assertEquals("Before", demo.getTitle());
+
+        Files.writeString(file, "demo.title=After the edit\nother.name=unchanged\n");
+        ConfigurationChangedEvent event = changes.poll(10, TimeUnit.SECONDS);
+
+        assertNotNull(event, "no configuration change observed");
+        assertEquals(Set.of("demo.title"), event.changedKeys());
+        assertEquals("After the edit", demo.getTitle());
+        assertEquals("unchanged", other.getName());
+        assertEquals(otherBinds, OtherProperties.BINDS.get());
+        assertSame(event.configuration(), context.get(Configuration.class));
+        assertSame(event.configuration(), registry.get(Configuration.class));
+
+        bootstrap.stop(context);
+    }
+
+    @Test
+    void rebindHoldsBeanLockSoLockedReadersSeeOneConfiguration() throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        context.put(Configuration.class, ConfigurationLoader.create()
+                .addProperties(Map.of("window.width", "100", "window.height", "50"))
+                .load());
+        ConfigurationPropertiesBinderPostProcessor binder = new ConfigurationPropertiesBinderPostProcessor();
+        WindowProperties window = new WindowProperties();
+        binder.postProcess(window, context);
+        Configuration resized = ConfigurationLoader.create()
+                .addProperties(Map.of("window.width", "200", "window.height", "80"))
+                .load();
+
+        window.pause = new CountDownLatch(1);
+        CompletableFuture<Integer> rebind = CompletableFuture.supplyAsync(
+                () -> binder.rebind(resized, Set.of("window.width", "window.height")));
+        assertTrue(window.entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> {
+            synchronized (window) {
+                return window.getWidth() + "x" + window.getHeight();
+            }
+        });
+        Thread.sleep(50);
+        assertFalse(reader.isDone());
+
+        window.pause.countDown();
+        assertEquals(1, rebind.get(5, TimeUnit.SECONDS));
+        assertEquals("200x80", reader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Component
+    @ConfigurationProperties(prefix = "other")
+    static class OtherProperties {
+        static final AtomicInteger BINDS = new AtomicInteger();
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            BINDS.incrementAndGet();
+            this.name = name;
+        }
+    }
+
     @Component
     @ConfigurationProperties(prefix = "demo")
     static class DemoProperties {
@@ -59,5 +172,34 @@ class ConfigurationPropertiesBindingTest {
             this.enabled = enabled;
         }
     }
-}
 
+    @ConfigurationProperties(prefix = "window")
+    static class WindowProperties {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch pause;
+        private int width;
+        private int height;
+
+        public int getWidth() {
+            return width;
+        }
+
+        public void setWidth(int width) throws InterruptedException {
+            CountDownLatch current = pause;
+            if (current != null) {
+                // 重新绑定写到一半时暂停，让读取方在此刻尝试读取
+                entered.countDown();
+                current.await(5, TimeUnit.SECONDS);
+            }
+            this.width = width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public void setHeight(int height) {
+            this.height = height;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.alamafa.di;
 
 import com.alamafa.config.Configuration;
+import com.alamafa.config.ConfigurationLoader;
 import com.alamafa.core.ApplicationArguments;
 import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.ApplicationLifecycle;
 import com.alamafa.core.ApplicationShutdown;
+import com.alamafa.core.health.HealthEndpoint;
+import com.alamafa.core.health.HealthRegistry;
+import com.alamafa.core.health.HealthStatus;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.PrometheusExporter;
 import com.alamafa.core.runner.ApplicationRunner;
 import com.alamafa.di.BeanRegistry;
 import com.alamafa.di.annotation.Bean;
@@ -12,18 +18,74 @@ import com.alamafa.di.annotation.PostConstruct;
 import com.alamafa.di.annotation.PreDestroy;
 import org.junit.jupiter.api.Test;
 
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DiRuntimeBootstrapTest {
     private static final List<String> EVENTS = new ArrayList<>();
     private static final List<String> RUNNER_EVENTS = new ArrayList<>();
 
+    @Test
+    void startsLoopbackHealthEndpointFromConfiguration() throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        HealthRegistry health = new HealthRegistry(context);
+        health.register("storage", ctx -> HealthStatus.UP);
+        context.put(HealthRegistry.class, health);
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .withConfigurationLoader(ConfigurationLoader.create().addProperties(Map.of(
+                        HealthEndpoint.ENABLED_PROPERTY, "true",
+                        HealthEndpoint.PORT_PROPERTY, "0")))
+                .build();
+
+        bootstrap.init(context);
+        URI uri = URI.create("http://127.0.0.1:" + context.get(HealthEndpoint.class).port() + HealthEndpoint.PATH);
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"storage\""), response.body());
+
+        bootstrap.stop(context);
+        assertThrows(ConnectException.class,
+                () -> client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString()));
+    }
+
+    @Test
+    void exportsBeanCreationMetricsThroughPrometheus() throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        MetricsRegistry metrics = new MetricsRegistry();
+        context.put(MetricsRegistry.class, metrics);
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .withConfigurations(TestConfig.class)
+                .withConfigurationLoader(ConfigurationLoader.create().addProperties(Map.of(
+                        PrometheusExporter.ENABLED_PROPERTY, "true",
+                        PrometheusExporter.PORT_PROPERTY, "0")))
+                .build();
+
+        bootstrap.init(context);
+        assertTrue(metrics.counter("alamafa.di.beans.created", "scope", "singleton", "outcome", "success").count() > 0);
+        PrometheusExporter exporter = (PrometheusExporter) metrics.exporters().get(0);
+        URI uri = URI.create("http://127.0.0.1:" + exporter.port() + PrometheusExporter.PATH);
+        HttpResponse<String> response = HttpClient.newHttpClient()
+                .send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(response.body().contains("alamafa_di_beans_created_total{outcome=\"success\",scope=\"singleton\"}"),
+                response.body());
+
+        bootstrap.stop(context);
+        assertTrue(metrics.exporters().isEmpty());
+    }
+
     @Test
     void applicationLifecycleBeansRunInOrder() throws Exception {
         EVENTS.clear();
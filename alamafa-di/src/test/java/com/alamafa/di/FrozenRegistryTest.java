@@ -0,0 +1,63 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrozenRegistryTest {
+
+    @Test
+    void frozenRegistryReturnsCachedSingletonAndHonoursLateRegistration() {
+        BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+        Greeter english = () -> "hello";
+        registry.register(Greeter.class, new BeanDefinition<>(Greeter.class, () -> english));
+        registry.freeze();
+
+        assertTrue(registry.isFrozen());
+        assertSame(english, registry.get(Greeter.class));
+        assertSame(english, registry.get(Greeter.class));
+
+        Greeter french = () -> "bonjour";
+        registry.register(Greeter.class, new BeanDefinition<>(Greeter.class, () -> french,
+                BeanDefinition.Scope.SINGLETON, true, false));
+
+        assertSame(french, registry.get(Greeter.class));
+    }
+
+    @Test
+    void prototypesAndDestroyedSingletonsBypassSnapshot() {
+        BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+        AtomicInteger created = new AtomicInteger();
+        registry.register(Counter.class, new BeanDefinition<>(Counter.class,
+                () -> new Counter(created.incrementAndGet())));
+        registry.register(Ticket.class, new BeanDefinition<>(Ticket.class, Ticket::new,
+                BeanDefinition.Scope.PROTOTYPE));
+        registry.freeze();
+
+        assertNotSame(registry.get(Ticket.class), registry.get(Ticket.class));
+        Counter first = registry.get(Counter.class);
+        assertSame(first, registry.get(Counter.class));
+
+        registry.destroySingletons();
+
+        Counter second = registry.get(Counter.class);
+        assertNotSame(first, second);
+        assertEquals(2, second.value());
+    }
+
+    interface Greeter {
+        String greet();
+    }
+
+    record Counter(int value) {
+    }
+
+    static final class Ticket {
+    }
+}
@@ -0,0 +1,56 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.parallel.alpha.AlphaOne;
+import com.alamafa.di.parallel.beta.BetaService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelScanningTest {
+    private static final String ALPHA = "com.alamafa.di.parallel.alpha";
+    private static final String BETA = "com.alamafa.di.parallel.beta";
+
+    @Test
+    void parallelScanningRegistersSameDefinitionsInSameOrder() {
+        BeanRegistry sequential = scan(false);
+        BeanRegistry parallel = scan(true);
+
+        assertEquals(definitionTypes(sequential), definitionTypes(parallel));
+        assertEquals(List.of(ALPHA, BETA), List.copyOf(parallel.scanTimings().keySet()));
+        assertSame(parallel.get(AlphaOne.class), parallel.get(BetaService.class).alpha());
+        assertEquals("beta", parallel.get("betaLabel"));
+    }
+
+    @Test
+    void builderEnablesParallelScanning() throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .scanPackages(ALPHA, BETA)
+                .parallelScanning(true)
+                .build();
+
+        bootstrap.init(context);
+        BeanRegistry registry = context.get(BeanRegistry.class);
+        assertTrue(registry.scanTimings().keySet().containsAll(List.of(ALPHA, BETA)));
+        assertSame(registry.get(AlphaOne.class), registry.get(BetaService.class).alpha());
+        bootstrap.stop(context);
+    }
+
+    private static BeanRegistry scan(boolean parallel) {
+        BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+        registry.setParallelScanning(parallel);
+        registry.scanPackages(ALPHA, BETA);
+        return registry;
+    }
+
+    private static List<String> definitionTypes(BeanRegistry registry) {
+        return registry.allDefinitions().stream()
+                .map(definition -> definition.type().getName())
+                .toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.preinit.Catalog;
+import com.alamafa.di.preinit.CreationLog;
+import com.alamafa.di.preinit.Storefront;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreInstantiationTest {
+    private static final String PACKAGE = "com.alamafa.di.preinit";
+
+    @Test
+    void createsNonLazySingletonsInDependencyOrder() throws Exception {
+        CreationLog.clear();
+        ApplicationContext context = new ApplicationContext();
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .scanPackages(PACKAGE)
+                .preInstantiateSingletons(true)
+                .preInstantiationThreads(4)
+                .build();
+
+        bootstrap.init(context);
+        List<String> created = List.copyOf(CreationLog.CREATED);
+
+        assertEquals(4, created.size(), "created=" + created);
+        assertFalse(created.contains("ReportWindow"));
+        assertTrue(created.indexOf("Inventory") < created.indexOf("Catalog"));
+        assertTrue(created.indexOf("PriceList") < created.indexOf("Catalog"));
+        assertTrue(created.indexOf("Catalog") < created.indexOf("Storefront"));
+        assertTrue(CreationLog.THREADS.stream().allMatch(name -> name.startsWith("alamafa-preinit-")));
+
+        BeanRegistry registry = context.get(BeanRegistry.class);
+        assertSame(registry.get(Catalog.class), registry.get(Storefront.class).catalog());
+        assertEquals(4, CreationLog.CREATED.size());
+        bootstrap.stop(context);
+    }
+
+    @Test
+    void singleThreadRunsOnBootstrapThreadAndDefaultIsLazy() throws Exception {
+        CreationLog.clear();
+        ApplicationContext context = new ApplicationContext();
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .scanPackages(PACKAGE)
+                .preInstantiateSingletons(true)
+                .preInstantiationThreads(1)
+                .build();
+        bootstrap.init(context);
+        assertEquals(4, CreationLog.CREATED.size());
+        assertTrue(CreationLog.THREADS.stream().allMatch(Thread.currentThread().getName()::equals));
+        bootstrap.stop(context);
+
+        CreationLog.clear();
+        ApplicationContext lazyContext = new ApplicationContext();
+        DiRuntimeBootstrap lazy = DiRuntimeBootstrap.builder().scanPackages(PACKAGE).build();
+        lazy.init(lazyContext);
+        assertTrue(CreationLog.CREATED.isEmpty());
+        lazy.stop(lazyContext);
+    }
+
+    @Test
+    void reportsCycleHiddenFromGraphInsteadOfDeadlocking() {
+        BeanRegistry registry = new BeanRegistry(new ApplicationContext());
+        CyclicBarrier bothStarted = new CyclicBarrier(2);
+        registry.register(Left.class, new BeanDefinition<>(Left.class, () -> {
+            bothStarted.await(5, TimeUnit.SECONDS);
+            return new Left(registry.get(Right.class));
+        }));
+        registry.register(Right.class, new BeanDefinition<>(Right.class, () -> {
+            bothStarted.await(5, TimeUnit.SECONDS);
+            return new Right(registry.get(Left.class));
+        }));
+
+        BeanResolutionException error = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrows(BeanResolutionException.class,
+                        () -> new SingletonPreInstantiator(registry).run(2)));
+        assertTrue(causes(error).anyMatch(message -> message.contains("circular dependency")),
+                error::toString);
+    }
+
+    private static Stream<String> causes(Throwable error) {
+        return Stream.iterate(error, Objects::nonNull, Throwable::getCause)
+                .map(Throwable::getMessage)
+                .filter(Objects::nonNull);
+    }
+
+    private record Left(Right right) {
+    }
+
+    private record Right(Left left) {
+    }
+}
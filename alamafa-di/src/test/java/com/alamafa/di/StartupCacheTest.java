@@ -0,0 +1,79 @@
+package com.alamafa.di;
+
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.di.parallel.alpha.AlphaOne;
+import com.alamafa.di.parallel.alpha.AlphaTwo;
+import com.alamafa.di.parallel.beta.BetaService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupCacheTest {
+    private static final String ALPHA = "com.alamafa.di.parallel.alpha";
+    private static final String BETA = "com.alamafa.di.parallel.beta";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void secondStartRehydratesRegistryFromCache() throws Exception {
+        Path cacheFile = directory.resolve("startup.cache");
+        List<String> firstRun = definitionTypes(start(cacheFile));
+        assertTrue(Files.isRegularFile(cacheFile));
+        String written = Files.readString(cacheFile, StandardCharsets.UTF_8);
+        assertTrue(written.contains("K|" + BetaService.class.getName() + "|" + AlphaOne.class.getName()));
+
+        List<String> secondRun = definitionTypes(start(cacheFile));
+        assertEquals(firstRun, secondRun);
+
+        List<String> trimmed = Files.readAllLines(cacheFile, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.startsWith("C|" + ALPHA + "|" + AlphaTwo.class.getName() + "|"))
+                .toList();
+        Files.write(cacheFile, trimmed, StandardCharsets.UTF_8);
+
+        BeanRegistry rehydrated = start(cacheFile);
+        assertFalse(rehydrated.hasBeanDefinition(AlphaTwo.class));
+        assertSame(rehydrated.get(AlphaOne.class), rehydrated.get(BetaService.class).alpha());
+    }
+
+    @Test
+    void staleKeyTriggersFullScanAndRewrite() throws Exception {
+        Path cacheFile = directory.resolve("startup.cache");
+        Files.writeString(cacheFile, String.join("\n",
+                "alamafa-startup-cache/1",
+                "key=outdated",
+                "P|" + ALPHA), StandardCharsets.UTF_8);
+
+        BeanRegistry registry = start(cacheFile);
+
+        assertTrue(registry.hasBeanDefinition(AlphaTwo.class));
+        assertFalse(Files.readString(cacheFile, StandardCharsets.UTF_8).contains("key=outdated"));
+    }
+
+    private static BeanRegistry start(Path cacheFile) throws Exception {
+        ApplicationContext context = new ApplicationContext();
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .scanPackages(ALPHA, BETA)
+                .startupCache(cacheFile)
+                .build();
+        bootstrap.init(context);
+        BeanRegistry registry = context.get(BeanRegistry.class);
+        bootstrap.stop(context);
+        return registry;
+    }
+
+    private static List<String> definitionTypes(BeanRegistry registry) {
+        return registry.allDefinitions().stream()
+                .map(definition -> definition.type().getName())
+                .toList();
+    }
+}
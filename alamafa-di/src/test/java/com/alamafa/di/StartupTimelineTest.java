@@ -0,0 +1,89 @@
+package com.alamafa.di;
+
+import com.alamafa.config.ConfigurationLoader;
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.diagnostics.StartupRecorder;
+import com.alamafa.di.preinit.Catalog;
+import com.alamafa.di.preinit.Inventory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimelineTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsScanningAndNestedBeanCreationWhenEnabledByConfiguration() throws Exception {
+        Path output = directory.resolve("startup-trace.json");
+        ApplicationContext context = new ApplicationContext();
+        StartupRecorder recorder = new StartupRecorder();
+        context.put(StartupRecorder.class, recorder);
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .withConfigurationLoader(ConfigurationLoader.create().addProperties(Map.of(
+                        StartupRecorder.ENABLED_PROPERTY, "true",
+                        StartupRecorder.OUTPUT_PROPERTY, output.toString())))
+                .scanPackages("com.alamafa.di.preinit")
+                .build();
+
+        bootstrap.init(context);
+        context.get(BeanRegistry.class).get(Catalog.class);
+
+        List<StartupRecorder.Record> records = recorder.records();
+        assertTrue(records.stream().anyMatch(record -> record.category().equals("scan")
+                && record.name().equals("components com.alamafa.di.preinit")), "records=" + records);
+        StartupRecorder.Record catalog = find(records, Catalog.class.getName());
+        StartupRecorder.Record inventory = find(records, Inventory.class.getName());
+        assertEquals(catalog.id(), inventory.parentId());
+
+        assertEquals(output, recorder.complete());
+        assertTrue(Files.readString(output).contains(Catalog.class.getName()));
+    }
+
+    @Test
+    void emitsFlightRecorderEventsForBeanCreation() throws Exception {
+        Path file = directory.resolve("beans.jfr");
+        ApplicationContext context = new ApplicationContext();
+        DiRuntimeBootstrap bootstrap = DiRuntimeBootstrap.builder()
+                .withConfigurationLoader(ConfigurationLoader.create())
+                .scanPackages("com.alamafa.di.preinit")
+                .build();
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.alamafa.BeanCreation").withoutThreshold();
+            recording.start();
+            bootstrap.init(context);
+            context.get(BeanRegistry.class).get(Catalog.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent catalog = events.stream()
+                .filter(event -> event.getClass("beanType").getName().equals(Catalog.class.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no creation event for Catalog in " + events));
+        assertEquals("SINGLETON", catalog.getString("scope"));
+        assertTrue(catalog.getBoolean("success"));
+        assertTrue(events.stream()
+                .anyMatch(event -> event.getClass("beanType").getName().equals(Inventory.class.getName())));
+    }
+
+    private static StartupRecorder.Record find(List<StartupRecorder.Record> records, String name) {
+        return records.stream()
+                .filter(record -> record.category().equals("bean") && record.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no bean span " + name + " in " + records));
+    }
+}
@@ -0,0 +1,23 @@
+package com.alamafa.di.indexed;
+
+import com.alamafa.di.annotation.Component;
+import com.alamafa.di.annotation.Inject;
+
+@Component
+public class GeneratedTarget {
+    private final IndexedOnlyService service;
+    @Inject
+    IndexedConfiguration.Marker marker;
+
+    public GeneratedTarget(IndexedOnlyService service) {
+        this.service = service;
+    }
+
+    public IndexedOnlyService service() {
+        return service;
+    }
+
+    public IndexedConfiguration.Marker marker() {
+        return marker;
+    }
+}
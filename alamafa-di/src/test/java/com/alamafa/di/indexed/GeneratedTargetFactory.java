@@ -0,0 +1,35 @@
+package com.alamafa.di.indexed;
+
+import com.alamafa.di.aot.ComponentFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 模拟处理器生成的工厂，记录调用次数。
+ */
+public final class GeneratedTargetFactory implements ComponentFactory<GeneratedTarget> {
+    public static final AtomicInteger CREATED = new AtomicInteger();
+    public static final AtomicInteger INJECTED = new AtomicInteger();
+
+    @Override
+    public String constructor() {
+        return IndexedOnlyService.class.getName();
+    }
+
+    @Override
+    public GeneratedTarget newInstance(Object[] args) {
+        CREATED.incrementAndGet();
+        return new GeneratedTarget((IndexedOnlyService) args[0]);
+    }
+
+    @Override
+    public boolean injects(String field) {
+        return (GeneratedTarget.class.getName() + "#marker").equals(field);
+    }
+
+    @Override
+    public void inject(GeneratedTarget instance, String field, Object value) {
+        INJECTED.incrementAndGet();
+        instance.marker = (IndexedConfiguration.Marker) value;
+    }
+}
@@ -0,0 +1,16 @@
+package com.alamafa.di.indexed;
+
+import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.annotation.Configuration;
+
+@Configuration
+public class IndexedConfiguration {
+
+    @Bean
+    public Marker marker() {
+        return new Marker();
+    }
+
+    public static class Marker {
+    }
+}
@@ -0,0 +1,7 @@
+package com.alamafa.di.indexed;
+
+/**
+ * 未标注注解，仅通过组件索引注册。
+ */
+public class IndexedOnlyService {
+}
@@ -0,0 +1,7 @@
+package com.alamafa.di.parallel.alpha;
+
+import com.alamafa.di.annotation.Component;
+
+@Component
+public class AlphaOne {
+}
@@ -0,0 +1,13 @@
+package com.alamafa.di.parallel.beta;
+
+import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.annotation.Configuration;
+
+@Configuration
+public class BetaConfiguration {
+
+    @Bean(name = "betaLabel")
+    public String betaLabel() {
+        return "beta";
+    }
+}
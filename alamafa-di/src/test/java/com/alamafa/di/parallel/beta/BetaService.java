@@ -0,0 +1,17 @@
+package com.alamafa.di.parallel.beta;
+
+import com.alamafa.di.annotation.Service;
+import com.alamafa.di.parallel.alpha.AlphaOne;
+
+@Service
+public class BetaService {
+    private final AlphaOne alpha;
+
+    public BetaService(AlphaOne alpha) {
+        this.alpha = alpha;
+    }
+
+    public AlphaOne alpha() {
+        return alpha;
+    }
+}
@@ -0,0 +1,7 @@
+package com.alamafa.di.prefilter;
+
+import com.alamafa.di.annotation.Service;
+
+@Service("annotatedService")
+public class AnnotatedService {
+}
@@ -0,0 +1,5 @@
+package com.alamafa.di.prefilter;
+
+@Marker
+public class PlainHelper {
+}
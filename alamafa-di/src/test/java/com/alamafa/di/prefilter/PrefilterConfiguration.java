@@ -0,0 +1,13 @@
+package com.alamafa.di.prefilter;
+
+import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.annotation.Configuration;
+
+@Configuration
+public class PrefilterConfiguration {
+
+    @Bean(name = "prefilterLabel")
+    public String label() {
+        return "prefilter";
+    }
+}
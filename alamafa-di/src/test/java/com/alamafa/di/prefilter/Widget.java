@@ -0,0 +1,14 @@
+package com.alamafa.di.prefilter;
+
+import com.alamafa.di.annotation.Service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Service
+public @interface Widget {
+}
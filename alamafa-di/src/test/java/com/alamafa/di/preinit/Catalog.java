@@ -0,0 +1,21 @@
+package com.alamafa.di.preinit;
+
+import com.alamafa.di.annotation.Component;
+import com.alamafa.di.annotation.Inject;
+
+@Component
+public class Catalog {
+    private final Inventory inventory;
+
+    @Inject
+    PriceList prices;
+
+    public Catalog(Inventory inventory) {
+        this.inventory = inventory;
+        CreationLog.record(this);
+    }
+
+    public Inventory inventory() {
+        return inventory;
+    }
+}
@@ -0,0 +1,22 @@
+package com.alamafa.di.preinit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public final class CreationLog {
+    public static final List<String> CREATED = new CopyOnWriteArrayList<>();
+    public static final List<String> THREADS = new CopyOnWriteArrayList<>();
+
+    private CreationLog() {
+    }
+
+    public static void record(Object bean) {
+        CREATED.add(bean.getClass().getSimpleName());
+        THREADS.add(Thread.currentThread().getName());
+    }
+
+    public static void clear() {
+        CREATED.clear();
+        THREADS.clear();
+    }
+}
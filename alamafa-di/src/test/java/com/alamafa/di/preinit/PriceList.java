@@ -0,0 +1,10 @@
+package com.alamafa.di.preinit;
+
+import com.alamafa.di.annotation.Component;
+
+@Component
+public class PriceList {
+    public PriceList() {
+        CreationLog.record(this);
+    }
+}
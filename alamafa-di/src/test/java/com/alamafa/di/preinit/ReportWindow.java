@@ -0,0 +1,10 @@
+package com.alamafa.di.preinit;
+
+import com.alamafa.di.annotation.Component;
+
+@Component(lazy = true)
+public class ReportWindow {
+    public ReportWindow() {
+        CreationLog.record(this);
+    }
+}
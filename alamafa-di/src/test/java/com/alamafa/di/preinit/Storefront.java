@@ -0,0 +1,14 @@
+package com.alamafa.di.preinit;
+
+public class Storefront {
+    private final Catalog catalog;
+
+    public Storefront(Catalog catalog) {
+        this.catalog = catalog;
+        CreationLog.record(this);
+    }
+
+    public Catalog catalog() {
+        return catalog;
+    }
+}
@@ -0,0 +1,13 @@
+package com.alamafa.di.preinit;
+
+import com.alamafa.di.annotation.Bean;
+import com.alamafa.di.annotation.Configuration;
+
+@Configuration
+public class StorefrontConfiguration {
+
+    @Bean
+    public Storefront storefront(Catalog catalog) {
+        return new Storefront(catalog);
+    }
+}
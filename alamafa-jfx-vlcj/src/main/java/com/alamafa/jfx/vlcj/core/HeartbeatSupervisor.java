@@ -0,0 +1,236 @@
+package com.alamafa.jfx.vlcj.core;
+
+import com.alamafa.di.annotation.Component;
+import com.alamafa.di.annotation.PreDestroy;
+import com.alamafa.jfx.vlcj.ipc.MediaEvent;
+import com.alamafa.jfx.vlcj.ipc.MediaEventListener;
+import com.alamafa.jfx.vlcj.ipc.MediaEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 所有媒体终端共用的心跳监视器，基于哈希时间轮。
+ * <p>
+ * 每个终端登记一个 {@link Lease}，收到心跳时只刷新基于 {@link System#nanoTime()} 的截止时间（O(1)，无锁）；
+ * 单个守护线程按刻度推进时间轮，到期槽位中截止时间已被推后的租约重新入槽，真正超时的租约向回调发出
+ * {@link MediaEventType#ERROR} 事件并注销。超时最多延迟一个刻度，从不提前。
+ */
+@Component
+public class HeartbeatSupervisor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HeartbeatSupervisor.class);
+    private static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final ArrayDeque<Lease>[] wheel;
+    private final int mask;
+    private final Queue<Lease> registrations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Object lifecycle = new Object();
+    private Thread worker;
+    private volatile boolean closed;
+    private long startNanos;
+    private long tick;
+
+    public HeartbeatSupervisor() {
+        this(DEFAULT_TICK, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * 以指定刻度与槽数（向上取 2 的幂）创建时间轮。
+     */
+    @SuppressWarnings("unchecked")
+    public HeartbeatSupervisor(Duration tick, int wheelSize) {
+        Objects.requireNonNull(tick, "tick must not be null");
+        if (tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("tick must be greater than 0");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 16) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 65536");
+        }
+        int slots = 1;
+        while (slots < wheelSize) {
+            slots <<= 1;
+        }
+        this.tickNanos = tick.toNanos();
+        this.wheel = new ArrayDeque[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = slots - 1;
+    }
+
+    /**
+     * 开始监视终端：{@code timeout} 内未调用 {@link Lease#beat()} 时向 {@code onTimeout} 发出超时事件并注销租约。
+     */
+    public Lease watch(UUID playerId, Duration timeout, MediaEventListener onTimeout) {
+        Objects.requireNonNull(playerId, "playerId must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        Objects.requireNonNull(onTimeout, "onTimeout must not be null");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must be greater than 0");
+        }
+        Lease lease = new Lease(playerId, timeout, onTimeout);
+        synchronized (lifecycle) {
+            if (closed) {
+                throw new IllegalStateException("Heartbeat supervisor is closed");
+            }
+            size.incrementAndGet();
+            registrations.add(lease);
+            if (worker == null) {
+                worker = new Thread(this::run, "vlcj-heartbeat-wheel");
+                worker.setDaemon(true);
+                worker.start();
+            } else {
+                LockSupport.unpark(worker);
+            }
+        }
+        return lease;
+    }
+
+    /**
+     * 返回正在监视的租约数。
+     */
+    public int size() {
+        return size.get();
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        Thread current;
+        synchronized (lifecycle) {
+            closed = true;
+            current = worker;
+        }
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    private void run() {
+        startNanos = System.nanoTime();
+        tick = 0;
+        while (!closed) {
+            if (size.get() == 0) {
+                LockSupport.park(this);
+                // 时间轮为空时可直接跳到当前刻度，无需逐格追赶
+                tick = (System.nanoTime() - startNanos) / tickNanos;
+                continue;
+            }
+            long wait = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            Lease lease;
+            while ((lease = registrations.poll()) != null) {
+                schedule(lease);
+            }
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+        for (ArrayDeque<Lease> slot : wheel) {
+            slot.clear();
+        }
+        registrations.clear();
+    }
+
+    private void expire(ArrayDeque<Lease> slot) {
+        for (int i = slot.size(); i > 0; i--) {
+            Lease lease = slot.pollFirst();
+            if (lease.cancelled.get()) {
+                continue;
+            }
+            if (lease.rounds > 0) {
+                lease.rounds--;
+                slot.addLast(lease);
+                continue;
+            }
+            if ((lease.deadline - startNanos) / tickNanos > tick) {
+                schedule(lease);
+                continue;
+            }
+            lease.fire();
+        }
+    }
+
+    /** 只在时间轮线程上调用。 */
+    private void schedule(Lease lease) {
+        if (lease.cancelled.get()) {
+            return;
+        }
+        long target = Math.max((lease.deadline - startNanos) / tickNanos, tick);
+        lease.rounds = (target - tick) / wheel.length;
+        wheel[(int) (target & mask)].addLast(lease);
+    }
+
+    /**
+     * 一个终端的心跳租约。
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final UUID playerId;
+        private final long timeoutNanos;
+        private final MediaEventListener onTimeout;
+        private volatile long deadline;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private long rounds;
+
+        private Lease(UUID playerId, Duration timeout, MediaEventListener onTimeout) {
+            this.playerId = playerId;
+            this.timeoutNanos = timeout.toNanos();
+            this.onTimeout = onTimeout;
+            this.deadline = System.nanoTime() + timeoutNanos;
+        }
+
+        /**
+         * 记录一次心跳，把截止时间推迟到现在加超时时长。
+         */
+        public void beat() {
+            deadline = System.nanoTime() + timeoutNanos;
+        }
+
+        public UUID playerId() {
+            return playerId;
+        }
+
+        /**
+         * 停止监视，不再发出超时事件。
+         */
+        @Override
+        public void close() {
+            if (cancelled.compareAndSet(false, true)) {
+                size.decrementAndGet();
+            }
+        }
+
+        private void fire() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            size.decrementAndGet();
+            MediaEvent event = new MediaEvent(MediaEventType.ERROR, playerId, Instant.now(), Map.of(
+                    "message", "Heartbeat timeout",
+                    "timeoutMillis", timeoutNanos / 1_000_000L));
+            try {
+                onTimeout.onEvent(event);
+            } catch (RuntimeException ex) {
+                log.warn("Heartbeat timeout handler failed for player {}", playerId, ex);
+            }
+        }
+    }
+}
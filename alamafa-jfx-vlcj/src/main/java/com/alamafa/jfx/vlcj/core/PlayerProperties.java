@@ -2,6 +2,8 @@ package com.alamafa.jfx.vlcj.core;
 
 import com.alamafa.config.ConfigurationProperties;
 import com.alamafa.di.annotation.Component;
+import com.alamafa.jfx.vlcj.ipc.MediaTransport;
+import com.alamafa.jfx.vlcj.ipc.MediaWireFormat;
 
 /**
  * 配置默认播放窗口参数 & 媒体源。
@@ -17,6 +19,9 @@ public class PlayerProperties {
     private int heartbeatTimeoutSeconds = 10;
     private boolean autoRestartOnHeartbeatLoss = true;
     private Mode mode = Mode.EXTERNAL;
+    private MediaWireFormat ipcFormat = MediaWireFormat.BINARY;
+    private MediaTransport ipcTransport = MediaTransport.SOCKET;
+    private Pool pool = new Pool();
 
     public String getDefaultMediaUrl() {
         return defaultMediaUrl;
@@ -74,6 +79,10 @@ public class PlayerProperties {
         return mode;
     }
 
+    public void setMode(Mode mode) {
+        this.mode = mode == null ? Mode.EXTERNAL : mode;
+    }
+
     public void setMode(String mode) {
         if (mode == null || mode.isBlank()) {
             this.mode = Mode.EXTERNAL;
@@ -86,15 +95,93 @@ public class PlayerProperties {
         }
     }
 
+    public MediaWireFormat getIpcFormat() {
+        return ipcFormat;
+    }
+
+    public void setIpcFormat(MediaWireFormat ipcFormat) {
+        this.ipcFormat = ipcFormat == null ? MediaWireFormat.BINARY : ipcFormat;
+    }
+
+    public MediaTransport getIpcTransport() {
+        return ipcTransport;
+    }
+
+    public void setIpcTransport(MediaTransport ipcTransport) {
+        this.ipcTransport = ipcTransport == null ? MediaTransport.SOCKET : ipcTransport;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool == null ? new Pool() : pool;
+    }
+
     public enum Mode {
         EXTERNAL,
         EMBEDDED
     }
 
-    private int validatePositive(int value, String field) {
+    private static int validatePositive(int value, String field) {
         if (value <= 0) {
             throw new IllegalArgumentException(field + " must be greater than 0");
         }
         return value;
     }
+
+    private static int validateNotNegative(int value, String field) {
+        if (value < 0) {
+            throw new IllegalArgumentException(field + " must not be negative");
+        }
+        return value;
+    }
+
+    /**
+     * 预启动的外部播放器进程池（{@code player.pool.*}），{@code maxSize} 为 0 时不启用。
+     */
+    public static class Pool {
+
+        private int minSize = 0;
+        private int maxSize = 0;
+        private int maxIdleSeconds = 600;
+
+        /**
+         * 保持预热的空闲进程数。
+         */
+        public int getMinSize() {
+            return minSize;
+        }
+
+        public void setMinSize(int minSize) {
+            this.minSize = validateNotNegative(minSize, "pool.minSize");
+        }
+
+        /**
+         * 最多保留的空闲进程数，归还时超出的进程直接关闭。
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = validateNotNegative(maxSize, "pool.maxSize");
+        }
+
+        /**
+         * 空闲进程的最长保留时间，超时后只关闭多于 {@code minSize} 的空闲进程。
+         */
+        public int getMaxIdleSeconds() {
+            return maxIdleSeconds;
+        }
+
+        public void setMaxIdleSeconds(int maxIdleSeconds) {
+            this.maxIdleSeconds = validatePositive(maxIdleSeconds, "pool.maxIdleSeconds");
+        }
+
+        public boolean isEnabled() {
+            return maxSize > 0;
+        }
+    }
 }
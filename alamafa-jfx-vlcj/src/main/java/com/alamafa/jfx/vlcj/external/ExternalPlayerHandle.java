@@ -1,8 +1,7 @@
 package com.alamafa.jfx.vlcj.external;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+
+import com.alamafa.jfx.vlcj.ipc.MediaIoReactor;
+
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
@@ -44,25 +43,15 @@ public final class ExternalPlayerHandle {
         return process.onExit().whenComplete((p, err) -> callback.run());
     }
 
+    /**
+     * 由共享的 {@link MediaIoReactor} 按行转发进程标准输出，进程退出时读完剩余输出后停止。
+     */
     public void pipeOutputAsync(Consumer<String> consumer) {
         Objects.requireNonNull(consumer, "consumer must not be null");
-        Thread stdoutThread = new Thread(() -> readStream(process.getInputStream(), consumer), "vlcj-player-" + playerId);
-        stdoutThread.setDaemon(true);
-        stdoutThread.start();
+        MediaIoReactor.shared().poll(process.getInputStream(), process.onExit(), MediaIoReactor.lines(consumer));
     }
 
     public void close() {
         process.destroy();
     }
-
-    private void readStream(java.io.InputStream stream, Consumer<String> consumer) {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                consumer.accept(line);
-            }
-        } catch (IOException ignored) {
-            // ignore
-        }
-    }
 }
@@ -1,23 +1,33 @@
 package com.alamafa.jfx.vlcj.external;
 
+import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.metrics.MetricsRegistry;
 import com.alamafa.di.annotation.Component;
 import com.alamafa.di.annotation.Inject;
+import com.alamafa.di.annotation.PostConstruct;
+import com.alamafa.di.annotation.PreDestroy;
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
 import com.alamafa.jfx.vlcj.core.MediaEndpoint;
 import com.alamafa.jfx.vlcj.core.MediaEndpointFactory;
 import com.alamafa.jfx.vlcj.core.MediaEventDispatcher;
 import com.alamafa.jfx.vlcj.core.MediaSource;
 import com.alamafa.jfx.vlcj.core.PlayerLaunchRequest;
 import com.alamafa.jfx.vlcj.core.PlayerProperties;
+import com.alamafa.jfx.vlcj.ipc.MediaCommand;
 import com.alamafa.jfx.vlcj.ipc.MediaCommandChannel;
 import com.alamafa.jfx.vlcj.ipc.MediaEventChannel;
-import com.alamafa.jfx.vlcj.ipc.StdioCommandChannel;
-import com.alamafa.jfx.vlcj.ipc.StdioEventChannel;
+import com.alamafa.jfx.vlcj.ipc.MediaTransport;
+import com.alamafa.jfx.vlcj.ipc.MediaWireFormat;
+import com.alamafa.jfx.vlcj.ipc.SocketMediaChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * 负责创建承载 vlcj 播放窗口的外部 Java 进程。
@@ -36,31 +46,158 @@ public class ExternalPlayerLauncher implements MediaEndpointFactory {
     @Inject
     private ExternalProcessRegistry processRegistry;
 
+    @Inject
+    private ApplicationContext context;
+
+    @Inject
+    private HeartbeatSupervisor heartbeatSupervisor;
+
+    private volatile ExternalPlayerPool pool;
+
+    /**
+     * 配置了 {@code player.pool.*} 时创建进程池并预启动空闲进程。
+     */
+    @PostConstruct
+    public void startPool() {
+        PlayerProperties.Pool properties = playerProperties.getPool();
+        if (!properties.isEnabled() || pool != null) {
+            return;
+        }
+        ExternalPlayerPool created = new ExternalPlayerPool(properties,
+                Duration.ofSeconds(playerProperties.getHeartbeatTimeoutSeconds()), heartbeatSupervisor,
+                () -> spawn(idleRequest(), true));
+        pool = created;
+        created.fill();
+    }
+
+    @PreDestroy
+    public void closePool() {
+        ExternalPlayerPool current = pool;
+        pool = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
     @Override
     public MediaEndpoint launch(PlayerLaunchRequest request) {
-        List<String> command = buildCommand(request);
-        ProcessBuilder builder = new ProcessBuilder(command);
-        builder.directory(new File(System.getProperty("user.dir")));
-        builder.redirectErrorStream(true);
+        ExternalPlayerPool hostPool = pool;
+        if (hostPool != null) {
+            return launchPooled(hostPool, request);
+        }
+        PlayerHostProcess host = spawn(request, false);
         try {
-            Process process = builder.start();
-            ExternalPlayerHandle handle = new ExternalPlayerHandle(request.getPlayerId(), process);
-            handle.pipeOutputAsync(line -> log.debug("[player:{}] {}", request.getPlayerId(), line));
-            log.info("Started external player {} (pid={} media={})", request.getPlayerId(), process.pid(), request.getMediaUrl());
-            processRegistry.register(handle);
-            MediaCommandChannel commandChannel = new StdioCommandChannel(process.getOutputStream());
-            MediaEventChannel eventChannel = new StdioEventChannel(process.getErrorStream());
-            ExternalProcessEndpoint endpoint = new ExternalProcessEndpoint(handle, commandChannel, eventChannel, eventDispatcher, playerProperties, processRegistry);
+            ExternalProcessEndpoint endpoint = new ExternalProcessEndpoint(host.handle(), host.commandChannel(),
+                    host.eventChannel(), eventDispatcher, playerProperties, processRegistry, heartbeatSupervisor);
             if (!request.getMediaUrl().isBlank()) {
                 endpoint.play(MediaSource.of(request.getMediaUrl()));
             }
             return endpoint;
+        } catch (RuntimeException ex) {
+            host.destroy();
+            throw new IllegalStateException("Failed to launch external player process", ex);
+        }
+    }
+
+    /**
+     * 从进程池租用空闲进程，没有空闲进程时启动一个可归还的新进程，再用一条 PLAY 命令改换目标。
+     */
+    private MediaEndpoint launchPooled(ExternalPlayerPool hostPool, PlayerLaunchRequest request) {
+        PlayerHostProcess leased = hostPool.lease();
+        PlayerHostProcess host = leased != null ? leased : spawn(idleRequest(), true);
+        if (leased == null) {
+            host.lease();
+        }
+        UUID playerId = request.getPlayerId();
+        ExternalProcessEndpoint endpoint;
+        try {
+            // 先发送 PLAY，失败时进程尚未交给终端，可直接交回进程池淘汰；期间的事件由进程暂存
+            host.send(MediaCommand.play(playerId, request.getMediaUrl(), request.getWindowTitle(),
+                    request.getWidth(), request.getHeight()));
+            endpoint = new ExternalProcessEndpoint(playerId, host, eventDispatcher, playerProperties,
+                    heartbeatSupervisor, () -> hostPool.release(host, playerId));
+        } catch (RuntimeException ex) {
+            hostPool.discard(host);
+            throw new IllegalStateException("Failed to lease external player process", ex);
+        }
+        log.info("Leased {} player host pid={} for {} (media={})", leased != null ? "pre-started" : "new",
+                host.handle().pid(), playerId, request.getMediaUrl());
+        return endpoint;
+    }
+
+    /**
+     * 启动播放器进程并建立命令与事件信道；{@code pooled} 为 true 时进程先隐藏窗口，等待 PLAY 命令。
+     */
+    private PlayerHostProcess spawn(PlayerLaunchRequest request, boolean pooled) {
+        MediaWireFormat format = playerProperties.getIpcFormat();
+        MetricsRegistry metrics = MetricsRegistry.of(context);
+        SocketMediaChannel socket = playerProperties.getIpcTransport() == MediaTransport.SOCKET
+                ? openSocket(request, metrics)
+                : null;
+        List<String> command = buildCommand(request, socket != null ? MediaWireFormat.BINARY : format);
+        if (socket != null) {
+            command.add(socket.argument());
+        }
+        if (pooled) {
+            command.add("--pooled=true");
+        }
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(new File(System.getProperty("user.dir")));
+        // 套接字模式下 stderr 只剩日志与 libVLC 输出，合并到 stdout 由同一线程排空
+        builder.redirectErrorStream(socket != null);
+        if (socket != null) {
+            builder.environment().put(SocketMediaChannel.TOKEN_ENVIRONMENT, socket.token());
+        }
+        Process process = null;
+        ExternalPlayerHandle handle = null;
+        try {
+            process = builder.start();
+            handle = new ExternalPlayerHandle(request.getPlayerId(), process);
+            handle.pipeOutputAsync(line -> log.debug("[player:{}] {}", request.getPlayerId(), line));
+            log.info("Started external player {} (pid={} media={} pooled={})",
+                    request.getPlayerId(), process.pid(), request.getMediaUrl(), pooled);
+            processRegistry.register(handle);
+            MediaCommandChannel commandChannel = socket != null
+                    ? socket
+                    : format.commandChannel(process.getOutputStream(), metrics);
+            MediaEventChannel eventChannel = socket != null
+                    ? socket
+                    : format.eventChannel(process, metrics);
+            return new PlayerHostProcess(handle, commandChannel, eventChannel, processRegistry);
         } catch (Exception ex) {
+            // 进程已启动但信道建立失败时结束进程，否则它会脱离管理一直运行
+            if (handle != null) {
+                processRegistry.unregister(handle);
+            }
+            if (process != null) {
+                process.destroyForcibly();
+            }
+            if (socket != null) {
+                socket.close();
+            }
             throw new IllegalStateException("Failed to launch external player process", ex);
         }
     }
 
-    private List<String> buildCommand(PlayerLaunchRequest request) {
+    private PlayerLaunchRequest idleRequest() {
+        return PlayerLaunchRequest.builder()
+                .width(playerProperties.getWindowWidth())
+                .height(playerProperties.getWindowHeight())
+                .build();
+    }
+
+    /** 平台不支持 Unix 域套接字或无法创建套接字文件时回退为标准输入输出。 */
+    private SocketMediaChannel openSocket(PlayerLaunchRequest request, MetricsRegistry metrics) {
+        try {
+            return SocketMediaChannel.open(request.getPlayerId(), metrics);
+        } catch (IOException | UnsupportedOperationException ex) {
+            log.warn("Unix domain socket unavailable for player {}, falling back to stdio: {}",
+                    request.getPlayerId(), ex.toString());
+            return null;
+        }
+    }
+
+    private List<String> buildCommand(PlayerLaunchRequest request, MediaWireFormat format) {
         List<String> command = new ArrayList<>();
         command.add(resolveJavaExecutable());
         command.add("-cp");
@@ -69,6 +206,7 @@ public class ExternalPlayerLauncher implements MediaEndpointFactory {
         command.add("--playerId=" + request.getPlayerId());
         command.add("--width=" + request.getWidth());
         command.add("--height=" + request.getHeight());
+        command.add(format.argument());
         if (!request.getWindowTitle().isBlank()) {
             command.add("--title=" + request.getWindowTitle());
         }
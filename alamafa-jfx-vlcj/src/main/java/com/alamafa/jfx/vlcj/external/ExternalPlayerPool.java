@@ -0,0 +1,216 @@
+package com.alamafa.jfx.vlcj.external;
+
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
+import com.alamafa.jfx.vlcj.core.PlayerProperties;
+import com.alamafa.jfx.vlcj.ipc.MediaCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 预启动的外部播放器进程池。
+ * <p>
+ * 保持 {@code minSize} 个已完成 JVM、JavaFX 与 libVLC 初始化的空闲进程，租出时只需发送一条 PLAY 命令改换目标。
+ * 终端关闭后进程收到 RELEASE 命令回到池中，空闲进程超过 {@code maxSize} 时直接关闭。
+ * 空闲进程退出或心跳超时时被淘汰，并在该进程曾经正常响应时补充新进程，以免启动即崩溃的进程被反复拉起；
+ * 空闲超过 {@code maxIdleSeconds} 的进程只在空闲数多于 {@code minSize} 时关闭。
+ */
+final class ExternalPlayerPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExternalPlayerPool.class);
+
+    private final Supplier<PlayerHostProcess> spawner;
+    private final HeartbeatSupervisor supervisor;
+    private final int minSize;
+    private final int maxSize;
+    private final Duration heartbeatTimeout;
+    private final Duration maxIdle;
+    private final ArrayDeque<PlayerHostProcess> idle = new ArrayDeque<>();
+    private int starting;
+    private boolean closed;
+
+    ExternalPlayerPool(PlayerProperties.Pool properties,
+                       Duration heartbeatTimeout,
+                       HeartbeatSupervisor supervisor,
+                       Supplier<PlayerHostProcess> spawner) {
+        this.spawner = spawner;
+        this.supervisor = supervisor;
+        this.maxSize = properties.getMaxSize();
+        this.minSize = Math.min(properties.getMinSize(), maxSize);
+        this.heartbeatTimeout = heartbeatTimeout;
+        this.maxIdle = Duration.ofSeconds(properties.getMaxIdleSeconds());
+    }
+
+    /**
+     * 取出一个存活的空闲进程并触发补充；没有空闲进程时返回 null。
+     */
+    PlayerHostProcess lease() {
+        List<PlayerHostProcess> dead = new ArrayList<>();
+        PlayerHostProcess host;
+        synchronized (this) {
+            while ((host = idle.pollFirst()) != null && !host.isAlive()) {
+                dead.add(host);
+            }
+        }
+        dead.forEach(PlayerHostProcess::destroy);
+        if (host != null) {
+            host.lease();
+        }
+        fill();
+        return host;
+    }
+
+    /**
+     * 把终端用完的进程放回池中；进程已退出、池已满或已关闭时结束该进程。
+     */
+    void release(PlayerHostProcess host, UUID playerId) {
+        if (!host.isAlive() || !reserve()) {
+            discard(host);
+            return;
+        }
+        try {
+            host.send(MediaCommand.release(playerId));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to release pooled player host {}, closing it", host.handle().pid(), ex);
+            unreserve();
+            discard(host);
+            return;
+        }
+        park(host);
+    }
+
+    /**
+     * 结束租出后无法交给终端的进程，并按 {@code minSize} 补充。
+     */
+    void discard(PlayerHostProcess host) {
+        host.destroy();
+        fill();
+    }
+
+    /**
+     * 按 {@code minSize} 异步补充空闲进程。
+     */
+    void fill() {
+        int missing;
+        synchronized (this) {
+            missing = closed ? 0 : minSize - idle.size() - starting;
+            if (missing <= 0) {
+                return;
+            }
+            starting += missing;
+        }
+        for (int i = 0; i < missing; i++) {
+            Thread.ofVirtual().name("vlcj-pool-spawn").start(this::spawnIdle);
+        }
+    }
+
+    /**
+     * 返回当前空闲进程数。
+     */
+    synchronized int idleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        List<PlayerHostProcess> remaining;
+        synchronized (this) {
+            closed = true;
+            remaining = new ArrayList<>(idle);
+            idle.clear();
+        }
+        remaining.forEach(PlayerHostProcess::destroy);
+    }
+
+    private void spawnIdle() {
+        PlayerHostProcess host = null;
+        try {
+            host = spawner.get();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to pre-start pooled player host", ex);
+        }
+        if (host == null) {
+            unreserve();
+            return;
+        }
+        park(host);
+    }
+
+    /** 预留一个空闲位，由随后的 {@link #park} 占用；{@code starting} 计入正在启动与等待入池的进程。 */
+    private synchronized boolean reserve() {
+        if (closed || idle.size() + starting >= maxSize) {
+            return false;
+        }
+        starting++;
+        return true;
+    }
+
+    private synchronized void unreserve() {
+        starting--;
+    }
+
+    /** 按需启动后归还的进程同样经由这里入池，因此退出淘汰在此登记而不是在预启动时。 */
+    private void park(PlayerHostProcess host) {
+        UUID hostId = host.handle().getPlayerId();
+        host.park(supervisor.watch(hostId, heartbeatTimeout, event -> evict(host, "heartbeat timeout")),
+                watchAge(host),
+                () -> evict(host, "exited"));
+        boolean parked;
+        synchronized (this) {
+            starting--;
+            parked = !closed;
+            if (parked) {
+                idle.addFirst(host);
+            }
+        }
+        if (!parked) {
+            host.destroy();
+        } else if (!host.isAlive()) {
+            evict(host, "exited");
+        }
+    }
+
+    private HeartbeatSupervisor.Lease watchAge(PlayerHostProcess host) {
+        return supervisor.watch(host.handle().getPlayerId(), maxIdle, event -> retire(host));
+    }
+
+    /**
+     * 空闲超时只回收超出 {@code minSize} 的进程；其余进程的存活已由心跳与退出检查保证，重新计时即可，
+     * 以免健康的空闲进程被周期性地关闭再重启。
+     */
+    private void retire(PlayerHostProcess host) {
+        synchronized (this) {
+            if (!idle.contains(host)) {
+                return;
+            }
+            if (idle.size() <= minSize) {
+                host.renewAge(watchAge(host));
+                return;
+            }
+        }
+        evict(host, "idle for " + maxIdle.toSeconds() + "s");
+    }
+
+    private void evict(PlayerHostProcess host, String reason) {
+        boolean removed;
+        synchronized (this) {
+            removed = idle.remove(host);
+        }
+        if (!removed) {
+            return;
+        }
+        log.info("Evicting pooled player host {} ({})", host.handle().pid(), reason);
+        host.destroy();
+        if (host.isResponsive()) {
+            fill();
+        } else {
+            log.warn("Pooled player host {} never sent a heartbeat, not replacing it", host.handle().pid());
+        }
+    }
+}
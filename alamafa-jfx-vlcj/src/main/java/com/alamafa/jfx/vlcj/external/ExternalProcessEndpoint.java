@@ -1,5 +1,6 @@
 package com.alamafa.jfx.vlcj.external;
 
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
 import com.alamafa.jfx.vlcj.core.MediaEndpoint;
 import com.alamafa.jfx.vlcj.core.MediaEventDispatcher;
 import com.alamafa.jfx.vlcj.core.MediaSource;
@@ -13,26 +14,25 @@ import com.alamafa.jfx.vlcj.ipc.MediaEventType;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
  * 将外部进程句柄与命令信道组合为可控终端。
  */
 public final class ExternalProcessEndpoint implements MediaEndpoint {
 
+    private final UUID playerId;
     private final ExternalPlayerHandle handle;
     private final MediaCommandChannel commandChannel;
     private final MediaEventChannel eventChannel;
     private final MediaEventDispatcher dispatcher;
-    private final Duration heartbeatTimeout;
-    private final ScheduledExecutorService scheduler;
-    private volatile Instant lastHeartbeat;
-    private final ExternalProcessRegistry processRegistry;
+    private final HeartbeatSupervisor.Lease heartbeat;
+    private final Runnable release;
+    private final CompletableFuture<Process> exit;
     private MediaEventListener listener;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -41,26 +41,53 @@ public final class ExternalProcessEndpoint implements MediaEndpoint {
                                   MediaEventChannel eventChannel,
                                   MediaEventDispatcher dispatcher,
                                   PlayerProperties properties,
-                                  ExternalProcessRegistry processRegistry) {
+                                  ExternalProcessRegistry processRegistry,
+                                  HeartbeatSupervisor heartbeatSupervisor) {
+        this(handle.getPlayerId(), handle, commandChannel, eventChannel, dispatcher, properties, heartbeatSupervisor,
+                () -> {
+                    processRegistry.unregister(handle);
+                    handle.close();
+                },
+                handle::onExit);
+    }
+
+    /**
+     * 以指定播放器标识租用进程池中的进程，关闭时执行 {@code release}（例如归还到进程池）而不是结束进程。
+     * 退出通知经由 {@link PlayerHostProcess#attach} 只绑定到本次租约。
+     */
+    ExternalProcessEndpoint(UUID playerId,
+                            PlayerHostProcess host,
+                            MediaEventDispatcher dispatcher,
+                            PlayerProperties properties,
+                            HeartbeatSupervisor heartbeatSupervisor,
+                            Runnable release) {
+        this(playerId, host.handle(), host.commandView(), host.eventView(), dispatcher, properties,
+                heartbeatSupervisor, release, host::attach);
+    }
+
+    private ExternalProcessEndpoint(UUID playerId,
+                                    ExternalPlayerHandle handle,
+                                    MediaCommandChannel commandChannel,
+                                    MediaEventChannel eventChannel,
+                                    MediaEventDispatcher dispatcher,
+                                    PlayerProperties properties,
+                                    HeartbeatSupervisor heartbeatSupervisor,
+                                    Runnable release,
+                                    Function<Runnable, CompletableFuture<Process>> exitHook) {
+        this.playerId = playerId;
         this.handle = handle;
         this.commandChannel = commandChannel;
         this.eventChannel = eventChannel;
         this.dispatcher = dispatcher;
-        this.processRegistry = processRegistry;
-        this.heartbeatTimeout = Duration.ofSeconds(properties.getHeartbeatTimeoutSeconds());
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "vlcj-heartbeat-monitor-" + handle.getPlayerId());
-            t.setDaemon(true);
-            return t;
-        });
-        this.lastHeartbeat = Instant.now();
-        scheduler.scheduleAtFixedRate(this::checkHeartbeat, heartbeatTimeout.toSeconds(), heartbeatTimeout.toSeconds(), java.util.concurrent.TimeUnit.SECONDS);
-        handle.onExit(this::closeQuietly);
+        this.release = release;
+        this.heartbeat = heartbeatSupervisor.watch(playerId,
+                Duration.ofSeconds(properties.getHeartbeatTimeoutSeconds()), this::onHeartbeatTimeout);
+        this.exit = exitHook.apply(this::closeQuietly);
     }
 
     @Override
     public UUID getPlayerId() {
-        return handle.getPlayerId();
+        return playerId;
     }
 
     @Override
@@ -80,7 +107,8 @@ public final class ExternalProcessEndpoint implements MediaEndpoint {
 
     @Override
     public CompletableFuture<Process> onExit(Runnable callback) {
-        return handle.onExit(callback);
+        Objects.requireNonNull(callback, "callback must not be null");
+        return exit.whenComplete((process, err) -> callback.run());
     }
 
     @Override
@@ -95,7 +123,7 @@ public final class ExternalProcessEndpoint implements MediaEndpoint {
 
     private void handleEvent(MediaEvent event) {
         if (event.type() == MediaEventType.HEARTBEAT) {
-            lastHeartbeat = Instant.now();
+            heartbeat.beat();
         }
         if (listener != null) {
             listener.onEvent(event);
@@ -105,19 +133,9 @@ public final class ExternalProcessEndpoint implements MediaEndpoint {
         }
     }
 
-    private void checkHeartbeat() {
-        if (heartbeatTimeout.isZero() || heartbeatTimeout.isNegative()) {
-            return;
-        }
-        Instant heartbeat = lastHeartbeat;
-        if (heartbeat == null) {
-            return;
-        }
-        if (Instant.now().isAfter(heartbeat.plus(heartbeatTimeout))) {
-            MediaEvent timeoutEvent = new MediaEvent(MediaEventType.ERROR, getPlayerId(), Instant.now(), Map.of("message", "Heartbeat timeout"));
-            handleEvent(timeoutEvent);
-            close();
-        }
+    private void onHeartbeatTimeout(MediaEvent timeoutEvent) {
+        handleEvent(timeoutEvent);
+        close();
     }
 
     @Override
@@ -166,9 +184,8 @@ public final class ExternalProcessEndpoint implements MediaEndpoint {
                     eventChannel.close();
                 }
             } finally {
-                scheduler.shutdownNow();
-                processRegistry.unregister(handle);
-                handle.close();
+                heartbeat.close();
+                release.run();
             }
         }
     }
@@ -0,0 +1,269 @@
+package com.alamafa.jfx.vlcj.external;
+
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
+import com.alamafa.jfx.vlcj.ipc.MediaCommand;
+import com.alamafa.jfx.vlcj.ipc.MediaCommandChannel;
+import com.alamafa.jfx.vlcj.ipc.MediaEvent;
+import com.alamafa.jfx.vlcj.ipc.MediaEventChannel;
+import com.alamafa.jfx.vlcj.ipc.MediaEventListener;
+import com.alamafa.jfx.vlcj.ipc.MediaEventType;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 一个已启动的播放器进程及其命令、事件信道。
+ * <p>
+ * 由进程池管理时，事件信道只启动一次：空闲期间心跳用于健康检查，租出期间事件转发给当前终端。
+ * 终端拿到的是信道视图，关闭视图只会解除绑定，不会关闭进程与底层信道。
+ * 进程退出回调只在创建时注册一次，退出时只通知当前持有租约的终端。
+ */
+final class PlayerHostProcess {
+
+    private static final int MAX_PENDING_EVENTS = 64;
+
+    private final ExternalPlayerHandle handle;
+    private final MediaCommandChannel commandChannel;
+    private final MediaEventChannel eventChannel;
+    private final ExternalProcessRegistry processRegistry;
+    private final ArrayDeque<MediaEvent> pending = new ArrayDeque<>();
+    private MediaEventListener target;
+    private boolean leased;
+    private boolean monitoring;
+    private volatile boolean responsive;
+    private volatile HeartbeatSupervisor.Lease idleHeartbeat;
+    private volatile HeartbeatSupervisor.Lease idleAge;
+    private Holder holder;
+
+    PlayerHostProcess(ExternalPlayerHandle handle,
+                      MediaCommandChannel commandChannel,
+                      MediaEventChannel eventChannel,
+                      ExternalProcessRegistry processRegistry) {
+        this.handle = handle;
+        this.commandChannel = commandChannel;
+        this.eventChannel = eventChannel;
+        this.processRegistry = processRegistry;
+        handle.onExit(this::exited);
+    }
+
+    ExternalPlayerHandle handle() {
+        return handle;
+    }
+
+    MediaCommandChannel commandChannel() {
+        return commandChannel;
+    }
+
+    MediaEventChannel eventChannel() {
+        return eventChannel;
+    }
+
+    boolean isAlive() {
+        return handle.isAlive();
+    }
+
+    /**
+     * 是否收到过该进程的心跳，用于区分启动即崩溃的进程。
+     */
+    boolean isResponsive() {
+        return responsive;
+    }
+
+    void send(MediaCommand command) {
+        commandChannel.send(command);
+    }
+
+    /**
+     * 进入空闲状态并开始健康检查，{@code heartbeat} 与 {@code age} 到期时由进程池处理该进程；
+     * 空闲期间进程退出时执行 {@code onExit}。
+     */
+    void park(HeartbeatSupervisor.Lease heartbeat, HeartbeatSupervisor.Lease age, Runnable onExit) {
+        detach();
+        synchronized (this) {
+            leased = false;
+            target = null;
+            pending.clear();
+            holder = new Holder(onExit, new CompletableFuture<>());
+            monitor();
+        }
+        idleHeartbeat = heartbeat;
+        idleAge = age;
+    }
+
+    /**
+     * 以新的空闲时长租约替换已到期的租约。
+     */
+    void renewAge(HeartbeatSupervisor.Lease age) {
+        HeartbeatSupervisor.Lease previous = idleAge;
+        idleAge = age;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * 结束空闲状态并停止健康检查，此后到达的事件暂存到终端开始监听为止。
+     */
+    void lease() {
+        detach();
+        closeLeases();
+        synchronized (this) {
+            leased = true;
+            monitor();
+        }
+    }
+
+    /**
+     * 登记当前持有租约的终端：进程在租约期间退出时执行 {@code onExit}。
+     * 返回的 future 在进程退出或租约结束（进程回到池中或被关闭）时完成，不会随进程的后续租约累积。
+     */
+    CompletableFuture<Process> attach(Runnable onExit) {
+        Holder current = new Holder(onExit, new CompletableFuture<>());
+        detach();
+        synchronized (this) {
+            holder = current;
+        }
+        if (!handle.isAlive()) {
+            exited();
+        }
+        return current.ended();
+    }
+
+    /**
+     * 终端使用的命令信道视图。
+     */
+    MediaCommandChannel commandView() {
+        return new MediaCommandChannel() {
+            @Override
+            public void send(MediaCommand command) {
+                commandChannel.send(command);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * 终端使用的事件信道视图。
+     */
+    MediaEventChannel eventView() {
+        return new MediaEventChannel() {
+            @Override
+            public void start(MediaEventListener listener) {
+                synchronized (PlayerHostProcess.this) {
+                    target = listener;
+                    while (!pending.isEmpty()) {
+                        listener.onEvent(pending.pollFirst());
+                    }
+                }
+            }
+
+            @Override
+            public void close() {
+                synchronized (PlayerHostProcess.this) {
+                    target = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * 关闭信道并结束进程。
+     */
+    void destroy() {
+        detach();
+        closeLeases();
+        try {
+            commandChannel.close();
+        } finally {
+            try {
+                if (eventChannel != commandChannel) {
+                    eventChannel.close();
+                }
+            } finally {
+                processRegistry.unregister(handle);
+                handle.close();
+            }
+        }
+    }
+
+    /** 调用方持有锁；底层事件信道只启动一次。 */
+    private void monitor() {
+        if (!monitoring) {
+            monitoring = true;
+            eventChannel.start(this::route);
+        }
+    }
+
+    private void route(MediaEvent event) {
+        if (event.type() == MediaEventType.HEARTBEAT) {
+            responsive = true;
+            HeartbeatSupervisor.Lease heartbeat = idleHeartbeat;
+            if (heartbeat != null) {
+                heartbeat.beat();
+            }
+        }
+        synchronized (this) {
+            if (target != null) {
+                target.onEvent(event);
+            } else if (leased) {
+                if (pending.size() == MAX_PENDING_EVENTS) {
+                    pending.removeFirst();
+                }
+                pending.addLast(event);
+            }
+        }
+    }
+
+    private void exited() {
+        Holder current;
+        synchronized (this) {
+            current = holder;
+        }
+        if (current != null) {
+            try {
+                current.onExit().run();
+            } finally {
+                end(current);
+            }
+        }
+    }
+
+    /** 解除当前终端，此后进程退出不再通知它。 */
+    private void detach() {
+        Holder current;
+        synchronized (this) {
+            current = holder;
+        }
+        if (current != null) {
+            end(current);
+        }
+    }
+
+    private void end(Holder current) {
+        synchronized (this) {
+            if (holder == current) {
+                holder = null;
+            }
+        }
+        current.ended().complete(null);
+    }
+
+    private void closeLeases() {
+        HeartbeatSupervisor.Lease heartbeat = idleHeartbeat;
+        HeartbeatSupervisor.Lease age = idleAge;
+        idleHeartbeat = null;
+        idleAge = null;
+        if (heartbeat != null) {
+            heartbeat.close();
+        }
+        if (age != null) {
+            age.close();
+        }
+    }
+
+    private record Holder(Runnable onExit, CompletableFuture<Process> ended) {
+    }
+}
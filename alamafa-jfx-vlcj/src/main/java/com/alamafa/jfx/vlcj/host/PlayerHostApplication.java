@@ -1,9 +1,14 @@
 package com.alamafa.jfx.vlcj.host;
 
+import com.alamafa.jfx.vlcj.ipc.BinaryMediaCodec;
 import com.alamafa.jfx.vlcj.ipc.MediaCommand;
 import com.alamafa.jfx.vlcj.ipc.MediaCommandType;
 import com.alamafa.jfx.vlcj.ipc.MediaEvent;
 import com.alamafa.jfx.vlcj.ipc.MediaEventType;
+import com.alamafa.jfx.vlcj.ipc.MediaJson;
+import com.alamafa.jfx.vlcj.ipc.MediaWireFormat;
+import com.alamafa.jfx.vlcj.ipc.SocketMediaChannel;
+import com.alamafa.jfx.vlcj.ipc.SocketMediaClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javafx.application.Application;
 import javafx.application.Platform;
@@ -17,12 +22,19 @@ import uk.co.caprica.vlcj.factory.MediaPlayerFactory;
 import com.alamafa.jfx.vlcj.embedded.PixelBufferVideoSurfaceFactory;
 import uk.co.caprica.vlcj.player.embedded.EmbeddedMediaPlayer;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StreamCorruptedException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -33,14 +45,22 @@ import java.util.UUID;
 public class PlayerHostApplication extends Application {
 
     private static final Logger log = LoggerFactory.getLogger(PlayerHostApplication.class);
+    private static final Duration RECONNECT_TIMEOUT = Duration.ofSeconds(10);
 
     private MediaPlayerFactory mediaPlayerFactory;
     private EmbeddedMediaPlayer mediaPlayer;
     private ImageView imageView;
 
-    private UUID playerUuid;
+    private Stage stage;
+    private boolean pooled;
+    private volatile UUID playerUuid;
+    private MediaWireFormat wireFormat;
     private ObjectMapper mapper;
     private BufferedWriter eventWriter;
+    private OutputStream eventOutput;
+    private BinaryMediaCodec eventCodec;
+    private String socketPath;
+    private volatile SocketMediaClient socketClient;
 
     @Override
     public void start(Stage stage) {
@@ -55,6 +75,12 @@ public class PlayerHostApplication extends Application {
         String title = params.getOrDefault("title", "Tower Player");
         int width = parseInt(params.get("width"), 960);
         int height = parseInt(params.get("height"), 540);
+        // 进程池中的空闲进程先不显示窗口，收到 PLAY 后再按请求的标题与尺寸显示
+        pooled = Boolean.parseBoolean(params.get("pooled"));
+        this.stage = stage;
+        if (pooled) {
+            Platform.setImplicitExit(false);
+        }
 
         imageView = new ImageView();
         imageView.setPreserveRatio(true);
@@ -77,18 +103,28 @@ public class PlayerHostApplication extends Application {
             stopPlayer();
             Platform.exit();
         });
-        stage.show();
+        if (!pooled) {
+            stage.show();
+        }
 
         if (!media.isBlank()) {
             log.info("Player {} start media {}", playerId, media);
             mediaPlayer.media().play(media);
-        } else {
+        } else if (!pooled) {
             log.warn("Player {} launched without media url", playerId);
         }
 
-        mapper = new ObjectMapper();
-        mapper.findAndRegisterModules();
-        eventWriter = new BufferedWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+        wireFormat = MediaWireFormat.fromArgument(params.get(MediaWireFormat.ARGUMENT));
+        socketPath = params.get(SocketMediaChannel.ARGUMENT);
+        if (socketPath != null) {
+            log.info("Player {} connecting to console socket {}", playerId, socketPath);
+        } else if (wireFormat == MediaWireFormat.BINARY) {
+            eventCodec = new BinaryMediaCodec();
+            eventOutput = new BufferedOutputStream(System.err, 512);
+        } else {
+            mapper = MediaJson.mapper();
+            eventWriter = new BufferedWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8));
+        }
         startCommandListener();
         startHeartbeat();
     }
@@ -99,6 +135,10 @@ public class PlayerHostApplication extends Application {
     }
 
     private void stopPlayer() {
+        SocketMediaClient client = socketClient;
+        if (client != null) {
+            client.close();
+        }
         if (mediaPlayer != null) {
             mediaPlayer.controls().stop();
             mediaPlayer.release();
@@ -112,18 +152,13 @@ public class PlayerHostApplication extends Application {
 
     private void startCommandListener() {
         Thread listener = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    String trimmed = line.trim();
-                    if (trimmed.isEmpty()) {
-                        continue;
-                    }
-                    MediaCommand command = mapper.readValue(trimmed, MediaCommand.class);
-                    if (playerUuid != null && !playerUuid.equals(command.playerId())) {
-                        continue;
-                    }
-                    handleCommand(command);
+            try {
+                if (socketPath != null) {
+                    readSocketCommands();
+                } else if (wireFormat == MediaWireFormat.BINARY) {
+                    readBinaryCommands();
+                } else {
+                    readJsonCommands();
                 }
             } catch (IOException ex) {
                 log.warn("Command listener stopped", ex);
@@ -133,6 +168,59 @@ public class PlayerHostApplication extends Application {
         listener.start();
     }
 
+    private void readSocketCommands() throws IOException {
+        String token = System.getenv(SocketMediaChannel.TOKEN_ENVIRONMENT);
+        if (token == null || token.isBlank()) {
+            throw new IOException("Missing " + SocketMediaChannel.TOKEN_ENVIRONMENT + " for console socket " + socketPath);
+        }
+        SocketMediaClient client = SocketMediaClient.connect(Path.of(socketPath), token, RECONNECT_TIMEOUT);
+        socketClient = client;
+        client.readCommands(this::accept);
+    }
+
+    private void readJsonCommands() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                accept(mapper.readValue(trimmed, MediaCommand.class));
+            }
+        }
+    }
+
+    private void readBinaryCommands() throws IOException {
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(System.in))) {
+            while (true) {
+                MediaCommand command;
+                try {
+                    command = codec.readCommand(input);
+                } catch (StreamCorruptedException ex) {
+                    log.warn("Skipping malformed media command", ex);
+                    continue;
+                }
+                if (command == null) {
+                    return;
+                }
+                accept(command);
+            }
+        }
+    }
+
+    private void accept(MediaCommand command) {
+        if (pooled && command.type() == MediaCommandType.PLAY && !command.playerId().equals(playerUuid)) {
+            log.info("Pooled player host {} now serves player {}", playerUuid, command.playerId());
+            playerUuid = command.playerId();
+        }
+        if (playerUuid != null && !playerUuid.equals(command.playerId())) {
+            return;
+        }
+        handleCommand(command);
+    }
+
     private void handleCommand(MediaCommand command) {
         if (mediaPlayer == null) {
             return;
@@ -140,6 +228,7 @@ public class PlayerHostApplication extends Application {
         MediaCommandType type = command.type();
         switch (type) {
             case PLAY -> {
+                showWindow(command.payload());
                 Object mediaValue = command.payload().get("media");
                 if (mediaValue instanceof String media && !media.isBlank()) {
                     Platform.runLater(() -> mediaPlayer.media().play(media));
@@ -158,6 +247,13 @@ public class PlayerHostApplication extends Application {
                 mediaPlayer.controls().stop();
                 publishEvent(MediaEventType.STOPPED, Map.of());
             });
+            case RELEASE -> Platform.runLater(() -> {
+                mediaPlayer.controls().stop();
+                if (pooled) {
+                    stage.hide();
+                }
+                publishEvent(MediaEventType.STOPPED, Map.of());
+            });
             case SET_VOLUME -> {
                 Object value = command.payload().get("value");
                 if (value instanceof Number number) {
@@ -174,6 +270,22 @@ public class PlayerHostApplication extends Application {
         }
     }
 
+    private void showWindow(Map<String, Object> payload) {
+        if (!pooled) {
+            return;
+        }
+        Platform.runLater(() -> {
+            if (payload.get("title") instanceof String title && !title.isBlank()) {
+                stage.setTitle(title);
+            }
+            if (payload.get("width") instanceof Number width && payload.get("height") instanceof Number height) {
+                stage.setWidth(width.doubleValue());
+                stage.setHeight(height.doubleValue());
+            }
+            stage.show();
+        });
+    }
+
     private int parseInt(String value, int defaultValue) {
         if (value == null || value.isBlank()) {
             return defaultValue;
@@ -185,15 +297,23 @@ public class PlayerHostApplication extends Application {
         }
     }
 
-    private void publishEvent(MediaEventType type, Map<String, Object> payload) {
-        if (playerUuid == null || eventWriter == null) {
+    private synchronized void publishEvent(MediaEventType type, Map<String, Object> payload) {
+        SocketMediaClient client = socketClient;
+        if (playerUuid == null || (client == null && eventWriter == null && eventOutput == null)) {
             return;
         }
         MediaEvent event = new MediaEvent(type, playerUuid, Instant.now(), payload);
         try {
-            eventWriter.write(mapper.writeValueAsString(event));
-            eventWriter.write('\n');
-            eventWriter.flush();
+            if (client != null) {
+                client.send(event);
+            } else if (eventCodec != null) {
+                eventCodec.writeEvent(event, eventOutput);
+                eventOutput.flush();
+            } else {
+                eventWriter.write(mapper.writeValueAsString(event));
+                eventWriter.write('\n');
+                eventWriter.flush();
+            }
         } catch (IOException ex) {
             log.warn("Failed to publish media event", ex);
         }
@@ -0,0 +1,85 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 以 {@link BinaryMediaCodec} 帧格式向播放器进程标准输入写入命令的信道。
+ */
+public final class BinaryCommandChannel implements MediaCommandChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryCommandChannel.class);
+
+    private final OutputStream output;
+    private final BinaryMediaCodec codec = new BinaryMediaCodec();
+    private final Counter[] sent;
+    private final Timer sendTimer;
+
+    public BinaryCommandChannel(OutputStream outputStream) {
+        this(outputStream, null);
+    }
+
+    /**
+     * 创建命令信道，并把各类型命令的发送次数与写入耗时记录到 {@code metrics}（为 null 时不记录）。
+     */
+    public BinaryCommandChannel(OutputStream outputStream, MetricsRegistry metrics) {
+        Objects.requireNonNull(outputStream, "outputStream must not be null");
+        this.output = new BufferedOutputStream(outputStream, 512);
+        MediaCommandType[] types = MediaCommandType.values();
+        this.sent = new Counter[types.length];
+        if (metrics != null) {
+            for (MediaCommandType type : types) {
+                sent[type.ordinal()] = metrics.counter("alamafa.media.ipc.commands",
+                        "type", type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.sendTimer = metrics != null ? metrics.timer("alamafa.media.ipc.send") : null;
+    }
+
+    @Override
+    public synchronized void send(MediaCommand command) {
+        Objects.requireNonNull(command, "command must not be null");
+        MediaCommandSentEvent event = new MediaCommandSentEvent();
+        event.begin();
+        int length = 0;
+        boolean success = false;
+        long started = sendTimer != null ? System.nanoTime() : 0L;
+        try {
+            length = codec.writeCommand(command, output);
+            output.flush();
+            success = true;
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to send media command", ex);
+        } finally {
+            if (event.shouldCommit()) {
+                event.commandType = String.valueOf(command.type());
+                event.playerId = String.valueOf(command.playerId());
+                event.length = length;
+                event.success = success;
+                event.commit();
+            }
+            if (success && sendTimer != null) {
+                sendTimer.record(System.nanoTime() - started);
+                sent[command.type().ordinal()].increment();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            output.close();
+        } catch (IOException ex) {
+            log.warn("Failed to close command channel", ex);
+        }
+    }
+}
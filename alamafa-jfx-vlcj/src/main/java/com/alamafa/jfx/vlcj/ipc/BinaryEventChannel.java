@@ -0,0 +1,75 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.alamafa.core.metrics.MetricsRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 从播放器进程标准错误读取 {@link BinaryMediaCodec} 帧的事件信道，由共享的 {@link MediaIoReactor} 轮询读取。
+ * <p>
+ * 若首个字节是 {@code '{'}，说明播放器进程未启用二进制格式，此时改用 {@link StdioEventChannel} 按 JSON 行解码。
+ */
+public final class BinaryEventChannel implements MediaEventChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(BinaryEventChannel.class);
+
+    private final InputStream inputStream;
+    private final MetricsRegistry metrics;
+    private final CompletionStage<?> endOfInput;
+    private volatile MediaIoReactor.Registration registration;
+
+    public BinaryEventChannel(InputStream inputStream) {
+        this(inputStream, null);
+    }
+
+    /**
+     * 创建事件信道，并把各类型事件的接收次数与传输延迟记录到 {@code metrics}（为 null 时不记录）。
+     */
+    public BinaryEventChannel(InputStream inputStream, MetricsRegistry metrics) {
+        this(inputStream, metrics, null);
+    }
+
+    /**
+     * 同上，{@code endOfInput} 完成（如播放器进程退出）时读完剩余事件并停止轮询。
+     */
+    public BinaryEventChannel(InputStream inputStream, MetricsRegistry metrics, CompletionStage<?> endOfInput) {
+        this.inputStream = Objects.requireNonNull(inputStream, "inputStream must not be null");
+        this.metrics = metrics;
+        this.endOfInput = endOfInput;
+    }
+
+    @Override
+    public void start(MediaEventListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        EventFrameHandler frames = new EventFrameHandler(listener, metrics);
+        registration = MediaIoReactor.shared().poll(inputStream, endOfInput, new MediaIoReactor.InboundHandler() {
+            private MediaIoReactor.InboundHandler delegate;
+
+            @Override
+            public void onInput(ByteBuffer input) throws IOException {
+                if (delegate == null) {
+                    delegate = frames;
+                    if (input.get(input.position()) == '{') {
+                        log.info("Player process answered with JSON events, falling back to the JSON event channel");
+                        delegate = new StdioEventChannel(inputStream, null, metrics).handler(listener);
+                    }
+                }
+                delegate.onInput(input);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        MediaIoReactor.Registration current = registration;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 外部播放器 IPC 的二进制帧编解码。
+ * <p>
+ * 每帧由同步字 {@code 0xA1 0xFA}、4 字节大端帧体长度与帧体组成；帧体依次为类型序号（1 字节）、播放器 UUID（16 字节）、
+ * 时间戳（纪元纳秒，8 字节，仅事件帧）与载荷字段数（2 字节），每个字段为 UTF-8 键名、类型标记与对应值。
+ * 读取时遇到损坏数据（例如原生库直接写入 stderr 的文本）会逐字节跳过，直到下一个同步字。
+ * 实例持有可复用的缓冲区，非线程安全。
+ */
+public final class BinaryMediaCodec {
+    /** 单帧帧体的最大长度。 */
+    public static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    static final int SYNC_0 = 0xA1;
+    static final int SYNC_1 = 0xFA;
+    private static final int HEADER_LENGTH = 6;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+
+    private static final MediaCommandType[] COMMAND_TYPES = MediaCommandType.values();
+    private static final MediaEventType[] EVENT_TYPES = MediaEventType.values();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(256);
+    private byte[] frame = new byte[256];
+    private int lastFrameLength;
+
+    /**
+     * 把命令编码为一帧写入输出流（不刷新），返回写入的字节数。
+     */
+    public int writeCommand(MediaCommand command, OutputStream output) throws IOException {
+        return write(encodeCommand(command), output);
+    }
+
+    /**
+     * 把事件编码为一帧写入输出流（不刷新），返回写入的字节数。
+     */
+    public int writeEvent(MediaEvent event, OutputStream output) throws IOException {
+        return write(encodeEvent(event), output);
+    }
+
+    /**
+     * 读取下一条命令，流结束时返回 null。
+     */
+    public MediaCommand readCommand(DataInputStream input) throws IOException {
+        ByteBuffer body = readFrame(input);
+        return body == null ? null : decodeCommand(body);
+    }
+
+    /**
+     * 读取下一条事件，流结束时返回 null。
+     */
+    public MediaEvent readEvent(DataInputStream input) throws IOException {
+        ByteBuffer body = readFrame(input);
+        return body == null ? null : decodeEvent(body);
+    }
+
+    /**
+     * 从累积的输入缓冲区中解析下一条事件：跳过同步字前的字节，数据不足一帧时返回 null 并保留未消费的部分。
+     */
+    public MediaEvent readEvent(ByteBuffer input) throws IOException {
+        ByteBuffer body = nextFrame(input);
+        return body == null ? null : decodeEvent(body);
+    }
+
+    /**
+     * 返回最近一次读取的帧长度（字节，含同步字与长度）。
+     */
+    public int lastFrameLength() {
+        return lastFrameLength;
+    }
+
+    /**
+     * 把命令编码为完整的帧，返回的缓冲区在下一次编码前有效。
+     */
+    public ByteBuffer encodeCommand(MediaCommand command) {
+        ByteBuffer out = begin();
+        out.put((byte) command.type().ordinal());
+        putUuid(out, command.playerId());
+        out = putPayload(out, command.payload());
+        return finish(out);
+    }
+
+    /**
+     * 把事件编码为完整的帧，返回的缓冲区在下一次编码前有效。
+     */
+    public ByteBuffer encodeEvent(MediaEvent event) {
+        ByteBuffer out = begin();
+        out.put((byte) event.type().ordinal());
+        putUuid(out, event.playerId());
+        Instant timestamp = event.timestamp();
+        out.putLong(timestamp.getEpochSecond() * NANOS_PER_SECOND + timestamp.getNano());
+        out = putPayload(out, event.payload());
+        return finish(out);
+    }
+
+    /**
+     * 解码不含同步字与长度的命令帧体。
+     */
+    public MediaCommand decodeCommand(ByteBuffer body) throws IOException {
+        try {
+            MediaCommandType type = COMMAND_TYPES[body.get() & 0xFF];
+            UUID playerId = new UUID(body.getLong(), body.getLong());
+            return new MediaCommand(type, playerId, getPayload(body));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new StreamCorruptedException("Malformed media command frame");
+        }
+    }
+
+    /**
+     * 解码不含同步字与长度的事件帧体。
+     */
+    public MediaEvent decodeEvent(ByteBuffer body) throws IOException {
+        try {
+            MediaEventType type = EVENT_TYPES[body.get() & 0xFF];
+            UUID playerId = new UUID(body.getLong(), body.getLong());
+            long nanos = body.getLong();
+            Instant timestamp = Instant.ofEpochSecond(Math.floorDiv(nanos, NANOS_PER_SECOND),
+                    Math.floorMod(nanos, NANOS_PER_SECOND));
+            return new MediaEvent(type, playerId, timestamp, getPayload(body));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new StreamCorruptedException("Malformed media event frame");
+        }
+    }
+
+    /**
+     * 定位并读取下一帧的帧体，跳过同步字之前的字节；流结束时返回 null。
+     */
+    private ByteBuffer readFrame(DataInputStream input) throws IOException {
+        while (true) {
+            int b = input.read();
+            if (b < 0) {
+                return null;
+            }
+            while (b == SYNC_0) {
+                b = input.read();
+                if (b == SYNC_1) {
+                    int length = input.readInt();
+                    if (length < 0 || length > MAX_FRAME_LENGTH) {
+                        break;
+                    }
+                    if (frame.length < length) {
+                        frame = new byte[Math.max(length, frame.length * 2)];
+                    }
+                    input.readFully(frame, 0, length);
+                    lastFrameLength = HEADER_LENGTH + length;
+                    return ByteBuffer.wrap(frame, 0, length);
+                }
+            }
+            if (b < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 定位缓冲区中下一帧的帧体并越过该帧；帧不完整时停在同步字处返回 null。
+     */
+    private ByteBuffer nextFrame(ByteBuffer input) {
+        while (input.remaining() >= HEADER_LENGTH) {
+            int start = input.position();
+            if ((input.get(start) & 0xFF) != SYNC_0 || (input.get(start + 1) & 0xFF) != SYNC_1) {
+                input.position(start + 1);
+                continue;
+            }
+            int length = input.getInt(start + 2);
+            if (length < 0 || length > MAX_FRAME_LENGTH) {
+                input.position(start + 2);
+                continue;
+            }
+            if (input.remaining() < HEADER_LENGTH + length) {
+                return null;
+            }
+            input.position(start + HEADER_LENGTH + length);
+            lastFrameLength = HEADER_LENGTH + length;
+            return input.slice(start + HEADER_LENGTH, length);
+        }
+        while (input.hasRemaining() && (input.get(input.position()) & 0xFF) != SYNC_0) {
+            input.get();
+        }
+        return null;
+    }
+
+    private ByteBuffer begin() {
+        ByteBuffer out = buffer;
+        out.clear();
+        out.put((byte) SYNC_0).put((byte) SYNC_1).putInt(0);
+        return out;
+    }
+
+    private ByteBuffer finish(ByteBuffer out) {
+        out.putInt(2, out.position() - HEADER_LENGTH);
+        out.flip();
+        return out;
+    }
+
+    private static int write(ByteBuffer encoded, OutputStream output) throws IOException {
+        int length = encoded.remaining();
+        output.write(encoded.array(), encoded.arrayOffset() + encoded.position(), length);
+        return length;
+    }
+
+    private static void putUuid(ByteBuffer out, UUID uuid) {
+        out.putLong(uuid.getMostSignificantBits());
+        out.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private ByteBuffer putPayload(ByteBuffer out, Map<String, Object> payload) {
+        out.putShort((short) payload.size());
+        for (Map.Entry<String, Object> entry : payload.entrySet()) {
+            out = putString(out, entry.getKey());
+            Object value = entry.getValue();
+            out = ensure(out, 9);
+            switch (value) {
+                case null -> out.put(NULL);
+                case Integer number -> out.put(INT).putInt(number);
+                case Short number -> out.put(INT).putInt(number);
+                case Byte number -> out.put(INT).putInt(number);
+                case Long number -> out.put(LONG).putLong(number);
+                case Double number -> out.put(DOUBLE).putDouble(number);
+                case Float number -> out.put(DOUBLE).putDouble(number);
+                case Boolean flag -> out.put(BOOLEAN).put((byte) (flag ? 1 : 0));
+                default -> {
+                    out.put(STRING);
+                    out = putString(out, value.toString());
+                }
+            }
+        }
+        return out;
+    }
+
+    private ByteBuffer putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Payload string exceeds 65535 bytes");
+        }
+        out = ensure(out, 2 + bytes.length);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+        return out;
+    }
+
+    private static Map<String, Object> getPayload(ByteBuffer body) throws StreamCorruptedException {
+        int size = body.getShort() & 0xFFFF;
+        if (size == 0) {
+            return Map.of();
+        }
+        Map<String, Object> payload = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = getString(body);
+            byte tag = body.get();
+            Object value = switch (tag) {
+                case NULL -> null;
+                case STRING -> getString(body);
+                case INT -> body.getInt();
+                case LONG -> body.getLong();
+                case DOUBLE -> body.getDouble();
+                case BOOLEAN -> body.get() != 0;
+                default -> throw new StreamCorruptedException("Unknown payload tag " + tag);
+            };
+            if (value != null) {
+                payload.put(key, value);
+            }
+        }
+        return payload;
+    }
+
+    /** 长度前缀超出帧体剩余字节时视为损坏帧，不能读到帧外的缓冲区内容。 */
+    private static String getString(ByteBuffer body) throws StreamCorruptedException {
+        int length = body.getShort() & 0xFFFF;
+        if (length > body.remaining()) {
+            throw new StreamCorruptedException("String length " + length + " exceeds frame, "
+                    + body.remaining() + " bytes left");
+        }
+        String value = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return value;
+    }
+
+    private ByteBuffer ensure(ByteBuffer out, int required) {
+        if (out.remaining() >= required) {
+            return out;
+        }
+        if (out.position() + required > HEADER_LENGTH + MAX_FRAME_LENGTH) {
+            throw new IllegalArgumentException("Media frame exceeds " + MAX_FRAME_LENGTH + " bytes");
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + required));
+        out.flip();
+        grown.put(out);
+        buffer = grown;
+        return grown;
+    }
+}
@@ -0,0 +1,64 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 把解码出的事件移出 {@link MediaIoReactor} 线程交给监听器。
+ * <p>
+ * 每个信道一个实例，事件按到达顺序排队，有积压时由一个虚拟线程依次派发，因此慢监听器只会拖慢自己的信道，
+ * 不会阻塞事件循环与其他播放器。积压超过 {@value #MAX_QUEUED} 条时丢弃最旧的事件。
+ */
+final class EventDelivery implements MediaEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDelivery.class);
+    private static final int MAX_QUEUED = 4096;
+
+    private final MediaEventListener listener;
+    private final ConcurrentLinkedQueue<MediaEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    EventDelivery(MediaEventListener listener) {
+        this.listener = Objects.requireNonNull(listener, "listener must not be null");
+    }
+
+    @Override
+    public void onEvent(MediaEvent event) {
+        queue.add(event);
+        if (size.incrementAndGet() > MAX_QUEUED) {
+            MediaEvent dropped = queue.poll();
+            if (dropped != null) {
+                size.decrementAndGet();
+                log.warn("Media event listener is falling behind, dropping {} for {}", dropped.type(), dropped.playerId());
+            }
+        }
+        if (draining.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("vlcj-media-events").start(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            MediaEvent event;
+            while ((event = queue.poll()) != null) {
+                size.decrementAndGet();
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException ex) {
+                    log.warn("Media event listener failed for {}", event.type(), ex);
+                }
+            }
+            draining.set(false);
+            // 释放标记后再检查一次，避免与刚入队的事件错过彼此
+            if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+}
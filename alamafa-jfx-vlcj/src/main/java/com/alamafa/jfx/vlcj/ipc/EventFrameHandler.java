@@ -0,0 +1,80 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * 从事件循环交来的字节中解码 {@link BinaryMediaCodec} 事件帧，经 {@link EventDelivery} 在事件循环线程之外派发给监听器，
+ * 同时记录指标与 JFR 事件。
+ */
+final class EventFrameHandler implements MediaIoReactor.InboundHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventFrameHandler.class);
+
+    private final BinaryMediaCodec codec = new BinaryMediaCodec();
+    private final MediaEventListener listener;
+    private final Counter[] received;
+    private final Timer transitTimer;
+
+    /**
+     * 创建处理器，并把各类型事件的接收次数与传输延迟记录到 {@code metrics}（为 null 时不记录）。
+     */
+    EventFrameHandler(MediaEventListener listener, MetricsRegistry metrics) {
+        this.listener = new EventDelivery(listener);
+        MediaEventType[] types = MediaEventType.values();
+        this.received = new Counter[types.length];
+        if (metrics != null) {
+            for (MediaEventType type : types) {
+                received[type.ordinal()] = metrics.counter("alamafa.media.ipc.events",
+                        "type", type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.transitTimer = metrics != null ? metrics.timer("alamafa.media.ipc.transit") : null;
+    }
+
+    @Override
+    public void onInput(ByteBuffer input) throws IOException {
+        while (true) {
+            MediaEventReceivedEvent recorded = new MediaEventReceivedEvent();
+            recorded.begin();
+            MediaEvent event;
+            try {
+                event = codec.readEvent(input);
+            } catch (StreamCorruptedException ex) {
+                log.warn("Failed to decode media event", ex);
+                continue;
+            }
+            if (event == null) {
+                return;
+            }
+            long transit = transitTimer != null || recorded.isEnabled()
+                    ? epochNanos(Instant.now()) - epochNanos(event.timestamp())
+                    : 0L;
+            if (transitTimer != null) {
+                received[event.type().ordinal()].increment();
+                transitTimer.record(transit);
+            }
+            listener.onEvent(event);
+            if (recorded.shouldCommit()) {
+                recorded.eventType = event.type().name();
+                recorded.playerId = event.playerId().toString();
+                recorded.length = codec.lastFrameLength();
+                recorded.transit = transit / 1_000_000L;
+                recorded.commit();
+            }
+        }
+    }
+
+    private static long epochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -60,6 +60,18 @@ public final class MediaCommand {
         return new MediaCommand(MediaCommandType.PLAY, playerId, map);
     }
 
+    /**
+     * 让进程池中的播放器进程改为服务 {@code playerId}，并按给定标题与尺寸显示窗口后播放。
+     */
+    public static MediaCommand play(UUID playerId, String mediaUrl, String title, int width, int height) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("media", mediaUrl);
+        map.put("title", title);
+        map.put("width", width);
+        map.put("height", height);
+        return new MediaCommand(MediaCommandType.PLAY, playerId, map);
+    }
+
     public static MediaCommand pause(UUID playerId) {
         return new MediaCommand(MediaCommandType.PAUSE, playerId, Map.of());
     }
@@ -78,6 +90,10 @@ public final class MediaCommand {
         return new MediaCommand(MediaCommandType.SET_VOLUME, playerId, map);
     }
 
+    public static MediaCommand release(UUID playerId) {
+        return new MediaCommand(MediaCommandType.RELEASE, playerId, Map.of());
+    }
+
     public static MediaCommand seek(UUID playerId, double positionSeconds) {
         Map<String, Object> map = new HashMap<>();
         map.put("position", positionSeconds);
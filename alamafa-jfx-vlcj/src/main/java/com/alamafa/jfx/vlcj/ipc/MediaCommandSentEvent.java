@@ -0,0 +1,28 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 事件：一条媒体命令的编码、写出与 flush。
+ */
+@Name("com.alamafa.MediaCommandSent")
+@Label("Media Command Sent")
+@Category({"Alamafa", "Media IPC"})
+@Description("Encoding and writing of a media command to the player process")
+final class MediaCommandSentEvent extends jdk.jfr.Event {
+    @Label("Command")
+    String commandType;
+
+    @Label("Player Id")
+    String playerId;
+
+    @Label("Length")
+    @Description("Encoded message length, characters for JSON lines and bytes for binary frames")
+    int length;
+
+    @Label("Success")
+    boolean success;
+}
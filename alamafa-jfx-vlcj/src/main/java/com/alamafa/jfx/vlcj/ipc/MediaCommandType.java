@@ -9,5 +9,7 @@ public enum MediaCommandType {
     RESUME,
     STOP,
     SEEK,
-    SET_VOLUME
+    SET_VOLUME,
+    /** 归还到进程池：停止播放并隐藏窗口，等待下一条 {@link #PLAY}。 */
+    RELEASE
 }
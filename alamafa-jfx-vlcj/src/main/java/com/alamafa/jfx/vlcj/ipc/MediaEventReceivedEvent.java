@@ -0,0 +1,31 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 事件：一条媒体事件的解码与监听器派发，附带发送端时间戳到接收的传输延迟。
+ */
+@Name("com.alamafa.MediaEventReceived")
+@Label("Media Event Received")
+@Category({"Alamafa", "Media IPC"})
+@Description("Decoding and dispatch of a media event received from the player process")
+final class MediaEventReceivedEvent extends jdk.jfr.Event {
+    @Label("Event")
+    String eventType;
+
+    @Label("Player Id")
+    String playerId;
+
+    @Label("Length")
+    @Description("Encoded message length, characters for JSON lines and bytes for binary frames")
+    int length;
+
+    @Label("Transit")
+    @Description("Time between the sender's timestamp and decoding")
+    @Timespan(Timespan.MILLISECONDS)
+    long transit;
+}
@@ -0,0 +1,445 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 所有外部播放器信道共用的 I/O 事件循环。
+ * <p>
+ * 单个守护线程上的 {@link Selector} 负责套接字的接受、读取与积压写出；进程管道无法注册到 Selector，
+ * 改为每 {@value #POLL_INTERVAL_MILLIS} 毫秒检查一次 {@link InputStream#available()}，只读取已到达的字节。
+ * 线程数因此与播放器数量无关。回调都在事件循环线程上执行，不得阻塞。
+ */
+public final class MediaIoReactor {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaIoReactor.class);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+    private static final int INITIAL_BUFFER = 8 * 1024;
+    private static final int MAX_BUFFER = BinaryMediaCodec.MAX_FRAME_LENGTH + 64 * 1024;
+    private static final int MAX_OUTBOUND = 4 * 1024 * 1024;
+
+    private final Selector selector;
+    private final List<PolledInput> polled = new CopyOnWriteArrayList<>();
+
+    private MediaIoReactor() throws IOException {
+        this.selector = Selector.open();
+        Thread thread = new Thread(this::run, "vlcj-ipc-reactor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 返回进程内共享的事件循环，首次调用时启动。
+     */
+    public static MediaIoReactor shared() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * 接受服务端套接字上的新连接并交给 {@code acceptor}，关闭返回的注册时一并关闭服务端套接字。
+     */
+    public Registration accept(ServerSocketChannel server, Consumer<SocketChannel> acceptor) throws IOException {
+        Objects.requireNonNull(server, "server must not be null");
+        Objects.requireNonNull(acceptor, "acceptor must not be null");
+        Acceptor registration = new Acceptor(server, acceptor);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT, registration);
+        selector.wakeup();
+        return registration;
+    }
+
+    /**
+     * 把已连接的套接字切换为非阻塞并纳入事件循环；调用 {@link Connection#read} 之前不读取数据。
+     */
+    public Connection connection(SocketChannel channel) throws IOException {
+        Objects.requireNonNull(channel, "channel must not be null");
+        Connection connection = new Connection(channel);
+        channel.configureBlocking(false);
+        connection.key = channel.register(selector, 0, connection);
+        selector.wakeup();
+        return connection;
+    }
+
+    /**
+     * 轮询读取输入流（如进程管道）已到达的字节；关闭返回的注册时先读完剩余可用字节，不关闭输入流本身。
+     */
+    public Registration poll(InputStream input, InboundHandler handler) {
+        return poll(input, null, handler);
+    }
+
+    /**
+     * 同 {@link #poll(InputStream, InboundHandler)}；{@code available()} 无法反映管道已结束，因此由 {@code endOfInput}
+     * （如 {@link Process#onExit()}）告知写入端已退出，届时读完剩余字节、调用 {@link InboundHandler#onClosed()}
+     * 并注销。读到流结束时同样如此。
+     */
+    public Registration poll(InputStream input, CompletionStage<?> endOfInput, InboundHandler handler) {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(handler, "handler must not be null");
+        PolledInput registration = new PolledInput(input, handler);
+        polled.add(registration);
+        selector.wakeup();
+        if (endOfInput != null) {
+            endOfInput.whenComplete((result, error) -> registration.end());
+        }
+        return registration;
+    }
+
+    /**
+     * 返回按行（{@code \n}，去掉结尾的 {@code \r}）以 UTF-8 解码的处理器，不完整的行留待下次读取。
+     */
+    public static InboundHandler lines(Consumer<String> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        return input -> {
+            int start = input.position();
+            for (int i = start; i < input.limit(); i++) {
+                if (input.get(i) != '\n') {
+                    continue;
+                }
+                int end = i > start && input.get(i - 1) == '\r' ? i - 1 : i;
+                byte[] line = new byte[end - start];
+                input.get(start, line);
+                input.position(i + 1);
+                start = i + 1;
+                try {
+                    consumer.accept(new String(line, StandardCharsets.UTF_8));
+                } catch (RuntimeException ex) {
+                    log.warn("Line consumer failed", ex);
+                }
+            }
+        };
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                selector.select(polled.isEmpty() ? 0 : POLL_INTERVAL_MILLIS);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    dispatch(key);
+                }
+                for (PolledInput input : polled) {
+                    input.drain();
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Media I/O reactor iteration failed", ex);
+            }
+        }
+    }
+
+    private void dispatch(SelectionKey key) {
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.attachment() instanceof Acceptor acceptor && key.isAcceptable()) {
+                acceptor.accept();
+                return;
+            }
+            Connection connection = (Connection) key.attachment();
+            if (key.isWritable()) {
+                connection.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.readAvailable();
+            }
+        } catch (CancelledKeyException ignored) {
+            // 其他线程已关闭该连接
+        }
+    }
+
+    /**
+     * 处理到达的字节。{@code input} 处于读模式，处理器消费能处理的部分，未消费的字节保留到下次回调。
+     */
+    @FunctionalInterface
+    public interface InboundHandler {
+
+        void onInput(ByteBuffer input) throws IOException;
+
+        /**
+         * 对端关闭或读取失败时调用。
+         */
+        default void onClosed() {
+        }
+    }
+
+    /**
+     * 事件循环中的一项注册，关闭后不再回调。
+     */
+    public interface Registration extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * 纳入事件循环的套接字连接，可在任意线程写入。
+     */
+    public final class Connection implements Registration {
+
+        private final SocketChannel channel;
+        private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+        private SelectionKey key;
+        private ByteBuffer inbound;
+        private volatile InboundHandler handler;
+        private int queued;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * 开始读取并把到达的字节交给 {@code handler}。
+         */
+        public void read(InboundHandler handler) {
+            this.handler = Objects.requireNonNull(handler, "handler must not be null");
+            try {
+                key.interestOpsOr(SelectionKey.OP_READ);
+                selector.wakeup();
+            } catch (CancelledKeyException ignored) {
+                // 连接已关闭
+            }
+        }
+
+        /**
+         * 写出 {@code data} 的全部剩余字节；套接字写满时复制剩余部分，由事件循环稍后写出。
+         * 积压超过上限或连接已断开时抛出 {@link IOException}。
+         */
+        public synchronized void write(ByteBuffer data) throws IOException {
+            if (!channel.isOpen()) {
+                throw new IOException("Connection is closed");
+            }
+            if (outbound.isEmpty()) {
+                channel.write(data);
+                if (!data.hasRemaining()) {
+                    return;
+                }
+            }
+            if (queued + data.remaining() > MAX_OUTBOUND) {
+                close();
+                throw new IOException("Peer stopped reading, " + queued + " bytes pending");
+            }
+            ByteBuffer copy = ByteBuffer.allocate(data.remaining());
+            copy.put(data).flip();
+            outbound.addLast(copy);
+            queued += copy.remaining();
+            try {
+                key.interestOpsOr(SelectionKey.OP_WRITE);
+            } catch (CancelledKeyException ex) {
+                throw new IOException("Connection is closed", ex);
+            }
+            selector.wakeup();
+        }
+
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        /** 写失败时在释放本连接的锁之后才回调处理器，处理器可能需要获取正在调用 {@link #write} 的线程持有的锁。 */
+        private void flush() {
+            IOException failure = null;
+            synchronized (this) {
+                try {
+                    while (!outbound.isEmpty()) {
+                        ByteBuffer head = outbound.peekFirst();
+                        queued -= channel.write(head);
+                        if (head.hasRemaining()) {
+                            return;
+                        }
+                        outbound.removeFirst();
+                    }
+                    key.interestOpsAnd(~SelectionKey.OP_WRITE);
+                } catch (IOException ex) {
+                    failure = ex;
+                    close();
+                }
+            }
+            if (failure != null) {
+                disconnected(failure);
+            }
+        }
+
+        private void readAvailable() {
+            if (inbound == null) {
+                inbound = ByteBuffer.allocate(INITIAL_BUFFER);
+            }
+            try {
+                int read;
+                while ((read = channel.read(inbound)) > 0) {
+                    inbound = deliver(inbound, handler);
+                }
+                if (read < 0) {
+                    disconnected(null);
+                }
+            } catch (IOException ex) {
+                disconnected(ex);
+            }
+        }
+
+        private void disconnected(IOException cause) {
+            if (cause != null) {
+                log.debug("Media connection dropped", cause);
+            }
+            close();
+            if (handler != null) {
+                handler.onClosed();
+            }
+        }
+    }
+
+    private final class Acceptor implements Registration {
+
+        private final ServerSocketChannel server;
+        private final Consumer<SocketChannel> acceptor;
+
+        private Acceptor(ServerSocketChannel server, Consumer<SocketChannel> acceptor) {
+            this.server = server;
+            this.acceptor = acceptor;
+        }
+
+        private void accept() {
+            try {
+                SocketChannel accepted;
+                while ((accepted = server.accept()) != null) {
+                    acceptor.accept(accepted);
+                }
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Failed to accept media connection", ex);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                server.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close media server socket", ex);
+            }
+        }
+    }
+
+    private final class PolledInput implements Registration {
+
+        private final InputStream input;
+        private final InboundHandler handler;
+        private ByteBuffer inbound = ByteBuffer.allocate(INITIAL_BUFFER);
+        private volatile boolean closing;
+        private volatile boolean ended;
+        private boolean finished;
+
+        private PolledInput(InputStream input, InboundHandler handler) {
+            this.input = input;
+            this.handler = handler;
+        }
+
+        /** 只读取 {@code available()} 报告的字节，因此不会阻塞事件循环。 */
+        private void drain() {
+            if (finished) {
+                return;
+            }
+            // 先读取标记：标记之后到达的字节已由写入端退出前写完，本次一并读出
+            boolean endOfInput = ended;
+            try {
+                int available;
+                while ((available = input.available()) > 0) {
+                    int length = Math.min(available, inbound.remaining());
+                    int read = input.read(inbound.array(), inbound.arrayOffset() + inbound.position(), length);
+                    if (read < 0) {
+                        endOfInput = true;
+                        break;
+                    }
+                    if (read == 0) {
+                        break;
+                    }
+                    inbound.position(inbound.position() + read);
+                    inbound = deliver(inbound, handler);
+                }
+            } catch (IOException ex) {
+                log.debug("Polled media stream closed", ex);
+                endOfInput = true;
+            }
+            if (endOfInput) {
+                finished = true;
+                polled.remove(this);
+                if (!closing) {
+                    handler.onClosed();
+                }
+            } else if (closing) {
+                finished = true;
+                polled.remove(this);
+            }
+        }
+
+        private void end() {
+            ended = true;
+            selector.wakeup();
+        }
+
+        @Override
+        public void close() {
+            closing = true;
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 把写模式的缓冲区交给处理器，返回整理后可继续写入的缓冲区；缓冲区被一条不完整的数据占满时扩容，
+     * 超过上限则丢弃已缓存的数据。
+     */
+    private static ByteBuffer deliver(ByteBuffer buffer, InboundHandler handler) throws IOException {
+        buffer.flip();
+        try {
+            handler.onInput(buffer);
+        } catch (RuntimeException ex) {
+            log.warn("Media input handler failed", ex);
+        }
+        buffer.compact();
+        if (buffer.hasRemaining()) {
+            return buffer;
+        }
+        if (buffer.capacity() >= MAX_BUFFER) {
+            log.warn("Discarding {} bytes of unframed media input", buffer.position());
+            return buffer.clear();
+        }
+        ByteBuffer grown = ByteBuffer.allocate(Math.min(buffer.capacity() * 2, MAX_BUFFER));
+        return grown.put(buffer.flip());
+    }
+
+    private static final class Holder {
+        private static final MediaIoReactor INSTANCE = create();
+
+        private static MediaIoReactor create() {
+            try {
+                return new MediaIoReactor();
+            } catch (IOException ex) {
+                throw new IllegalStateException("Failed to open media I/O selector", ex);
+            }
+        }
+    }
+}
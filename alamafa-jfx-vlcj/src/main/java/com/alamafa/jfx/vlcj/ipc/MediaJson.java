@@ -0,0 +1,35 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * JSON 格式信道使用的 {@link ObjectMapper}，{@link Instant} 以 ISO-8601 文本读写，不依赖 jsr310 模块是否在类路径上。
+ */
+public final class MediaJson {
+
+    private MediaJson() {
+    }
+
+    public static ObjectMapper mapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        SimpleModule instants = new SimpleModule("alamafa-media-instant");
+        instants.addSerializer(Instant.class, ToStringSerializer.instance);
+        instants.addDeserializer(Instant.class, new StdScalarDeserializer<>(Instant.class) {
+            @Override
+            public Instant deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return Instant.parse(parser.getValueAsString().trim());
+            }
+        });
+        mapper.registerModule(instants);
+        return mapper;
+    }
+}
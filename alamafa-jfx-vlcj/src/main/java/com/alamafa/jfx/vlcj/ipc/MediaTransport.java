@@ -0,0 +1,11 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+/**
+ * 与外部播放器进程之间的传输方式。
+ */
+public enum MediaTransport {
+    /** 命令写入子进程标准输入，事件从标准错误读取，格式由 {@link MediaWireFormat} 决定。 */
+    STDIO,
+    /** 播放器进程连回启动方监听的 Unix 域套接字，使用 {@link BinaryMediaCodec} 帧，与进程标准输入输出完全分离。 */
+    SOCKET
+}
@@ -0,0 +1,71 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.alamafa.core.metrics.MetricsRegistry;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * 与外部播放器进程之间的消息格式，由启动方通过 {@code --ipc=} 参数告知播放器进程。
+ */
+public enum MediaWireFormat {
+    /** 每行一条 Jackson JSON 消息，兼容不识别 {@code --ipc} 参数的播放器进程。 */
+    JSON,
+    /** {@link BinaryMediaCodec} 定义的长度前缀二进制帧。 */
+    BINARY;
+
+    /** 传给播放器进程的参数名。 */
+    public static final String ARGUMENT = "ipc";
+
+    /**
+     * 解析参数值，缺失或无法识别时回退为 {@link #JSON}。
+     */
+    public static MediaWireFormat fromArgument(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return JSON;
+        }
+    }
+
+    /**
+     * 返回形如 {@code --ipc=binary} 的命令行参数。
+     */
+    public String argument() {
+        return "--" + ARGUMENT + "=" + name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 创建该格式的命令信道。
+     */
+    public MediaCommandChannel commandChannel(OutputStream outputStream, MetricsRegistry metrics) {
+        return switch (this) {
+            case JSON -> new StdioCommandChannel(outputStream, null, metrics);
+            case BINARY -> new BinaryCommandChannel(outputStream, metrics);
+        };
+    }
+
+    /**
+     * 创建该格式的事件信道；二进制信道在收到 JSON 行时自动回退为 JSON 解码。
+     */
+    public MediaEventChannel eventChannel(InputStream inputStream, MetricsRegistry metrics) {
+        return switch (this) {
+            case JSON -> new StdioEventChannel(inputStream, null, metrics);
+            case BINARY -> new BinaryEventChannel(inputStream, metrics);
+        };
+    }
+
+    /**
+     * 创建读取播放器进程标准错误的事件信道，进程退出时读完剩余事件并停止轮询。
+     */
+    public MediaEventChannel eventChannel(Process process, MetricsRegistry metrics) {
+        return switch (this) {
+            case JSON -> new StdioEventChannel(process.getErrorStream(), null, metrics, process.onExit());
+            case BINARY -> new BinaryEventChannel(process.getErrorStream(), metrics, process.onExit());
+        };
+    }
+}
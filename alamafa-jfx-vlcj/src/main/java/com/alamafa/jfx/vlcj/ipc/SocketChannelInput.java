@@ -0,0 +1,49 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * 直接调用 {@link SocketChannel#read(ByteBuffer)} 的输入流。
+ * <p>
+ * 不使用 {@code Channels.newInputStream}，以免阻塞读取持有通道的 blocking lock，妨碍另一线程在同一连接上写入。
+ */
+final class SocketChannelInput extends InputStream {
+
+    private final SocketChannel channel;
+
+    private SocketChannelInput(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 返回带缓冲的数据输入流，关闭时一并关闭连接。
+     */
+    static DataInputStream open(SocketChannel channel) {
+        return new DataInputStream(new BufferedInputStream(new SocketChannelInput(channel), 4096));
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        return channel.read(ByteBuffer.wrap(buffer, offset, length));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,431 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 启动方一侧的 Unix 域套接字信道，同时承担命令与事件两个方向。
+ * <p>
+ * 每个播放器监听独立的套接字文件，播放器进程通过 {@code --socket=} 参数得知路径并连回，在同一连接上收发
+ * {@link BinaryMediaCodec} 帧。接受连接与读写都由共享的 {@link MediaIoReactor} 完成，不为信道创建线程。
+ * 连接断开或播放器进程重新连接时以新连接替换旧连接；未连接期间发送的命令暂存（最多 {@value #MAX_PENDING} 条），
+ * 连上后按顺序补发。
+ * <p>
+ * 套接字文件位于仅属主可访问的私有临时目录中。每个信道生成一次性令牌，经环境变量 {@value #TOKEN_ENVIRONMENT}
+ * 交给播放器进程；新连接必须先发送该令牌，校验通过后才会替换当前连接，否则直接关闭。未在握手期限内发送令牌的连接
+ * 同样被关闭，等待握手的连接超过 {@value #MAX_HANDSHAKES} 条时先关闭最早的一条。
+ */
+public final class SocketMediaChannel implements MediaCommandChannel, MediaEventChannel {
+
+    /** 传给播放器进程的参数名。 */
+    public static final String ARGUMENT = "socket";
+
+    /** 向播放器进程传递连接令牌的环境变量。 */
+    public static final String TOKEN_ENVIRONMENT = "ALAMAFA_PLAYER_TOKEN";
+
+    /** 令牌的字节数（十六进制 ASCII）。 */
+    static final int TOKEN_LENGTH = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(SocketMediaChannel.class);
+    private static final int MAX_PENDING = 256;
+    private static final int MAX_HANDSHAKES = 8;
+    private static final Duration HANDSHAKE_TIMEOUT = Duration.ofSeconds(5);
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Path path;
+    private final Path directory;
+    private final UUID id;
+    private final Duration handshakeTimeout;
+    private final String token;
+    private final byte[] tokenBytes;
+    private final ServerSocketChannel server;
+    private final BinaryMediaCodec commandCodec = new BinaryMediaCodec();
+    private final ArrayDeque<MediaCommand> pending = new ArrayDeque<>();
+    private final MetricsRegistry metrics;
+    private final Counter[] sent;
+    private final Timer sendTimer;
+    private MediaIoReactor.Registration acceptor;
+    private final Set<Session> handshaking = new LinkedHashSet<>();
+    private Session session;
+    private MediaEventListener listener;
+    private volatile boolean closed;
+
+    private SocketMediaChannel(Path path, Path directory, UUID id, Duration handshakeTimeout,
+                               ServerSocketChannel server, MetricsRegistry metrics) {
+        this.path = path;
+        this.directory = directory;
+        this.id = id;
+        this.handshakeTimeout = handshakeTimeout;
+        this.token = HexFormat.of().formatHex(randomBytes());
+        this.tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        this.server = server;
+        this.metrics = metrics;
+        MediaCommandType[] commandTypes = MediaCommandType.values();
+        this.sent = new Counter[commandTypes.length];
+        if (metrics != null) {
+            for (MediaCommandType type : commandTypes) {
+                sent[type.ordinal()] = metrics.counter("alamafa.media.ipc.commands",
+                        "type", type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.sendTimer = metrics != null ? metrics.timer("alamafa.media.ipc.send") : null;
+    }
+
+    /**
+     * 在新建的私有临时目录（POSIX 平台上权限为 {@code rwx------}）中为指定播放器创建并监听套接字文件，
+     * 关闭信道时一并删除该目录；平台不支持 Unix 域套接字时抛出 {@link UnsupportedOperationException}。
+     */
+    public static SocketMediaChannel open(UUID playerId, MetricsRegistry metrics) throws IOException {
+        Objects.requireNonNull(playerId, "playerId must not be null");
+        Path directory = createPrivateDirectory();
+        try {
+            return open(directory.resolve("player.sock"), directory, playerId, HANDSHAKE_TIMEOUT, metrics);
+        } catch (IOException | RuntimeException ex) {
+            deleteQuietly(directory);
+            throw ex;
+        }
+    }
+
+    /**
+     * 在指定路径上创建并监听套接字文件，已存在的同名文件会被删除；调用方负责保证所在目录只有属主可访问。
+     */
+    public static SocketMediaChannel open(Path path, MetricsRegistry metrics) throws IOException {
+        return open(path, metrics, HANDSHAKE_TIMEOUT);
+    }
+
+    /**
+     * 同 {@link #open(Path, MetricsRegistry)}，使用指定的握手期限。
+     */
+    static SocketMediaChannel open(Path path, MetricsRegistry metrics, Duration handshakeTimeout) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(handshakeTimeout, "handshakeTimeout must not be null");
+        UUID id = UUID.nameUUIDFromBytes(path.toString().getBytes(StandardCharsets.UTF_8));
+        return open(path, null, id, handshakeTimeout, metrics);
+    }
+
+    private static SocketMediaChannel open(Path path, Path directory, UUID id, Duration handshakeTimeout,
+                                           MetricsRegistry metrics) throws IOException {
+        Files.deleteIfExists(path);
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        SocketMediaChannel channel = new SocketMediaChannel(path, directory, id, handshakeTimeout, server, metrics);
+        try {
+            server.bind(UnixDomainSocketAddress.of(path));
+            channel.acceptor = MediaIoReactor.shared().accept(server, channel::accept);
+        } catch (IOException ex) {
+            server.close();
+            throw ex;
+        }
+        return channel;
+    }
+
+    private static Path createPrivateDirectory() throws IOException {
+        Path temp = Path.of(System.getProperty("java.io.tmpdir"));
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempDirectory(temp, "amf-",
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        }
+        // 非 POSIX 平台（Windows）的临时目录本身位于用户目录下
+        return Files.createTempDirectory(temp, "amf-");
+    }
+
+    private static byte[] randomBytes() {
+        byte[] bytes = new byte[TOKEN_LENGTH / 2];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 返回套接字文件路径。
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * 返回形如 {@code --socket=/tmp/amf-….sock} 的命令行参数。
+     */
+    public String argument() {
+        return "--" + ARGUMENT + "=" + path;
+    }
+
+    /**
+     * 返回播放器进程连接时必须先发送的一次性令牌，经 {@link #TOKEN_ENVIRONMENT} 传给播放器进程。
+     */
+    public String token() {
+        return token;
+    }
+
+    /**
+     * 当前是否有播放器进程连接。
+     */
+    public synchronized boolean isConnected() {
+        return session != null;
+    }
+
+    @Override
+    public synchronized void send(MediaCommand command) {
+        Objects.requireNonNull(command, "command must not be null");
+        if (closed) {
+            throw new IllegalStateException("Socket channel is closed");
+        }
+        if (session == null || !write(session, command)) {
+            if (pending.size() == MAX_PENDING) {
+                MediaCommand dropped = pending.removeFirst();
+                log.warn("Dropping queued media command {} for {}, player process is not connected", dropped.type(), path);
+            }
+            pending.addLast(command);
+        }
+    }
+
+    @Override
+    public void start(MediaEventListener listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+        synchronized (this) {
+            this.listener = listener;
+            if (session != null) {
+                session.frames = new EventFrameHandler(listener, metrics);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        List<Session> open = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (session != null) {
+                open.add(session);
+            }
+            open.addAll(handshaking);
+            session = null;
+            handshaking.clear();
+            pending.clear();
+        }
+        open.forEach(Session::close);
+        acceptor.close();
+        deleteQuietly(path);
+        if (directory != null) {
+            deleteQuietly(directory);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.debug("Failed to delete {}", file, ex);
+        }
+    }
+
+    /** 在事件循环线程上登记新连接，等待其在握手期限内发送令牌。 */
+    private void accept(SocketChannel accepted) {
+        MediaIoReactor.Connection connection;
+        try {
+            connection = MediaIoReactor.shared().connection(accepted);
+        } catch (IOException ex) {
+            log.warn("Failed to register player connection on {}", path, ex);
+            closeQuietly(accepted);
+            return;
+        }
+        Session candidate = new Session(connection);
+        Session evicted = null;
+        synchronized (this) {
+            if (closed) {
+                connection.close();
+                return;
+            }
+            if (handshaking.size() == MAX_HANDSHAKES) {
+                evicted = handshaking.iterator().next();
+                handshaking.remove(evicted);
+            }
+            handshaking.add(candidate);
+            candidate.deadline = Handshakes.DEADLINES.watch(id, handshakeTimeout, event -> expire(candidate));
+        }
+        if (evicted != null) {
+            log.warn("Too many pending player connections on {}, closing the oldest", path);
+            evicted.close();
+        }
+        connection.read(candidate);
+    }
+
+    /** 未在期限内完成握手的连接直接关闭。 */
+    private void expire(Session expired) {
+        synchronized (this) {
+            if (!handshaking.remove(expired)) {
+                return;
+            }
+        }
+        log.warn("Closing player connection on {} that sent no token within {} ms", path, handshakeTimeout.toMillis());
+        expired.close();
+    }
+
+    /** 令牌校验通过后以新连接替换旧连接，补发暂存命令，并在已有监听器时开始派发事件。 */
+    private void attach(Session attached) {
+        Session previous;
+        synchronized (this) {
+            if (!handshaking.remove(attached) || closed) {
+                // 握手已超时、被挤出或信道已关闭
+                attached.close();
+                return;
+            }
+            attached.deadline.close();
+            previous = session;
+            session = attached;
+            if (listener != null) {
+                attached.frames = new EventFrameHandler(listener, metrics);
+            }
+            while (!pending.isEmpty() && session == attached) {
+                if (!write(attached, pending.peekFirst())) {
+                    break;
+                }
+                pending.removeFirst();
+            }
+        }
+        if (previous != null) {
+            log.info("Player process reconnected on {}", path);
+            previous.connection.close();
+        }
+    }
+
+    /**
+     * 一条已接受的连接：先校验令牌，之后把字节交给事件帧处理器；尚无监听器时字节留在缓冲区中。
+     */
+    private final class Session implements MediaIoReactor.InboundHandler {
+
+        private final MediaIoReactor.Connection connection;
+        private volatile MediaIoReactor.InboundHandler frames;
+        private HeartbeatSupervisor.Lease deadline;
+        private boolean authenticated;
+
+        private Session(MediaIoReactor.Connection connection) {
+            this.connection = connection;
+        }
+
+        private void close() {
+            synchronized (SocketMediaChannel.this) {
+                if (deadline != null) {
+                    deadline.close();
+                }
+            }
+            connection.close();
+        }
+
+        @Override
+        public void onInput(ByteBuffer input) throws IOException {
+            if (!authenticated) {
+                if (input.remaining() < TOKEN_LENGTH) {
+                    return;
+                }
+                byte[] presented = new byte[TOKEN_LENGTH];
+                input.get(presented);
+                if (!MessageDigest.isEqual(presented, tokenBytes)) {
+                    log.warn("Rejected player connection on {} with an invalid token", path);
+                    synchronized (SocketMediaChannel.this) {
+                        handshaking.remove(this);
+                    }
+                    input.position(input.limit());
+                    close();
+                    return;
+                }
+                authenticated = true;
+                attach(this);
+            }
+            MediaIoReactor.InboundHandler current = frames;
+            if (current != null) {
+                current.onInput(input);
+            }
+        }
+
+        @Override
+        public void onClosed() {
+            if (!closed && authenticated) {
+                log.debug("Player connection on {} dropped", path);
+            }
+            synchronized (SocketMediaChannel.this) {
+                handshaking.remove(this);
+                if (session == this) {
+                    session = null;
+                }
+                if (deadline != null) {
+                    deadline.close();
+                }
+            }
+        }
+    }
+
+    /** 调用方持有锁；写入失败时断开该连接并返回 false。 */
+    private boolean write(Session target, MediaCommand command) {
+        MediaCommandSentEvent event = new MediaCommandSentEvent();
+        event.begin();
+        long started = sendTimer != null ? System.nanoTime() : 0L;
+        ByteBuffer frame = commandCodec.encodeCommand(command);
+        int length = frame.remaining();
+        boolean success = false;
+        try {
+            target.connection.write(frame);
+            success = true;
+        } catch (IOException ex) {
+            log.warn("Failed to send media command over {}, waiting for the player to reconnect", path, ex);
+            if (session == target) {
+                session = null;
+            }
+            target.connection.close();
+        } finally {
+            if (event.shouldCommit()) {
+                event.commandType = String.valueOf(command.type());
+                event.playerId = String.valueOf(command.playerId());
+                event.length = length;
+                event.success = success;
+                event.commit();
+            }
+            if (success && sendTimer != null) {
+                sendTimer.record(System.nanoTime() - started);
+                sent[command.type().ordinal()].increment();
+            }
+        }
+        return success;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /** 所有信道共用的握手期限时间轮，没有待握手的连接时其线程处于休眠。 */
+    private static final class Handshakes {
+        private static final HeartbeatSupervisor DEADLINES = new HeartbeatSupervisor(Duration.ofMillis(50), 128);
+    }
+}
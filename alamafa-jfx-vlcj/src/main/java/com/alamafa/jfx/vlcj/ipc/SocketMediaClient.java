@@ -0,0 +1,177 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 播放器进程一侧的 Unix 域套接字客户端：连回 {@link SocketMediaChannel}，读取命令并发送事件。
+ * <p>
+ * 每次连接后先发送启动方生成的令牌（见 {@link SocketMediaChannel#token()}）。连接断开、读取结束或写入失败时在
+ * {@code reconnectTimeout} 内按递增间隔重连，启动方会用新连接替换旧连接并补发暂存的命令。
+ */
+public final class SocketMediaClient implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketMediaClient.class);
+    private static final long INITIAL_BACKOFF_MILLIS = 50L;
+    private static final long MAX_BACKOFF_MILLIS = 1_000L;
+
+    private final UnixDomainSocketAddress address;
+    private final byte[] token;
+    private final Duration reconnectTimeout;
+    private final BinaryMediaCodec eventCodec = new BinaryMediaCodec();
+    private volatile SocketChannel connection;
+    private volatile boolean closed;
+
+    private SocketMediaClient(Path path, String token, Duration reconnectTimeout) {
+        this.address = UnixDomainSocketAddress.of(path);
+        this.token = token.getBytes(StandardCharsets.US_ASCII);
+        this.reconnectTimeout = reconnectTimeout;
+    }
+
+    /**
+     * 连接到指定套接字文件并出示令牌，在 {@code reconnectTimeout} 内未能连上时抛出异常。
+     */
+    public static SocketMediaClient connect(Path path, String token, Duration reconnectTimeout) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(token, "token must not be null");
+        Objects.requireNonNull(reconnectTimeout, "reconnectTimeout must not be null");
+        SocketMediaClient client = new SocketMediaClient(path, token, reconnectTimeout);
+        client.reconnect(null);
+        return client;
+    }
+
+    /**
+     * 发送事件；写入失败时重连并重试一次，仍失败则丢弃该事件。
+     */
+    public synchronized void send(MediaEvent event) {
+        Objects.requireNonNull(event, "event must not be null");
+        for (int attempt = 0; attempt < 2 && !closed; attempt++) {
+            SocketChannel current = connection;
+            if (current != null) {
+                try {
+                    ByteBuffer frame = eventCodec.encodeEvent(event);
+                    while (frame.hasRemaining()) {
+                        current.write(frame);
+                    }
+                    return;
+                } catch (IOException ex) {
+                    log.warn("Failed to publish media event, reconnecting", ex);
+                }
+            }
+            try {
+                reconnect(current);
+            } catch (IOException ex) {
+                log.warn("Dropping media event {}, console is unreachable", event.type(), ex);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 在当前线程上循环读取命令并交给 {@code consumer}，连接断开时自动重连；关闭或重连超时后返回。
+     */
+    public void readCommands(Consumer<MediaCommand> consumer) {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        while (!closed) {
+            SocketChannel current = connection;
+            if (current != null) {
+                try {
+                    DataInputStream input = SocketChannelInput.open(current);
+                    MediaCommand command;
+                    while ((command = readCommand(codec, input)) != null) {
+                        consumer.accept(command);
+                    }
+                } catch (IOException ex) {
+                    if (closed) {
+                        return;
+                    }
+                    log.warn("Command connection lost, reconnecting", ex);
+                }
+            }
+            try {
+                reconnect(current);
+            } catch (IOException ex) {
+                log.warn("Giving up on reconnecting to {}", address.getPath(), ex);
+                return;
+            }
+        }
+    }
+
+    private static MediaCommand readCommand(BinaryMediaCodec codec, DataInputStream input) throws IOException {
+        while (true) {
+            try {
+                return codec.readCommand(input);
+            } catch (StreamCorruptedException ex) {
+                log.warn("Skipping malformed media command", ex);
+            }
+        }
+    }
+
+    /** 仅当 {@code stale} 仍是当前连接时才重新连接，避免读写两个线程重复重连。 */
+    private synchronized void reconnect(SocketChannel stale) throws IOException {
+        if (closed) {
+            throw new IOException("Client is closed");
+        }
+        if (connection != stale) {
+            return;
+        }
+        closeQuietly(stale);
+        connection = null;
+        long deadline = System.nanoTime() + reconnectTimeout.toNanos();
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.connect(address);
+                ByteBuffer presented = ByteBuffer.wrap(token);
+                while (presented.hasRemaining()) {
+                    channel.write(presented);
+                }
+                connection = channel;
+                return;
+            } catch (IOException ex) {
+                closeQuietly(channel);
+                if (System.nanoTime() - deadline >= 0 || closed) {
+                    throw ex;
+                }
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reconnecting", ex);
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
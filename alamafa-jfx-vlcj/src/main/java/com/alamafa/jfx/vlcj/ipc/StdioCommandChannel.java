@@ -1,5 +1,8 @@
 package com.alamafa.jfx.vlcj.ipc;
 
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,6 +12,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -20,27 +24,66 @@ public final class StdioCommandChannel implements MediaCommandChannel {
 
     private final BufferedWriter writer;
     private final ObjectMapper mapper;
+    private final Counter[] sent;
+    private final Timer sendTimer;
 
     public StdioCommandChannel(OutputStream outputStream) {
         this(outputStream, defaultMapper());
     }
 
     public StdioCommandChannel(OutputStream outputStream, ObjectMapper mapper) {
+        this(outputStream, mapper, null);
+    }
+
+    /**
+     * 创建命令信道，并把各类型命令的发送次数与写入耗时记录到 {@code metrics}（为 null 时不记录）。
+     */
+    public StdioCommandChannel(OutputStream outputStream, ObjectMapper mapper, MetricsRegistry metrics) {
         Objects.requireNonNull(outputStream, "outputStream must not be null");
         this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
         this.mapper = mapper == null ? defaultMapper() : mapper;
+        MediaCommandType[] types = MediaCommandType.values();
+        this.sent = new Counter[types.length];
+        if (metrics != null) {
+            for (MediaCommandType type : types) {
+                sent[type.ordinal()] = metrics.counter("alamafa.media.ipc.commands",
+                        "type", type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.sendTimer = metrics != null ? metrics.timer("alamafa.media.ipc.send") : null;
     }
 
     @Override
     public synchronized void send(MediaCommand command) {
         Objects.requireNonNull(command, "command must not be null");
+        MediaCommandSentEvent event = new MediaCommandSentEvent();
+        event.begin();
+        int length = 0;
+        boolean success = false;
+        long started = sendTimer != null ? System.nanoTime() : 0L;
         try {
             String json = mapper.writeValueAsString(command);
+            length = json.length();
             writer.write(json);
             writer.write('\n');
             writer.flush();
+            success = true;
         } catch (IOException ex) {
             throw new IllegalStateException("Failed to send media command", ex);
+        } finally {
+            if (event.shouldCommit()) {
+                event.commandType = String.valueOf(command.type());
+                event.playerId = String.valueOf(command.playerId());
+                event.length = length;
+                event.success = success;
+                event.commit();
+            }
+            if (success && sendTimer != null) {
+                sendTimer.record(System.nanoTime() - started);
+                if (command.type() != null) {
+                    sent[command.type().ordinal()].increment();
+                }
+            }
         }
     }
 
@@ -54,8 +97,6 @@ public final class StdioCommandChannel implements MediaCommandChannel {
     }
 
     private static ObjectMapper defaultMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.findAndRegisterModules();
-        return mapper;
+        return MediaJson.mapper();
     }
 }
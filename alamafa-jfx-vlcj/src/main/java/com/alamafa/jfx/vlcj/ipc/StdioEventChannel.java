@@ -1,15 +1,19 @@
 package com.alamafa.jfx.vlcj.ipc;
 
+import com.alamafa.core.metrics.Counter;
+import com.alamafa.core.metrics.MetricsRegistry;
+import com.alamafa.core.metrics.Timer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 public final class StdioEventChannel implements MediaEventChannel {
 
@@ -17,53 +21,106 @@ public final class StdioEventChannel implements MediaEventChannel {
 
     private final InputStream inputStream;
     private final ObjectMapper mapper;
-    private Thread readerThread;
+    private final Counter[] received;
+    private final Timer transitTimer;
+    private final CompletionStage<?> endOfInput;
+    private volatile MediaIoReactor.Registration registration;
 
     public StdioEventChannel(InputStream inputStream) {
         this(inputStream, defaultMapper());
     }
 
     public StdioEventChannel(InputStream inputStream, ObjectMapper mapper) {
+        this(inputStream, mapper, null);
+    }
+
+    /**
+     * 创建事件信道，并把各类型事件的接收次数与传输延迟记录到 {@code metrics}（为 null 时不记录）。
+     */
+    public StdioEventChannel(InputStream inputStream, ObjectMapper mapper, MetricsRegistry metrics) {
+        this(inputStream, mapper, metrics, null);
+    }
+
+    /**
+     * 同上，{@code endOfInput} 完成（如播放器进程退出）时读完剩余事件并停止轮询。
+     */
+    public StdioEventChannel(InputStream inputStream, ObjectMapper mapper, MetricsRegistry metrics,
+                             CompletionStage<?> endOfInput) {
+        this.endOfInput = endOfInput;
         this.inputStream = Objects.requireNonNull(inputStream, "inputStream must not be null");
         this.mapper = mapper == null ? defaultMapper() : mapper;
+        MediaEventType[] types = MediaEventType.values();
+        this.received = new Counter[types.length];
+        if (metrics != null) {
+            for (MediaEventType type : types) {
+                received[type.ordinal()] = metrics.counter("alamafa.media.ipc.events",
+                        "type", type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.transitTimer = metrics != null ? metrics.timer("alamafa.media.ipc.transit") : null;
     }
 
     @Override
     public void start(MediaEventListener listener) {
         Objects.requireNonNull(listener, "listener must not be null");
-        readerThread = new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    String trimmed = line.trim();
-                    if (trimmed.isEmpty()) {
-                        continue;
-                    }
-                    try {
-                        MediaEvent event = mapper.readValue(trimmed, MediaEvent.class);
-                        listener.onEvent(event);
-                    } catch (IOException ex) {
-                        log.warn("Failed to decode media event", ex);
-                    }
-                }
-            } catch (IOException ex) {
-                log.warn("Event channel closed", ex);
+        registration = MediaIoReactor.shared().poll(inputStream, endOfInput, handler(listener));
+    }
+
+    /**
+     * 返回按 JSON 行解码事件的处理器，供共享事件循环调用。
+     */
+    MediaIoReactor.InboundHandler handler(MediaEventListener listener) {
+        EventDelivery delivery = new EventDelivery(listener);
+        return MediaIoReactor.lines(line -> accept(line, delivery));
+    }
+
+    private void accept(String line, MediaEventListener listener) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        MediaEventReceivedEvent recorded = new MediaEventReceivedEvent();
+        recorded.begin();
+        try {
+            MediaEvent event = mapper.readValue(trimmed, MediaEvent.class);
+            long transit = recorded.isEnabled()
+                    ? Duration.between(event.timestamp(), Instant.now()).toMillis()
+                    : 0L;
+            record(event);
+            listener.onEvent(event);
+            if (recorded.shouldCommit()) {
+                recorded.eventType = event.type().name();
+                recorded.playerId = event.playerId().toString();
+                recorded.length = trimmed.length();
+                recorded.transit = transit;
+                recorded.commit();
             }
-        }, "vlcj-event-channel");
-        readerThread.setDaemon(true);
-        readerThread.start();
+        } catch (IOException ex) {
+            log.warn("Failed to decode media event", ex);
+        }
+    }
+
+    private void record(MediaEvent event) {
+        if (transitTimer == null) {
+            return;
+        }
+        if (event.type() != null) {
+            received[event.type().ordinal()].increment();
+        }
+        if (event.timestamp() != null) {
+            transitTimer.record(Duration.between(event.timestamp(), Instant.now()));
+        }
     }
 
     @Override
     public void close() {
-        if (readerThread != null) {
-            readerThread.interrupt();
+        MediaIoReactor.Registration current = registration;
+        if (current != null) {
+            current.close();
         }
     }
 
     private static ObjectMapper defaultMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.findAndRegisterModules();
-        return mapper;
+        return MediaJson.mapper();
     }
 }
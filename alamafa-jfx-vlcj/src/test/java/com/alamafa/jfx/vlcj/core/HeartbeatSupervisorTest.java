@@ -0,0 +1,61 @@
+package com.alamafa.jfx.vlcj.core;
+
+import com.alamafa.jfx.vlcj.ipc.MediaEvent;
+import com.alamafa.jfx.vlcj.ipc.MediaEventType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeartbeatSupervisorTest {
+
+    @Test
+    void emitsTimeoutOnlyAfterHeartbeatsStop() throws Exception {
+        BlockingQueue<MediaEvent> timeouts = new LinkedBlockingQueue<>();
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 8)) {
+            UUID playerId = UUID.randomUUID();
+            long started = System.nanoTime();
+            HeartbeatSupervisor.Lease lease = supervisor.watch(playerId, Duration.ofMillis(150), timeouts::add);
+            for (int i = 0; i < 6; i++) {
+                Thread.sleep(50);
+                lease.beat();
+            }
+            assertNull(timeouts.poll());
+
+            MediaEvent timeout = timeouts.poll(2, TimeUnit.SECONDS);
+            assertNotNull(timeout);
+            assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(450));
+            assertEquals(MediaEventType.ERROR, timeout.type());
+            assertEquals(playerId, timeout.playerId());
+            assertEquals("Heartbeat timeout", timeout.payload().get("message"));
+            assertEquals(0, supervisor.size());
+        }
+    }
+
+    @Test
+    void supportsPerEndpointTimeoutsAndCancellation() throws Exception {
+        BlockingQueue<MediaEvent> timeouts = new LinkedBlockingQueue<>();
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 4)) {
+            UUID slow = UUID.randomUUID();
+            UUID fast = UUID.randomUUID();
+            UUID cancelled = UUID.randomUUID();
+            supervisor.watch(slow, Duration.ofMillis(300), timeouts::add);
+            supervisor.watch(fast, Duration.ofMillis(50), timeouts::add);
+            supervisor.watch(cancelled, Duration.ofMillis(50), timeouts::add).close();
+            assertEquals(2, supervisor.size());
+
+            assertEquals(fast, timeouts.poll(2, TimeUnit.SECONDS).playerId());
+            assertEquals(slow, timeouts.poll(2, TimeUnit.SECONDS).playerId());
+            assertNull(timeouts.poll(100, TimeUnit.MILLISECONDS));
+            assertEquals(0, supervisor.size());
+        }
+    }
+}
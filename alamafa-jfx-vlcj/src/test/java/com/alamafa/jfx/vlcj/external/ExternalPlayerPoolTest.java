@@ -0,0 +1,301 @@
+package com.alamafa.jfx.vlcj.external;
+
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
+import com.alamafa.jfx.vlcj.core.PlayerProperties;
+import com.alamafa.jfx.vlcj.ipc.MediaCommand;
+import com.alamafa.jfx.vlcj.ipc.MediaCommandChannel;
+import com.alamafa.jfx.vlcj.ipc.MediaCommandType;
+import com.alamafa.jfx.vlcj.ipc.MediaEvent;
+import com.alamafa.jfx.vlcj.ipc.MediaEventChannel;
+import com.alamafa.jfx.vlcj.ipc.MediaEventListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalPlayerPoolTest {
+
+    @Test
+    void keepsMinimumIdleHostsAndRefillsAfterLease() throws Exception {
+        List<TestHost> spawned = new CopyOnWriteArrayList<>();
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 8);
+             ExternalPlayerPool pool = new ExternalPlayerPool(pool(2, 3), Duration.ofSeconds(5), supervisor,
+                     () -> spawn(spawned))) {
+            pool.fill();
+            await(() -> pool.idleCount() == 2);
+            assertEquals(2, spawned.size());
+
+            PlayerHostProcess leased = pool.lease();
+            assertNotNull(leased);
+            await(() -> pool.idleCount() == 2);
+            assertEquals(3, spawned.size());
+
+            // 租出后事件暂存到终端开始监听为止
+            TestHost host = find(spawned, leased);
+            UUID playerId = UUID.randomUUID();
+            host.events().emit(MediaEvent.heartbeat(playerId));
+            List<MediaEvent> received = new CopyOnWriteArrayList<>();
+            leased.eventView().start(received::add);
+            assertEquals(playerId, received.getFirst().playerId());
+
+            pool.release(leased, playerId);
+            assertEquals(MediaCommandType.RELEASE, host.commands().sent.getLast().type());
+            assertEquals(3, pool.idleCount());
+            assertFalse(host.process().destroyed);
+        }
+    }
+
+    @Test
+    void closesReleasedHostsBeyondMaximumAndEvictsExitedHosts() throws Exception {
+        List<TestHost> spawned = new CopyOnWriteArrayList<>();
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 8);
+             ExternalPlayerPool pool = new ExternalPlayerPool(pool(1, 1), Duration.ofSeconds(5), supervisor,
+                     () -> spawn(spawned))) {
+            pool.fill();
+            await(() -> pool.idleCount() == 1);
+            TestHost extra = spawn(spawned, false);
+            pool.release(extra.host(), UUID.randomUUID());
+            assertTrue(extra.process().destroyed);
+            assertTrue(extra.commands().sent.isEmpty());
+
+            TestHost idle = spawned.getFirst();
+            idle.events().emit(MediaEvent.heartbeat(idle.host().handle().getPlayerId()));
+            idle.process().completeExit();
+            await(() -> spawned.size() == 2 && pool.idleCount() == 1);
+            assertTrue(idle.process().destroyed);
+
+            // 从未响应过心跳的进程被淘汰后不再补充
+            TestHost silent = spawned.getLast();
+            silent.process().completeExit();
+            await(() -> pool.idleCount() == 0);
+            Thread.sleep(50);
+            assertEquals(2, spawned.size());
+            assertTrue(silent.process().destroyed);
+        }
+    }
+
+    @Test
+    void routesHostExitOnlyToCurrentLeaseAndRefillsAfterDiscard() throws Exception {
+        List<TestHost> spawned = new CopyOnWriteArrayList<>();
+        AtomicBoolean spawnable = new AtomicBoolean(true);
+        AtomicInteger refused = new AtomicInteger();
+        PlayerProperties properties = new PlayerProperties();
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 8);
+             ExternalPlayerPool pool = new ExternalPlayerPool(pool(1, 2), Duration.ofSeconds(5), supervisor,
+                     () -> {
+                         if (spawnable.get()) {
+                             return spawn(spawned);
+                         }
+                         refused.incrementAndGet();
+                         return null;
+                     })) {
+            pool.fill();
+            await(() -> pool.idleCount() == 1);
+
+            PlayerHostProcess host = pool.lease();
+            UUID firstId = UUID.randomUUID();
+            ExternalProcessEndpoint first = new ExternalProcessEndpoint(firstId, host, null, properties, supervisor,
+                    () -> pool.release(host, firstId));
+            AtomicInteger firstEnded = new AtomicInteger();
+            first.onExit(firstEnded::incrementAndGet);
+            await(() -> pool.idleCount() == 1);
+            first.close();
+            assertEquals(1, firstEnded.get());
+            assertEquals(2, pool.idleCount());
+
+            // 同一进程的下一次租约不会再通知已归还的终端
+            PlayerHostProcess again = pool.lease();
+            assertSame(host, again);
+            UUID secondId = UUID.randomUUID();
+            AtomicInteger secondReleased = new AtomicInteger();
+            ExternalProcessEndpoint second = new ExternalProcessEndpoint(secondId, again, null, properties, supervisor,
+                    () -> {
+                        secondReleased.incrementAndGet();
+                        pool.release(again, secondId);
+                    });
+            AtomicInteger secondEnded = new AtomicInteger();
+            second.onExit(secondEnded::incrementAndGet);
+            TestHost testHost = find(spawned, again);
+            testHost.process().completeExit();
+            assertEquals(1, secondReleased.get());
+            assertEquals(1, secondEnded.get());
+            assertEquals(1, firstEnded.get());
+            assertTrue(testHost.process().destroyed);
+
+            // 无法交给终端的进程经由进程池淘汰并补充
+            spawnable.set(false);
+            PlayerHostProcess failed = pool.lease();
+            await(() -> refused.get() == 1);
+            Thread.sleep(50);
+            assertEquals(0, pool.idleCount());
+            spawnable.set(true);
+            pool.discard(failed);
+            assertTrue(find(spawned, failed).process().destroyed);
+            await(() -> pool.idleCount() == 1);
+            assertEquals(3, spawned.size());
+        }
+    }
+
+    @Test
+    void evictsReturnedOnDemandHostsOnExitAndKeepsMinimumPastMaxIdle() throws Exception {
+        List<TestHost> spawned = new CopyOnWriteArrayList<>();
+        PlayerProperties.Pool properties = pool(1, 3);
+        properties.setMaxIdleSeconds(1);
+        try (HeartbeatSupervisor supervisor = new HeartbeatSupervisor(Duration.ofMillis(10), 8);
+             ExternalPlayerPool pool = new ExternalPlayerPool(properties, Duration.ofSeconds(5), supervisor,
+                     () -> spawn(spawned))) {
+            pool.fill();
+            await(() -> pool.idleCount() == 1);
+
+            // 池空时按需启动的进程归还后同样在退出时被淘汰
+            TestHost onDemand = spawn(spawned, false);
+            pool.release(onDemand.host(), UUID.randomUUID());
+            assertEquals(2, pool.idleCount());
+            onDemand.process().completeExit();
+            assertEquals(1, pool.idleCount());
+            assertTrue(onDemand.process().destroyed);
+
+            // 空闲超时只回收多于 minSize 的进程，不会反复重启健康的进程
+            TestHost extra = spawn(spawned, false);
+            pool.release(extra.host(), UUID.randomUUID());
+            assertEquals(2, pool.idleCount());
+            await(() -> pool.idleCount() == 1);
+            Thread.sleep(1500);
+            assertEquals(1, pool.idleCount());
+            assertEquals(1, spawned.size());
+            assertEquals(1, Stream.of(extra, spawned.getFirst()).filter(host -> host.process().destroyed).count());
+        }
+    }
+
+    private static PlayerProperties.Pool pool(int minSize, int maxSize) {
+        PlayerProperties.Pool pool = new PlayerProperties.Pool();
+        pool.setMinSize(minSize);
+        pool.setMaxSize(maxSize);
+        return pool;
+    }
+
+    private static PlayerHostProcess spawn(List<TestHost> spawned) {
+        return spawn(spawned, true).host();
+    }
+
+    private static TestHost spawn(List<TestHost> spawned, boolean track) {
+        TestProcess process = new TestProcess();
+        ExternalPlayerHandle handle = new ExternalPlayerHandle(UUID.randomUUID(), process);
+        TestCommandChannel commands = new TestCommandChannel();
+        TestEventChannel events = new TestEventChannel();
+        TestHost host = new TestHost(new PlayerHostProcess(handle, commands, events, new ExternalProcessRegistry()),
+                process, commands, events);
+        if (track) {
+            spawned.add(host);
+        }
+        return host;
+    }
+
+    private static TestHost find(List<TestHost> spawned, PlayerHostProcess host) {
+        return spawned.stream().filter(candidate -> candidate.host() == host).findFirst().orElseThrow();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within 2s");
+            Thread.sleep(5);
+        }
+    }
+
+    private record TestHost(PlayerHostProcess host,
+                            TestProcess process,
+                            TestCommandChannel commands,
+                            TestEventChannel events) {
+    }
+
+    private static final class TestCommandChannel implements MediaCommandChannel {
+        private final List<MediaCommand> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(MediaCommand command) {
+            sent.add(command);
+        }
+
+        @Override
+        public void close() { }
+    }
+
+    private static final class TestEventChannel implements MediaEventChannel {
+        private volatile MediaEventListener listener;
+
+        void emit(MediaEvent event) {
+            listener.onEvent(event);
+        }
+
+        @Override
+        public void start(MediaEventListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() { }
+    }
+
+    private static final class TestProcess extends Process {
+        private final CompletableFuture<Process> exitFuture = new CompletableFuture<>();
+        private volatile boolean alive = true;
+        private volatile boolean destroyed;
+
+        void completeExit() {
+            alive = false;
+            exitFuture.complete(this);
+        }
+
+        @Override
+        public OutputStream getOutputStream() { return OutputStream.nullOutputStream(); }
+
+        @Override
+        public InputStream getInputStream() { return InputStream.nullInputStream(); }
+
+        @Override
+        public InputStream getErrorStream() { return InputStream.nullInputStream(); }
+
+        @Override
+        public int waitFor() { return 0; }
+
+        @Override
+        public int exitValue() { return 0; }
+
+        @Override
+        public void destroy() {
+            alive = false;
+            destroyed = true;
+        }
+
+        @Override
+        public boolean isAlive() { return alive; }
+
+        @Override
+        public Process destroyForcibly() {
+            destroy();
+            return this;
+        }
+
+        @Override
+        public long pid() { return 42L; }
+
+        @Override
+        public CompletableFuture<Process> onExit() { return exitFuture; }
+    }
+}
@@ -1,5 +1,6 @@
 package com.alamafa.jfx.vlcj.external;
 
+import com.alamafa.jfx.vlcj.core.HeartbeatSupervisor;
 import com.alamafa.jfx.vlcj.core.MediaEventDispatcher;
 import com.alamafa.jfx.vlcj.core.PlayerProperties;
 import com.alamafa.jfx.vlcj.ipc.MediaCommand;
@@ -34,6 +35,7 @@ class ExternalProcessEndpointTest {
         PlayerProperties properties = new PlayerProperties();
         properties.setHeartbeatTimeoutSeconds(1);
         TestEventDispatcher dispatcher = new TestEventDispatcher();
+        HeartbeatSupervisor supervisor = new HeartbeatSupervisor();
 
         ExternalProcessEndpoint endpoint = new ExternalProcessEndpoint(
                 handle,
@@ -41,7 +43,8 @@ class ExternalProcessEndpointTest {
                 eventChannel,
                 dispatcher,
                 properties,
-                registry);
+                registry,
+                supervisor);
 
         process.completeExit();
 
@@ -49,7 +52,8 @@ class ExternalProcessEndpointTest {
         assertTrue(eventChannel.closed.get());
         assertEquals(1, registry.unregisterCount.get());
         assertFalse(process.isAlive());
-        assertTrue(endpointSchedulerShutdown(endpoint));
+        assertEquals(0, supervisor.size());
+        supervisor.close();
     }
 
     @Test
@@ -62,6 +66,7 @@ class ExternalProcessEndpointTest {
         registry.register(handle);
         PlayerProperties properties = new PlayerProperties();
         properties.setHeartbeatTimeoutSeconds(1);
+        HeartbeatSupervisor supervisor = new HeartbeatSupervisor();
 
         ExternalProcessEndpoint endpoint = new ExternalProcessEndpoint(
                 handle,
@@ -69,7 +74,8 @@ class ExternalProcessEndpointTest {
                 eventChannel,
                 new TestEventDispatcher(),
                 properties,
-                registry);
+                registry,
+                supervisor);
 
         endpoint.close();
         endpoint.close();
@@ -77,17 +83,8 @@ class ExternalProcessEndpointTest {
         assertEquals(1, commandChannel.closeCount.get());
         assertEquals(1, eventChannel.closeCount.get());
         assertEquals(1, registry.unregisterCount.get());
-    }
-
-    private boolean endpointSchedulerShutdown(ExternalProcessEndpoint endpoint) {
-        try {
-            var field = ExternalProcessEndpoint.class.getDeclaredField("scheduler");
-            field.setAccessible(true);
-            java.util.concurrent.ScheduledExecutorService executor = (java.util.concurrent.ScheduledExecutorService) field.get(endpoint);
-            return executor.isShutdown();
-        } catch (ReflectiveOperationException ex) {
-            throw new AssertionError("Failed to inspect scheduler", ex);
-        }
+        assertEquals(0, supervisor.size());
+        supervisor.close();
     }
 
     private static final class TestCommandChannel implements MediaCommandChannel {
@@ -0,0 +1,145 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryMediaCodecTest {
+
+    private final UUID playerId = UUID.randomUUID();
+
+    @Test
+    void roundTripsCommandsAndEventsWithTypedPayloads() throws IOException {
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        Instant timestamp = Instant.parse("2026-01-02T03:04:05.123456789Z");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        codec.writeCommand(MediaCommand.play(playerId, "rtsp://camera/1"), output);
+        codec.writeCommand(MediaCommand.setVolume(playerId, 42), output);
+        codec.writeCommand(MediaCommand.seek(playerId, 12.5), output);
+        int heartbeatLength = codec.writeEvent(new MediaEvent(MediaEventType.HEARTBEAT, playerId, timestamp, Map.of()), output);
+        codec.writeEvent(new MediaEvent(MediaEventType.ERROR, playerId, timestamp,
+                Map.of("message", "Heartbeat timeout", "fatal", true, "frames", 7L)), output);
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+        MediaCommand play = codec.readCommand(input);
+        assertEquals(MediaCommandType.PLAY, play.type());
+        assertEquals(playerId, play.playerId());
+        assertEquals("rtsp://camera/1", play.payload().get("media"));
+        assertEquals(42, codec.readCommand(input).payload().get("value"));
+        assertEquals(12.5, codec.readCommand(input).payload().get("position"));
+        MediaEvent heartbeat = codec.readEvent(input);
+        assertEquals(MediaEventType.HEARTBEAT, heartbeat.type());
+        assertEquals(timestamp, heartbeat.timestamp());
+        assertEquals(33, heartbeatLength);
+        MediaEvent error = codec.readEvent(input);
+        assertEquals(Map.of("message", "Heartbeat timeout", "fatal", true, "frames", 7L), error.payload());
+        assertNull(codec.readEvent(input));
+    }
+
+    @Test
+    void resynchronisesAfterForeignBytes() throws IOException {
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write("libvlc warning: something\n".getBytes(StandardCharsets.UTF_8));
+        output.write(new byte[]{(byte) 0xA1, 0x00, (byte) 0xA1});
+        codec.writeEvent(MediaEvent.heartbeat(playerId), output);
+        output.write("[0000] more noise".getBytes(StandardCharsets.UTF_8));
+        codec.writeEvent(new MediaEvent(MediaEventType.PAUSED, playerId, Instant.now(), Map.of()), output);
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(output.toByteArray()));
+
+        assertEquals(MediaEventType.HEARTBEAT, codec.readEvent(input).type());
+        assertEquals(MediaEventType.PAUSED, codec.readEvent(input).type());
+        assertNull(codec.readEvent(input));
+    }
+
+    @Test
+    void rejectsStringLengthBeyondFrameAndReadsNextFrame() throws IOException {
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        ByteBuffer corrupt = copy(codec.encodeEvent(
+                new MediaEvent(MediaEventType.PLAYING, playerId, Instant.now(), Map.of("media", "a.mp4"))));
+        // 帧头 6 字节 + 类型 1 + UUID 16 + 时间戳 8 + 字段数 2 之后是首个键名的长度；
+        // 改为超出本帧但仍在缓冲区内的长度，越界读取会读到下一帧
+        corrupt.putShort(33, (short) 20);
+        ByteBuffer next = codec.encodeEvent(MediaEvent.heartbeat(playerId));
+        ByteBuffer input = ByteBuffer.allocate(corrupt.remaining() + next.remaining());
+        input.put(corrupt).put(next).flip();
+
+        assertThrows(StreamCorruptedException.class, () -> codec.readEvent(input));
+        assertEquals(MediaEventType.HEARTBEAT, codec.readEvent(input).type());
+        assertNull(codec.readEvent(input));
+    }
+
+    private static ByteBuffer copy(ByteBuffer encoded) {
+        ByteBuffer copy = ByteBuffer.allocate(encoded.remaining());
+        copy.put(encoded).flip();
+        return copy;
+    }
+
+    @Test
+    void binaryEventChannelFallsBackToJsonLines() throws Exception {
+        String json = "{\"type\":\"PLAYING\",\"playerId\":\"" + playerId
+                + "\",\"timestamp\":\"2026-01-02T03:04:05Z\",\"payload\":{\"media\":\"a.mp4\"}}\n";
+        List<MediaEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        BinaryEventChannel channel = new BinaryEventChannel(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        channel.start(event -> {
+            events.add(event);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(MediaEventType.PLAYING, events.get(0).type());
+        assertEquals("a.mp4", events.get(0).payload().get("media"));
+        assertEquals(Instant.parse("2026-01-02T03:04:05Z"), events.get(0).timestamp());
+        channel.close();
+    }
+
+    @Test
+    void binaryChannelsDeliverFramesEndToEnd() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryMediaCodec hostCodec = new BinaryMediaCodec();
+        hostCodec.writeEvent(MediaEvent.heartbeat(playerId), output);
+        hostCodec.writeEvent(new MediaEvent(MediaEventType.STOPPED, playerId, Instant.now(), Map.of()), output);
+        List<MediaEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        BinaryEventChannel channel = new BinaryEventChannel(new ByteArrayInputStream(output.toByteArray()));
+
+        channel.start(event -> {
+            events.add(event);
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(MediaEventType.HEARTBEAT, MediaEventType.STOPPED),
+                events.stream().map(MediaEvent::type).toList());
+
+        ByteArrayOutputStream commands = new ByteArrayOutputStream();
+        try (BinaryCommandChannel commandChannel = new BinaryCommandChannel(commands)) {
+            commandChannel.send(MediaCommand.pause(playerId));
+        }
+        MediaCommand pause = new BinaryMediaCodec().readCommand(
+                new DataInputStream(new ByteArrayInputStream(commands.toByteArray())));
+        assertEquals(MediaCommandType.PAUSE, pause.type());
+        channel.close();
+    }
+}
@@ -0,0 +1,210 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MediaIoReactorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void decodesFramesAndLinesArrivingInFragments() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        BinaryMediaCodec codec = new BinaryMediaCodec();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write("noise".getBytes(StandardCharsets.UTF_8));
+        codec.writeEvent(MediaEvent.heartbeat(playerId), output);
+        codec.writeEvent(new MediaEvent(MediaEventType.PAUSED, playerId, null, null), output);
+        byte[] frames = output.toByteArray();
+
+        ByteBuffer buffer = ByteBuffer.allocate(frames.length);
+        List<MediaEventType> types = new ArrayList<>();
+        for (byte b : frames) {
+            buffer.put(b).flip();
+            MediaEvent event;
+            while ((event = codec.readEvent(buffer)) != null) {
+                types.add(event.type());
+            }
+            buffer.compact();
+        }
+        assertEquals(List.of(MediaEventType.HEARTBEAT, MediaEventType.PAUSED), types);
+        assertEquals(0, buffer.position());
+
+        List<String> lines = new ArrayList<>();
+        MediaIoReactor.InboundHandler handler = MediaIoReactor.lines(lines::add);
+        ByteBuffer text = ByteBuffer.wrap("first\r\nsec".getBytes(StandardCharsets.UTF_8));
+        handler.onInput(text);
+        assertEquals(List.of("first"), lines);
+        assertEquals("sec", StandardCharsets.UTF_8.decode(text.duplicate()).toString());
+    }
+
+    @Test
+    void servesManyPlayerSocketsWithoutPerChannelThreads() throws Exception {
+        int players = 8;
+        CountDownLatch received = new CountDownLatch(players);
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+        List<SocketMediaChannel> channels = new ArrayList<>();
+        List<SocketMediaClient> clients = new ArrayList<>();
+        try {
+            for (int i = 0; i < players; i++) {
+                SocketMediaChannel channel = SocketMediaChannel.open(directory.resolve("p" + i + ".sock"), null);
+                channel.start(event -> {
+                    seen.add(event.playerId());
+                    received.countDown();
+                });
+                channels.add(channel);
+                clients.add(SocketMediaClient.connect(channel.path(), channel.token(), Duration.ofSeconds(5)));
+            }
+            for (SocketMediaClient client : clients) {
+                client.send(MediaEvent.heartbeat(UUID.randomUUID()));
+            }
+
+            assertTrue(received.await(5, TimeUnit.SECONDS));
+            assertEquals(players, seen.size());
+            List<String> ipcThreads = Thread.getAllStackTraces().keySet().stream()
+                    .map(Thread::getName)
+                    .filter(name -> name.startsWith("vlcj-ipc") || name.startsWith("vlcj-socket")
+                            || name.startsWith("vlcj-event"))
+                    .toList();
+            assertEquals(List.of("vlcj-ipc-reactor"), ipcThreads);
+        } finally {
+            clients.forEach(SocketMediaClient::close);
+            channels.forEach(SocketMediaChannel::close);
+        }
+    }
+
+    @Test
+    void writeFailureDoesNotHoldConnectionWhileNotifyingHandler() throws Exception {
+        Object channelLock = new Object();
+        CountDownLatch closing = new CountDownLatch(1);
+        try (ServerSocketChannel server = ServerSocketChannel.open()
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+             SocketChannel peer = SocketChannel.open()) {
+            peer.setOption(StandardSocketOptions.SO_RCVBUF, 4096);
+            peer.connect(server.getLocalAddress());
+            SocketChannel accepted = server.accept();
+            accepted.setOption(StandardSocketOptions.SO_SNDBUF, 4096);
+            MediaIoReactor.Connection connection = MediaIoReactor.shared().connection(accepted);
+            connection.read(new MediaIoReactor.InboundHandler() {
+                @Override
+                public void onInput(ByteBuffer input) {
+                }
+
+                @Override
+                public void onClosed() {
+                    // 与 SocketMediaChannel 一样在断开回调中获取信道锁
+                    closing.countDown();
+                    synchronized (channelLock) {
+                    }
+                }
+            });
+
+            synchronized (channelLock) {
+                // 对端不读取，积压的字节留待事件循环写出；随后对端重置连接使写出失败
+                connection.write(ByteBuffer.allocate(1024 * 1024));
+                peer.setOption(StandardSocketOptions.SO_LINGER, 0);
+                peer.close();
+                assertTrue(closing.await(5, TimeUnit.SECONDS));
+
+                // 持有信道锁的发送方此时写入，不能被事件循环阻塞
+                CompletableFuture<Void> send = CompletableFuture.runAsync(() -> {
+                    try {
+                        connection.write(ByteBuffer.allocate(16));
+                    } catch (IOException expected) {
+                        // 连接已关闭
+                    }
+                });
+                send.get(2, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    void endsPolledInputWhenWriterExits() throws Exception {
+        PipedOutputStream writer = new PipedOutputStream();
+        PipedInputStream input = new PipedInputStream(writer);
+        CompletableFuture<Void> exited = new CompletableFuture<>();
+        List<String> lines = new CopyOnWriteArrayList<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        MediaIoReactor.InboundHandler lineHandler = MediaIoReactor.lines(lines::add);
+        MediaIoReactor.shared().poll(input, exited, new MediaIoReactor.InboundHandler() {
+            @Override
+            public void onInput(ByteBuffer buffer) throws IOException {
+                lineHandler.onInput(buffer);
+            }
+
+            @Override
+            public void onClosed() {
+                closed.countDown();
+            }
+        });
+
+        writer.write("last words\n".getBytes(StandardCharsets.UTF_8));
+        exited.complete(null);
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("last words"), lines);
+    }
+
+    @Test
+    void slowListenerDoesNotStallOtherChannels() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(1);
+        PipedOutputStream slowWriter = new PipedOutputStream();
+        PipedOutputStream fastWriter = new PipedOutputStream();
+        StdioEventChannel slow = new StdioEventChannel(new PipedInputStream(slowWriter));
+        StdioEventChannel fast = new StdioEventChannel(new PipedInputStream(fastWriter));
+        try {
+            slow.start(event -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            fast.start(event -> fastReceived.countDown());
+            byte[] line = (MediaJson.mapper().writeValueAsString(MediaEvent.heartbeat(playerId)) + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+
+            slowWriter.write(line);
+            slowWriter.flush();
+            Thread.sleep(50);
+            fastWriter.write(line);
+            fastWriter.flush();
+
+            assertTrue(fastReceived.await(2, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            slow.close();
+            fast.close();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.alamafa.jfx.vlcj.ipc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SocketMediaChannelTest {
+
+    @TempDir
+    Path directory;
+
+    private final UUID playerId = UUID.randomUUID();
+
+    @Test
+    void exchangesFramesAndFlushesCommandsQueuedBeforeConnect() throws Exception {
+        Path path = directory.resolve("player.sock");
+        BlockingQueue<MediaEvent> events = new LinkedBlockingQueue<>();
+        BlockingQueue<MediaCommand> commands = new LinkedBlockingQueue<>();
+        try (SocketMediaChannel channel = SocketMediaChannel.open(path, null)) {
+            channel.start(events::add);
+            channel.send(MediaCommand.play(playerId, "rtsp://camera/1"));
+            assertFalse(channel.isConnected());
+            assertEquals("--socket=" + path, channel.argument());
+
+            try (SocketMediaClient client = SocketMediaClient.connect(path, channel.token(), Duration.ofSeconds(5))) {
+                Thread reader = new Thread(() -> client.readCommands(commands::add));
+                reader.setDaemon(true);
+                reader.start();
+
+                MediaCommand play = commands.poll(5, TimeUnit.SECONDS);
+                assertNotNull(play);
+                assertEquals("rtsp://camera/1", play.payload().get("media"));
+                channel.send(MediaCommand.setVolume(playerId, 30));
+                assertEquals(30, commands.poll(5, TimeUnit.SECONDS).payload().get("value"));
+
+                client.send(MediaEvent.heartbeat(playerId));
+                MediaEvent heartbeat = events.poll(5, TimeUnit.SECONDS);
+                assertNotNull(heartbeat);
+                assertEquals(MediaEventType.HEARTBEAT, heartbeat.type());
+                assertEquals(playerId, heartbeat.playerId());
+            }
+        }
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void replacesConnectionWhenPlayerReconnects() throws Exception {
+        Path path = directory.resolve("reconnect.sock");
+        BlockingQueue<MediaEvent> events = new LinkedBlockingQueue<>();
+        BlockingQueue<MediaCommand> commands = new LinkedBlockingQueue<>();
+        try (SocketMediaChannel channel = SocketMediaChannel.open(path, null)) {
+            channel.start(events::add);
+            SocketMediaClient first = SocketMediaClient.connect(path, channel.token(), Duration.ofSeconds(5));
+            first.send(MediaEvent.heartbeat(playerId));
+            assertNotNull(events.poll(5, TimeUnit.SECONDS));
+
+            try (SocketMediaClient second = SocketMediaClient.connect(path, channel.token(), Duration.ofSeconds(5))) {
+                Thread reader = new Thread(() -> second.readCommands(commands::add));
+                reader.setDaemon(true);
+                reader.start();
+                second.send(new MediaEvent(MediaEventType.PAUSED, playerId, null, null));
+                assertEquals(MediaEventType.PAUSED, events.poll(5, TimeUnit.SECONDS).type());
+
+                channel.send(MediaCommand.stop(playerId));
+                assertEquals(MediaCommandType.STOP, commands.poll(5, TimeUnit.SECONDS).type());
+                assertTrue(channel.isConnected());
+            } finally {
+                first.close();
+            }
+        }
+    }
+
+    @Test
+    void rejectsConnectionsWithoutTheTokenAndKeepsSocketPrivate() throws Exception {
+        BlockingQueue<MediaEvent> events = new LinkedBlockingQueue<>();
+        Path socketPath;
+        try (SocketMediaChannel channel = SocketMediaChannel.open(playerId, null)) {
+            socketPath = channel.path();
+            Path parent = socketPath.getParent();
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(parent));
+            }
+            channel.start(events::add);
+
+            try (SocketMediaClient intruder = SocketMediaClient.connect(socketPath, "0".repeat(32), Duration.ofSeconds(5))) {
+                intruder.send(MediaEvent.heartbeat(playerId));
+                assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+                assertFalse(channel.isConnected());
+            }
+            try (SocketMediaClient client = SocketMediaClient.connect(socketPath, channel.token(), Duration.ofSeconds(5))) {
+                client.send(MediaEvent.heartbeat(playerId));
+                assertNotNull(events.poll(5, TimeUnit.SECONDS));
+                assertTrue(channel.isConnected());
+            }
+        }
+        assertFalse(Files.exists(socketPath.getParent()));
+    }
+
+    @Test
+    void closesConnectionsThatNeverCompleteTheHandshake() throws Exception {
+        Path path = directory.resolve("handshake.sock");
+        BlockingQueue<MediaEvent> events = new LinkedBlockingQueue<>();
+        try (SocketMediaChannel channel = SocketMediaChannel.open(path, null, Duration.ofMillis(200));
+             SocketChannel silent = SocketChannel.open(UnixDomainSocketAddress.of(path))) {
+            channel.start(events::add);
+            assertEquals(-1, assertTimeoutPreemptively(Duration.ofSeconds(5), () -> silent.read(ByteBuffer.allocate(1))));
+            assertFalse(channel.isConnected());
+
+            try (SocketMediaClient client = SocketMediaClient.connect(path, channel.token(), Duration.ofSeconds(5))) {
+                client.send(MediaEvent.heartbeat(playerId));
+                assertNotNull(events.poll(5, TimeUnit.SECONDS));
+                Thread.sleep(400);
+                assertTrue(channel.isConnected());
+            }
+        }
+    }
+
+    @Test
+    void closesOldestPendingHandshakeBeyondLimit() throws Exception {
+        Path path = directory.resolve("crowded.sock");
+        BlockingQueue<MediaEvent> events = new LinkedBlockingQueue<>();
+        List<SocketChannel> silent = new ArrayList<>();
+        try (SocketMediaChannel channel = SocketMediaChannel.open(path, null, Duration.ofMinutes(1))) {
+            channel.start(events::add);
+            for (int i = 0; i < 8; i++) {
+                silent.add(SocketChannel.open(UnixDomainSocketAddress.of(path)));
+            }
+            try (SocketMediaClient client = SocketMediaClient.connect(path, channel.token(), Duration.ofSeconds(5))) {
+                assertEquals(-1, assertTimeoutPreemptively(Duration.ofSeconds(5),
+                        () -> silent.getFirst().read(ByteBuffer.allocate(1))));
+                client.send(MediaEvent.heartbeat(playerId));
+                assertNotNull(events.poll(5, TimeUnit.SECONDS));
+                assertTrue(channel.isConnected());
+            }
+        } finally {
+            for (SocketChannel channel : silent) {
+                channel.close();
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.alamafa.jfx.view;
 
 import com.alamafa.core.ApplicationContext;
+import com.alamafa.core.diagnostics.StartupRecorder;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.metrics.MetricsRegistry;
 import com.alamafa.di.BeanRegistry;
 import com.alamafa.jfx.view.annotation.FxViewSpec;
 import com.alamafa.jfx.view.meta.FxViewDescriptor;
@@ -113,13 +115,30 @@ public final class FxViewLoader {
         if (beanRegistry != null) {
             loader.setControllerFactory(this::resolveController);
         }
-        try (InputStream input = resource.openStream()) {
+        FxmlLoadEvent event = new FxmlLoadEvent();
+        event.begin();
+        long started = System.nanoTime();
+        boolean success = false;
+        try (StartupRecorder.Span ignored = StartupRecorder.of(context).span("fxml", resource.getPath());
+             InputStream input = resource.openStream()) {
             Parent root = loader.load(input);
             @SuppressWarnings("unchecked")
             T controller = (T) loader.getController();
+            success = true;
             return new FxView<>(root, controller);
         } catch (IOException ex) {
             throw new ViewLoadingException("Failed to load FXML " + resource, ex);
+        } finally {
+            if (event.shouldCommit()) {
+                event.resource = resource.toExternalForm();
+                event.viewType = viewType;
+                event.success = success;
+                event.commit();
+            }
+            MetricsRegistry.of(context)
+                    .timer("alamafa.fxml.load", "view", viewType != null ? viewType.getName() : "unknown",
+                            "outcome", success ? "success" : "failure")
+                    .record(System.nanoTime() - started);
         }
     }
 
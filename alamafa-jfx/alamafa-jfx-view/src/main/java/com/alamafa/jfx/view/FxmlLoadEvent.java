@@ -0,0 +1,24 @@
+package com.alamafa.jfx.view;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering a single FXML load, including controller creation.
+ */
+@Name("com.alamafa.FxmlLoad")
+@Label("FXML Load")
+@Category({"Alamafa", "JavaFX"})
+@Description("Loading of an FXML document and its controller")
+final class FxmlLoadEvent extends jdk.jfr.Event {
+    @Label("Resource")
+    String resource;
+
+    @Label("View Type")
+    Class<?> viewType;
+
+    @Label("Success")
+    boolean success;
+}
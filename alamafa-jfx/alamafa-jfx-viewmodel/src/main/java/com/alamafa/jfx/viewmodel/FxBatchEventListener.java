@@ -0,0 +1,20 @@
+package com.alamafa.jfx.viewmodel;
+
+import com.alamafa.core.events.ApplicationEvent;
+import com.alamafa.core.events.BatchEventListener;
+import javafx.application.Platform;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Batch listener delivered on the JavaFX application thread, so view models update at most once per
+ * coalescing window (one frame for {@code @Coalesced} events) instead of once per event.
+ */
+@FunctionalInterface
+public interface FxBatchEventListener<E extends ApplicationEvent> extends BatchEventListener<E> {
+
+    @Override
+    default Executor deliveryExecutor() {
+        return Platform::runLater;
+    }
+}
@@ -4,6 +4,8 @@ import com.alamafa.config.Configuration;
 import com.alamafa.core.ApplicationContext;
 import com.alamafa.core.logging.AlamafaLogger;
 import com.alamafa.core.logging.LoggerFactory;
+import com.alamafa.core.reflect.Invokers;
+import com.alamafa.core.reflect.MethodInvoker;
 import com.alamafa.jfx.view.FxView;
 import com.alamafa.jfx.view.FxViewLoader;
 import com.alamafa.jfx.view.annotation.PostShow;
@@ -38,6 +40,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class FxWindowManager {
     private static final AlamafaLogger LOGGER = LoggerFactory.getLogger(FxWindowManager.class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static final ClassValue<LifecycleHooks> LIFECYCLE_HOOKS = new ClassValue<>() {
+        @Override
+        protected LifecycleHooks computeValue(Class<?> type) {
+            return new LifecycleHooks(type);
+        }
+    };
 
     private final ApplicationContext context;
     private final FxViewLoader viewLoader;
@@ -65,6 +74,8 @@ public final class FxWindowManager {
     public FxWindowHandle openWindow(Class<?> viewType, FxWindowOptions options) {
         Objects.requireNonNull(viewType, "viewType");
         FxWindowOptions effectiveOptions = options != null ? options : FxWindowOptions.builder().build();
+        WindowLifecycleEvent event = new WindowLifecycleEvent();
+        event.begin();
         FxViewDescriptor descriptor = viewLoader.descriptor(viewType);
         FxView<?> view = viewLoader.load(viewType);
         Object controller = view.controller();
@@ -78,14 +89,16 @@ public final class FxWindowManager {
         Scene scene = new Scene(view.root());
         stage.setScene(scene);
         applyWindowMetadata(stage, descriptor, effectiveOptions, view);
-        registerLifecycleHandlers(stage, view, controller, viewModel);
+        registerLifecycleHandlers(stage, viewType, view, controller, viewModel);
 
         FxWindowHandle handle = new FxWindowHandle(stage, view, viewModel, controller, descriptor);
         openWindows.put(stage, handle);
         if (effectiveOptions.showAndWait()) {
+            event.commit(WindowLifecycleEvent.OPEN, viewType, stage, false);
             stage.showAndWait();
         } else {
             stage.show();
+            event.commit(WindowLifecycleEvent.OPEN, viewType, stage, false);
         }
         return handle;
     }
@@ -111,6 +124,8 @@ public final class FxWindowManager {
             return;
         }
         FxViewDescriptor descriptor = descriptorOpt.get();
+        WindowLifecycleEvent event = new WindowLifecycleEvent();
+        event.begin();
         FxView<?> view = viewLoader.load(descriptor.type());
         Object controller = view.controller();
         FxViewModel viewModel = controller != null ? binder.bindToController(controller) : null;
@@ -123,9 +138,10 @@ public final class FxWindowManager {
             scene.setRoot(view.root());
         }
         applyWindowMetadata(stage, descriptor, FxWindowOptions.builder().build(), view);
-        registerLifecycleHandlers(stage, view, controller, viewModel);
+        registerLifecycleHandlers(stage, descriptor.type(), view, controller, viewModel);
         primaryHandle = new FxWindowHandle(stage, view, viewModel, controller, descriptor);
         stage.show();
+        event.commit(WindowLifecycleEvent.MOUNT, descriptor.type(), stage, false);
     }
 
     public void unmountPrimaryStage() {
@@ -222,6 +238,7 @@ public final class FxWindowManager {
     }
 
     private void registerLifecycleHandlers(Stage stage,
+                                           Class<?> viewType,
                                            FxView<?> view,
                                            Object controller,
                                            FxViewModel viewModel) {
@@ -240,12 +257,16 @@ public final class FxWindowManager {
         };
 
         EventHandler<WindowEvent> closeHandler = event -> {
+            WindowLifecycleEvent closeEvent = new WindowLifecycleEvent();
+            closeEvent.begin();
             invokeLifecycleHooks(controller, PreClose.class, stage, view, viewModel, event);
             invokeLifecycleHooks(viewModel, PreClose.class, stage, view, viewModel, event);
             if (event.isConsumed()) {
+                closeEvent.commit(WindowLifecycleEvent.CLOSE, viewType, stage, true);
                 return;
             }
             cleanup.run();
+            closeEvent.commit(WindowLifecycleEvent.CLOSE, viewType, stage, false);
         };
         stage.addEventHandler(WindowEvent.WINDOW_CLOSE_REQUEST, closeHandler);
         stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> cleanup.run());
@@ -269,17 +290,11 @@ public final class FxWindowManager {
         if (target == null) {
             return;
         }
-        for (Method method : target.getClass().getMethods()) {
-            if (!method.isAnnotationPresent(annotation)) {
-                continue;
-            }
-            Object[] args = buildArguments(method.getParameterTypes(), stage, view, viewModel, event);
+        for (LifecycleHook hook : LIFECYCLE_HOOKS.get(target.getClass()).forAnnotation(annotation)) {
+            Object[] args = buildArguments(hook.parameterTypes(), stage, view, viewModel, event);
             try {
-                if (!method.canAccess(target)) {
-                    method.setAccessible(true);
-                }
-                method.invoke(target, args);
-            } catch (IllegalAccessException | InvocationTargetException ex) {
+                hook.invoker().invoke(target, args);
+            } catch (InvocationTargetException | RuntimeException ex) {
                 LOGGER.warn("Failed to invoke {} on {}", annotation.getSimpleName(), target.getClass().getName(), ex);
             }
         }
@@ -291,7 +306,7 @@ public final class FxWindowManager {
                                     FxViewModel viewModel,
                                     WindowEvent event) {
         if (parameterTypes.length == 0) {
-            return new Object[0];
+            return NO_ARGUMENTS;
         }
         Object[] args = new Object[parameterTypes.length];
         for (int i = 0; i < parameterTypes.length; i++) {
@@ -396,4 +411,34 @@ public final class FxWindowManager {
         }
         return Optional.empty();
     }
+
+    /**
+     * Public {@code @PostShow}/{@code @PreClose} methods of a controller or view model type,
+     * resolved once per annotation and linked through {@link Invokers}.
+     */
+    private static final class LifecycleHooks {
+        private final Class<?> type;
+        private final Map<Class<? extends Annotation>, List<LifecycleHook>> hooks = new ConcurrentHashMap<>();
+
+        private LifecycleHooks(Class<?> type) {
+            this.type = type;
+        }
+
+        List<LifecycleHook> forAnnotation(Class<? extends Annotation> annotation) {
+            return hooks.computeIfAbsent(annotation, this::collect);
+        }
+
+        private List<LifecycleHook> collect(Class<? extends Annotation> annotation) {
+            List<LifecycleHook> collected = new ArrayList<>();
+            for (Method method : type.getMethods()) {
+                if (method.isAnnotationPresent(annotation)) {
+                    collected.add(new LifecycleHook(method.getParameterTypes(), Invokers.method(method)));
+                }
+            }
+            return List.copyOf(collected);
+        }
+    }
+
+    private record LifecycleHook(Class<?>[] parameterTypes, MethodInvoker invoker) {
+    }
 }
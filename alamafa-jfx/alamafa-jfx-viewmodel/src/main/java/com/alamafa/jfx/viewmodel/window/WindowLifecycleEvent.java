@@ -0,0 +1,43 @@
+package com.alamafa.jfx.viewmodel.window;
+
+import javafx.stage.Stage;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for opening, mounting or closing a window managed by {@link FxWindowManager}.
+ */
+@Name("com.alamafa.WindowLifecycle")
+@Label("Window Lifecycle")
+@Category({"Alamafa", "JavaFX"})
+@Description("Opening, primary-stage mounting or closing of a managed window")
+final class WindowLifecycleEvent extends jdk.jfr.Event {
+    static final String OPEN = "open";
+    static final String MOUNT = "mount";
+    static final String CLOSE = "close";
+
+    @Label("Action")
+    String action;
+
+    @Label("View Type")
+    Class<?> viewType;
+
+    @Label("Title")
+    String title;
+
+    @Label("Vetoed")
+    @Description("Close request consumed by a @PreClose hook")
+    boolean vetoed;
+
+    void commit(String action, Class<?> viewType, Stage stage, boolean vetoed) {
+        if (shouldCommit()) {
+            this.action = action;
+            this.viewType = viewType;
+            this.title = stage.getTitle();
+            this.vetoed = vetoed;
+            commit();
+        }
+    }
+}